@@ -0,0 +1,155 @@
+package org.pitest.coverage;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.coverage.execute.ProbeHitEncoding;
+import org.pitest.util.SafeDataOutputStream;
+
+import sun.pitest.CodeCoverageStore;
+import sun.pitest.ProbeHitReceiver;
+
+/**
+ * Compares gathering and sending the probes hit by a test using the
+ * CodeCoverageStore against the previous layout, which held probes in a
+ * map, boxed every hit and sent each as a long.
+ *
+ * <p>The getHitsAndReset benchmark measures the getHits and reset methods
+ * the store still provides, which box each hit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeCoverageStoreBenchmark {
+
+  @Param({ "2000" })
+  int classes;
+
+  @Param({ "64" })
+  int probesPerClass;
+
+  // percentage of classes hit by each test, and of probes hit within them
+  @Param({ "5", "50" })
+  int percentHit;
+
+  private final SafeDataOutputStream out = new SafeDataOutputStream(
+      OutputStream.nullOutputStream());
+
+  private boolean[][] storeProbes;
+  private boolean[][] legacyProbes;
+  private LegacyStore legacy;
+
+  @Setup
+  public void setUp() {
+    CodeCoverageStore.resetAllStaticState();
+    this.legacy = new LegacyStore();
+    this.storeProbes = new boolean[this.classes][];
+    this.legacyProbes = new boolean[this.classes][];
+    for (int i = 0; i != this.classes; i++) {
+      this.storeProbes[i] = CodeCoverageStore.getOrRegisterClassProbes(i,
+          this.probesPerClass);
+      this.legacyProbes[i] = this.legacy.register(i, this.probesPerClass);
+    }
+  }
+
+  @Benchmark
+  public void codeCoverageStore() {
+    hit(this.storeProbes);
+    CodeCoverageStore.drainHits(new ProbeHitReceiver() {
+      @Override
+      public void beginHits(int numberOfClasses) {
+        CodeCoverageStoreBenchmark.this.out.writeInt(numberOfClasses);
+      }
+
+      @Override
+      public void hitClass(int classId, boolean[] probes) {
+        CodeCoverageStoreBenchmark.this.out.writeInt(classId);
+        ProbeHitEncoding.write(CodeCoverageStoreBenchmark.this.out, probes);
+      }
+    });
+  }
+
+  @Benchmark
+  public Collection<Long> getHitsAndReset() {
+    hit(this.storeProbes);
+    final Collection<Long> hits = CodeCoverageStore.getHits();
+    CodeCoverageStore.reset();
+    return hits;
+  }
+
+  @Benchmark
+  public void legacyLayout() {
+    hit(this.legacyProbes);
+    final Collection<Long> hits = this.legacy.getHits();
+    this.out.writeInt(hits.size());
+    for (final Long each : hits) {
+      this.out.writeLong(each);
+    }
+    this.legacy.reset();
+  }
+
+  private void hit(boolean[][] probes) {
+    final int step = 100 / this.percentHit;
+    for (int c = 0; c < probes.length; c += step) {
+      final boolean[] bs = probes[c];
+      bs[0] = true;
+      for (int p = 1; p < bs.length; p += step) {
+        bs[p] = true;
+      }
+    }
+  }
+
+  private static class LegacyStore {
+    private final Map<Integer, boolean[]> classHits = new ConcurrentHashMap<>();
+
+    boolean[] register(int classId, int probeCount) {
+      return this.classHits.computeIfAbsent(classId, k -> new boolean[probeCount + 1]);
+    }
+
+    synchronized void reset() {
+      for (final Entry<Integer, boolean[]> each : this.classHits.entrySet()) {
+        if (each.getValue()[0]) {
+          Arrays.fill(each.getValue(), false);
+        }
+      }
+    }
+
+    synchronized Collection<Long> getHits() {
+      final Collection<Long> blockHits = new ArrayList<>();
+      for (final Entry<Integer, boolean[]> each : this.classHits.entrySet()) {
+        final boolean[] bs = each.getValue();
+        if (!bs[0]) {
+          continue;
+        }
+        final int classId = each.getKey();
+        for (int probeId = 1; probeId != bs.length; probeId++) {
+          if (bs[probeId]) {
+            blockHits.add(CodeCoverageStore.encode(classId, probeId));
+          }
+        }
+      }
+      return blockHits;
+    }
+  }
+
+}
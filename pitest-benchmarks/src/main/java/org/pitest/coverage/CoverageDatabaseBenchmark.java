@@ -0,0 +1,172 @@
+package org.pitest.coverage;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.testapi.Description;
+
+/**
+ * Compares the memory held by, and the lookup latency of, CoverageData and
+ * CompactCoverageData for a synthetic suite in which each test covers a
+ * random selection of blocks.
+ *
+ * <p>Memory is reported by the retainedBytes secondary result of the
+ * populate benchmark.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CoverageDatabaseBenchmark {
+
+  @Param({ "legacy", "compact" })
+  String implementation;
+
+  @Param({ "500" })
+  int classes;
+
+  @Param({ "20" })
+  int blocksPerClass;
+
+  @Param({ "5000" })
+  int tests;
+
+  @Param({ "200" })
+  int blocksPerTest;
+
+  private List<BlockLocation> blocks;
+  private List<CoverageResult> results;
+  private Map<ClassName, Map<BlockLocation, Set<Integer>>> lines;
+  private CoverageDatabase populated;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.blocks = new ArrayList<>();
+    this.lines = new HashMap<>();
+    for (int c = 0; c != this.classes; c++) {
+      final ClassName clazz = ClassName.fromString("com.example.Class" + c);
+      final Map<BlockLocation, Set<Integer>> classLines = new HashMap<>();
+      for (int b = 0; b != this.blocksPerClass; b++) {
+        final BlockLocation block = new BlockLocation(
+            Location.location(clazz, "method", "()V"), b);
+        this.blocks.add(block);
+        classLines.put(block, Collections.singleton(b + 1));
+      }
+      this.lines.put(clazz, classLines);
+    }
+
+    final Random random = new Random(1);
+    this.results = new ArrayList<>(this.tests);
+    for (int t = 0; t != this.tests; t++) {
+      final List<BlockLocation> covered = new ArrayList<>(this.blocksPerTest);
+      for (int i = 0; i != this.blocksPerTest; i++) {
+        covered.add(this.blocks.get(random.nextInt(this.blocks.size())));
+      }
+      this.results.add(new CoverageResult(new Description("test" + t,
+          "com.example.Test" + (t / 10)), 1, true, covered));
+    }
+
+    this.populated = populate(this.implementation);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public Collection<TestInfo> testsForBlock() {
+    this.next = (this.next + 1) % this.blocks.size();
+    return this.populated.getTestsForBlockLocation(this.blocks.get(this.next));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Collection<TestInfo> testsForClass() {
+    this.next = (this.next + 1) % this.blocks.size();
+    return this.populated.getTestsForClass(this.blocks.get(this.next)
+        .getLocation().getClassName());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public CoverageDatabase populate(Memory memory) {
+    final long before = memory.used();
+    final CoverageDatabase database = populate(this.implementation);
+    // force any lazily built indexes
+    database.getTestsForBlockLocation(this.blocks.get(0));
+    memory.retainedBytes = memory.used() - before;
+    return database;
+  }
+
+  private CoverageDatabase populate(String type) {
+    final CodeSource code = stubCodeSource();
+    final LineMap lm = c -> this.lines.getOrDefault(c, Collections.emptyMap());
+    final CoverageCollector collector = type.equals("compact")
+        ? new CompactCoverageData(code, lm, this.tests)
+        : new CoverageData(code, lm, this.tests);
+    for (final CoverageResult each : this.results) {
+      collector.calculateClassCoverage(each);
+    }
+    return collector;
+  }
+
+  private static CodeSource stubCodeSource() {
+    return (CodeSource) Proxy.newProxyInstance(
+        CodeSource.class.getClassLoader(), new Class<?>[] { CodeSource.class },
+        (proxy, method, args) -> {
+          final Class<?> type = method.getReturnType();
+          if (type == Stream.class) {
+            return Stream.empty();
+          }
+          if (type == Optional.class) {
+            return Optional.empty();
+          }
+          if (Collection.class.isAssignableFrom(type)) {
+            return Collections.emptySet();
+          }
+          return null;
+        });
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Memory {
+    public long retainedBytes;
+
+    long used() {
+      final Runtime runtime = Runtime.getRuntime();
+      for (int i = 0; i != 3; i++) {
+        System.gc();
+      }
+      return runtime.totalMemory() - runtime.freeMemory();
+    }
+  }
+
+}
@@ -0,0 +1,62 @@
+package org.pitest.coverage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.util.SampleClass;
+
+import sun.pitest.CodeCoverageStore;
+import sun.pitest.InvokeReceiver;
+
+/**
+ * Measures instrumenting sample classes from the test resources for coverage,
+ * as done by the agent in the coverage minion for each class loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoverageTransformerBenchmark {
+
+  @Param({ "loops/javac/LocalDate", "trywithresources/LargeTryWithResources_javac",
+      "foreach/HasForEachLoop_javac" })
+  String sample;
+
+  private CoverageTransformer transformer;
+  private SampleClass sampleClass;
+
+  @Setup
+  public void setUp() {
+    CodeCoverageStore.init(new InvokeReceiver() {
+      @Override
+      public void registerClass(int id, String className) {
+      }
+
+      @Override
+      public void registerProbes(int classId, String methodName,
+          String methodDesc, int firstProbe, int lastProbe) {
+      }
+    });
+    this.transformer = new CoverageTransformer(c -> true);
+    this.sampleClass = SampleClass.load(this.sample);
+  }
+
+  @Benchmark
+  public byte[] transform() {
+    return this.transformer.transform(getClass().getClassLoader(),
+        this.sampleClass.name().asInternalName(), null, null, this.sampleClass.bytes());
+  }
+
+}
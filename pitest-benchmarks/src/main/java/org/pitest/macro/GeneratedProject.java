@@ -0,0 +1,27 @@
+package org.pitest.macro;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Location of a compiled synthetic project.
+ */
+final class GeneratedProject {
+
+  final Path       sourceDir;
+  final List<Path> classPath;
+
+  GeneratedProject(Path sourceDir, List<Path> classPath) {
+    this.sourceDir = sourceDir;
+    this.classPath = classPath;
+  }
+
+  String targetClasses() {
+    return ProjectGenerator.PACKAGE_PREFIX + ".*";
+  }
+
+  String targetTests() {
+    return ProjectGenerator.PACKAGE_PREFIX + ".*Test";
+  }
+
+}
@@ -0,0 +1,291 @@
+package org.pitest.macro;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pitest.mutationtest.commandline.OptionsParser;
+import org.pitest.mutationtest.commandline.ParseResult;
+import org.pitest.mutationtest.commandline.PluginFilter;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.statistics.MutationStatistics;
+import org.pitest.mutationtest.tooling.AnalysisResult;
+import org.pitest.mutationtest.tooling.EntryPoint;
+import org.pitest.util.Timings;
+
+/**
+ * Generates a synthetic project, then runs pitest against it one or more
+ * times within this JVM, writing a line of JSON describing each run.
+ *
+ * <pre>
+ * java -cp pitest-benchmarks/target/benchmarks.jar org.pitest.macro.MacroBenchmark \
+ *     --classes 200 --testTime uniform:0-20 --runs 3 --out results.jsonl \
+ *     -- --threads 4 --features +FDEDUP
+ * </pre>
+ *
+ * <p>Arguments after -- are passed to pitest as for the command line tool.
+ * Nothing is downloaded, so runs can be repeated offline and compared across
+ * commits by giving each a --label.
+ */
+public final class MacroBenchmark {
+
+  private static final String USAGE = String.join(System.lineSeparator(),
+      "Options, followed by -- and any pitest command line options:",
+      "  --classes N       classes to generate (default 50)",
+      "  --methods N       methods in each class (default 5)",
+      "  --tests N         tests for each class (default 4)",
+      "  --testTime DIST   time each test sleeps: none, fixed:MILLIS, uniform:MIN-MAX",
+      "                    or exponential:MEAN (default none)",
+      "  --jars N          dependency jars on the classpath (default 5)",
+      "  --jarClasses N    extra classes in each dependency jar (default 20)",
+      "  --seed N          seed for the generated project (default 1)",
+      "  --runs N          runs against the same project (default 3)",
+      "  --work DIR        directory for the project and reports (default target/macro)",
+      "  --out FILE        file to append results to (default standard out)",
+      "  --label TEXT      recorded with each result, e.g. a commit id");
+
+  private final Map<String, String> options;
+  private final List<String>        pitestArgs;
+
+  private MacroBenchmark(Map<String, String> options, List<String> pitestArgs) {
+    this.options = options;
+    this.pitestArgs = pitestArgs;
+  }
+
+  public static void main(String[] args) throws Exception {
+    final Map<String, String> options = new HashMap<>();
+    final List<String> pitestArgs = new ArrayList<>();
+    for (int i = 0; i != args.length; i++) {
+      if (args[i].equals("--")) {
+        pitestArgs.addAll(Arrays.asList(args).subList(i + 1, args.length));
+        break;
+      }
+      if (!args[i].startsWith("--") || i + 1 == args.length) {
+        System.err.println(USAGE);
+        System.exit(1);
+      }
+      options.put(args[i].substring(2), args[++i]);
+    }
+    new MacroBenchmark(options, pitestArgs).run();
+  }
+
+  private void run() throws Exception {
+    final ProjectSpec spec = new ProjectSpec(intOption("classes", 50),
+        intOption("methods", 5), intOption("tests", 4),
+        TestTime.parse(option("testTime", "none")), intOption("jars", 5),
+        intOption("jarClasses", 20), intOption("seed", 1));
+    final Path work = Paths.get(option("work", "target/macro")).toAbsolutePath();
+
+    final Path projectDir = work.resolve("project");
+    deleteRecursively(projectDir);
+    final long generateStart = System.nanoTime();
+    final GeneratedProject project = new ProjectGenerator(spec).generate(projectDir);
+    final long generateMillis = millisSince(generateStart);
+
+    final PluginServices plugins = PluginServices.makeForContextLoader();
+    final int runs = intOption("runs", 3);
+    for (int run = 1; run <= runs; run++) {
+      final ReportOptions data = parse(plugins, project, work.resolve("reports/run" + run));
+
+      System.gc();
+      final Timings timings = new Timings();
+      final AnalysisResult result;
+      final long wallMillis;
+      final RunMonitor monitor = new RunMonitor();
+      try (monitor) {
+        final long start = System.nanoTime();
+        result = new EntryPoint().execute(null, data,
+            new SettingsFactory(data, plugins), new HashMap<>(), timings);
+        wallMillis = millisSince(start);
+      }
+
+      if (result.getError().isPresent()) {
+        throw result.getError().get();
+      }
+
+      write(toJson(spec, run, generateMillis, wallMillis, timings, monitor,
+          result.getStatistics().get().getMutationStatistics()));
+    }
+  }
+
+  private ReportOptions parse(PluginServices plugins, GeneratedProject project,
+      Path reportDir) {
+    final List<String> args = new ArrayList<>(Arrays.asList(
+        "--reportDir", reportDir.toString(),
+        "--targetClasses", project.targetClasses(),
+        "--targetTests", project.targetTests(),
+        "--sourceDirs", project.sourceDir.toString(),
+        "--classPath", project.classPath.stream().map(Path::toString)
+            .collect(Collectors.joining(",")),
+        "--outputFormats", "XML"));
+    args.addAll(this.pitestArgs);
+
+    final OptionsParser parser = new OptionsParser(new PluginFilter(plugins));
+    final ParseResult pr = parser.parse(args.toArray(new String[0]));
+    if (!pr.isOk()) {
+      throw new IllegalArgumentException(pr.getErrorMessage().orElse("Invalid pitest options"));
+    }
+    return pr.getOptions();
+  }
+
+  private String toJson(ProjectSpec spec, int run, long generateMillis,
+      long wallMillis, Timings timings, RunMonitor monitor, MutationStatistics stats) {
+    final Json json = new Json();
+    json.field("label", option("label", ""));
+    json.field("run", run);
+    json.object("project")
+        .field("classes", spec.classes)
+        .field("methodsPerClass", spec.methodsPerClass)
+        .field("testsPerClass", spec.testsPerClass)
+        .field("testTime", spec.testTime.toString())
+        .field("dependencyJars", spec.dependencyJars)
+        .field("classesPerJar", spec.classesPerJar)
+        .field("seed", spec.seed)
+        .end();
+    json.strings("pitestArgs", this.pitestArgs);
+    json.field("generateMillis", generateMillis);
+    json.field("wallMillis", wallMillis);
+    final Json stages = json.object("stageMillis");
+    for (final Entry<Timings.Stage, Long> each : timings.durations().entrySet()) {
+      stages.field(each.getKey().name(), each.getValue());
+    }
+    stages.end();
+    json.field("minionLaunches", monitor.processesLaunched());
+    json.field("peakControllerHeapBytes", monitor.peakHeapBytes());
+    json.field("mutations", stats.getTotalMutations());
+    json.field("detected", stats.getTotalDetectedMutations());
+    json.field("testsRun", stats.getNumberOfTestsRun());
+    return json.end().toString();
+  }
+
+  private void write(String line) throws IOException {
+    final String out = this.options.get("out");
+    if (out == null) {
+      System.out.println(line);
+      return;
+    }
+    try (PrintStream ps = new PrintStream(Files.newOutputStream(Paths.get(out),
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND),
+        true, StandardCharsets.UTF_8.name())) {
+      ps.println(line);
+    }
+  }
+
+  private String option(String name, String defaultValue) {
+    return this.options.getOrDefault(name, defaultValue);
+  }
+
+  private int intOption(String name, int defaultValue) {
+    return Integer.parseInt(option(name, Integer.toString(defaultValue)));
+  }
+
+  private static long millisSince(long start) {
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+
+  private static void deleteRecursively(Path dir) throws IOException {
+    if (!Files.exists(dir)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (final Path each : paths.sorted(Comparator.reverseOrder())
+          .collect(Collectors.toList())) {
+        Files.delete(each);
+      }
+    }
+  }
+
+  /**
+   * Just enough JSON for flat results, written on a single line.
+   */
+  private static final class Json {
+    private final StringBuilder sb;
+    private final Json parent;
+    private boolean first = true;
+
+    Json() {
+      this(new StringBuilder(), null);
+    }
+
+    private Json(StringBuilder sb, Json parent) {
+      this.sb = sb;
+      this.parent = parent;
+      sb.append('{');
+    }
+
+    Json field(String name, long value) {
+      name(name).append(value);
+      return this;
+    }
+
+    Json field(String name, String value) {
+      quote(name(name), value);
+      return this;
+    }
+
+    Json strings(String name, List<String> values) {
+      final StringBuilder b = name(name).append('[');
+      for (int i = 0; i != values.size(); i++) {
+        if (i != 0) {
+          b.append(',');
+        }
+        quote(b, values.get(i));
+      }
+      b.append(']');
+      return this;
+    }
+
+    Json object(String name) {
+      name(name);
+      return new Json(this.sb, this);
+    }
+
+    Json end() {
+      this.sb.append('}');
+      return this.parent == null ? this : this.parent;
+    }
+
+    @Override
+    public String toString() {
+      return this.sb.toString();
+    }
+
+    private StringBuilder name(String name) {
+      if (!this.first) {
+        this.sb.append(',');
+      }
+      this.first = false;
+      return quote(this.sb, name).append(':');
+    }
+
+    private static StringBuilder quote(StringBuilder b, String value) {
+      b.append('"');
+      for (final char c : value.toCharArray()) {
+        if (c == '"' || c == '\\') {
+          b.append('\\').append(c);
+        } else if (c < 0x20) {
+          b.append(String.format("\\u%04x", (int) c));
+        } else {
+          b.append(c);
+        }
+      }
+      return b.append('"');
+    }
+  }
+
+}
@@ -0,0 +1,269 @@
+package org.pitest.macro;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * Writes, compiles and packages a synthetic project. The same spec always
+ * produces the same project.
+ *
+ * <p>Each class has methods with a conditional, arithmetic and a constant, so
+ * the default mutators find several mutants in each. Some methods call into a
+ * dependency jar, and some call the previous class, so tests cover more than
+ * the class they are named after. Each test sleeps for a time drawn from the
+ * spec, then calls a single method and, in three of four tests, checks the
+ * result. Methods beyond the number of tests in their class are not covered.
+ */
+final class ProjectGenerator {
+
+  static final String PACKAGE_PREFIX      = "gen";
+  static final int    CLASSES_PER_PACKAGE = 20;
+
+  private final ProjectSpec spec;
+  private final Random      random;
+
+  ProjectGenerator(ProjectSpec spec) {
+    this.spec = spec;
+    this.random = new Random(spec.seed);
+  }
+
+  GeneratedProject generate(Path dir) throws IOException {
+    final Path mainSource = dir.resolve("src/main/java");
+    final Path testSource = dir.resolve("src/test/java");
+    final Path classes = dir.resolve("classes");
+    final Path testClasses = dir.resolve("test-classes");
+    final Path lib = dir.resolve("lib");
+
+    final List<Path> jars = new ArrayList<>();
+    for (int j = 0; j != this.spec.dependencyJars; j++) {
+      jars.add(dependencyJar(dir.resolve("lib-src/j" + j), lib, j));
+    }
+
+    final Method[][] methods = new Method[this.spec.classes][];
+    for (int c = 0; c != this.spec.classes; c++) {
+      methods[c] = new Method[this.spec.methodsPerClass];
+      for (int m = 0; m != this.spec.methodsPerClass; m++) {
+        methods[c][m] = new Method(c, m);
+      }
+    }
+
+    final List<Path> mainFiles = new ArrayList<>();
+    final List<Path> testFiles = new ArrayList<>();
+    for (int c = 0; c != this.spec.classes; c++) {
+      mainFiles.add(write(mainSource, packageOf(c), className(c), classSource(c, methods)));
+      testFiles.add(write(testSource, packageOf(c), className(c) + "Test",
+          testSource(c, methods)));
+    }
+
+    compile(mainFiles, classes, jars);
+    final List<Path> testClassPath = new ArrayList<>(jars);
+    testClassPath.add(classes);
+    testClassPath.add(junit());
+    compile(testFiles, testClasses, testClassPath);
+
+    final List<Path> classPath = new ArrayList<>();
+    classPath.add(classes);
+    classPath.add(testClasses);
+    classPath.addAll(jars);
+    return new GeneratedProject(mainSource, classPath);
+  }
+
+  private Path dependencyJar(Path source, Path lib, int jar) throws IOException {
+    final String pkg = "dep.j" + jar;
+    final List<Path> files = new ArrayList<>();
+    files.add(write(source, pkg, "Util", "package " + pkg + ";\n\n"
+        + "public class Util {\n"
+        + "  public static int adjust(int x) {\n"
+        + "    return x + " + adjustment(jar) + ";\n"
+        + "  }\n"
+        + "}\n"));
+    for (int f = 0; f != this.spec.classesPerJar; f++) {
+      files.add(write(source, pkg, "Filler" + f, "package " + pkg + ";\n\n"
+          + "public class Filler" + f + " {\n"
+          + "  public static int value() {\n"
+          + "    return " + f + ";\n"
+          + "  }\n"
+          + "}\n"));
+    }
+
+    final Path classes = source.resolveSibling(source.getFileName() + "-classes");
+    compile(files, classes, List.of());
+
+    Files.createDirectories(lib);
+    final Path jarFile = lib.resolve("dep" + jar + ".jar");
+    try (OutputStream os = Files.newOutputStream(jarFile);
+        JarOutputStream out = new JarOutputStream(os);
+        Stream<Path> entries = Files.walk(classes)) {
+      for (final Path each : entries.filter(Files::isRegularFile).sorted()
+          .collect(Collectors.toList())) {
+        out.putNextEntry(new JarEntry(classes.relativize(each).toString()
+            .replace(File.separatorChar, '/')));
+        out.write(Files.readAllBytes(each));
+        out.closeEntry();
+      }
+    }
+    return jarFile;
+  }
+
+  private String classSource(int c, Method[][] methods) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append("package ").append(packageOf(c)).append(";\n\n");
+    sb.append("public class ").append(className(c)).append(" {\n");
+    for (final Method each : methods[c]) {
+      sb.append("\n");
+      sb.append("  public int m").append(each.index).append("(int a, int b) {\n");
+      sb.append("    int r;\n");
+      sb.append("    if (a > b) {\n");
+      sb.append("      r = a - b;\n");
+      sb.append("    } else {\n");
+      sb.append("      r = a * ").append(each.multiplier).append(" + b;\n");
+      sb.append("    }\n");
+      sb.append("    r = r + ").append(each.constant).append(";\n");
+      if (each.dependency != -1) {
+        sb.append("    r = dep.j").append(each.dependency).append(".Util.adjust(r);\n");
+      }
+      if (each.callsPrevious) {
+        sb.append("    r = r + new ").append(qualifiedName(c - 1)).append("().m0(a, b);\n");
+      }
+      sb.append("    return r;\n");
+      sb.append("  }\n");
+    }
+    sb.append("}\n");
+    return sb.toString();
+  }
+
+  private String testSource(int c, Method[][] methods) {
+    final StringBuilder sb = new StringBuilder();
+    sb.append("package ").append(packageOf(c)).append(";\n\n");
+    sb.append("import static org.junit.Assert.assertEquals;\n\n");
+    sb.append("import org.junit.Test;\n\n");
+    sb.append("public class ").append(className(c)).append("Test {\n");
+    for (int t = 0; t != this.spec.testsPerClass; t++) {
+      final Method method = methods[c][t % methods[c].length];
+      final int a = this.random.nextInt(10);
+      final int b = this.random.nextInt(10);
+      final int sleep = this.spec.testTime.next(this.random);
+      final boolean checks = this.random.nextInt(4) != 0;
+      final String call = "new " + className(c) + "().m" + method.index + "(" + a + ", " + b + ")";
+
+      sb.append("\n");
+      sb.append("  @Test\n");
+      sb.append("  public void test").append(t).append("() throws Exception {\n");
+      if (sleep > 0) {
+        sb.append("    Thread.sleep(").append(sleep).append(");\n");
+      }
+      if (checks) {
+        sb.append("    assertEquals(").append(evaluate(methods, c, method.index, a, b))
+            .append(", ").append(call).append(");\n");
+      } else {
+        sb.append("    ").append(call).append(";\n");
+      }
+      sb.append("  }\n");
+    }
+    sb.append("}\n");
+    return sb.toString();
+  }
+
+  // mirrors the generated code
+  private static int evaluate(Method[][] methods, int c, int m, int a, int b) {
+    final Method method = methods[c][m];
+    int r = a > b ? a - b : a * method.multiplier + b;
+    r = r + method.constant;
+    if (method.dependency != -1) {
+      r = r + adjustment(method.dependency);
+    }
+    if (method.callsPrevious) {
+      r = r + evaluate(methods, c - 1, 0, a, b);
+    }
+    return r;
+  }
+
+  private static int adjustment(int jar) {
+    return 2 * jar + 1;
+  }
+
+  private static String packageOf(int c) {
+    return PACKAGE_PREFIX + ".p" + (c / CLASSES_PER_PACKAGE);
+  }
+
+  private static String className(int c) {
+    return "Class" + c;
+  }
+
+  private static String qualifiedName(int c) {
+    return packageOf(c) + "." + className(c);
+  }
+
+  private static Path write(Path root, String pkg, String name, String source)
+      throws IOException {
+    final Path dir = root.resolve(pkg.replace('.', File.separatorChar));
+    Files.createDirectories(dir);
+    final Path file = dir.resolve(name + ".java");
+    Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private static void compile(List<Path> files, Path out, List<Path> classPath)
+      throws IOException {
+    final JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+    if (javac == null) {
+      throw new IllegalStateException("Generating projects requires a JDK");
+    }
+    Files.createDirectories(out);
+    final List<String> args = new ArrayList<>(Arrays.asList("-nowarn", "-g",
+        "-d", out.toString()));
+    if (!classPath.isEmpty()) {
+      args.add("-classpath");
+      args.add(classPath.stream().map(Path::toString)
+          .collect(Collectors.joining(File.pathSeparator)));
+    }
+    files.forEach(f -> args.add(f.toString()));
+    if (javac.run(null, null, null, args.toArray(new String[0])) != 0) {
+      throw new IllegalStateException("Could not compile generated project in " + out);
+    }
+  }
+
+  private static Path junit() {
+    try {
+      return Path.of(org.junit.Test.class.getProtectionDomain().getCodeSource()
+          .getLocation().toURI());
+    } catch (final URISyntaxException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private final class Method {
+    private final int     index;
+    private final int     multiplier;
+    private final int     constant;
+    private final int     dependency;
+    private final boolean callsPrevious;
+
+    Method(int c, int index) {
+      final Random r = ProjectGenerator.this.random;
+      final int jars = ProjectGenerator.this.spec.dependencyJars;
+      this.index = index;
+      this.multiplier = 2 + r.nextInt(4);
+      this.constant = 1 + r.nextInt(9);
+      this.dependency = jars != 0 && r.nextInt(3) == 0 ? r.nextInt(jars) : -1;
+      this.callsPrevious = c != 0 && index == 0 && r.nextBoolean();
+    }
+  }
+
+}
@@ -0,0 +1,27 @@
+package org.pitest.macro;
+
+/**
+ * Size and shape of a generated project.
+ */
+final class ProjectSpec {
+
+  final int      classes;
+  final int      methodsPerClass;
+  final int      testsPerClass;
+  final TestTime testTime;
+  final int      dependencyJars;
+  final int      classesPerJar;
+  final long     seed;
+
+  ProjectSpec(int classes, int methodsPerClass, int testsPerClass,
+      TestTime testTime, int dependencyJars, int classesPerJar, long seed) {
+    this.classes = classes;
+    this.methodsPerClass = methodsPerClass;
+    this.testsPerClass = testsPerClass;
+    this.testTime = testTime;
+    this.dependencyJars = dependencyJars;
+    this.classesPerJar = classesPerJar;
+    this.seed = seed;
+  }
+
+}
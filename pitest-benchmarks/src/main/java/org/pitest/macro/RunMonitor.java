@@ -0,0 +1,67 @@
+package org.pitest.macro;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Samples the controller while a run is in progress, recording the peak heap
+ * in use and each child process started.
+ *
+ * <p>Minions live for at least the time taken to start a JVM, far longer than
+ * the sampling interval, so none are missed in practice. The peak heap is
+ * sampled rather than exact.
+ */
+final class RunMonitor implements AutoCloseable {
+
+  private static final long INTERVAL_MILLIS = 5;
+
+  private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+  private final Set<Long>    children = new HashSet<>();
+  private final Thread       sampler;
+
+  private volatile boolean running = true;
+  private long peakHeap;
+
+  RunMonitor() {
+    this.sampler = new Thread(this::sample, "pit-macro-monitor");
+    this.sampler.setDaemon(true);
+    this.sampler.start();
+  }
+
+  /**
+   * @return number of processes started by the controller while monitored
+   */
+  synchronized int processesLaunched() {
+    return this.children.size();
+  }
+
+  synchronized long peakHeapBytes() {
+    return this.peakHeap;
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    this.running = false;
+    this.sampler.join();
+    record();
+  }
+
+  private void sample() {
+    while (this.running) {
+      record();
+      try {
+        Thread.sleep(INTERVAL_MILLIS);
+      } catch (final InterruptedException e) {
+        return;
+      }
+    }
+  }
+
+  private synchronized void record() {
+    this.peakHeap = Math.max(this.peakHeap, this.memory.getHeapMemoryUsage().getUsed());
+    ProcessHandle.current().descendants().forEach(p -> this.children.add(p.pid()));
+  }
+
+}
@@ -0,0 +1,67 @@
+package org.pitest.macro;
+
+import java.util.Random;
+
+/**
+ * Distribution of the time each generated test spends sleeping, written as
+ * none, fixed:MILLIS, uniform:MIN-MAX or exponential:MEAN.
+ */
+final class TestTime {
+
+  private enum Kind { NONE, FIXED, UNIFORM, EXPONENTIAL }
+
+  private final Kind kind;
+  private final int  a;
+  private final int  b;
+  private final String text;
+
+  private TestTime(Kind kind, int a, int b, String text) {
+    this.kind = kind;
+    this.a = a;
+    this.b = b;
+    this.text = text;
+  }
+
+  static TestTime parse(String text) {
+    final String[] parts = text.split(":", 2);
+    try {
+      switch (parts[0]) {
+      case "none":
+        return new TestTime(Kind.NONE, 0, 0, text);
+      case "fixed":
+        return new TestTime(Kind.FIXED, Integer.parseInt(parts[1]), 0, text);
+      case "uniform":
+        final String[] range = parts[1].split("-", 2);
+        return new TestTime(Kind.UNIFORM, Integer.parseInt(range[0]),
+            Integer.parseInt(range[1]), text);
+      case "exponential":
+        return new TestTime(Kind.EXPONENTIAL, Integer.parseInt(parts[1]), 0, text);
+      default:
+        break;
+      }
+    } catch (final RuntimeException e) {
+      // fall through to the error below
+    }
+    throw new IllegalArgumentException("Could not parse test time " + text
+        + ". Expected none, fixed:MILLIS, uniform:MIN-MAX or exponential:MEAN");
+  }
+
+  int next(Random random) {
+    switch (this.kind) {
+    case FIXED:
+      return this.a;
+    case UNIFORM:
+      return this.a + random.nextInt(this.b - this.a + 1);
+    case EXPONENTIAL:
+      return (int) Math.round(-this.a * Math.log(1 - random.nextDouble()));
+    default:
+      return 0;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.text;
+  }
+
+}
@@ -0,0 +1,135 @@
+package org.pitest.mutationtest.build;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CompactCoverageData;
+import org.pitest.coverage.CoverageCollector;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.LineMap;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+
+/**
+ * Measures assigning tests to mutants with the DefaultTestPrioritiser, for a
+ * synthetic suite in which each test covers a random selection of blocks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TestPrioritiserBenchmark {
+
+  @Param({ "legacy", "compact" })
+  String implementation;
+
+  @Param({ "500" })
+  int classes;
+
+  @Param({ "20" })
+  int blocksPerClass;
+
+  @Param({ "5000" })
+  int tests;
+
+  @Param({ "200" })
+  int blocksPerTest;
+
+  private List<MutationDetails> mutants;
+  private DefaultTestPrioritiser prioritiser;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    final List<BlockLocation> blocks = new ArrayList<>();
+    final Map<ClassName, Map<BlockLocation, Set<Integer>>> lines = new HashMap<>();
+    this.mutants = new ArrayList<>();
+    for (int c = 0; c != this.classes; c++) {
+      final ClassName clazz = ClassName.fromString("com.example.Class" + c);
+      final Location location = Location.location(clazz, "method", "()V");
+      final Map<BlockLocation, Set<Integer>> classLines = new HashMap<>();
+      for (int b = 0; b != this.blocksPerClass; b++) {
+        final BlockLocation block = new BlockLocation(location, b);
+        blocks.add(block);
+        classLines.put(block, Collections.singleton(b + 1));
+        this.mutants.add(new MutationDetails(new MutationIdentifier(location, b,
+            "mutator"), "Class" + c + ".java", "mutant", b + 1, b));
+      }
+      lines.put(clazz, classLines);
+    }
+
+    final LineMap lm = c -> lines.getOrDefault(c, Collections.emptyMap());
+    final CoverageCollector coverage = this.implementation.equals("compact")
+        ? new CompactCoverageData(stubCodeSource(), lm, this.tests)
+        : new CoverageData(stubCodeSource(), lm, this.tests);
+
+    final Random random = new Random(1);
+    for (int t = 0; t != this.tests; t++) {
+      final List<BlockLocation> covered = new ArrayList<>(this.blocksPerTest);
+      for (int i = 0; i != this.blocksPerTest; i++) {
+        covered.add(blocks.get(random.nextInt(blocks.size())));
+      }
+      // tests take between 1 and 100 ms, and are named after the class they test
+      coverage.calculateClassCoverage(new CoverageResult(new Description("test" + t,
+          "com.example.Class" + (t % this.classes) + "Test"), 1 + random.nextInt(100),
+          true, covered));
+    }
+
+    this.prioritiser = new DefaultTestPrioritiser(coverage);
+  }
+
+  @Benchmark
+  public List<TestInfo> assignTests() {
+    this.next = (this.next + 1) % this.mutants.size();
+    return this.prioritiser.assignTests(this.mutants.get(this.next));
+  }
+
+  private static CodeSource stubCodeSource() {
+    return (CodeSource) Proxy.newProxyInstance(
+        CodeSource.class.getClassLoader(), new Class<?>[] { CodeSource.class },
+        (proxy, method, args) -> {
+          final Class<?> type = method.getReturnType();
+          if (type == Stream.class) {
+            return Stream.empty();
+          }
+          if (type == Optional.class) {
+            return Optional.empty();
+          }
+          if (Collection.class.isAssignableFrom(type)) {
+            return Collections.emptySet();
+          }
+          return null;
+        });
+  }
+
+}
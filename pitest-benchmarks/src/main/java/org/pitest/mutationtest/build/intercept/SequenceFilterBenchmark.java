@@ -0,0 +1,91 @@
+package org.pitest.mutationtest.build.intercept;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.intercept.javafeatures.ForEachLoopFilter;
+import org.pitest.mutationtest.build.intercept.javafeatures.ImplicitNullCheckFilter;
+import org.pitest.mutationtest.build.intercept.javafeatures.InlinedFinallyBlockFilter;
+import org.pitest.mutationtest.build.intercept.javafeatures.TryWithResourcesFilter;
+import org.pitest.mutationtest.build.intercept.timeout.InfiniteForLoopFilter;
+import org.pitest.mutationtest.build.intercept.timeout.InfiniteIteratorLoopFilter;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.util.SampleClass;
+
+/**
+ * Measures filters that match instruction sequences with the
+ * NFASequenceMatcher, each run over a sample class from the test resources
+ * that contains the construct it looks for.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceFilterBenchmark {
+
+  @Param({ "forEach", "tryWithResources", "implicitNullCheck", "inlinedFinally",
+      "infiniteForLoop", "infiniteIteratorLoop" })
+  String filter;
+
+  private MutationInterceptor interceptor;
+  private ClassTree tree;
+  private GregorMutater mutater;
+  private List<MutationDetails> mutants;
+
+  @Setup
+  public void setUp() {
+    final Filter f = Filter.valueOf(this.filter);
+    final SampleClass sample = SampleClass.load(f.sample);
+    this.interceptor = f.filter.get();
+    this.tree = ClassTree.fromBytes(sample.bytes());
+    this.mutater = new GregorMutater(sample.source(), m -> true, Mutator.all());
+    this.mutants = this.mutater.findMutations(sample.name());
+  }
+
+  @Benchmark
+  public Collection<MutationDetails> intercept() {
+    this.interceptor.begin(this.tree);
+    final Collection<MutationDetails> actual = this.interceptor
+        .intercept(new ArrayList<>(this.mutants), this.mutater);
+    this.interceptor.end();
+    return actual;
+  }
+
+  private enum Filter {
+    forEach(ForEachLoopFilter::new, "foreach/HasForEachLoop_javac"),
+    tryWithResources(TryWithResourcesFilter::new, "trywithresources/LargeTryWithResources_javac"),
+    implicitNullCheck(ImplicitNullCheckFilter::new, "implicitnullcheck/ImplicitNullCheck_javac"),
+    inlinedFinally(InlinedFinallyBlockFilter::new, "trywithresources/TryCatchFinallyExample_javac"),
+    infiniteForLoop(InfiniteForLoopFilter::new, "loops/javac/LocalDate"),
+    infiniteIteratorLoop(InfiniteIteratorLoopFilter::new, "loops/javac/HasIteratorLoops");
+
+    private final Supplier<MutationInterceptor> filter;
+    private final String sample;
+
+    Filter(Supplier<MutationInterceptor> filter, String sample) {
+      this.filter = filter;
+      this.sample = sample;
+    }
+  }
+
+}
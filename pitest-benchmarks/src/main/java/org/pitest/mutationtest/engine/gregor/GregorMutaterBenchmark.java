@@ -0,0 +1,71 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.util.SampleClass;
+
+/**
+ * Measures finding the mutants in a class, and creating the bytes of a single
+ * mutant, for sample classes from the test resources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GregorMutaterBenchmark {
+
+  @Param({ "loops/javac/LocalDate", "trywithresources/LargeTryWithResources_javac",
+      "foreach/HasForEachLoop_javac" })
+  String sample;
+
+  @Param({ "DEFAULTS", "ALL" })
+  String mutators;
+
+  private GregorMutater mutater;
+  private ClassName clazz;
+  private List<MutationDetails> mutants;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    final SampleClass sampleClass = SampleClass.load(this.sample);
+    this.clazz = sampleClass.name();
+    this.mutater = new GregorMutater(sampleClass.source(), m -> true,
+        Mutator.fromStrings(Collections.singletonList(this.mutators)));
+    this.mutants = this.mutater.findMutations(this.clazz);
+    if (this.mutants.isEmpty()) {
+      throw new IllegalStateException("No mutants found in " + this.sample);
+    }
+  }
+
+  @Benchmark
+  public List<MutationDetails> findMutations() {
+    return this.mutater.findMutations(this.clazz);
+  }
+
+  @Benchmark
+  public Mutant getMutation() {
+    this.next = (this.next + 1) % this.mutants.size();
+    return this.mutater.getMutation(this.mutants.get(this.next).getId());
+  }
+
+}
@@ -0,0 +1,99 @@
+package org.pitest.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Measures writing values with a SafeDataOutputStream and reading them back
+ * with a SafeDataInputStream, as minions and the controller do for each
+ * message they exchange.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SafeDataStreamBenchmark {
+
+  // values written in each round trip
+  @Param({ "100" })
+  int values;
+
+  private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+  private MutationIdentifier id;
+  private MutationStatusTestPair status;
+
+  @Setup
+  public void setUp() {
+    this.id = new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Foo"), "bar", "(ILjava/lang/String;)V"),
+        3, "org.pitest.mutationtest.engine.gregor.mutators.MathMutator");
+    this.status = new MutationStatusTestPair(1, DetectionStatus.KILLED,
+        Arrays.asList("com.example.FooTest.shouldBar()"), Arrays.asList(
+            "com.example.FooTest.shouldBaz()"));
+  }
+
+  @Benchmark
+  public void primitives(Blackhole bh) {
+    final SafeDataOutputStream out = out();
+    for (int i = 0; i != this.values; i++) {
+      out.writeInt(i);
+      out.writeLong(i);
+      out.writeBoolean(true);
+      out.writeString("com.example.FooTest");
+    }
+    final SafeDataInputStream in = in();
+    for (int i = 0; i != this.values; i++) {
+      bh.consume(in.readInt());
+      bh.consume(in.readLong());
+      bh.consume(in.readBoolean());
+      bh.consume(in.readString());
+    }
+  }
+
+  @Benchmark
+  public void serialised(Blackhole bh) {
+    final SafeDataOutputStream out = out();
+    for (int i = 0; i != this.values; i++) {
+      out.write(this.id);
+      out.write(this.status);
+    }
+    final SafeDataInputStream in = in();
+    for (int i = 0; i != this.values; i++) {
+      bh.consume(in.read(MutationIdentifier.class));
+      bh.consume(in.read(MutationStatusTestPair.class));
+    }
+  }
+
+  private SafeDataOutputStream out() {
+    this.bytes.reset();
+    return new SafeDataOutputStream(this.bytes);
+  }
+
+  private SafeDataInputStream in() {
+    return new SafeDataInputStream(new ByteArrayInputStream(this.bytes.toByteArray()));
+  }
+
+}
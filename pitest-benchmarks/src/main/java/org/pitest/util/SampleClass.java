@@ -0,0 +1,53 @@
+package org.pitest.util;
+
+import java.util.Optional;
+
+import org.objectweb.asm.ClassReader;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+
+/**
+ * A compiled sample class from the sampleClasses test resources. Samples are
+ * stored by path rather than by the name in the class file, so they are
+ * served under that name for anything that looks them up again.
+ */
+public final class SampleClass {
+
+  private final ClassName name;
+  private final byte[] bytes;
+
+  private SampleClass(ClassName name, byte[] bytes) {
+    this.name = name;
+    this.bytes = bytes;
+  }
+
+  /**
+   * @param path path of the sample within sampleClasses, without extension,
+   *             e.g. loops/javac/LocalDate
+   */
+  public static SampleClass load(String path) {
+    final byte[] bytes = new ResourceFolderByteArraySource().getBytes(path)
+        .orElseThrow(() -> new IllegalArgumentException("No sample " + path));
+    return new SampleClass(ClassName.fromString(new ClassReader(bytes).getClassName()), bytes);
+  }
+
+  public ClassName name() {
+    return this.name;
+  }
+
+  public byte[] bytes() {
+    return this.bytes;
+  }
+
+  /**
+   * @return source for the sample, falling back to the classpath for other
+   *         classes such as its supertypes
+   */
+  public ClassByteArraySource source() {
+    final ClassByteArraySource context = ClassloaderByteArraySource.fromContext();
+    return n -> ClassName.fromString(n).equals(this.name) ? Optional.of(this.bytes)
+        : context.getBytes(n);
+  }
+
+}
@@ -65,9 +65,9 @@ public class MutationCoverageReport {
 
   private static void throwErrorIfScoreBelowMutationThreshold(
       final MutationStatistics stats, final int threshold) {
-    if ((threshold != 0) && (stats.getPercentageDetected() < threshold)) {
+    if ((threshold != 0) && (stats.getPercentageDetectedForThreshold() < threshold)) {
       throw new RuntimeException("Mutation score of "
-          + stats.getPercentageDetected() + " is below threshold of "
+          + stats.getPercentageDetectedForThreshold() + " is below threshold of "
           + threshold);
     }
   }
@@ -26,6 +26,7 @@ import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.ExecutionMode;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.execute.TestThreads;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Glob;
 import org.pitest.util.Log;
@@ -48,14 +49,20 @@ import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import static org.pitest.functional.Streams.asStream;
+import static org.pitest.mutationtest.config.ConfigOption.ADAPTIVE_TIMEOUTS;
 import static org.pitest.mutationtest.config.ConfigOption.ARG_LINE;
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
+import static org.pitest.mutationtest.config.ConfigOption.CLASS_PATH_INDEX_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
+import static org.pitest.mutationtest.config.ConfigOption.COMPACT_COVERAGE;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_MINIONS;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
+import static org.pitest.mutationtest.config.ConfigOption.DISCOVERY_THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.DRY_RUN;
+import static org.pitest.mutationtest.config.ConfigOption.EARLY_TERMINATION;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_METHOD;
@@ -70,10 +77,15 @@ import static org.pitest.mutationtest.config.ConfigOption.HISTORY_OUTPUT_LOCATIO
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_TEST_METHODS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPATH;
+import static org.pitest.mutationtest.config.ConfigOption.INCREMENTAL_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.INPUT_ENCODING;
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
+import static org.pitest.mutationtest.config.ConfigOption.LOOP_GUARD;
+import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTANTS_PER_MINION;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_CACHE_LOCATION;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_SCHEMATA;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
@@ -83,15 +95,19 @@ import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
 import static org.pitest.mutationtest.config.ConfigOption.PROJECT_BASE;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.REUSE_MINIONS;
+import static org.pitest.mutationtest.config.ConfigOption.SCHEDULE_BY_COST;
 import static org.pitest.mutationtest.config.ConfigOption.SKIP_FAILING_TESTS;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_FILTER;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_PLUGIN;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_STRENGTH_THRESHOLD;
+import static org.pitest.mutationtest.config.ConfigOption.TEST_THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_CONST;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_FACTOR;
+import static org.pitest.mutationtest.config.ConfigOption.TIME_BUDGET;
 import static org.pitest.mutationtest.config.ConfigOption.TIME_STAMPED_REPORTS;
 import static org.pitest.mutationtest.config.ConfigOption.USE_CLASSPATH_JAR;
 import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
@@ -113,6 +129,8 @@ public class OptionsParser {
   private final OptionSpec<File>                     sourceDirSpec;
   private final OptionSpec<File>                     historyOutputSpec;
   private final OptionSpec<File>                     historyInputSpec;
+  private final OptionSpec<File>                     mutantCacheSpec;
+  private final OptionSpec<File>                     classPathIndexSpec;
   private final OptionSpec<String>                   mutators;
   private final OptionSpec<String>                   features;
   private final OptionSpec<String>                   argLine;
@@ -138,6 +156,19 @@ public class OptionsParser {
   private final OptionSpec<String>                   includedTestMethodsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> fullMutationMatrixSpec;
   private final OptionSpec<Integer>                  mutationUnitSizeSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> earlyTerminationSpec;
+  private final OptionSpec<Integer>                  timeBudgetSecondsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> mutantSchemataSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> incrementalCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> loopGuardSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> adaptiveTimeoutsSpec;
+  private final OptionSpec<String>                   testThreadsSpec;
+  private final OptionSpec<Integer>                  discoveryThreadsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> compactCoverageSpec;
+  private final OptionSpec<Integer>                  coverageMinionsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> scheduleByCostSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> reuseMinionsSpec;
+  private final OptionSpec<Integer>                  maxMutantsPerMinionSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> timestampedReportsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> detectInlinedCode;
   private final ArgumentAcceptingOptionSpec<Integer> mutationThreshHoldSpec;
@@ -364,6 +395,84 @@ public class OptionsParser {
             "Maximum number of mutations to include within a single unit of analysis")
             .defaultsTo(MUTATION_UNIT_SIZE.getDefault(Integer.class));
 
+    this.earlyTerminationSpec = parserAccepts(EARLY_TERMINATION)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("stop the run once the mutation threshold, test strength threshold and maximum survivor checks can no longer change")
+        .defaultsTo(EARLY_TERMINATION.getDefault(Boolean.class));
+
+    this.timeBudgetSecondsSpec = parserAccepts(TIME_BUDGET)
+        .withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs("maximum time in seconds for the run, after which no further mutants are started (0 for no limit)")
+        .defaultsTo(TIME_BUDGET.getDefault(Integer.class));
+
+    this.mutantSchemataSpec = parserAccepts(MUTANT_SCHEMATA)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("whether to compile the mutants of each class into a single class and switch between them")
+        .defaultsTo(MUTANT_SCHEMATA.getDefault(Boolean.class));
+
+    this.incrementalCoverageSpec = parserAccepts(INCREMENTAL_COVERAGE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("whether to reuse coverage stored alongside history for test classes unaffected by changes")
+        .defaultsTo(INCREMENTAL_COVERAGE.getDefault(Boolean.class));
+
+    this.loopGuardSpec = parserAccepts(LOOP_GUARD)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("whether to guard loops in mutated methods, so that a mutant stuck in an infinite loop is abandoned without killing the minion")
+        .defaultsTo(LOOP_GUARD.getDefault(Boolean.class));
+
+    this.adaptiveTimeoutsSpec = parserAccepts(ADAPTIVE_TIMEOUTS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("whether to limit each test by the times it took in previous runs, as recorded in the history file")
+        .defaultsTo(ADAPTIVE_TIMEOUTS.getDefault(Boolean.class));
+
+    this.testThreadsSpec = parserAccepts(TEST_THREADS)
+        .withRequiredArg()
+        .ofType(String.class)
+        .describedAs("how minions provide threads to run tests on. PER_TEST, POOLED or VIRTUAL. Threads may be reused between tests, see TestThreads.POOLED")
+        .defaultsTo(TEST_THREADS.getDefault(String.class));
+
+    this.discoveryThreadsSpec = parserAccepts(DISCOVERY_THREADS)
+        .withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs("number of threads to use when searching classes for mutants")
+        .defaultsTo(DISCOVERY_THREADS.getDefault(Integer.class));
+
+    this.compactCoverageSpec = parserAccepts(COMPACT_COVERAGE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("Whether to hold coverage data in a compact form to reduce memory use")
+        .defaultsTo(COMPACT_COVERAGE.getDefault(Boolean.class));
+
+    this.coverageMinionsSpec = parserAccepts(COVERAGE_MINIONS)
+        .withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs("number of minions to shard coverage generation across")
+        .defaultsTo(COVERAGE_MINIONS.getDefault(Integer.class));
+
+    this.scheduleByCostSpec = parserAccepts(SCHEDULE_BY_COST)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("Whether to balance units of analysis by the estimated cost of their covering tests")
+        .defaultsTo(SCHEDULE_BY_COST.getDefault(Boolean.class));
+
+    this.reuseMinionsSpec = parserAccepts(REUSE_MINIONS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("Whether to keep minions alive and reuse them across units of analysis")
+        .defaultsTo(REUSE_MINIONS.getDefault(Boolean.class));
+
+    this.maxMutantsPerMinionSpec = parserAccepts(MAX_MUTANTS_PER_MINION)
+        .withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs("Number of mutants a reused minion may analyse before it is replaced")
+        .defaultsTo(MAX_MUTANTS_PER_MINION.getDefault(Integer.class));
+
     this.historyInputSpec = parserAccepts(HISTORY_INPUT_LOCATION)
         .withRequiredArg().ofType(File.class)
         .describedAs("File to read history from for incremental analysis");
@@ -372,6 +481,14 @@ public class OptionsParser {
         .withRequiredArg().ofType(File.class)
         .describedAs("File to write history to for incremental analysis");
 
+    this.mutantCacheSpec = parserAccepts(MUTANT_CACHE_LOCATION)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("Directory in which to cache generated mutants between runs");
+
+    this.classPathIndexSpec = parserAccepts(CLASS_PATH_INDEX_LOCATION)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("Directory in which to cache class names and hashes between runs");
+
     this.mutationThreshHoldSpec = parserAccepts(MUTATION_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Mutation score below which to throw an error")
@@ -487,8 +604,23 @@ public class OptionsParser {
 
     data.setCodePaths(this.codePaths.values(userArgs));
     data.setMutationUnitSize(this.mutationUnitSizeSpec.value(userArgs));
+    data.setEarlyTermination(booleanValue(earlyTerminationSpec, userArgs));
+    data.setTimeBudgetSeconds(this.timeBudgetSecondsSpec.value(userArgs));
+    data.setMutantSchemata(booleanValue(mutantSchemataSpec, userArgs));
+    data.setIncrementalCoverage(booleanValue(incrementalCoverageSpec, userArgs));
+    data.setLoopGuard(booleanValue(loopGuardSpec, userArgs));
+    data.setAdaptiveTimeouts(booleanValue(adaptiveTimeoutsSpec, userArgs));
+    data.setTestThreads(TestThreads.fromString(this.testThreadsSpec.value(userArgs)));
+    data.setDiscoveryThreads(this.discoveryThreadsSpec.value(userArgs));
+    data.setCompactCoverage(booleanValue(compactCoverageSpec, userArgs));
+    data.setCoverageMinions(this.coverageMinionsSpec.value(userArgs));
+    data.setScheduleByCost(booleanValue(scheduleByCostSpec, userArgs));
+    data.setReuseMinions(booleanValue(reuseMinionsSpec, userArgs));
+    data.setMaxMutantsPerMinion(this.maxMutantsPerMinionSpec.value(userArgs));
     data.setHistoryInputLocation(this.historyInputSpec.value(userArgs));
     data.setHistoryOutputLocation(this.historyOutputSpec.value(userArgs));
+    data.setMutantCacheLocation(this.mutantCacheSpec.value(userArgs));
+    data.setClassPathIndexLocation(this.classPathIndexSpec.value(userArgs));
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setTestStrengthThreshold(this.testStrengthThreshHoldSpec.value(userArgs));
     data.setMaximumAllowedSurvivors(this.maxSurvivingSpec.value(userArgs));
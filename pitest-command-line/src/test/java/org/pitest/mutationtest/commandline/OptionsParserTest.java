@@ -43,6 +43,7 @@ import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.ExecutionMode;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.execute.TestThreads;
 import org.pitest.mutationtest.engine.gregor.GregorMutationEngine;
 import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
@@ -452,6 +453,199 @@ public class OptionsParserTest {
         actual.getMutationUnitSize());
   }
 
+  @Test
+  public void shouldParseEarlyTermination() {
+    final ReportOptions actual = parseAddingRequiredArgs("--earlyTermination",
+        "true");
+    assertEquals(true, actual.isEarlyTermination());
+  }
+
+  @Test
+  public void shouldDefaultEarlyTerminationToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (boolean) ConfigOption.EARLY_TERMINATION.getDefault(Boolean.class),
+        actual.isEarlyTermination());
+  }
+
+  @Test
+  public void shouldParseTimeBudgetSeconds() {
+    final ReportOptions actual = parseAddingRequiredArgs("--timeBudgetSeconds",
+        "1200");
+    assertEquals(1200, actual.getTimeBudgetSeconds());
+  }
+
+  @Test
+  public void shouldDefaultTimeBudgetSecondsToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (int) ConfigOption.TIME_BUDGET.getDefault(Integer.class),
+        actual.getTimeBudgetSeconds());
+  }
+
+  @Test
+  public void shouldParseMutantSchemata() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantSchemata",
+        "true");
+    assertEquals(true, actual.isMutantSchemata());
+  }
+
+  @Test
+  public void shouldDefaultMutantSchemataToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (boolean) ConfigOption.MUTANT_SCHEMATA.getDefault(Boolean.class),
+        actual.isMutantSchemata());
+  }
+
+  @Test
+  public void shouldParseIncrementalCoverage() {
+    final ReportOptions actual = parseAddingRequiredArgs("--incrementalCoverage",
+        "true");
+    assertEquals(true, actual.isIncrementalCoverage());
+  }
+
+  @Test
+  public void shouldDefaultIncrementalCoverageToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (boolean) ConfigOption.INCREMENTAL_COVERAGE.getDefault(Boolean.class),
+        actual.isIncrementalCoverage());
+  }
+
+  @Test
+  public void shouldParseLoopGuard() {
+    final ReportOptions actual = parseAddingRequiredArgs("--loopGuard",
+        "true");
+    assertEquals(true, actual.isLoopGuard());
+  }
+
+  @Test
+  public void shouldDefaultLoopGuardToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (boolean) ConfigOption.LOOP_GUARD.getDefault(Boolean.class),
+        actual.isLoopGuard());
+  }
+
+  @Test
+  public void shouldParseAdaptiveTimeouts() {
+    final ReportOptions actual = parseAddingRequiredArgs("--adaptiveTimeouts",
+        "true");
+    assertEquals(true, actual.isAdaptiveTimeouts());
+  }
+
+  @Test
+  public void shouldDefaultAdaptiveTimeoutsToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (boolean) ConfigOption.ADAPTIVE_TIMEOUTS.getDefault(Boolean.class),
+        actual.isAdaptiveTimeouts());
+  }
+
+  @Test
+  public void shouldParseTestThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs("--testThreads",
+        "POOLED");
+    assertEquals(TestThreads.POOLED, actual.getTestThreads());
+  }
+
+  @Test
+  public void shouldDefaultTestThreadsToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(TestThreads.PER_TEST, actual.getTestThreads());
+  }
+
+  @Test
+  public void shouldParseDiscoveryThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs("--discoveryThreads",
+        "4");
+    assertEquals(4, actual.getDiscoveryThreads());
+  }
+
+  @Test
+  public void shouldDefaultDiscoveryThreadsToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (int) ConfigOption.DISCOVERY_THREADS.getDefault(Integer.class),
+        actual.getDiscoveryThreads());
+  }
+
+  @Test
+  public void shouldParseCompactCoverage() {
+    final ReportOptions actual = parseAddingRequiredArgs("--compactCoverage",
+        "true");
+    assertEquals(true, actual.isCompactCoverage());
+  }
+
+  @Test
+  public void shouldDefaultCompactCoverageToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (boolean) ConfigOption.COMPACT_COVERAGE.getDefault(Boolean.class),
+        actual.isCompactCoverage());
+  }
+
+  @Test
+  public void shouldParseCoverageMinions() {
+    final ReportOptions actual = parseAddingRequiredArgs("--coverageMinions",
+        "4");
+    assertEquals(4, actual.getCoverageMinions());
+  }
+
+  @Test
+  public void shouldDefaultCoverageMinionsToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (int) ConfigOption.COVERAGE_MINIONS.getDefault(Integer.class),
+        actual.getCoverageMinions());
+  }
+
+  @Test
+  public void shouldParseScheduleByCost() {
+    final ReportOptions actual = parseAddingRequiredArgs("--scheduleByCost",
+        "true");
+    assertEquals(true, actual.isScheduleByCost());
+  }
+
+  @Test
+  public void shouldDefaultScheduleByCostToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (boolean) ConfigOption.SCHEDULE_BY_COST.getDefault(Boolean.class),
+        actual.isScheduleByCost());
+  }
+
+  @Test
+  public void shouldParseReuseMinions() {
+    final ReportOptions actual = parseAddingRequiredArgs("--reuseMinions",
+        "true");
+    assertEquals(true, actual.isReuseMinions());
+  }
+
+  @Test
+  public void shouldDefaultReuseMinionsToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (boolean) ConfigOption.REUSE_MINIONS.getDefault(Boolean.class),
+        actual.isReuseMinions());
+  }
+
+  @Test
+  public void shouldParseMaxMutantsPerMinion() {
+    final ReportOptions actual = parseAddingRequiredArgs("--maxMutantsPerMinion",
+        "500");
+    assertEquals(500, actual.getMaxMutantsPerMinion());
+  }
+
+  @Test
+  public void shouldDefaultMaxMutantsPerMinionToCorrectValue() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(
+        (int) ConfigOption.MAX_MUTANTS_PER_MINION.getDefault(Integer.class),
+        actual.getMaxMutantsPerMinion());
+  }
+
   @Test
   public void shouldDefaultToNoHistory() {
     final ReportOptions actual = parseAddingRequiredArgs();
@@ -473,6 +667,26 @@ public class OptionsParserTest {
     assertEquals(new File("foo"), actual.getHistoryOutputLocation());
   }
 
+  @Test
+  public void shouldParseMutantCacheLocation() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--mutantCacheLocation", "foo");
+    assertEquals(new File("foo"), actual.getMutantCacheLocation());
+  }
+
+  @Test
+  public void shouldParseClassPathIndexLocation() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--classPathIndexLocation", "foo");
+    assertEquals(new File("foo"), actual.getClassPathIndexLocation());
+  }
+
+  @Test
+  public void shouldNotCacheMutantsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertNull(actual.getMutantCacheLocation());
+  }
+
   @Test
   public void shouldParseMutationThreshold() {
     final ReportOptions actual = parseAddingRequiredArgs("--mutationThreshold",
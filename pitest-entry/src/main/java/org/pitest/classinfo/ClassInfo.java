@@ -28,6 +28,10 @@ public final class ClassInfo implements ClassHash {
   private final ClassPointer           outerClass;
   private final ClassPointer           superClass;
 
+  // resolving the super and outer classes may read them from the classpath,
+  // so this is calculated once
+  private volatile BigInteger          lazyDeepHash;
+
   public ClassInfo(ClassPointer superClass, ClassPointer outerClass, ClassInfoBuilder builder) {
     this(superClass, outerClass, builder.id);
   }
@@ -63,6 +67,14 @@ public final class ClassInfo implements ClassHash {
   }
 
   public BigInteger getDeepHash() {
+    if (this.lazyDeepHash != null) {
+      return this.lazyDeepHash;
+    }
+    this.lazyDeepHash = calculateDeepHash();
+    return this.lazyDeepHash;
+  }
+
+  private BigInteger calculateDeepHash() {
     BigInteger hash = getHash();
     final Optional<ClassInfo> parent = getParent();
     if (parent.isPresent()) {
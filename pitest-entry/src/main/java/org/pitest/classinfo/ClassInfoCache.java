@@ -0,0 +1,173 @@
+package org.pitest.classinfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+
+/**
+ * Keeps the hash, super class and outer class of each class between runs, so
+ * unchanged classes need not be read and parsed again. An entry is only used
+ * while the stamp of the file the class was read from is unchanged.
+ *
+ * <p>Deep hashes are not stored, as they depend on the hashes of other classes
+ * that may have changed. They are recalculated from the stored hashes.
+ */
+public class ClassInfoCache {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final int VERSION = 1;
+
+  private final File                               file;
+  private final Function<String, Optional<String>> stamps;
+  private final Map<ClassName, Entry>              entries = new ConcurrentHashMap<>();
+  private volatile boolean                         changed;
+
+  /**
+   * @param file file in which to store entries
+   * @param stamps supplies the stamp of a class from its java name
+   */
+  public ClassInfoCache(File file, Function<String, Optional<String>> stamps) {
+    this.file = file;
+    this.stamps = stamps;
+    if (file != null) {
+      load();
+    }
+  }
+
+  public static ClassInfoCache none() {
+    return new ClassInfoCache(null, n -> Optional.empty());
+  }
+
+  Optional<ClassInfoBuilder> fetch(ClassName name) {
+    final Entry entry = this.entries.get(name);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    final Optional<String> stamp = this.stamps.apply(name.asJavaName());
+    if (stamp.isEmpty() || !stamp.get().equals(entry.stamp)) {
+      return Optional.empty();
+    }
+    return Optional.of(entry.toBuilder(name));
+  }
+
+  void store(ClassInfoBuilder info) {
+    if (this.file == null) {
+      return;
+    }
+    final ClassName name = info.id.getName();
+    this.stamps.apply(name.asJavaName()).ifPresent(stamp -> {
+      this.entries.put(name, new Entry(stamp, info.id.getHash(),
+          info.superClass, info.outerClass));
+      this.changed = true;
+    });
+  }
+
+  /**
+   * Writes the entries to disk if any have been added since the last write
+   */
+  public synchronized void flush() {
+    if (this.file == null || !this.changed) {
+      return;
+    }
+    this.changed = false;
+    try {
+      final Path dir = this.file.getAbsoluteFile().getParentFile().toPath();
+      Files.createDirectories(dir);
+      final Path tmp = Files.createTempFile(dir, "classinfo", ".tmp");
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        final Map<ClassName, Entry> snapshot = Map.copyOf(this.entries);
+        out.writeInt(VERSION);
+        out.writeInt(snapshot.size());
+        for (final Map.Entry<ClassName, Entry> each : snapshot.entrySet()) {
+          out.writeUTF(each.getKey().asInternalName());
+          each.getValue().write(out);
+        }
+      }
+      Files.move(tmp, this.file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException ex) {
+      LOG.fine("Could not write class information to " + this.file + " " + ex);
+    }
+  }
+
+  private void load() {
+    if (!this.file.exists()) {
+      return;
+    }
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(this.file.toPath())))) {
+      if (in.readInt() != VERSION) {
+        return;
+      }
+      final int count = in.readInt();
+      for (int i = 0; i != count; i++) {
+        this.entries.put(ClassName.fromString(in.readUTF()), Entry.read(in));
+      }
+    } catch (final IOException ex) {
+      LOG.fine("Could not read class information from " + this.file + " " + ex);
+      this.entries.clear();
+    }
+  }
+
+  private static final class Entry {
+    private final String stamp;
+    private final long   hash;
+    private final String superClass;
+    private final String outerClass;
+
+    Entry(String stamp, long hash, String superClass, String outerClass) {
+      this.stamp = stamp;
+      this.hash = hash;
+      this.superClass = superClass;
+      this.outerClass = outerClass;
+    }
+
+    ClassInfoBuilder toBuilder(ClassName name) {
+      final ClassInfoBuilder builder = new ClassInfoBuilder();
+      builder.id = new ClassIdentifier(this.hash, name);
+      builder.superClass = this.superClass;
+      builder.outerClass = this.outerClass;
+      return builder;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+      out.writeUTF(this.stamp);
+      out.writeLong(this.hash);
+      writeNullable(out, this.superClass);
+      writeNullable(out, this.outerClass);
+    }
+
+    static Entry read(DataInputStream in) throws IOException {
+      return new Entry(in.readUTF(), in.readLong(), readNullable(in),
+          readNullable(in));
+    }
+
+    private static void writeNullable(DataOutputStream out, String value)
+        throws IOException {
+      out.writeBoolean(value != null);
+      if (value != null) {
+        out.writeUTF(value);
+      }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+      return in.readBoolean() ? in.readUTF() : null;
+    }
+  }
+
+}
@@ -36,7 +36,9 @@ public final class ClassInfoVisitor extends ClassVisitor {
     final ClassReader reader = new ClassReader(bytes);
     final ClassInfoBuilder info = new ClassInfoBuilder();
     info.id = new ClassIdentifier(hash, name);
-    reader.accept(new ClassInfoVisitor(info, null), 0);
+    // only the class header and attributes are of interest
+    reader.accept(new ClassInfoVisitor(info, null),
+        ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG);
     return info;
   }
 
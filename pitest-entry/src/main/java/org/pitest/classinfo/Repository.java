@@ -14,31 +14,56 @@
  */
 package org.pitest.classinfo;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import java.util.Optional;
 
+/**
+ * Safe for use by multiple threads
+ */
 public class Repository implements ClassHashSource {
 
   private final HashFunction              hashFunction;
-  private final Map<ClassName, ClassInfo> knownClasses   = new HashMap<>();
-  private final Set<ClassName>            unknownClasses = new HashSet<>();
+  private final Map<ClassName, ClassInfo> knownClasses   = new ConcurrentHashMap<>();
+  private final Set<ClassName>            unknownClasses = ConcurrentHashMap.newKeySet();
   private final ClassByteArraySource      source;
+  private final ClassInfoCache            cache;
 
   public Repository(final ClassByteArraySource source) {
     this(source, new AddlerHash());
   }
 
+  /**
+   * @param cache information about classes kept from previous runs
+   */
+  public Repository(final ClassByteArraySource source, final ClassInfoCache cache) {
+    this(source, new AddlerHash(), cache);
+  }
+
   Repository(final ClassByteArraySource source, final HashFunction hashFunction) {
+    this(source, hashFunction, ClassInfoCache.none());
+  }
+
+  Repository(final ClassByteArraySource source, final HashFunction hashFunction,
+      final ClassInfoCache cache) {
     this.source = source;
     this.hashFunction = hashFunction;
+    this.cache = cache;
   }
 
   public boolean hasClass(final ClassName name) {
-    return this.knownClasses.containsKey(name) || querySource(name).isPresent();
+    return this.knownClasses.containsKey(name)
+        || this.cache.fetch(name).isPresent()
+        || querySource(name).isPresent();
+  }
+
+  /**
+   * Writes any information gathered about classes to the cache
+   */
+  public void flushCache() {
+    this.cache.flush();
   }
 
   @Override
@@ -60,16 +85,25 @@ public class Repository implements ClassHashSource {
 
     final Optional<ClassInfo> maybeInfo = nameToClassInfo(name);
     if (maybeInfo.isPresent()) {
-      this.knownClasses.put(name, maybeInfo.get());
+      // another thread may have built the same class, keep the first
+      final ClassInfo existing = this.knownClasses.putIfAbsent(name, maybeInfo.get());
+      if (existing != null) {
+        return Optional.of(existing);
+      }
     }
     return maybeInfo;
   }
 
   private Optional<ClassInfo> nameToClassInfo(final ClassName name) {
+    final Optional<ClassInfoBuilder> cached = this.cache.fetch(name);
+    if (cached.isPresent()) {
+      return constructClassInfo(cached.get());
+    }
     final Optional<byte[]> bytes = querySource(name);
     if (bytes.isPresent()) {
       final ClassInfoBuilder classData = ClassInfoVisitor.getClassInfo(name,
           bytes.get(), this.hashFunction.hash(bytes.get()));
+      this.cache.store(classData);
       return constructClassInfo(classData);
     } else {
       return Optional.empty();
@@ -0,0 +1,77 @@
+package org.pitest.classpath;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.objectweb.asm.ClassReader;
+import org.pitest.classinfo.ClassName;
+import org.pitest.util.Unchecked;
+
+/**
+ * Finds the classes a class refers to without loading it.
+ *
+ * A class is taken to refer to every class named in its constant pool,
+ * whether as a type, in a descriptor or as a string, so classes loaded
+ * reflectively by their literal name are found. Classes reached only through
+ * names built at runtime are not.
+ */
+public final class ClassReferences {
+
+  private static final int     CONSTANT_UTF8 = 1;
+  private static final Pattern DESCRIPTOR    = Pattern.compile("L([^;<]+)[;<]");
+
+  private ClassReferences() {
+  }
+
+  /**
+   * @param bytes class to search
+   * @param candidates classes of interest, keyed by internal name
+   * @return the candidates the class refers to, other than itself
+   */
+  public static Set<ClassName> in(byte[] bytes, Map<String, ClassName> candidates) {
+    final Set<ClassName> refs = new HashSet<>();
+    final ClassReader reader = new ClassReader(bytes);
+    for (int i = 1; i != reader.getItemCount(); i++) {
+      final int offset = reader.getItem(i);
+      // the second slot of a long or double has no item
+      if (offset == 0 || bytes[offset - 1] != CONSTANT_UTF8) {
+        continue;
+      }
+      final String value = readUtf8(bytes, offset);
+      addIfCandidate(refs, candidates, value.replace('.', '/'));
+      if (value.indexOf(';') != -1) {
+        final Matcher m = DESCRIPTOR.matcher(value);
+        while (m.find()) {
+          addIfCandidate(refs, candidates, m.group(1));
+        }
+      }
+    }
+    refs.remove(ClassName.fromString(reader.getClassName()));
+    return refs;
+  }
+
+  private static void addIfCandidate(Set<ClassName> refs,
+      Map<String, ClassName> candidates, String internalName) {
+    final ClassName ref = candidates.get(internalName);
+    if (ref != null) {
+      refs.add(ref);
+    }
+  }
+
+  private static String readUtf8(byte[] bytes, int offset) {
+    try {
+      // constant pool strings use the same modified utf8 as DataInput
+      return new DataInputStream(new ByteArrayInputStream(bytes, offset,
+          bytes.length - offset)).readUTF();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -42,6 +42,14 @@ public interface CodeSource extends ClassHashSource, ClassByteArraySource {
 
   Collection<ClassHash> fetchClassHashes(Collection<ClassName> classes);
 
+  /**
+   * Writes any information gathered about classes for reuse by later runs.
+   * Called once, at the end of a run.
+   */
+  default void flushCache() {
+
+  }
+
   @Override
   Optional<byte[]> getBytes(String clazz);
 
@@ -8,14 +8,20 @@ import org.pitest.classinfo.TestToClassMapper;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class DefaultCodeSource implements CodeSource {
+
+    // below this many classes, the cost of forking outweighs the gain
+    private static final int PARALLEL_THRESHOLD = 64;
+
     private final ProjectClassPaths   classPath;
     private final Repository classRepository;
+    private final TestToClassMapper testToClassMapper;
 
     public DefaultCodeSource(final ProjectClassPaths classPath) {
         this(classPath, new Repository(new ClassPathByteArraySource(
@@ -26,6 +32,7 @@ public class DefaultCodeSource implements CodeSource {
                final Repository classRepository) {
         this.classPath = classPath;
         this.classRepository = classRepository;
+        this.testToClassMapper = new TestToClassMapper(classRepository);
     }
 
     public Stream<ClassTree> codeTrees() {
@@ -56,14 +63,31 @@ public class DefaultCodeSource implements CodeSource {
     }
 
     public Optional<ClassName> findTestee(final String className) {
-        final TestToClassMapper mapper = new TestToClassMapper(this.classRepository);
-        return mapper.findTestee(className);
+        return this.testToClassMapper.findTestee(className);
     }
 
     public Collection<ClassHash> fetchClassHashes(final Collection<ClassName> classes) {
-        return classes.stream()
+        // reading and parsing classes dominates, so larger sets of classes
+        // are hashed in parallel. Each class remembers its deep hash, so
+        // calculating them here resolves the super and outer classes they
+        // depend on in parallel too, rather than later one at a time.
+        final List<ClassHash> hashes = inParallelIfLarge(classes)
                 .flatMap(c -> classRepository.fetchClassHash(c).stream())
                 .collect(Collectors.toList());
+        inParallelIfLarge(hashes).forEach(ClassHash::getDeepHash);
+        return hashes;
+    }
+
+    private static <T> Stream<T> inParallelIfLarge(Collection<T> items) {
+        if (items.size() < PARALLEL_THRESHOLD) {
+            return items.stream();
+        }
+        return items.parallelStream();
+    }
+
+    @Override
+    public void flushCache() {
+        this.classRepository.flushCache();
     }
 
     public Optional<byte[]> fetchClassBytes(final ClassName clazz) {
@@ -0,0 +1,311 @@
+package org.pitest.coverage;
+
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.testapi.Description;
+import org.pitest.util.Log;
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Coverage database for very large suites. Tests and blocks are assigned dense
+ * int ids, and the tests covering each block are held as a sorted int array
+ * rather than a set of objects. Line coverage is not stored, but derived from
+ * the block coverage when requested.
+ *
+ * <p>Test ids are renumbered into name order before the data is first queried,
+ * so tests are returned in the same order as by {@link CoverageData}.
+ */
+public class CompactCoverageData implements CoverageCollector {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final CodeSource code;
+  private final LineMap lm;
+  private final int testCount;
+  private final LegacyClassCoverage classLines;
+
+  private List<TestInfo> tests = new ArrayList<>();
+  private final Map<String, Integer> testIds = new HashMap<>();
+
+  private final Map<BlockLocation, Integer> blockIds = new LinkedHashMap<>();
+  private final List<BlockLocation> blocks = new ArrayList<>();
+  private final List<IntArray> blockTests = new ArrayList<>();
+  private final Map<ClassName, IntArray> classBlocks = new HashMap<>();
+
+  private final Map<ClassName, Map<BlockLocation, Set<Integer>>> blockLines = new ConcurrentHashMap<>();
+
+  private final List<Description> failingTestDescriptions = new ArrayList<>();
+
+  private boolean needsIndex = false;
+
+  public CompactCoverageData(CodeSource code, LineMap lm, int testCount) {
+    this.code = code;
+    this.lm = lm;
+    this.testCount = testCount;
+    this.classLines = new LegacyClassCoverage(code, lm);
+  }
+
+  @Override
+  public synchronized void calculateClassCoverage(final CoverageResult cr) {
+    checkForFailedTest(cr);
+    final int test = idForTest(cr);
+    for (final BlockLocation each : cr.getCoverage()) {
+      this.blockTests.get(idForBlock(each)).add(test);
+    }
+    this.needsIndex = true;
+  }
+
+  @Override
+  public int testCount() {
+    return this.testCount;
+  }
+
+  @Override
+  public Collection<TestInfo> getTestsForBlockLocation(BlockLocation location) {
+    index();
+    final Integer block = this.blockIds.get(location);
+    if (block == null) {
+      return Collections.emptyList();
+    }
+    // a view rather than a copy, as this is called for every mutant
+    final IntArray tests = this.blockTests.get(block);
+    return new AbstractList<TestInfo>() {
+      @Override
+      public TestInfo get(int index) {
+        return CompactCoverageData.this.tests.get(tests.values[index]);
+      }
+
+      @Override
+      public int size() {
+        return tests.size;
+      }
+    };
+  }
+
+  @Override
+  public Collection<TestInfo> getTestsForClass(ClassName clazz) {
+    index();
+    final IntArray classBlocks = this.classBlocks.get(clazz);
+    if (classBlocks == null) {
+      return Collections.emptyList();
+    }
+    final Map<BlockLocation, Set<Integer>> lines = linesForClass(clazz);
+    final BitSet covering = new BitSet(this.tests.size());
+    for (int i = 0; i != classBlocks.size; i++) {
+      final int block = classBlocks.values[i];
+      // as for line based coverage, blocks without lines do not count
+      if (!lines.getOrDefault(this.blocks.get(block), Collections.emptySet()).isEmpty()) {
+        final IntArray tests = this.blockTests.get(block);
+        for (int t = 0; t != tests.size; t++) {
+          covering.set(tests.values[t]);
+        }
+      }
+    }
+    return covering.stream()
+        .mapToObj(this.tests::get)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public Set<ClassLine> getCoveredLines(ClassName clazz) {
+    index();
+    final IntArray classBlocks = this.classBlocks.get(clazz);
+    if (classBlocks == null) {
+      return Collections.emptySet();
+    }
+    final Map<BlockLocation, Set<Integer>> lines = linesForClass(clazz);
+    final Set<ClassLine> covered = new HashSet<>();
+    for (int i = 0; i != classBlocks.size; i++) {
+      final BlockLocation block = this.blocks.get(classBlocks.values[i]);
+      for (final int line : lines.getOrDefault(block, Collections.emptySet())) {
+        covered.add(new ClassLine(clazz, line));
+      }
+    }
+    return covered;
+  }
+
+  @Override
+  public ClassLines getCodeLinesForClass(ClassName clazz) {
+    return this.classLines.getCodeLinesForClass(clazz);
+  }
+
+  @Override
+  public Collection<ClassLines> getClassesForFile(String sourceFile,
+      String packageName) {
+    return this.classLines.getClassesForFile(sourceFile, packageName);
+  }
+
+  @Override
+  public BigInteger getCoverageIdForClass(final ClassName clazz) {
+    final Collection<TestInfo> coverage = getTestsForClass(clazz);
+    if (coverage.isEmpty()) {
+      return BigInteger.ZERO;
+    }
+
+    BigInteger coverageNumber = BigInteger.ZERO;
+    final Set<ClassName> testClasses = coverage.stream()
+        .map(TestInfo.toDefiningClassName())
+        .collect(Collectors.toSet());
+
+    for (final ClassHash each : this.code.fetchClassHashes(testClasses)) {
+      coverageNumber = coverageNumber.add(each.getDeepHash());
+    }
+
+    return coverageNumber;
+  }
+
+  @Override
+  public boolean allTestsGreen() {
+    return this.failingTestDescriptions.isEmpty();
+  }
+
+  @Override
+  public int getCountFailedTests() {
+    return this.failingTestDescriptions.size();
+  }
+
+  @Override
+  public List<Description> getFailingTestDescriptions() {
+    return this.failingTestDescriptions;
+  }
+
+  @Override
+  public List<BlockCoverage> createCoverage() {
+    index();
+    final List<BlockCoverage> coverage = new ArrayList<>(this.blocks.size());
+    for (final Entry<BlockLocation, Integer> each : this.blockIds.entrySet()) {
+      final IntArray tests = this.blockTests.get(each.getValue());
+      final List<String> names = new ArrayList<>(tests.size);
+      for (int i = 0; i != tests.size; i++) {
+        names.add(this.tests.get(tests.values[i]).getName());
+      }
+      coverage.add(new BlockCoverage(each.getKey(), names));
+    }
+    return coverage;
+  }
+
+  private int idForTest(CoverageResult cr) {
+    final Description description = cr.getTestUnitDescription();
+    return this.testIds.computeIfAbsent(description.getQualifiedName(), name -> {
+      this.tests.add(createTestInfo(description, cr.getExecutionTime(),
+          cr.getNumberOfCoveredBlocks()));
+      return this.tests.size() - 1;
+    });
+  }
+
+  private int idForBlock(BlockLocation block) {
+    return this.blockIds.computeIfAbsent(block, b -> {
+      final int id = this.blocks.size();
+      this.blocks.add(b);
+      this.blockTests.add(new IntArray());
+      this.classBlocks.computeIfAbsent(b.getLocation().getClassName(), c -> new IntArray())
+          .add(id);
+      return id;
+    });
+  }
+
+  private Map<BlockLocation, Set<Integer>> linesForClass(ClassName clazz) {
+    return this.blockLines.computeIfAbsent(clazz, this.lm::mapLines);
+  }
+
+  /**
+   * Renumbers tests into name order, then sorts and removes duplicates from the
+   * tests recorded for each block.
+   */
+  private synchronized void index() {
+    if (!this.needsIndex) {
+      return;
+    }
+
+    final Integer[] byName = new Integer[this.tests.size()];
+    for (int i = 0; i != byName.length; i++) {
+      byName[i] = i;
+    }
+    Arrays.sort(byName, Comparator.comparing(i -> this.tests.get(i).getName()));
+
+    final int[] renumbered = new int[byName.length];
+    final List<TestInfo> sorted = new ArrayList<>(byName.length);
+    for (int i = 0; i != byName.length; i++) {
+      renumbered[byName[i]] = i;
+      final TestInfo test = this.tests.get(byName[i]);
+      sorted.add(test);
+      this.testIds.put(test.getName(), i);
+    }
+    this.tests = sorted;
+
+    for (final IntArray each : this.blockTests) {
+      each.renumber(renumbered);
+    }
+
+    this.needsIndex = false;
+  }
+
+  private void checkForFailedTest(final CoverageResult cr) {
+    if (!cr.isGreenTest()) {
+      this.failingTestDescriptions.add(cr.getTestUnitDescription());
+      LOG.severe(cr.getTestUnitDescription()
+          + " did not pass without mutation.");
+    }
+  }
+
+  private TestInfo createTestInfo(final Description description,
+      final int executionTime, final int linesCovered) {
+    final Optional<ClassName> testee = this.code.findTestee(description
+        .getFirstTestClass());
+    return new TestInfo(description.getFirstTestClass(),
+        description.getQualifiedName(), executionTime, testee, linesCovered);
+  }
+
+  private static class IntArray {
+    private int[] values = new int[2];
+    private int   size;
+
+    void add(int value) {
+      if (this.size == this.values.length) {
+        this.values = Arrays.copyOf(this.values, this.size * 2);
+      }
+      this.values[this.size] = value;
+      this.size++;
+    }
+
+    void renumber(int[] ids) {
+      for (int i = 0; i != this.size; i++) {
+        this.values[i] = ids[this.values[i]];
+      }
+      Arrays.sort(this.values, 0, this.size);
+      int distinct = 0;
+      for (int i = 0; i != this.size; i++) {
+        if (distinct == 0 || this.values[distinct - 1] != this.values[i]) {
+          this.values[distinct] = this.values[i];
+          distinct++;
+        }
+      }
+      this.size = distinct;
+      // indexing normally happens once all coverage is in, so reclaim the slack
+      if (this.values.length > this.size) {
+        this.values = Arrays.copyOf(this.values, Math.max(this.size, 1));
+      }
+    }
+  }
+
+}
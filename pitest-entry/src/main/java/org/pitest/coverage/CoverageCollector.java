@@ -0,0 +1,23 @@
+package org.pitest.coverage;
+
+import java.util.List;
+
+import org.pitest.testapi.Description;
+
+/**
+ * A coverage database that is populated from the results reported by the
+ * coverage minion.
+ */
+public interface CoverageCollector extends CoverageDatabase {
+
+  void calculateClassCoverage(CoverageResult cr);
+
+  boolean allTestsGreen();
+
+  int getCountFailedTests();
+
+  List<Description> getFailingTestDescriptions();
+
+  List<BlockCoverage> createCoverage();
+
+}
@@ -36,7 +36,7 @@ import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
-public class CoverageData implements CoverageDatabase {
+public class CoverageData implements CoverageCollector {
 
   private static final Logger LOG = Log.getLogger();
 
@@ -53,6 +53,7 @@ public class CoverageData implements CoverageDatabase {
     this.testCount = testCount;
   }
 
+  @Override
   public void calculateClassCoverage(final CoverageResult cr) {
 
     checkForFailedTest(cr);
@@ -82,14 +83,17 @@ public class CoverageData implements CoverageDatabase {
     return testCount;
   }
 
+  @Override
   public boolean allTestsGreen() {
     return this.failingTestDescriptions.isEmpty();
   }
 
+  @Override
   public int getCountFailedTests() {
     return this.failingTestDescriptions.size();
   }
 
+  @Override
   public List<Description> getFailingTestDescriptions() {
     return failingTestDescriptions;
   }
@@ -128,6 +132,7 @@ public class CoverageData implements CoverageDatabase {
     return generateCoverageNumber(coverage);
   }
 
+  @Override
   public List<BlockCoverage> createCoverage() {
     return this.blockCoverage.entrySet().stream()
             .map(toBlockCoverage())
@@ -19,12 +19,22 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.process.LaunchOptions;
 
+import java.util.Map;
 import java.util.function.Predicate;
 
 public interface CoverageGenerator {
 
   CoverageDatabase calculateCoverage(Predicate<ClassName> testFilter);
 
+  /**
+   * Calculates coverage, making use of the execution times recorded for test
+   * classes by a previous run where the implementation is able to.
+   */
+  default CoverageDatabase calculateCoverage(Predicate<ClassName> testFilter,
+      Map<ClassName, Long> historicTestTimes) {
+    return calculateCoverage(testFilter);
+  }
+
   TestPluginArguments getConfiguration();
 
   LaunchOptions getLaunchOptions();
@@ -0,0 +1,481 @@
+package org.pitest.coverage;
+
+import static org.pitest.functional.prelude.Prelude.not;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassReferences;
+import org.pitest.classpath.CodeSource;
+import org.pitest.mutationtest.config.DefaultDependencyPathPredicate;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.testapi.Description;
+import org.pitest.util.Log;
+
+/**
+ * Keeps the coverage gathered for each test class between runs, so that only
+ * test classes affected by a change need be run again. The coverage of a test
+ * class is reused while the test class, every class it covered and every
+ * test-side class it refers to are unchanged, and the coverage was gathered
+ * under the same configuration.
+ */
+public class CoverageStore {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final int VERSION = 2;
+
+  // marks a test class that had a failing test
+  private static final List<CoverageResult> FAILED = Collections.unmodifiableList(new ArrayList<>());
+
+  private final File       input;
+  private final File       output;
+  private final CodeSource code;
+  private final String     configuration;
+
+  private final Map<ClassName, List<CoverageResult>> results = new HashMap<>();
+  private Set<ClassName>                             testClasses = Collections.emptySet();
+  private boolean                                    attributable = true;
+
+  /**
+   * @param input file written by a previous run, may be null
+   * @param output file to write to, may be null
+   * @param configuration identifies the settings that determine coverage.
+   *                      Stored coverage is ignored if they differ.
+   */
+  public CoverageStore(File input, File output, CodeSource code,
+      String configuration) {
+    this.input = input;
+    this.output = output;
+    this.code = code;
+    this.configuration = configuration;
+  }
+
+  public static CoverageStore none() {
+    return new CoverageStore(null, null, null, "");
+  }
+
+  /**
+   * @return an identifier that changes when any of the settings do
+   */
+  public static String configuration(Serializable... settings) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(settings);
+    } catch (final IOException ex) {
+      LOG.fine("Could not identify coverage settings " + ex);
+      // never matches a stored identifier, so nothing is reused
+      return UUID.randomUUID().toString();
+    }
+    return UUID.nameUUIDFromBytes(bytes.toByteArray()).toString();
+  }
+
+  /**
+   * Identifies the content of the files other than classes held in the
+   * directories of a classpath, so that stored coverage is ignored when a
+   * resource the tests may read changes.
+   *
+   * @param classPath paths separated by the platform path separator
+   * @return checksums of each resource, keyed by path
+   */
+  public static TreeMap<String, Long> resources(String classPath) {
+    final TreeMap<String, Long> resources = new TreeMap<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final Path root = Paths.get(each);
+      if (!Files.isDirectory(root)) {
+        continue;
+      }
+      try (Stream<Path> files = Files.walk(root)) {
+        files.filter(Files::isRegularFile)
+            .filter(f -> !f.toString().endsWith(".class"))
+            .forEach(f -> resources.put(f.toString(), checksum(f)));
+      } catch (final IOException | UncheckedIOException ex) {
+        LOG.fine("Could not read resources in " + root + " " + ex);
+        // never matches a stored identifier, so nothing is reused
+        resources.put(UUID.randomUUID().toString(), 0L);
+      }
+    }
+    return resources;
+  }
+
+  /**
+   * Identifies the archives on a classpath by size and modification time, so
+   * that stored coverage is ignored when a dependency is rebuilt in place.
+   *
+   * @param classPath paths separated by the platform path separator
+   * @return size and modification time of each archive, keyed by path
+   */
+  public static TreeMap<String, String> archives(String classPath) {
+    final TreeMap<String, String> archives = new TreeMap<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final Path archive = Paths.get(each);
+      if (!Files.isRegularFile(archive)) {
+        continue;
+      }
+      try {
+        archives.put(each, Files.size(archive) + ":"
+            + Files.getLastModifiedTime(archive).toMillis());
+      } catch (final IOException ex) {
+        LOG.fine("Could not read " + archive + " " + ex);
+        // never matches a stored identifier, so nothing is reused
+        archives.put(each, UUID.randomUUID().toString());
+      }
+    }
+    return archives;
+  }
+
+  private static long checksum(Path file) {
+    final CRC32 crc = new CRC32();
+    try {
+      crc.update(Files.readAllBytes(file));
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return crc.getValue();
+  }
+
+  /**
+   * @param testClasses test classes about to be run
+   * @return the stored coverage of those test classes that need not be run
+   *         again
+   */
+  public synchronized Map<ClassName, List<CoverageResult>> reusable(Collection<ClassName> testClasses) {
+    this.testClasses = new HashSet<>(testClasses);
+    if (this.input == null || !this.input.exists()) {
+      return Collections.emptyMap();
+    }
+    final Map<ClassName, Entry> stored = read();
+    stored.keySet().retainAll(testClasses);
+    if (stored.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    final Set<ClassName> classes = new HashSet<>();
+    for (final Entry each : stored.values()) {
+      classes.add(each.testClass);
+      classes.addAll(each.dependencies.keySet());
+    }
+    final Map<ClassName, String> current = hashes(classes);
+
+    final Map<ClassName, List<CoverageResult>> reusable = new LinkedHashMap<>();
+    for (final Entry each : stored.values()) {
+      if (each.isCurrent(current)) {
+        reusable.put(each.testClass, each.results);
+      }
+    }
+    return reusable;
+  }
+
+  /**
+   * Records a result gathered in this run, or reused from a previous one.
+   * Results of tests that did not pass are not recorded, so their classes are
+   * run again next time.
+   */
+  public synchronized void record(CoverageResult result) {
+    if (this.output == null) {
+      return;
+    }
+    final ClassName testClass = owningTestClass(result.getTestUnitDescription());
+    if (testClass == null) {
+      // cannot tell which test class to rerun to reproduce this result
+      this.attributable = false;
+      return;
+    }
+    final List<CoverageResult> forClass = this.results
+        .computeIfAbsent(testClass, k -> new ArrayList<>());
+    if (forClass != FAILED) {
+      if (result.isGreenTest()) {
+        forClass.add(result);
+      } else {
+        this.results.put(testClass, FAILED);
+      }
+    }
+  }
+
+  /**
+   * Writes the coverage of every test class run or reused in this run
+   */
+  public synchronized void write() {
+    if (this.output == null) {
+      return;
+    }
+    if (!this.attributable) {
+      LOG.info("Some coverage could not be attributed to a test class, so will not be reused");
+      this.output.delete();
+      return;
+    }
+    final Map<ClassName, List<CoverageResult>> toWrite = new LinkedHashMap<>();
+    for (final ClassName each : this.testClasses) {
+      final List<CoverageResult> forClass = this.results.getOrDefault(each,
+          Collections.emptyList());
+      if (forClass != FAILED) {
+        toWrite.put(each, forClass);
+      }
+    }
+
+    final Map<ClassName, Set<ClassName>> dependencies = new HashMap<>();
+    final Map<ClassName, Set<ClassName>> helpers = helpers(toWrite.keySet());
+    for (final Map.Entry<ClassName, List<CoverageResult>> each : toWrite.entrySet()) {
+      final Set<ClassName> forClass = coveredClasses(each.getValue());
+      forClass.addAll(helpers.get(each.getKey()));
+      dependencies.put(each.getKey(), forClass);
+    }
+
+    final Set<ClassName> classes = new HashSet<>(toWrite.keySet());
+    dependencies.values().forEach(classes::addAll);
+    final Map<ClassName, String> current = hashes(classes);
+
+    try {
+      final Path dir = this.output.getAbsoluteFile().getParentFile().toPath();
+      Files.createDirectories(dir);
+      final Path tmp = Files.createTempFile(dir, "coverage", ".tmp");
+      try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+        out.writeInt(VERSION);
+        out.writeUTF(this.configuration);
+        out.writeInt(toWrite.size());
+        for (final Map.Entry<ClassName, List<CoverageResult>> each : toWrite.entrySet()) {
+          writeEntry(out, each.getKey(), each.getValue(),
+              dependencies.get(each.getKey()), current);
+        }
+      }
+      Files.move(tmp, this.output.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException ex) {
+      LOG.warning("Could not store coverage for reuse " + ex);
+    }
+  }
+
+  /**
+   * Finds the test class that was run to produce a result, which may be an
+   * outer class of the class the test is declared in
+   */
+  private ClassName owningTestClass(Description description) {
+    if (description.getFirstTestClass() == null) {
+      return null;
+    }
+    String name = ClassName.fromString(description.getFirstTestClass()).asInternalName();
+    while (!this.testClasses.contains(ClassName.fromString(name))) {
+      final int nested = name.lastIndexOf('$');
+      if (nested == -1) {
+        return null;
+      }
+      name = name.substring(0, nested);
+    }
+    return ClassName.fromString(name);
+  }
+
+  /**
+   * Finds, for each test class, the test-side classes of the project it
+   * refers to directly or through other test-side classes. These are the
+   * helpers, fixtures and builders whose changes may change what a test
+   * covers without changing the test class itself.
+   */
+  private Map<ClassName, Set<ClassName>> helpers(Set<ClassName> testClasses) {
+    final Map<String, ClassName> testSide = new HashMap<>();
+    final Set<ClassName> code = this.code.getCodeUnderTestNames();
+    for (final String each : this.code.getClassPath()
+        .getComponent(not(new DefaultDependencyPathPredicate())).classNames()) {
+      final ClassName name = ClassName.fromString(each);
+      if (!code.contains(name)) {
+        testSide.put(name.asInternalName(), name);
+      }
+    }
+
+    final Map<ClassName, Set<ClassName>> references = new HashMap<>();
+    final Map<ClassName, Set<ClassName>> helpers = new HashMap<>();
+    for (final ClassName testClass : testClasses) {
+      final Set<ClassName> reached = new HashSet<>();
+      final ArrayDeque<ClassName> toVisit = new ArrayDeque<>();
+      toVisit.push(testClass);
+      while (!toVisit.isEmpty()) {
+        final ClassName next = toVisit.pop();
+        for (final ClassName each : references.computeIfAbsent(next,
+            c -> references(c, testSide))) {
+          if (reached.add(each)) {
+            toVisit.push(each);
+          }
+        }
+      }
+      reached.remove(testClass);
+      helpers.put(testClass, reached);
+    }
+    return helpers;
+  }
+
+  private Set<ClassName> references(ClassName clazz, Map<String, ClassName> testSide) {
+    return this.code.fetchClassBytes(clazz)
+        .map(bytes -> ClassReferences.in(bytes, testSide))
+        .orElse(Collections.emptySet());
+  }
+
+  private Map<ClassName, String> hashes(Set<ClassName> classes) {
+    return this.code.fetchClassHashes(classes).stream()
+        .collect(Collectors.toMap(ClassHash::getName,
+            h -> h.getHierarchicalId().getHierarchicalHash()));
+  }
+
+  private static Set<ClassName> coveredClasses(List<CoverageResult> results) {
+    return results.stream()
+        .flatMap(r -> r.getCoverage().stream())
+        .map(b -> b.getLocation().getClassName())
+        .collect(Collectors.toSet());
+  }
+
+  private static void writeEntry(DataOutputStream out, ClassName testClass,
+      List<CoverageResult> results, Set<ClassName> dependencies,
+      Map<ClassName, String> hashes) throws IOException {
+    out.writeUTF(testClass.asInternalName());
+    writeHash(out, hashes.get(testClass));
+
+    out.writeInt(dependencies.size());
+    for (final ClassName each : dependencies) {
+      out.writeUTF(each.asInternalName());
+      writeHash(out, hashes.get(each));
+    }
+
+    // blocks refer to a small number of methods, so each is written once
+    final Map<Location, Integer> locations = new LinkedHashMap<>();
+    for (final CoverageResult result : results) {
+      for (final BlockLocation block : result.getCoverage()) {
+        locations.putIfAbsent(block.getLocation(), locations.size());
+      }
+    }
+    out.writeInt(locations.size());
+    for (final Location each : locations.keySet()) {
+      out.writeUTF(each.getClassName().asInternalName());
+      out.writeUTF(each.getMethodName());
+      out.writeUTF(each.getMethodDesc());
+    }
+
+    out.writeInt(results.size());
+    for (final CoverageResult result : results) {
+      final Description description = result.getTestUnitDescription();
+      out.writeUTF(description.getName());
+      out.writeUTF(description.getFirstTestClass());
+      out.writeInt(result.getExecutionTime());
+      out.writeInt(result.getCoverage().size());
+      for (final BlockLocation block : result.getCoverage()) {
+        out.writeInt(locations.get(block.getLocation()));
+        out.writeInt(block.getBlock());
+      }
+    }
+  }
+
+  private static void writeHash(DataOutputStream out, String hash)
+      throws IOException {
+    // a class that could not be hashed is never current
+    out.writeUTF(hash == null ? "" : hash);
+  }
+
+  private Map<ClassName, Entry> read() {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new GZIPInputStream(Files.newInputStream(this.input.toPath()))))) {
+      if (in.readInt() != VERSION || !in.readUTF().equals(this.configuration)) {
+        LOG.fine("Stored coverage was gathered with different settings");
+        return new HashMap<>();
+      }
+      final int count = in.readInt();
+      final Map<ClassName, Entry> entries = new HashMap<>();
+      for (int i = 0; i != count; i++) {
+        final Entry entry = readEntry(in);
+        entries.put(entry.testClass, entry);
+      }
+      return entries;
+    } catch (final IOException ex) {
+      LOG.warning("Could not read stored coverage " + ex);
+      return new HashMap<>();
+    }
+  }
+
+  private static Entry readEntry(DataInputStream in) throws IOException {
+    final ClassName testClass = ClassName.fromString(in.readUTF());
+    final String testHash = in.readUTF();
+
+    final int dependencyCount = in.readInt();
+    final Map<ClassName, String> dependencies = new HashMap<>();
+    for (int i = 0; i != dependencyCount; i++) {
+      dependencies.put(ClassName.fromString(in.readUTF()), in.readUTF());
+    }
+
+    final Location[] locations = new Location[in.readInt()];
+    for (int i = 0; i != locations.length; i++) {
+      locations[i] = new Location(ClassName.fromString(in.readUTF()),
+          in.readUTF(), in.readUTF());
+    }
+
+    final int resultCount = in.readInt();
+    final List<CoverageResult> results = new ArrayList<>(resultCount);
+    for (int i = 0; i != resultCount; i++) {
+      final Description description = new Description(in.readUTF(), in.readUTF());
+      final int time = in.readInt();
+      final int blockCount = in.readInt();
+      final List<BlockLocation> blocks = new ArrayList<>(blockCount);
+      for (int b = 0; b != blockCount; b++) {
+        blocks.add(new BlockLocation(locations[in.readInt()], in.readInt()));
+      }
+      results.add(new CoverageResult(description, time, true, blocks));
+    }
+    return new Entry(testClass, testHash, dependencies, results);
+  }
+
+  private static final class Entry {
+    private final ClassName              testClass;
+    private final String                 testHash;
+    private final Map<ClassName, String> dependencies;
+    private final List<CoverageResult>   results;
+
+    Entry(ClassName testClass, String testHash,
+        Map<ClassName, String> dependencies, List<CoverageResult> results) {
+      this.testClass = testClass;
+      this.testHash = testHash;
+      this.dependencies = dependencies;
+      this.results = results;
+    }
+
+    boolean isCurrent(Map<ClassName, String> current) {
+      if (!this.testHash.equals(current.get(this.testClass))) {
+        return false;
+      }
+      for (final Map.Entry<ClassName, String> each : this.dependencies.entrySet()) {
+        if (!each.getValue().equals(current.get(each.getKey()))) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+}
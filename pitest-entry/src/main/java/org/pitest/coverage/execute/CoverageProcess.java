@@ -3,7 +3,6 @@ package org.pitest.coverage.execute;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Consumer;
 
 import org.pitest.coverage.CoverageResult;
@@ -33,17 +32,7 @@ public class CoverageProcess {
 
   public ExitCode waitToDie() {
     try {
-      Optional<ExitCode> maybeExit = this.crt.waitToFinish(5);
-      while (maybeExit.isEmpty() && this.process.isAlive()) {
-        maybeExit = this.crt.waitToFinish(10);
-      }
-
-      // Either the monitored process died, or the thread ended.
-      // Check the thread one last time to try and avoid reporting
-      // an error code if it was the process that went down first
-      maybeExit = this.crt.waitToFinish(10);
-
-      return maybeExit.orElse(ExitCode.MINION_DIED);
+      return this.crt.waitToFinish(this.process::isAlive);
     } finally {
       this.process.destroy();
     }
@@ -18,10 +18,13 @@ package org.pitest.coverage.execute;
 import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CompactCoverageData;
+import org.pitest.coverage.CoverageCollector;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.CoverageStore;
 import org.pitest.coverage.analysis.LineMapper;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
@@ -42,7 +45,10 @@ import org.pitest.util.Verbosity;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -61,11 +67,21 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final Verbosity        verbosity;
-
+  private final int              numberOfMinions;
+  private final boolean          compactCoverage;
+  private final CoverageStore    store;
+
+  /**
+   * @param numberOfMinions number of minions to share the tests between
+   * @param compactCoverage hold coverage in the compact, int keyed form
+   * @param store coverage kept from previous runs, reused for test classes
+   *              unaffected by changes
+   */
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
-      final Timings timings, Verbosity verbosity) {
+      final Timings timings, Verbosity verbosity, int numberOfMinions,
+      boolean compactCoverage, CoverageStore store) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -73,10 +89,19 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.verbosity = verbosity;
+    this.numberOfMinions = numberOfMinions;
+    this.compactCoverage = compactCoverage;
+    this.store = store;
   }
 
   @Override
-  public CoverageData calculateCoverage(Predicate<ClassName> testFilter) {
+  public CoverageCollector calculateCoverage(Predicate<ClassName> testFilter) {
+    return calculateCoverage(testFilter, Collections.emptyMap());
+  }
+
+  @Override
+  public CoverageCollector calculateCoverage(Predicate<ClassName> testFilter,
+      Map<ClassName, Long> historicTestTimes) {
     try {
       final long t0 = System.nanoTime();
 
@@ -89,16 +114,17 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
       this.timings.registerEnd(Timings.Stage.SCAN_CLASS_PATH);
 
-      final CoverageData coverage = new CoverageData(this.code, new LineMapper(
-          this.code), tests.size());
+      final CoverageCollector coverage = createCoverageCollector(tests.size());
+      final Consumer<CoverageResult> handler = recording(resultProcessor(coverage));
 
       this.timings.registerStart(Timings.Stage.COVERAGE);
+      final List<String> toRun = reuseStoredCoverage(tests, handler);
       if (tests.isEmpty()) {
         // This may happen as a result of filtering for incremental analysis as well as
         // simple misconfiguration.
         LOG.info("No test classes identified to scan");
-      } else {
-        gatherCoverageData(tests, coverage);
+      } else if (!toRun.isEmpty()) {
+        gatherCoverageData(toRun, handler, historicTestTimes);
       }
       this.timings.registerEnd(Timings.Stage.COVERAGE);
 
@@ -107,6 +133,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
       LOG.info("Calculated coverage in " + time + " seconds.");
 
       verifyBuildSuitableForMutationTesting(coverage);
+      this.store.write();
 
       this.exporter.recordCoverage(coverage.createCoverage());
 
@@ -119,7 +146,43 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
-  private static void verifyBuildSuitableForMutationTesting(final CoverageData coverage) {
+  /**
+   * Passes the stored coverage of test classes unaffected by changes to the
+   * handler
+   *
+   * @return the test classes that must be run
+   */
+  private List<String> reuseStoredCoverage(List<String> tests,
+      Consumer<CoverageResult> handler) {
+    final Map<ClassName, List<CoverageResult>> reused = this.store.reusable(
+        tests.stream().map(ClassName::fromString).collect(Collectors.toList()));
+    if (reused.isEmpty()) {
+      return tests;
+    }
+    LOG.info("Reusing coverage of " + reused.size() + " of " + tests.size()
+        + " test classes from a previous run");
+    reused.values().forEach(results -> results.forEach(handler));
+    return tests.stream()
+        .filter(t -> !reused.containsKey(ClassName.fromString(t)))
+        .collect(Collectors.toList());
+  }
+
+  private Consumer<CoverageResult> recording(Consumer<CoverageResult> handler) {
+    return cr -> {
+      this.store.record(cr);
+      handler.accept(cr);
+    };
+  }
+
+  private CoverageCollector createCoverageCollector(int testCount) {
+    final LineMapper lines = new LineMapper(this.code);
+    if (this.compactCoverage) {
+      return new CompactCoverageData(this.code, lines, testCount);
+    }
+    return new CoverageData(this.code, lines, testCount);
+  }
+
+  private static void verifyBuildSuitableForMutationTesting(final CoverageCollector coverage) {
     if (!coverage.allTestsGreen()) {
       LOG.severe("Tests failing without mutation: " + StringUtil.newLine()
           + coverage.getFailingTestDescriptions().stream().map(Description::toString)
@@ -129,22 +192,38 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   }
 
   private void gatherCoverageData(List<String> tests,
-      final CoverageData coverage) throws IOException, InterruptedException {
+      final Consumer<CoverageResult> handler, Map<ClassName, Long> historicTestTimes)
+      throws IOException, InterruptedException {
 
-    final Consumer<CoverageResult> handler = resultProcessor(coverage);
+    final List<List<String>> shards = TestClassPartitioner.partition(tests,
+        this.numberOfMinions, historicTestTimes);
+    if (shards.size() > 1) {
+      LOG.info("Sharding coverage generation across " + shards.size() + " minions");
+    }
 
     final SocketFinder sf = new SocketFinder();
-    final ServerSocket socket = sf.getNextAvailableServerSocket();
-
-    final CoverageProcess process = new CoverageProcess(ProcessArgs
-        .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
-        .andLaunchOptions(this.launchOptions).andStderr(logInfo())
-        .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, tests, handler);
+    final List<CoverageProcess> processes = new ArrayList<>(shards.size());
+    for (final List<String> shard : shards) {
+      final ServerSocket socket = sf.getNextAvailableServerSocket();
+      processes.add(new CoverageProcess(ProcessArgs
+          .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
+          .andLaunchOptions(this.launchOptions).andStderr(logInfo())
+          .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
+          socket, shard, handler));
+    }
 
-    process.start();
+    for (final CoverageProcess each : processes) {
+      each.start();
+    }
 
-    final ExitCode exitCode = process.waitToDie();
+    // wait for every minion, even once one has failed, so none are left running
+    ExitCode exitCode = ExitCode.OK;
+    for (final CoverageProcess each : processes) {
+      final ExitCode processExit = each.waitToDie();
+      if (exitCode.isOk()) {
+        exitCode = processExit;
+      }
+    }
 
     if (exitCode == ExitCode.TEST_PLUGIN_ISSUE) {
       LOG.severe("Pitest could not run any tests. Please check that you have installed the pitest plugin for your testing library (eg JUnit 5, TestNG). If your project uses JUnit 4 "
@@ -177,14 +256,16 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   }
 
   private Consumer<CoverageResult> resultProcessor(
-      final CoverageData coverage) {
+      final CoverageCollector coverage) {
     return new Consumer<CoverageResult>() {
       private final String[] spinner = new String[] { "\u0008/", "\u0008-",
           "\u0008\\", "\u0008|" };
       int i = 0;
 
+      // results from sharded minions arrive on one communication thread per
+      // minion, so access to the coverage data must be serialised
       @Override
-      public void accept(final CoverageResult cr) {
+      public synchronized void accept(final CoverageResult cr) {
         if (cr.isGreenTest() || !coverageOptions.getPitConfig().skipFailingTests()) {
           coverage.calculateClassCoverage(cr);
         }
@@ -8,8 +8,8 @@ import org.pitest.testapi.Description;
 import org.pitest.util.Id;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
-import sun.pitest.CodeCoverageStore;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -19,8 +19,11 @@ import java.util.function.Consumer;
 
 final class Receive implements ReceiveStrategy {
 
+  private static final BlockLocation[] NO_BLOCKS = new BlockLocation[0];
+
   private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<>();
-  private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
+  // blocks for each class indexed by class wide probe id
+  private final Map<Integer, BlockLocation[]> classProbes = new ConcurrentHashMap<>();
 
   private final Consumer<CoverageResult> handler;
 
@@ -55,36 +58,49 @@ final class Receive implements ReceiveStrategy {
     final int last = is.readInt();
     final Location loc = Location.location(this.classIdToName.get(classId),
         methodName, methodSig);
+    final BlockLocation[] blocks = probesFor(classId, last + 1);
     for (int i = first; i != (last + 1); i++) {
       // nb, convert from classwide id to method scoped index within
       // BlockLocation
-      this.probeToBlock.put(CodeCoverageStore.encode(classId, i),
-          new BlockLocation(loc, i - first));
+      blocks[i] = new BlockLocation(loc, i - first);
     }
   }
 
+  private BlockLocation[] probesFor(int classId, int size) {
+    return this.classProbes.compute(classId, (id, blocks) -> {
+      if (blocks == null) {
+        return new BlockLocation[size];
+      }
+      if (blocks.length < size) {
+        return Arrays.copyOf(blocks, size);
+      }
+      return blocks;
+    });
+  }
+
   private void handleTestEnd(final SafeDataInputStream is) {
     final Description d = is.read(Description.class);
-    final int numberOfResults = is.readInt();
+    final int numberOfClasses = is.readInt();
 
-    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
+    final Set<BlockLocation> hits = new HashSet<>();
 
-    for (int i = 0; i != numberOfResults; i++) {
-      readProbeHit(is, hits);
+    for (int i = 0; i != numberOfClasses; i++) {
+      readClassHits(is, hits);
     }
 
     this.handler.accept(createCoverageResult(is, d, hits));
   }
 
-  private void readProbeHit(final SafeDataInputStream is,
+  private void readClassHits(final SafeDataInputStream is,
       final Set<BlockLocation> hits) {
-    final long encoded = is.readLong();
-    final BlockLocation location = probeToBlock(encoded);
-    hits.add(location);
-  }
-
-  private BlockLocation probeToBlock(long encoded) {
-    return this.probeToBlock.get(encoded);
+    final int classId = is.readInt();
+    final BlockLocation[] blocks = this.classProbes.getOrDefault(classId,
+        NO_BLOCKS);
+    ProbeHitEncoding.read(is, probe -> {
+      if (probe < blocks.length && blocks[probe] != null) {
+        hits.add(blocks[probe]);
+      }
+    });
   }
 
   private CoverageResult createCoverageResult(final SafeDataInputStream is,
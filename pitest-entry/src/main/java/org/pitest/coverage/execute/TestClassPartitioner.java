@@ -0,0 +1,74 @@
+package org.pitest.coverage.execute;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassName;
+
+/**
+ * Splits test classes into shards of roughly equal expected execution time so
+ * that coverage can be gathered by several minions at once. Where no time was
+ * recorded for a test class it is assumed to cost the average of the known
+ * times, or one unit when nothing is known.
+ */
+final class TestClassPartitioner {
+
+  private TestClassPartitioner() {
+  }
+
+  static List<List<String>> partition(List<String> tests, int shards,
+      Map<ClassName, Long> historicTimes) {
+    final int numberOfShards = Math.max(1, Math.min(shards, tests.size()));
+    final List<List<String>> partitions = new ArrayList<>(numberOfShards);
+    final PriorityQueue<Shard> byLoad = new PriorityQueue<>(
+        Comparator.comparingLong((Shard s) -> s.load).thenComparingInt(s -> s.index));
+    for (int i = 0; i != numberOfShards; i++) {
+      final Shard shard = new Shard(i);
+      partitions.add(shard.tests);
+      byLoad.add(shard);
+    }
+
+    final long defaultCost = defaultCost(historicTimes);
+    final List<String> mostExpensiveFirst = tests.stream()
+        .sorted(Comparator.comparingLong((String t) -> cost(t, historicTimes, defaultCost))
+            .reversed())
+        .collect(Collectors.toList());
+
+    for (final String each : mostExpensiveFirst) {
+      final Shard lightest = byLoad.poll();
+      lightest.tests.add(each);
+      lightest.load = lightest.load + cost(each, historicTimes, defaultCost);
+      byLoad.add(lightest);
+    }
+
+    return partitions;
+  }
+
+  private static long cost(String test, Map<ClassName, Long> historicTimes,
+      long defaultCost) {
+    // zero cost entries would otherwise all pile onto a single shard
+    return Math.max(1, historicTimes.getOrDefault(ClassName.fromString(test), defaultCost));
+  }
+
+  private static long defaultCost(Map<ClassName, Long> historicTimes) {
+    return Math.max(1, (long) historicTimes.values().stream()
+        .mapToLong(Long::longValue)
+        .average()
+        .orElse(1));
+  }
+
+  private static class Shard {
+    private final int          index;
+    private final List<String> tests = new ArrayList<>();
+    private long               load;
+
+    Shard(int index) {
+      this.index = index;
+    }
+  }
+
+}
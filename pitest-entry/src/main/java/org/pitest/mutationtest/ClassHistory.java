@@ -13,10 +13,17 @@ public class ClassHistory implements Serializable {
 
   private final HierarchicalClassId id;
   private final String              coverageId;
+  private final long                testTime;
 
   public ClassHistory(final HierarchicalClassId id, final String coverageId) {
+    this(id, coverageId, 0);
+  }
+
+  public ClassHistory(final HierarchicalClassId id, final String coverageId,
+      final long testTime) {
     this.id = id;
     this.coverageId = coverageId;
+    this.testTime = testTime;
   }
 
   public HierarchicalClassId getId() {
@@ -27,13 +34,21 @@ public class ClassHistory implements Serializable {
     return this.coverageId;
   }
 
+  /**
+   * Total execution time of the tests defined in this class, or 0 if it
+   * defines no tests or none were run.
+   */
+  public long getTestTime() {
+    return this.testTime;
+  }
+
   public ClassName getName() {
     return this.id.getName();
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, coverageId);
+    return Objects.hash(id, coverageId, testTime);
   }
 
   @Override
@@ -46,7 +61,8 @@ public class ClassHistory implements Serializable {
     }
     final ClassHistory other = (ClassHistory) obj;
     return Objects.equals(id, other.id)
-            && Objects.equals(coverageId, other.coverageId);
+            && Objects.equals(coverageId, other.coverageId)
+            && testTime == other.testTime;
   }
 
   @Override
@@ -54,6 +70,7 @@ public class ClassHistory implements Serializable {
     return new StringJoiner(", ", ClassHistory.class.getSimpleName() + "[", "]")
             .add("id=" + id)
             .add("coverageId='" + coverageId + "'")
+            .add("testTime=" + testTime)
             .toString();
   }
 }
\ No newline at end of file
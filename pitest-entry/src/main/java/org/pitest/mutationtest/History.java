@@ -3,8 +3,12 @@ package org.pitest.mutationtest;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 public interface History {
@@ -22,6 +26,34 @@ public interface History {
 
     void processCoverage(CoverageDatabase coverageData);
 
+    default Map<ClassName, Long> historicTestTimes() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Execution times of individual tests recorded by previous runs, keyed by
+     * test name.
+     */
+    default Map<String, TestTimeSamples> historicTestDurations() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Records execution times of individual tests during this run. May be
+     * called concurrently.
+     */
+    default void recordTestDurations(Map<String, TestTimeSamples> durations) {
+        // not stored
+    }
+
+    /**
+     * Status of the mutant when it was last analysed, regardless of whether
+     * that result can be reused for this run.
+     */
+    default Optional<DetectionStatus> previousStatus(MutationIdentifier id) {
+        return Optional.empty();
+    }
+
     List<MutationResult> analyse(List<MutationDetails> mutationsForClasses);
 
     void recordResult(MutationResult result);
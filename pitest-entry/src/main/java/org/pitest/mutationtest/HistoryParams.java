@@ -2,13 +2,25 @@ package org.pitest.mutationtest;
 
 import org.pitest.classpath.CodeSource;
 import org.pitest.plugin.FeatureSelector;
+
+import java.io.File;
+import java.util.Optional;
+
 public class HistoryParams {
     private final FeatureSelector conf;
     private final CodeSource code;
+    private final File historyInput;
+    private final File historyOutput;
 
     public HistoryParams(FeatureSelector conf, CodeSource code) {
+        this(conf, code, null, null);
+    }
+
+    public HistoryParams(FeatureSelector conf, CodeSource code, File historyInput, File historyOutput) {
         this.conf = conf;
         this.code = code;
+        this.historyInput = historyInput;
+        this.historyOutput = historyOutput;
     }
 
     public FeatureSelector featureSettings() {
@@ -18,4 +30,16 @@ public class HistoryParams {
     public CodeSource code() {
         return code;
     }
+
+    /**
+     * Location of the history file to read, for stores that need direct
+     * access to the file rather than the supplied reader.
+     */
+    public Optional<File> historyInput() {
+        return Optional.ofNullable(historyInput);
+    }
+
+    public Optional<File> historyOutput() {
+        return Optional.ofNullable(historyOutput);
+    }
 }
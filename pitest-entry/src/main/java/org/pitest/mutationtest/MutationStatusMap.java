@@ -17,7 +17,7 @@ package org.pitest.mutationtest;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -32,7 +32,7 @@ import org.pitest.mutationtest.engine.MutationDetails;
 
 public class MutationStatusMap {
 
-  private final Map<MutationDetails, MutationStatusTestPair> mutationMap = new HashMap<>();
+  private final Map<MutationDetails, MutationStatusTestPair> mutationMap = new LinkedHashMap<>();
 
   public void setStatusForMutation(final MutationDetails mutation,
       final DetectionStatus status) {
@@ -28,8 +28,21 @@ public class CompoundInterceptorFactory {
       TestPrioritiser testPrioritiser,
       CodeSource code
       ) {
+    return createInterceptor(data, coverage, source, testPrioritiser, code,
+        new DuplicateMutants());
+  }
+
+  public CompoundMutationInterceptor createInterceptor(
+      ReportOptions data,
+      CoverageDatabase coverage,
+      ClassByteArraySource source,
+      TestPrioritiser testPrioritiser,
+      CodeSource code,
+      DuplicateMutants duplicates
+      ) {
     List<MutationInterceptor> interceptors = this.features.getActiveFeatures().stream()
-            .map(toInterceptor(this.features, data, coverage, source, testPrioritiser, code))
+            .map(toInterceptor(this.features, data, coverage, source, testPrioritiser, code,
+                duplicates))
             .collect(Collectors.toList());
     return new CompoundMutationInterceptor(interceptors);
   }
@@ -41,10 +54,11 @@ public class CompoundInterceptorFactory {
           CoverageDatabase coverage,
           ClassByteArraySource source,
           TestPrioritiser testPrioritiser,
-          CodeSource code
+          CodeSource code,
+          DuplicateMutants duplicates
           ) {
 
-    return a -> a.createInterceptor(new InterceptorParameters(features.getSettingForFeature(a.provides().name()), data, coverage, source, testPrioritiser, code));
+    return a -> a.createInterceptor(new InterceptorParameters(features.getSettingForFeature(a.provides().name()), data, coverage, source, testPrioritiser, code, duplicates));
 
   }
  }
\ No newline at end of file
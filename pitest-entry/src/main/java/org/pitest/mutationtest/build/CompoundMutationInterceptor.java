@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.build;
 
 import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -58,6 +59,15 @@ public class CompoundMutationInterceptor implements MutationInterceptor {
     this.children.forEach(MutationInterceptor::end);
   }
 
+  @Override
+  public Predicate<ClassName> limitTests(Collection<MutationDetails> mutants) {
+    Predicate<ClassName> limit = c -> true;
+    for (final MutationInterceptor each : this.children) {
+      limit = limit.and(each.limitTests(mutants));
+    }
+    return limit;
+  }
+
   @Override
   public InterceptorType type() {
     return InterceptorType.OTHER;
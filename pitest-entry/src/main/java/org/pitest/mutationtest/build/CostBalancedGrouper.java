@@ -0,0 +1,112 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * Splits the mutants in each class into units of roughly equal estimated
+ * cost, so that a class with many mutants or slow tests does not leave a long
+ * tail of work on a single thread while others are idle.
+ *
+ * The cost of a mutant is estimated from the execution times of the tests
+ * that cover it. Units are prioritised by cost so the most expensive are
+ * started first, with cheaper units filling in the gaps as threads become
+ * free.
+ *
+ * Mutants from different classes are never combined in a single unit.
+ */
+public class CostBalancedGrouper implements MutationGrouper {
+
+  // Allows for the hotswap and reporting overhead of mutants whose tests
+  // report a runtime of zero
+  static final long MUTANT_OVERHEAD = 1;
+
+  // Aim for several units per thread so that work can be rebalanced as
+  // units complete
+  private static final int UNITS_PER_THREAD = 4;
+
+  private final int numberOfThreads;
+  private final int unitSize;
+
+  public CostBalancedGrouper(int numberOfThreads, int unitSize) {
+    this.numberOfThreads = Math.max(1, numberOfThreads);
+    this.unitSize = unitSize;
+  }
+
+  @Override
+  public List<List<MutationDetails>> groupMutations(
+      Collection<ClassName> codeClasses, Collection<MutationDetails> mutations) {
+
+    final long targetCost = Math.max(MUTANT_OVERHEAD,
+        totalCost(mutations) / (this.numberOfThreads * UNITS_PER_THREAD));
+
+    final Map<ClassName, List<MutationDetails>> byClass = new TreeMap<>();
+    for (final MutationDetails each : mutations) {
+      byClass.computeIfAbsent(each.getClassName(), k -> new ArrayList<>()).add(each);
+    }
+
+    final List<List<MutationDetails>> units = new ArrayList<>();
+    for (final List<MutationDetails> each : byClass.values()) {
+      each.sort(comparing(MutationDetails::getId));
+      split(units, each, targetCost);
+    }
+    return units;
+  }
+
+  @Override
+  public int priority(Collection<MutationDetails> group) {
+    return (int) Math.min(Integer.MAX_VALUE, totalCost(group));
+  }
+
+  static long cost(MutationDetails mutant) {
+    long cost = MUTANT_OVERHEAD;
+    for (final TestInfo each : mutant.getTestsInOrder()) {
+      cost = cost + each.getTime();
+    }
+    return cost;
+  }
+
+  private void split(List<List<MutationDetails>> units,
+      List<MutationDetails> mutants, long targetCost) {
+    List<MutationDetails> current = new ArrayList<>();
+    long currentCost = 0;
+    for (final MutationDetails each : mutants) {
+      final long cost = cost(each);
+      if (!current.isEmpty() && (exceedsCost(currentCost + cost, targetCost) || isFull(current))) {
+        units.add(current);
+        current = new ArrayList<>();
+        currentCost = 0;
+      }
+      current.add(each);
+      currentCost = currentCost + cost;
+    }
+
+    if (!current.isEmpty()) {
+      units.add(current);
+    }
+  }
+
+  private static boolean exceedsCost(long cost, long targetCost) {
+    return cost > targetCost;
+  }
+
+  private boolean isFull(List<MutationDetails> unit) {
+    return this.unitSize > 0 && unit.size() >= this.unitSize;
+  }
+
+  private static long totalCost(Collection<MutationDetails> mutants) {
+    return mutants.stream()
+        .mapToLong(CostBalancedGrouper::cost)
+        .sum();
+  }
+
+}
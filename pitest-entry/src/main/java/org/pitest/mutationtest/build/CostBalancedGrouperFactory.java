@@ -0,0 +1,20 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Properties;
+
+import org.pitest.classpath.CodeSource;
+
+public class CostBalancedGrouperFactory implements MutationGrouperFactory {
+
+  @Override
+  public String description() {
+    return "Mutation grouping balanced by estimated test cost";
+  }
+
+  @Override
+  public MutationGrouper makeFactory(final Properties props,
+      final CodeSource codeSource, final int numberOfThreads, final int unitSize) {
+    return new CostBalancedGrouper(numberOfThreads, unitSize);
+  }
+
+}
@@ -0,0 +1,67 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Mutants found by the pre scan, together with the parsed trees of their
+ * classes. The main scan takes each class once, so it need only apply the
+ * interceptors that do not run in the pre scan and assign tests, rather than
+ * mutating and parsing every class again.
+ */
+public class DiscoveredMutants {
+
+  private final Map<ClassName, ClassMutants> classes = new ConcurrentHashMap<>();
+
+  void record(ClassName clazz, ClassTree tree, Collection<MutationDetails> mutants) {
+    this.classes.put(clazz, new ClassMutants(tree, mutants));
+  }
+
+  /**
+   * Removes and returns the mutants recorded for a class, so their trees can be
+   * collected once the class has been processed.
+   */
+  Optional<ClassMutants> take(ClassName clazz) {
+    return Optional.ofNullable(this.classes.remove(clazz));
+  }
+
+  /**
+   * A store that records nothing, so every class is mutated afresh.
+   */
+  public static DiscoveredMutants none() {
+    return new DiscoveredMutants() {
+      @Override
+      void record(ClassName clazz, ClassTree tree, Collection<MutationDetails> mutants) {
+        // nothing to reuse
+      }
+    };
+  }
+
+  static final class ClassMutants {
+    private final ClassTree                   tree;
+    private final Collection<MutationDetails> mutants;
+
+    ClassMutants(ClassTree tree, Collection<MutationDetails> mutants) {
+      this.tree = tree;
+      this.mutants = mutants;
+    }
+
+    /**
+     * @return parsed class, or null if no mutants were found
+     */
+    ClassTree tree() {
+      return this.tree;
+    }
+
+    Collection<MutationDetails> mutants() {
+      return this.mutants;
+    }
+  }
+
+}
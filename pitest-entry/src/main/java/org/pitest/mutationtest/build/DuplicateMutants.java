@@ -0,0 +1,36 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Records, for the mutants that will be run, the mutants known to behave
+ * identically to them. These are not run, but are given the result of the
+ * mutant that stands in for them.
+ */
+public class DuplicateMutants {
+
+  private final Map<MutationIdentifier, List<MutationDetails>> duplicates = new ConcurrentHashMap<>();
+
+  /**
+   * @param representative mutant that will be run
+   * @param duplicates mutants that will share its result
+   */
+  public void register(MutationDetails representative, List<MutationDetails> duplicates) {
+    this.duplicates.put(representative.getId(), duplicates);
+  }
+
+  /**
+   * @param representative mutant that will be run
+   * @return mutants that share its result
+   */
+  public List<MutationDetails> of(MutationDetails representative) {
+    return this.duplicates.getOrDefault(representative.getId(), Collections.emptyList());
+  }
+
+}
@@ -20,6 +20,7 @@ public final class InterceptorParameters {
   private final CodeSource code;
 
   private final TestPrioritiser testPrioritiser;
+  private final DuplicateMutants duplicates;
 
 
   @Deprecated
@@ -37,12 +38,23 @@ public final class InterceptorParameters {
                                ClassByteArraySource source,
                                TestPrioritiser testPrioritiser,
                                CodeSource code) {
+    this(conf, data, coverage, source, testPrioritiser, code, new DuplicateMutants());
+  }
+
+  public InterceptorParameters(FeatureSetting conf,
+                               ReportOptions data,
+                               CoverageDatabase coverage,
+                               ClassByteArraySource source,
+                               TestPrioritiser testPrioritiser,
+                               CodeSource code,
+                               DuplicateMutants duplicates) {
     this.conf = conf;
     this.data = data;
     this.coverage = coverage;
     this.source = source;
     this.testPrioritiser = testPrioritiser;
     this.code = code;
+    this.duplicates = duplicates;
   }
 
   public ReportOptions data() {
@@ -70,6 +82,14 @@ public final class InterceptorParameters {
     return code;
   }
 
+  /**
+   * @return where interceptors record mutants that need not be run because
+   *         they behave identically to another
+   */
+  public DuplicateMutants duplicates() {
+    return this.duplicates;
+  }
+
   public Optional<String> getString(FeatureParameter limit) {
     if (this.conf == null) {
       return Optional.empty();
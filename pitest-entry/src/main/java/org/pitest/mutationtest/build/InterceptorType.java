@@ -13,6 +13,10 @@ package org.pitest.mutationtest.build;
  * MODIFY_COSMETIC - Modify mutants in way that will not affect processing (e.g update descriptions)
  * REPORT - Output mutant in their final state
  *
+ * Mutants found by the prescan are reused by the main scan, which applies only
+ * the groups not included in the prescan. Groups included in the prescan therefore
+ * run once, without coverage data.
+ *
  */
 public enum InterceptorType {
   OTHER(true),
@@ -0,0 +1,190 @@
+package org.pitest.mutationtest.build;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.MutantCacheFile;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Maintains a directory of generated mutant bytecode, with one file per class
+ * named by the deep hash of that class. A change to a class or its parents
+ * changes the hash, so stale mutants are never served. Files are kept in a
+ * directory per engine and pitest version, as either may change the bytes
+ * generated for the same mutant.
+ *
+ * <p>Missing mutants are generated in parallel before analysis starts, and the
+ * files are passed to the minions, which read them instead of regenerating the
+ * mutants themselves.
+ */
+public class MutantCache {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final String SUFFIX = ".mutants";
+
+  private final File                 dir;
+  private final CodeSource           code;
+  private final Supplier<Mutater>    mutaters;
+  private final int                  threads;
+  private final Map<ClassName, File> files = new ConcurrentHashMap<>();
+
+  /**
+   * @param engine name of the engine that generates the mutants
+   * @param mutaters supplies a mutater for each thread, as they are not thread safe
+   */
+  public MutantCache(File dir, String engine, CodeSource code,
+      Supplier<Mutater> mutaters, int threads) {
+    this.dir = dir == null ? null : new File(dir, engine + "-" + pitestVersion());
+    this.code = code;
+    this.mutaters = mutaters;
+    this.threads = threads;
+  }
+
+  /**
+   * Ensures the bytes of every mutant that will be run by the supplied units
+   * are cached.
+   */
+  public void prepare(Collection<MutationAnalysisUnit> units) {
+    final Map<ClassName, List<MutationDetails>> byClass = units.stream()
+        .filter(u -> u instanceof MutationTestUnit)
+        .flatMap(u -> u.mutants().stream())
+        .filter(m -> !m.getTestsInOrder().isEmpty())
+        .collect(Collectors.groupingBy(MutationDetails::getClassName));
+    if (byClass.isEmpty()) {
+      return;
+    }
+
+    this.dir.mkdirs();
+    final ThreadLocal<Mutater> mutater = ThreadLocal.withInitial(this.mutaters);
+    final ExecutorService executor = Executors.newFixedThreadPool(this.threads);
+    try {
+      final List<Future<?>> tasks = new ArrayList<>();
+      for (final ClassHash each : this.code.fetchClassHashes(byClass.keySet())) {
+        tasks.add(executor.submit(() -> prepareClass(mutater.get(), each,
+            byClass.get(each.getName()))));
+      }
+      for (final Future<?> each : tasks) {
+        each.get();
+      }
+    } catch (final InterruptedException | ExecutionException e) {
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * @return the cache files for the classes of the supplied mutants
+   */
+  public Map<ClassName, File> filesFor(Collection<MutationDetails> mutants) {
+    final Map<ClassName, File> found = new HashMap<>();
+    for (final MutationDetails each : mutants) {
+      final File file = this.files.get(each.getClassName());
+      if (file != null) {
+        found.put(each.getClassName(), file);
+      }
+    }
+    return found;
+  }
+
+  private void prepareClass(Mutater mutater, ClassHash hash,
+      List<MutationDetails> mutants) {
+    final ClassName clazz = hash.getName();
+    final Path file = fileFor(clazz, hash.getDeepHash());
+    try {
+      final Map<String, byte[]> contents = new HashMap<>();
+      final MutantCacheFile existing = Files.exists(file) ? MutantCacheFile.open(file) : null;
+      if (existing != null) {
+        for (final String key : existing.keys()) {
+          contents.put(key, existing.get(key).get());
+        }
+      }
+
+      boolean changed = false;
+      for (final MutationDetails each : mutants) {
+        final String key = MutantCacheFile.key(each.getId());
+        if (!contents.containsKey(key)) {
+          contents.put(key, mutater.getMutation(each.getId()).getBytes());
+          changed = true;
+        }
+      }
+
+      if (changed) {
+        MutantCacheFile.write(file, contents);
+        removeStaleFiles(clazz, file);
+      }
+      this.files.put(clazz, file.toFile());
+    } catch (final IOException | RuntimeException e) {
+      // the minions will generate the mutants themselves
+      LOG.warning("Could not cache mutants for " + clazz + ". " + e.getMessage());
+    }
+  }
+
+  private Path fileFor(ClassName clazz, BigInteger deepHash) {
+    return this.dir.toPath().resolve(clazz.asJavaName() + "-" + deepHash.toString(16) + SUFFIX);
+  }
+
+  private static String pitestVersion() {
+    // absent when running from class directories rather than the jar
+    final String version = MutantCacheFile.class.getPackage().getImplementationVersion();
+    return version != null ? version : "dev";
+  }
+
+  private void removeStaleFiles(ClassName clazz, Path current) throws IOException {
+    final String prefix = clazz.asJavaName() + "-";
+    final List<Path> stale;
+    try (Stream<Path> listing = Files.list(this.dir.toPath())) {
+      stale = listing
+          .filter(p -> !p.equals(current))
+          .filter(p -> p.getFileName().toString().startsWith(prefix))
+          .filter(p -> p.getFileName().toString().endsWith(SUFFIX))
+          .collect(Collectors.toList());
+    }
+    for (final Path each : stale) {
+      Files.deleteIfExists(each);
+    }
+  }
+
+  /**
+   * A cache that holds nothing, so minions generate every mutant.
+   */
+  public static MutantCache none() {
+    return new MutantCache(null, null, null, null, 1) {
+      @Override
+      public void prepare(Collection<MutationAnalysisUnit> units) {
+        // nothing to prepare
+      }
+
+      @Override
+      public Map<ClassName, File> filesFor(Collection<MutationDetails> mutants) {
+        return Collections.emptyMap();
+      }
+    };
+  }
+
+}
@@ -11,4 +11,14 @@ public interface MutationGrouper {
   List<List<MutationDetails>> groupMutations(Collection<ClassName> codeClasses,
       Collection<MutationDetails> mutations);
 
+  /**
+   * Units with a higher priority are analysed first.
+   *
+   * @param group A group of mutants created by this grouper
+   * @return priority of the unit of analysis created for the group
+   */
+  default int priority(Collection<MutationDetails> group) {
+    return group.size();
+  }
+
 }
@@ -1,8 +1,10 @@
 package org.pitest.mutationtest.build;
 
 import java.util.Collection;
+import java.util.function.Predicate;
 
 import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -25,4 +27,16 @@ public interface MutationInterceptor {
 
   void end();
 
+  /**
+   * Called once the pre scan is complete, before coverage is calculated.
+   * Interceptors that restrict mutants to part of the code may use this to
+   * avoid running tests that cannot reach them.
+   *
+   * @param mutants mutants found by the pre scan
+   * @return filter on the test classes to run when calculating coverage
+   */
+  default Predicate<ClassName> limitTests(Collection<MutationDetails> mutants) {
+    return c -> true;
+  }
+
 }
@@ -24,6 +24,7 @@ import org.pitest.mutationtest.engine.MutationDetails;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public class MutationSource {
 
@@ -31,41 +32,80 @@ public class MutationSource {
   private final TestPrioritiser      testPrioritiser;
   private final ClassByteArraySource source;
   private final MutationInterceptor interceptor;
+  private final MutationInterceptor afterPrescan;
+  private final DiscoveredMutants   prescan;
 
   public MutationSource(final MutationConfig mutationConfig,
       final TestPrioritiser testPrioritiser,
       final ClassByteArraySource source,
       final MutationInterceptor interceptor) {
+    this(mutationConfig, testPrioritiser, source, interceptor, interceptor,
+        DiscoveredMutants.none());
+  }
+
+  /**
+   * @param interceptor interceptors to apply to classes not seen by the pre scan
+   * @param afterPrescan interceptors to apply to mutants recorded by the pre scan
+   * @param prescan store of mutants found so far. Classes found in the store are
+   *                not mutated again, classes that are not are recorded in it.
+   */
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final MutationInterceptor interceptor,
+      final MutationInterceptor afterPrescan,
+      final DiscoveredMutants prescan) {
     this.mutationConfig = mutationConfig;
     this.testPrioritiser = testPrioritiser;
     this.source = source;
     this.interceptor = interceptor;
+    this.afterPrescan = afterPrescan;
+    this.prescan = prescan;
   }
 
   public Collection<MutationDetails> createMutations(final ClassName clazz) {
 
     final Mutater m = this.mutationConfig.createMutator(this.source);
 
+    final Optional<DiscoveredMutants.ClassMutants> previous = this.prescan.take(clazz);
+    if (previous.isPresent()) {
+      final DiscoveredMutants.ClassMutants found = previous.get();
+      if (found.mutants().isEmpty()) {
+        return found.mutants();
+      }
+      return intercept(found.tree(), found.mutants(), m, this.afterPrescan);
+    }
+
     final Collection<MutationDetails> availableMutations = m
         .findMutations(clazz);
 
     if (availableMutations.isEmpty()) {
+      this.prescan.record(clazz, null, availableMutations);
       return availableMutations;
     } else {
       final ClassTree tree = ClassTree
           .fromBytes(this.source.getBytes(clazz.asJavaName()).get());
 
-      this.interceptor.begin(tree);
-      final Collection<MutationDetails> updatedMutations = this.interceptor
-          .intercept(availableMutations, m);
-      this.interceptor.end();
-
-      assignTestsToMutations(updatedMutations);
-
+      final Collection<MutationDetails> updatedMutations = intercept(tree,
+          availableMutations, m, this.interceptor);
+      this.prescan.record(clazz, tree, updatedMutations);
       return updatedMutations;
     }
   }
 
+  private Collection<MutationDetails> intercept(ClassTree tree,
+      Collection<MutationDetails> mutations, Mutater m,
+      MutationInterceptor interceptor) {
+    interceptor.begin(tree);
+    final Collection<MutationDetails> updatedMutations = interceptor
+        .intercept(mutations, m);
+    interceptor.end();
+
+    assignTestsToMutations(updatedMutations);
+
+    return updatedMutations;
+  }
+
   private void assignTestsToMutations(
       final Collection<MutationDetails> availableMutations) {
     for (final MutationDetails mutation : availableMutations) {
@@ -15,17 +15,25 @@
 package org.pitest.mutationtest.build;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.History;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.ExecutionMode;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.Deadline;
+import org.pitest.util.Unchecked;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparing;
@@ -33,32 +41,45 @@ import static java.util.Comparator.comparing;
 public class MutationTestBuilder {
 
   private final ExecutionMode mode;
-  private final MutationSource   mutationSource;
+  private final Supplier<MutationSource> mutationSources;
+  private final int threads;
   private final History analyser;
   private final WorkerFactory    workerFactory;
   private final MutationGrouper  grouper;
-
+  private final Deadline         deadline;
+
+  /**
+   * @param mutationSources supplies a source for each discovery thread, as
+   *                        interceptors hold state for the class being examined
+   * @param threads number of threads to search for mutants with
+   * @param deadline time after which no further mutants are started. When
+   *                 set, mutants are analysed in the order that gives the
+   *                 most results for the time available.
+   */
   public MutationTestBuilder(ExecutionMode mode,
                              WorkerFactory workerFactory,
                              History analyser,
-                             MutationSource mutationSource,
-                             MutationGrouper grouper) {
+                             Supplier<MutationSource> mutationSources,
+                             int threads,
+                             MutationGrouper grouper,
+                             Deadline deadline) {
 
     this.mode = mode;
-    this.mutationSource = mutationSource;
+    this.mutationSources = mutationSources;
+    this.threads = threads;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.deadline = deadline;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
       final Collection<ClassName> codeClasses) {
     final List<MutationAnalysisUnit> tus = new ArrayList<>();
 
-    final List<MutationDetails> mutations = codeClasses.stream()
-                    .flatMap(c -> mutationSource.createMutations(c).stream())
-                            .collect(Collectors.toList());
+    final List<MutationDetails> mutations = findMutations(codeClasses);
 
+    // mutants may be discovered in any order, sorting makes the units deterministic
     mutations.sort(comparing(MutationDetails::getId));
 
     List<MutationResult> analysisUnits = this.analyser.analyse(mutations);
@@ -74,9 +95,14 @@ public class MutationTestBuilder {
     }
 
     if (!needProcessing.isEmpty()) {
-      for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
-          codeClasses, needProcessing)) {
-        tus.add(makeUnanalysedUnit(ms));
+      final List<List<MutationDetails>> groups = this.grouper.groupMutations(
+          codeClasses, needProcessing);
+      if (this.deadline.isSet()) {
+        tus.addAll(makeBudgetedUnits(groups));
+      } else {
+        for (final Collection<MutationDetails> ms : groups) {
+          tus.add(makeUnanalysedUnit(ms, this.grouper.priority(ms)));
+        }
       }
     }
 
@@ -84,6 +110,34 @@ public class MutationTestBuilder {
     return tus;
   }
 
+  private List<MutationDetails> findMutations(Collection<ClassName> codeClasses) {
+    if (this.threads <= 1) {
+      final MutationSource source = this.mutationSources.get();
+      return codeClasses.stream()
+              .flatMap(c -> source.createMutations(c).stream())
+              .collect(Collectors.toList());
+    }
+
+    final ThreadLocal<MutationSource> source = ThreadLocal.withInitial(this.mutationSources);
+    final ForkJoinPool pool = new ForkJoinPool(this.threads);
+    try {
+      // a parallel stream started from within a pool runs on that pool
+      return pool.submit(() -> codeClasses.parallelStream()
+              .flatMap(c -> source.get().createMutations(c).stream())
+              .collect(Collectors.toList()))
+              .get();
+    } catch (final ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw Unchecked.translateCheckedException(e.getCause());
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
   private static Collection<MutationDetails> filterAlreadyAnalysedMutations(List<MutationDetails> mutations, Collection<MutationResult> analysedMutations) {
     final Set<MutationIdentifier> alreadyAnalysed = analysedMutations.stream()
             .map(mr -> mr.getDetails().getId())
@@ -113,11 +167,70 @@ public class MutationTestBuilder {
   }
 
   private MutationAnalysisUnit makeUnanalysedUnit(
-      Collection<MutationDetails> needAnalysis) {
+      Collection<MutationDetails> needAnalysis, int priority) {
     if (mode == ExecutionMode.DRY_RUN) {
       return new DryRunUnit(needAnalysis);
     }
-    return new MutationTestUnit(needAnalysis, this.workerFactory);
+    return new MutationTestUnit(needAnalysis, this.workerFactory, priority, this.deadline);
+  }
+
+  /**
+   * Orders mutants within and across units so that those giving the most
+   * information for their cost are analysed before the deadline. Uncovered
+   * mutants cost nothing to analyse so come first, followed by the cheapest
+   * covered mutants. Mutants that survived the last run are left until last,
+   * as they are the most likely to give the same result again.
+   *
+   * <p>The cost of a mutant is the time its tests are allowed by the timeout
+   * strategy, as that bounds how long it can hold a thread.
+   */
+  private List<MutationAnalysisUnit> makeBudgetedUnits(List<List<MutationDetails>> groups) {
+    final TimeoutLengthStrategy timeouts = this.workerFactory.timeoutStrategy();
+    final Comparator<MutationDetails> mutantOrder = comparing(MutationTestBuilder::isCovered)
+        .thenComparing(this::previouslySurvived)
+        .thenComparingLong(m -> allowedTime(timeouts, m))
+        .thenComparing(MutationDetails::getId);
+
+    final Comparator<List<MutationDetails>> unitOrder =
+        comparing((List<MutationDetails> unit) -> unit.stream().anyMatch(MutationTestBuilder::isCovered))
+        .thenComparing(unit -> unit.stream().allMatch(this::previouslySurvived))
+        .thenComparingLong(unit -> unit.stream().mapToLong(m -> allowedTime(timeouts, m)).sum());
+
+    final List<List<MutationDetails>> ordered = groups.stream()
+        .map(unit -> sorted(unit, mutantOrder))
+        .sorted(unitOrder)
+        .collect(Collectors.toList());
+
+    final List<MutationAnalysisUnit> units = new ArrayList<>();
+    for (int i = 0; i != ordered.size(); i++) {
+      units.add(makeUnanalysedUnit(ordered.get(i), ordered.size() - i));
+    }
+    return units;
+  }
+
+  private static List<MutationDetails> sorted(List<MutationDetails> unit,
+      Comparator<MutationDetails> order) {
+    final List<MutationDetails> copy = new ArrayList<>(unit);
+    copy.sort(order);
+    return copy;
+  }
+
+  private static long allowedTime(TimeoutLengthStrategy timeouts, MutationDetails mutant) {
+    long time = CostBalancedGrouper.MUTANT_OVERHEAD;
+    for (final TestInfo each : mutant.getTestsInOrder()) {
+      time = time + timeouts.getAllowedTime(each.getName(), false, each.getTime());
+    }
+    return time;
+  }
+
+  private static boolean isCovered(MutationDetails mutant) {
+    return !mutant.getTestsInOrder().isEmpty();
+  }
+
+  private boolean previouslySurvived(MutationDetails mutant) {
+    return this.analyser.previousStatus(mutant.getId())
+        .filter(s -> s == DetectionStatus.SURVIVED)
+        .isPresent();
   }
 
 }
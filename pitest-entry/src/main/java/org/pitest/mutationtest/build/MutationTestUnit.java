@@ -26,6 +26,7 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.Deadline;
 import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
@@ -36,11 +37,20 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   private final Collection<MutationDetails> availableMutations;
   private final WorkerFactory               workerFactory;
-
-
-  public MutationTestUnit(Collection<MutationDetails> availableMutations, WorkerFactory workerFactory) {
+  private final int                         priority;
+  private final Deadline                    deadline;
+
+  /**
+   * @param priority order in which the unit is analysed, highest first
+   * @param deadline time after which no further mutants are started. Mutants
+   *                 not started by then are reported as not started.
+   */
+  public MutationTestUnit(Collection<MutationDetails> availableMutations, WorkerFactory workerFactory,
+      int priority, Deadline deadline) {
     this.availableMutations = availableMutations;
     this.workerFactory = workerFactory;
+    this.priority = priority;
+    this.deadline = deadline;
   }
 
   @Override
@@ -59,7 +69,7 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   @Override
   public int priority() {
-    return this.availableMutations.size();
+    return this.priority;
   }
 
   @Override
@@ -69,7 +79,8 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
       throws IOException, InterruptedException {
-    while (mutations.hasUnrunMutations()) {
+    while (mutations.hasUnrunMutations() && !this.deadline.hasPassed()
+        && !Thread.currentThread().isInterrupted()) {
       runTestInSeperateProcessForMutationRange(mutations);
     }
   }
@@ -91,6 +102,11 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     worker.results(mutations);
 
     correctResultForProcessExitCode(mutations, exitCode);
+    if (exitCode.isOk() && this.deadline.isSet()) {
+      // the minion stopped at the deadline without starting the mutant
+      mutations.setStatusForMutations(mutations.getUnfinishedRuns(),
+          DetectionStatus.NOT_STARTED);
+    }
   }
 
   private Set<ClassName> testClassesFor(Collection<MutationDetails> remainingMutations) {
@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.build;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
@@ -8,7 +9,10 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionPool;
+import org.pitest.mutationtest.execute.MinionRunSettings;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.execute.SingleUseMutationTestProcess;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
@@ -17,6 +21,7 @@ import org.pitest.util.Verbosity;
 import java.io.File;
 import java.util.Collection;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.pitest.functional.prelude.Prelude.printlnWith;
 
@@ -30,7 +35,11 @@ public class WorkerFactory {
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final WorkerSettings        settings;
 
+  /**
+   * @param settings how workers are launched and run their mutants
+   */
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
       final MutationConfig mutationConfig,
@@ -38,7 +47,8 @@ public class WorkerFactory {
       final TimeoutLengthStrategy timeoutStrategy,
       final Verbosity verbosity,
       final boolean fullMutationMatrix,
-      final String classPath) {
+      final String classPath,
+      final WorkerSettings settings) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbosity = verbosity;
@@ -47,23 +57,43 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.settings = settings;
   }
 
   public MutationTestProcess createWorker(
       final Collection<MutationDetails> remainingMutations,
       final Collection<ClassName> testClasses) {
+    // send only the limits for tests the minion may run
+    final TimeoutLengthStrategy timeouts = this.timeoutStrategy.forTests(remainingMutations.stream()
+        .flatMap(m -> m.getTestsInOrder().stream())
+        .map(TestInfo::getName)
+        .collect(Collectors.toSet()));
+    final MinionPool pool = this.settings.pool();
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
-        testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
-        Log.verbosity(), this.fullMutationMatrix, this.pitConfig);
+        testClasses, this.config.getEngine().getName(), this.args, timeouts,
+        Log.verbosity(), this.fullMutationMatrix, this.pitConfig,
+        MinionRunSettings.defaults()
+            .withReusable(pool != null)
+            .withMutantCache(this.settings.mutantCache().filesFor(remainingMutations))
+            .withTestThreads(this.settings.testThreads())
+            .withDeadline(this.settings.deadline()));
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(captureStdErrIfVerbose());
 
+    if (pool != null) {
+      return pool.createWorker(args, fileArgs, this.settings.testTimes());
+    }
+
     final SocketFinder sf = new SocketFinder();
-    return new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+    return new SingleUseMutationTestProcess(
+        sf.getNextAvailableServerSocket(), args, fileArgs, this.settings.testTimes());
+  }
+
+  TimeoutLengthStrategy timeoutStrategy() {
+    return this.timeoutStrategy;
   }
 
   private Consumer<String> captureStdOutIfVerbose() {
@@ -0,0 +1,99 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.execute.Deadline;
+import org.pitest.mutationtest.execute.MinionPool;
+import org.pitest.mutationtest.execute.TestThreads;
+
+/**
+ * How the workers created by a WorkerFactory are launched and run their
+ * mutants
+ */
+public final class WorkerSettings {
+
+  private final MinionPool                             pool;
+  private final MutantCache                            mutantCache;
+  private final TestThreads                            testThreads;
+  private final Consumer<Map<String, TestTimeSamples>> testTimes;
+  private final Deadline                               deadline;
+
+  private WorkerSettings(MinionPool pool, MutantCache mutantCache,
+      TestThreads testThreads, Consumer<Map<String, TestTimeSamples>> testTimes,
+      Deadline deadline) {
+    this.pool = pool;
+    this.mutantCache = mutantCache;
+    this.testThreads = testThreads;
+    this.testTimes = testTimes;
+    this.deadline = deadline;
+  }
+
+  public static WorkerSettings defaults() {
+    return new WorkerSettings(null, MutantCache.none(), TestThreads.PER_TEST, t -> { },
+        Deadline.none());
+  }
+
+  /**
+   * @param pool pool of reusable minions, or null if a new minion should be
+   *             launched for each unit of analysis
+   */
+  public WorkerSettings withPool(MinionPool pool) {
+    return new WorkerSettings(pool, this.mutantCache, this.testThreads, this.testTimes,
+        this.deadline);
+  }
+
+  /**
+   * @param mutantCache cache from which minions may read generated mutants
+   */
+  public WorkerSettings withMutantCache(MutantCache mutantCache) {
+    return new WorkerSettings(this.pool, mutantCache, this.testThreads, this.testTimes,
+        this.deadline);
+  }
+
+  /**
+   * @param testThreads how minions provide threads to run tests on
+   */
+  public WorkerSettings withTestThreads(TestThreads testThreads) {
+    return new WorkerSettings(this.pool, this.mutantCache, testThreads, this.testTimes,
+        this.deadline);
+  }
+
+  /**
+   * @param testTimes receives the times taken by tests that passed
+   */
+  public WorkerSettings withTestTimes(Consumer<Map<String, TestTimeSamples>> testTimes) {
+    return new WorkerSettings(this.pool, this.mutantCache, this.testThreads, testTimes,
+        this.deadline);
+  }
+
+  /**
+   * @param deadline time after which minions should start no further mutants
+   */
+  public WorkerSettings withDeadline(Deadline deadline) {
+    return new WorkerSettings(this.pool, this.mutantCache, this.testThreads, this.testTimes,
+        deadline);
+  }
+
+  MinionPool pool() {
+    return this.pool;
+  }
+
+  MutantCache mutantCache() {
+    return this.mutantCache;
+  }
+
+  TestThreads testThreads() {
+    return this.testThreads;
+  }
+
+  Consumer<Map<String, TestTimeSamples>> testTimes() {
+    return this.testTimes;
+  }
+
+  Deadline deadline() {
+    return this.deadline;
+  }
+
+}
@@ -0,0 +1,131 @@
+package org.pitest.mutationtest.build.intercept.diff;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lines added or modified by a unified diff, by path of the file after the
+ * change.
+ *
+ * Deleted lines have no counterpart in the changed file, so removing code
+ * marks no lines as changed.
+ */
+final class ChangedLines {
+
+  private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@");
+
+  // files by name without directories, as mutants know only their file name and package
+  private final Map<String, List<ChangedFile>> byName;
+
+  private ChangedLines(Map<String, List<ChangedFile>> byName) {
+    this.byName = byName;
+  }
+
+  static ChangedLines parse(List<String> diff) {
+    return parse(diff, Collections.emptyList());
+  }
+
+  /**
+   * @param newFiles paths of files the diff does not include that are changed
+   *                 in their entirety, such as files not yet added to git
+   */
+  static ChangedLines parse(List<String> diff, Collection<String> newFiles) {
+    final Map<String, List<ChangedFile>> byName = new HashMap<>();
+    for (final String each : newFiles) {
+      add(byName, new ChangedFile(each, true));
+    }
+    ChangedFile current = null;
+    int line = 0;
+    int oldRemaining = 0;
+    int newRemaining = 0;
+    for (final String each : diff) {
+      if (oldRemaining > 0 || newRemaining > 0) {
+        if (each.startsWith("+")) {
+          if (current != null) {
+            current.lines.set(line);
+          }
+          line++;
+          newRemaining--;
+        } else if (each.startsWith("-")) {
+          oldRemaining--;
+        } else if (!each.startsWith("\\")) {
+          line++;
+          oldRemaining--;
+          newRemaining--;
+        }
+      } else if (each.startsWith("+++ ")) {
+        current = file(byName, each.substring(4));
+      } else {
+        final Matcher hunk = HUNK.matcher(each);
+        if (hunk.find()) {
+          oldRemaining = count(hunk.group(1));
+          line = Integer.parseInt(hunk.group(2));
+          newRemaining = count(hunk.group(3));
+        }
+      }
+    }
+    return new ChangedLines(byName);
+  }
+
+  /**
+   * @param sourceFile path of the source file relative to its source root,
+   *                   e.g. com/example/Foo.java
+   */
+  boolean isChanged(String sourceFile, int line) {
+    return this.byName.getOrDefault(nameOf(sourceFile), Collections.emptyList()).stream()
+        .filter(f -> f.path.equals(sourceFile) || f.path.endsWith("/" + sourceFile))
+        .anyMatch(f -> f.allLines || f.lines.get(line));
+  }
+
+  boolean isEmpty() {
+    return this.byName.isEmpty();
+  }
+
+  private static ChangedFile file(Map<String, List<ChangedFile>> byName, String header) {
+    String path = header;
+    // some tools follow the path with a tab and timestamp
+    final int tab = path.indexOf('\t');
+    if (tab != -1) {
+      path = path.substring(0, tab);
+    }
+    if (path.equals("/dev/null")) {
+      return null;
+    }
+    if (path.startsWith("b/")) {
+      path = path.substring(2);
+    }
+    return add(byName, new ChangedFile(path, false));
+  }
+
+  private static ChangedFile add(Map<String, List<ChangedFile>> byName, ChangedFile file) {
+    byName.computeIfAbsent(nameOf(file.path), k -> new ArrayList<>()).add(file);
+    return file;
+  }
+
+  private static String nameOf(String path) {
+    return path.substring(path.lastIndexOf('/') + 1);
+  }
+
+  private static int count(String group) {
+    return group == null ? 1 : Integer.parseInt(group);
+  }
+
+  private static final class ChangedFile {
+    private final String  path;
+    private final boolean allLines;
+    private final BitSet  lines = new BitSet();
+
+    ChangedFile(String path, boolean allLines) {
+      this.path = path;
+      this.allLines = allLines;
+    }
+  }
+
+}
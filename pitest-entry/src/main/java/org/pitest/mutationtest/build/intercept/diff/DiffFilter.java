@@ -0,0 +1,92 @@
+package org.pitest.mutationtest.build.intercept.diff;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Removes mutants on lines that a diff does not add or modify, and limits the
+ * tests run for coverage to those that may reach the classes still mutated.
+ *
+ * <p>Runs in the pre scan, so the mutants it removes are never counted and
+ * their classes need not be covered.
+ */
+public class DiffFilter implements MutationInterceptor {
+
+  private final ChangedLines changes;
+  private CodeSource code;
+
+  DiffFilter(ChangedLines changes) {
+    this.changes = changes;
+  }
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.PRE_SCAN_FILTER;
+  }
+
+  @Override
+  public void initialise(CodeSource code) {
+    this.code = code;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    // no-op
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    return mutations.stream()
+        .filter(this::isChanged)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public void end() {
+    // no-op
+  }
+
+  @Override
+  public Predicate<ClassName> limitTests(Collection<MutationDetails> mutants) {
+    if (this.code == null) {
+      return c -> true;
+    }
+    final Set<ClassName> targets = mutants.stream()
+        .map(MutationDetails::getClassName)
+        .flatMap(c -> Stream.of(c, outerClass(c)))
+        .collect(Collectors.toSet());
+    return new ReachingTests(this.code).reaching(targets)::contains;
+  }
+
+  private boolean isChanged(MutationDetails mutant) {
+    return this.changes.isChanged(sourceFile(mutant), mutant.getLineNumber());
+  }
+
+  private static String sourceFile(MutationDetails mutant) {
+    final String pkg = mutant.getClassName().getPackage().asInternalName();
+    if (pkg.isEmpty()) {
+      return mutant.getFilename();
+    }
+    return pkg + "/" + mutant.getFilename();
+  }
+
+  // tests of an outer class may reach a nested class through it
+  private static ClassName outerClass(ClassName clazz) {
+    final String name = clazz.asInternalName();
+    final int dollar = name.indexOf('$');
+    return dollar == -1 ? clazz : ClassName.fromString(name.substring(0, dollar));
+  }
+
+}
@@ -0,0 +1,126 @@
+package org.pitest.mutationtest.build.intercept.diff;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.util.PitError;
+
+public class DiffFilterFactory implements MutationInterceptorFactory {
+
+  private static final FeatureParameter FILE = FeatureParameter.named("file")
+      .withDescription("Path to a unified diff of the changes to mutate");
+  private static final FeatureParameter BASE = FeatureParameter.named("base")
+      .withDescription("Git ref to diff the working tree against");
+
+  // interceptors are created for each use, but the diff is read once
+  private final Map<String, ChangedLines> diffs = new ConcurrentHashMap<>();
+
+  @Override
+  public String description() {
+    return "Diff filter";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("DIFF")
+        .withOnByDefault(false)
+        .withDescription("Mutates only lines added or changed by a diff, and runs only tests that may reach them."
+            + " Tests are found by following class references and META-INF/services files, so tests that"
+            + " reach the changes only through class names built at runtime are not run")
+        .withParameter(FILE)
+        .withParameter(BASE);
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    return new DiffFilter(changedLines(params));
+  }
+
+  private ChangedLines changedLines(InterceptorParameters params) {
+    final Optional<String> file = params.getString(FILE);
+    if (file.isPresent()) {
+      return this.diffs.computeIfAbsent("file:" + file.get(),
+          k -> ChangedLines.parse(readFile(Paths.get(file.get()))));
+    }
+    final Optional<String> base = params.getString(BASE);
+    if (base.isPresent()) {
+      final Path projectBase = params.data().getProjectBase();
+      return this.diffs.computeIfAbsent("base:" + projectBase + ":" + base.get(),
+          k -> ChangedLines.parse(gitDiff(projectBase, base.get()),
+              untrackedFiles(projectBase)));
+    }
+    throw new PitError("The DIFF feature requires either a file or a base parameter");
+  }
+
+  private static List<String> readFile(Path file) {
+    try {
+      return Files.readAllLines(file, StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new PitError("Could not read diff " + file, e);
+    }
+  }
+
+  private static List<String> gitDiff(Path projectBase, String base) {
+    return git(projectBase, "git diff against " + base, "diff", "--no-color",
+        "--no-ext-diff", "-U0", base);
+  }
+
+  // new files git does not yet track are absent from the diff, but are
+  // changed in their entirety
+  private static List<String> untrackedFiles(Path projectBase) {
+    return git(projectBase, "git ls-files", "ls-files", "--others",
+        "--exclude-standard");
+  }
+
+  private static List<String> git(Path projectBase, String description,
+      String... args) {
+    final List<String> command = new ArrayList<>();
+    command.add("git");
+    command.addAll(Arrays.asList(args));
+    final ProcessBuilder pb = new ProcessBuilder(command)
+        .redirectErrorStream(true);
+    if (projectBase != null) {
+      pb.directory(projectBase.toFile());
+    } else {
+      pb.directory(new File("."));
+    }
+    try {
+      final Process process = pb.start();
+      final List<String> lines;
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+        lines = reader.lines().collect(Collectors.toList());
+      }
+      final int exit = process.waitFor();
+      if (exit != 0) {
+        throw new PitError(description + " failed with exit code "
+            + exit + ": " + String.join(System.lineSeparator(), lines));
+      }
+      return lines;
+    } catch (final IOException e) {
+      throw new PitError("Could not run " + description, e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PitError("Interrupted while running " + description, e);
+    }
+  }
+
+}
@@ -0,0 +1,132 @@
+package org.pitest.mutationtest.build.intercept.diff;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassReferences;
+import org.pitest.classpath.CodeSource;
+import org.pitest.util.PitError;
+
+/**
+ * Finds the test classes that may execute a set of classes, by following
+ * references between the classes of the project without running them.
+ *
+ * A class is taken to refer to every project class named in its constant pool,
+ * whether as a type, in a descriptor or as a string, so tests that load a
+ * class reflectively by its literal name are found. Tests that reach a class
+ * only through names built at runtime, or through classes outside the
+ * project, are not.
+ *
+ * Providers named in META-INF/services files of the project are taken to be
+ * referred to by their service interface or, where the interface is not part
+ * of the project, by every test.
+ */
+final class ReachingTests {
+
+  private final CodeSource code;
+
+  ReachingTests(CodeSource code) {
+    this.code = code;
+  }
+
+  Set<ClassName> reaching(Collection<ClassName> targets) {
+    final Map<String, ClassName> project = new HashMap<>();
+    for (final ClassName each : this.code.getAllClassAndTestNames()) {
+      project.put(each.asInternalName(), each);
+    }
+
+    final Map<ClassName, Set<ClassName>> referencedBy = new HashMap<>();
+    for (final ClassName each : project.values()) {
+      for (final ClassName ref : references(each, project)) {
+        referencedBy.computeIfAbsent(ref, k -> new HashSet<>()).add(each);
+      }
+    }
+
+    final Set<ClassName> tests = this.code.getTestClassNames();
+    for (final Map.Entry<String, String> each : serviceProviders().entrySet()) {
+      final ClassName provider = project.get(each.getKey());
+      if (provider == null) {
+        continue;
+      }
+      final ClassName service = project.get(each.getValue());
+      final Set<ClassName> users = referencedBy.computeIfAbsent(provider,
+          k -> new HashSet<>());
+      if (service != null) {
+        users.add(service);
+      } else {
+        users.addAll(tests);
+      }
+    }
+
+    final Set<ClassName> reached = new HashSet<>(targets);
+    final ArrayDeque<ClassName> toVisit = new ArrayDeque<>(targets);
+    while (!toVisit.isEmpty()) {
+      for (final ClassName each : referencedBy.getOrDefault(toVisit.pop(), Set.of())) {
+        if (reached.add(each)) {
+          toVisit.push(each);
+        }
+      }
+    }
+
+    return reached.stream()
+        .filter(tests::contains)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * @return the internal names of the service providers declared in the
+   *         project's directories, mapped to those of their interfaces
+   */
+  private Map<String, String> serviceProviders() {
+    final Map<String, String> providers = new HashMap<>();
+    final ClassPath classPath = this.code.getClassPath();
+    if (classPath == null) {
+      return providers;
+    }
+    for (final String root : classPath.getLocalClassPath().split(File.pathSeparator)) {
+      final Path services = Paths.get(root, "META-INF", "services");
+      if (!Files.isDirectory(services)) {
+        continue;
+      }
+      try (Stream<Path> files = Files.list(services)) {
+        for (final Path file : (Iterable<Path>) files::iterator) {
+          final String service = internalName(file.getFileName().toString());
+          for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            final String provider = line.replaceFirst("#.*", "").trim();
+            if (!provider.isEmpty()) {
+              providers.put(internalName(provider), service);
+            }
+          }
+        }
+      } catch (final IOException ex) {
+        throw new PitError("Could not read service providers in " + services, ex);
+      }
+    }
+    return providers;
+  }
+
+  private static String internalName(String javaName) {
+    return javaName.replace('.', '/');
+  }
+
+  private Set<ClassName> references(ClassName clazz, Map<String, ClassName> project) {
+    return this.code.fetchClassBytes(clazz)
+        .map(bytes -> ClassReferences.in(bytes, project))
+        .orElse(Set.of());
+  }
+
+}
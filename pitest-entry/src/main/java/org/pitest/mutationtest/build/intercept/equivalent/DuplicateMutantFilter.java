@@ -0,0 +1,208 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.DuplicateMutants;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Finds mutants whose bytecode is identical once trivial differences have
+ * been removed, such as a value pushed onto the stack and immediately popped.
+ * Identical mutants must behave identically, so only the first of each group
+ * is run. The others are recorded as its duplicates and given its result.
+ *
+ * <p>Mutants in different blocks are never treated as duplicates, as different
+ * tests may be targeted at them.
+ */
+public class DuplicateMutantFilter implements MutationInterceptor {
+
+  private final DuplicateMutants duplicates;
+
+  public DuplicateMutantFilter(DuplicateMutants duplicates) {
+    this.duplicates = duplicates;
+  }
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    // no-op
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    if (mutations.size() < 2) {
+      return mutations;
+    }
+
+    final Map<Object, List<MutationDetails>> groups = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      groups.computeIfAbsent(keyFor(each, m), k -> new ArrayList<>()).add(each);
+    }
+
+    return groups.values().stream()
+        .map(this::representative)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public void end() {
+    // no-op
+  }
+
+  private MutationDetails representative(List<MutationDetails> group) {
+    if (group.size() > 1) {
+      this.duplicates.register(group.get(0), new ArrayList<>(group.subList(1, group.size())));
+    }
+    return group.get(0);
+  }
+
+  private static Object keyFor(MutationDetails mutation, Mutater m) {
+    try {
+      return new Key(mutation.getBlocks(), normalise(m.getMutation(mutation.getId()).getBytes()));
+    } catch (final RuntimeException ex) {
+      // unique to the mutant, so it will be run
+      return mutation.getId();
+    }
+  }
+
+  static byte[] normalise(byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    for (final MethodNode each : node.methods) {
+      removeNoOps(each.instructions);
+    }
+    final ClassWriter w = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    node.accept(w);
+    return w.toByteArray();
+  }
+
+  private static void removeNoOps(InsnList instructions) {
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (AbstractInsnNode each = instructions.getFirst(); each != null;) {
+        final AbstractInsnNode next = each.getNext();
+        if (each.getOpcode() == Opcodes.NOP) {
+          instructions.remove(each);
+          changed = true;
+        } else if (next != null && isDiscardedPush(each, next.getOpcode())) {
+          final AbstractInsnNode after = next.getNext();
+          instructions.remove(each);
+          instructions.remove(next);
+          changed = true;
+          each = after;
+          continue;
+        }
+        each = next;
+      }
+    }
+  }
+
+  private static boolean isDiscardedPush(AbstractInsnNode push, int pop) {
+    if (pop == Opcodes.POP) {
+      return pushesSingleWord(push);
+    }
+    if (pop == Opcodes.POP2) {
+      return pushesDoubleWord(push);
+    }
+    return false;
+  }
+
+  private static boolean pushesSingleWord(AbstractInsnNode insn) {
+    switch (insn.getOpcode()) {
+    case Opcodes.ACONST_NULL:
+    case Opcodes.ICONST_M1:
+    case Opcodes.ICONST_0:
+    case Opcodes.ICONST_1:
+    case Opcodes.ICONST_2:
+    case Opcodes.ICONST_3:
+    case Opcodes.ICONST_4:
+    case Opcodes.ICONST_5:
+    case Opcodes.FCONST_0:
+    case Opcodes.FCONST_1:
+    case Opcodes.FCONST_2:
+    case Opcodes.BIPUSH:
+    case Opcodes.SIPUSH:
+    case Opcodes.ILOAD:
+    case Opcodes.FLOAD:
+    case Opcodes.ALOAD:
+    case Opcodes.DUP:
+      return true;
+    case Opcodes.LDC:
+      final Object cst = ((LdcInsnNode) insn).cst;
+      return cst instanceof Integer || cst instanceof Float || cst instanceof String;
+    default:
+      return false;
+    }
+  }
+
+  private static boolean pushesDoubleWord(AbstractInsnNode insn) {
+    switch (insn.getOpcode()) {
+    case Opcodes.LCONST_0:
+    case Opcodes.LCONST_1:
+    case Opcodes.DCONST_0:
+    case Opcodes.DCONST_1:
+    case Opcodes.LLOAD:
+    case Opcodes.DLOAD:
+      return true;
+    case Opcodes.LDC:
+      final Object cst = ((LdcInsnNode) insn).cst;
+      return cst instanceof Long || cst instanceof Double;
+    default:
+      return false;
+    }
+  }
+
+  private static final class Key {
+    private final List<Integer> blocks;
+    private final byte[]        bytes;
+
+    Key(List<Integer> blocks, byte[] bytes) {
+      this.blocks = blocks;
+      this.bytes = bytes;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Objects.hashCode(this.blocks) + Arrays.hashCode(this.bytes);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      final Key other = (Key) obj;
+      return Objects.equals(this.blocks, other.blocks)
+          && Arrays.equals(this.bytes, other.bytes);
+    }
+  }
+
+}
@@ -0,0 +1,27 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+
+public class DuplicateMutantFilterFactory implements MutationInterceptorFactory {
+
+  @Override
+  public String description() {
+    return "Duplicate mutant filter";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("FDEDUP")
+        .withOnByDefault(false)
+        .withDescription("Runs only one of each set of mutants with identical bytecode");
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    return new DuplicateMutantFilter(params.duplicates());
+  }
+
+}
@@ -172,6 +172,72 @@ public enum ConfigOption {
    */
   MUTATION_UNIT_SIZE("mutationUnitSize", 0),
 
+  /**
+   * Stop analysing mutants once the result of the mutation threshold, test strength threshold and maximum survivors checks is certain
+   */
+  EARLY_TERMINATION("earlyTermination", false),
+
+  /**
+   * Maximum time in seconds for the whole run. Once it has passed no further mutants are started, and those not analysed are reported as such. 0 for no limit
+   */
+  TIME_BUDGET("timeBudgetSeconds", 0),
+
+  /**
+   * Compile the mutants of each class into a single class, and switch between them rather than redefining the class for each mutant
+   */
+  MUTANT_SCHEMATA("mutantSchemata", false),
+
+  /**
+   * Store coverage alongside history, and reuse it for test classes unaffected by changes since it was stored
+   */
+  INCREMENTAL_COVERAGE("incrementalCoverage", false),
+
+  /**
+   * Guard loops in mutated methods, so that a mutant stuck in an infinite loop is abandoned without killing the minion
+   */
+  LOOP_GUARD("loopGuard", false),
+
+  /**
+   * Limit each test by the times it took in previous runs, as recorded in the history file
+   */
+  ADAPTIVE_TIMEOUTS("adaptiveTimeouts", false),
+
+  /**
+   * How minions provide threads to run tests on. PER_TEST, POOLED or VIRTUAL,
+   * see TestThreads.POOLED before reusing threads
+   */
+  TEST_THREADS("testThreads", "PER_TEST"),
+
+  /**
+   * Number of threads to use when searching classes for mutants
+   */
+  DISCOVERY_THREADS("discoveryThreads", 1),
+
+  /**
+   * Hold coverage in a compact int based form, reducing memory use for very large suites
+   */
+  COMPACT_COVERAGE("compactCoverage", false),
+
+  /**
+   * Number of minions to shard coverage generation across
+   */
+  COVERAGE_MINIONS("coverageMinions", 1),
+
+  /**
+   * Split and order units of analysis by the estimated cost of the tests covering each mutant
+   */
+  SCHEDULE_BY_COST("scheduleByCost", false),
+
+  /**
+   * Reuse minions across units of analysis rather than launching a new JVM for each unit
+   */
+  REUSE_MINIONS("reuseMinions", false),
+
+  /**
+   * Number of mutants a reused minion may analyse before it is replaced. 0 for no limit.
+   */
+  MAX_MUTANTS_PER_MINION("maxMutantsPerMinion", 0),
+
   /**
    * Do/don't attempt to detect inlined code from finally blocks
    */
@@ -187,6 +253,17 @@ public enum ConfigOption {
    */
   HISTORY_OUTPUT_LOCATION("historyOutputLocation"),
 
+  /**
+   * Directory in which to cache generated mutants between runs
+   */
+  MUTANT_CACHE_LOCATION("mutantCacheLocation"),
+
+  /**
+   * Directory in which to cache the class names held by archives on the
+   * classpath, and the hashes of classes, between runs
+   */
+  CLASS_PATH_INDEX_LOCATION("classPathIndexLocation"),
+
   /**
    * Mutation score below which to throw an error
    */
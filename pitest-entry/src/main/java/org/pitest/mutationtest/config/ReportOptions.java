@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.config;
 
 import org.pitest.classpath.ClassFilter;
+import org.pitest.classpath.ArchiveNameCache;
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathRoot;
 import org.pitest.classpath.PathFilter;
@@ -23,6 +24,7 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.execute.TestThreads;
 import org.pitest.mutationtest.incremental.FileWriterFactory;
 import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.testapi.TestGroupConfig;
@@ -92,6 +94,8 @@ public class ReportOptions {
 
   private File                           historyInputLocation;
   private File                           historyOutputLocation;
+  private File                           mutantCacheLocation;
+  private File                           classPathIndexLocation;
 
   private Collection<Path>               sourceDirs;
   private Collection<String>             classPathElements;
@@ -121,6 +125,19 @@ public class ReportOptions {
   private boolean                        fullMutationMatrix            = false;
 
   private int                            mutationUnitSize;
+  private boolean                        earlyTermination;
+  private int                            timeBudgetSeconds;
+  private boolean                        mutantSchemata;
+  private boolean                        incrementalCoverage;
+  private boolean                        loopGuard;
+  private boolean                        adaptiveTimeouts;
+  private TestThreads                    testThreads                   = TestThreads.PER_TEST;
+  private int                            discoveryThreads              = 1;
+  private boolean                        compactCoverage;
+  private int                            coverageMinions               = 1;
+  private boolean                        scheduleByCost;
+  private boolean                        reuseMinions;
+  private int                            maxMutantsPerMinion;
   private boolean                        shouldCreateTimestampedReports = true;
   private boolean                        detectInlinedCode              = false;
   private boolean                        exportLineCoverage             = false;
@@ -138,7 +155,7 @@ public class ReportOptions {
 
   private Properties                     properties;
 
-  private int maxSurvivors;
+  private int maxSurvivors = -1;
 
   private Collection<String>             excludedRunners                = new ArrayList<>();
   private Collection<String>             includedTestMethods            = new ArrayList<>();
@@ -251,14 +268,21 @@ public class ReportOptions {
     if (this.classPathElements != null) {
       return createClassPathFromElements();
     } else {
-      return new ClassPath();
+      return new ClassPath(ClassPath.getClassPathElementsAsFiles(), archiveNames());
     }
   }
 
   private ClassPath createClassPathFromElements() {
     return new ClassPath(asStream(this.classPathElements)
             .map(File::new)
-            .collect(Collectors.toList()));
+            .collect(Collectors.toList()), archiveNames());
+  }
+
+  private ArchiveNameCache archiveNames() {
+    if (this.classPathIndexLocation == null) {
+      return ArchiveNameCache.none();
+    }
+    return new ArchiveNameCache(this.classPathIndexLocation);
   }
 
   public Collection<String> getTargetClasses() {
@@ -457,6 +481,110 @@ public class ReportOptions {
     this.mutationUnitSize = size;
   }
 
+  public boolean isEarlyTermination() {
+    return this.earlyTermination;
+  }
+
+  public void setEarlyTermination(final boolean earlyTermination) {
+    this.earlyTermination = earlyTermination;
+  }
+
+  public int getTimeBudgetSeconds() {
+    return this.timeBudgetSeconds;
+  }
+
+  public void setTimeBudgetSeconds(final int timeBudgetSeconds) {
+    this.timeBudgetSeconds = timeBudgetSeconds;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public void setMutantSchemata(final boolean mutantSchemata) {
+    this.mutantSchemata = mutantSchemata;
+  }
+
+  public boolean isIncrementalCoverage() {
+    return this.incrementalCoverage;
+  }
+
+  public void setIncrementalCoverage(final boolean incrementalCoverage) {
+    this.incrementalCoverage = incrementalCoverage;
+  }
+
+  public boolean isLoopGuard() {
+    return this.loopGuard;
+  }
+
+  public void setLoopGuard(final boolean loopGuard) {
+    this.loopGuard = loopGuard;
+  }
+
+  public boolean isAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
+  public void setAdaptiveTimeouts(final boolean adaptiveTimeouts) {
+    this.adaptiveTimeouts = adaptiveTimeouts;
+  }
+
+  public TestThreads getTestThreads() {
+    return this.testThreads;
+  }
+
+  public void setTestThreads(final TestThreads testThreads) {
+    this.testThreads = testThreads;
+  }
+
+  public int getDiscoveryThreads() {
+    return this.discoveryThreads;
+  }
+
+  public void setDiscoveryThreads(final int discoveryThreads) {
+    this.discoveryThreads = discoveryThreads;
+  }
+
+  public boolean isCompactCoverage() {
+    return this.compactCoverage;
+  }
+
+  public void setCompactCoverage(final boolean compactCoverage) {
+    this.compactCoverage = compactCoverage;
+  }
+
+  public int getCoverageMinions() {
+    return this.coverageMinions;
+  }
+
+  public void setCoverageMinions(final int coverageMinions) {
+    this.coverageMinions = coverageMinions;
+  }
+
+  public boolean isScheduleByCost() {
+    return this.scheduleByCost;
+  }
+
+  public void setScheduleByCost(final boolean scheduleByCost) {
+    this.scheduleByCost = scheduleByCost;
+  }
+
+  public boolean isReuseMinions() {
+    return this.reuseMinions;
+  }
+
+  public void setReuseMinions(final boolean reuseMinions) {
+    this.reuseMinions = reuseMinions;
+  }
+
+  public int getMaxMutantsPerMinion() {
+    return this.maxMutantsPerMinion;
+  }
+
+  public void setMaxMutantsPerMinion(final int maxMutantsPerMinion) {
+    this.maxMutantsPerMinion = maxMutantsPerMinion;
+  }
+
   public ResultOutputStrategy getReportDirectoryStrategy() {
     return new DirectoryResultOutputStrategy(getReportDir(),
         pickDirectoryStrategy());
@@ -527,6 +655,22 @@ public class ReportOptions {
     return this.historyOutputLocation;
   }
 
+  public void setMutantCacheLocation(final File mutantCacheLocation) {
+    this.mutantCacheLocation = mutantCacheLocation;
+  }
+
+  public File getMutantCacheLocation() {
+    return this.mutantCacheLocation;
+  }
+
+  public void setClassPathIndexLocation(final File classPathIndexLocation) {
+    this.classPathIndexLocation = classPathIndexLocation;
+  }
+
+  public File getClassPathIndexLocation() {
+    return this.classPathIndexLocation;
+  }
+
   public void setExportLineCoverage(final boolean value) {
     this.exportLineCoverage = value;
   }
@@ -688,6 +832,8 @@ public class ReportOptions {
             .add("reportDir='" + reportDir + "'")
             .add("historyInputLocation=" + historyInputLocation)
             .add("historyOutputLocation=" + historyOutputLocation)
+            .add("mutantCacheLocation=" + mutantCacheLocation)
+            .add("classPathIndexLocation=" + classPathIndexLocation)
             .add("sourceDirs=" + sourceDirs)
             .add("classPathElements=" + classPathElements)
             .add("mutators=" + mutators)
@@ -706,6 +852,19 @@ public class ReportOptions {
             .add("groupConfig=" + groupConfig)
             .add("fullMutationMatrix=" + fullMutationMatrix)
             .add("mutationUnitSize=" + mutationUnitSize)
+            .add("earlyTermination=" + earlyTermination)
+            .add("timeBudgetSeconds=" + timeBudgetSeconds)
+            .add("mutantSchemata=" + mutantSchemata)
+            .add("incrementalCoverage=" + incrementalCoverage)
+            .add("loopGuard=" + loopGuard)
+            .add("adaptiveTimeouts=" + adaptiveTimeouts)
+            .add("testThreads=" + testThreads)
+            .add("discoveryThreads=" + discoveryThreads)
+            .add("compactCoverage=" + compactCoverage)
+            .add("coverageMinions=" + coverageMinions)
+            .add("scheduleByCost=" + scheduleByCost)
+            .add("reuseMinions=" + reuseMinions)
+            .add("maxMutantsPerMinion=" + maxMutantsPerMinion)
             .add("shouldCreateTimestampedReports=" + shouldCreateTimestampedReports)
             .add("detectInlinedCode=" + detectInlinedCode)
             .add("exportLineCoverage=" + exportLineCoverage)
@@ -1,5 +1,9 @@
 package org.pitest.mutationtest.config;
 
+import org.pitest.classinfo.ClassInfoCache;
+import org.pitest.classinfo.Repository;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.CodeSourceFactory;
 import org.pitest.classpath.DefaultCodeSource;
@@ -16,6 +20,7 @@ import org.pitest.mutationtest.CompoundMutationResultInterceptor;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.build.CompoundInterceptorFactory;
+import org.pitest.mutationtest.build.CostBalancedGrouperFactory;
 import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
 import org.pitest.mutationtest.build.MutationGrouperFactory;
@@ -35,6 +40,7 @@ import org.pitest.process.KnownLocationJavaExecutableLocator;
 import org.pitest.util.PitError;
 import org.pitest.util.ResultOutputStrategy;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -48,6 +54,8 @@ import java.util.stream.Collectors;
 
 public class SettingsFactory {
 
+  private static final String CLASS_INFO_FILE = "classinfo.bin";
+
   private final ReportOptions  options;
   private final PluginServices plugins;
 
@@ -103,14 +111,18 @@ public class SettingsFactory {
     // Grouping behaviour is important. We cannot have more than 1 class mutated within
     // a JVM or else the last mutation will poison the next. This restriction can only
     // be removed if the hotswap functionality is reworked.
-    // Grouping behaviour is therefore hard coded for now.
+    // Groupers are therefore not pluggable, and both groupers offered here keep
+    // the mutants of each class in separate units.
+    if (this.options.isScheduleByCost()) {
+      return new CostBalancedGrouperFactory();
+    }
     return new DefaultMutationGrouperFactory();
   }
 
   public CodeSource createCodeSource(ProjectClassPaths classPath) {
     List<CodeSourceFactory> sources = this.plugins.findCodeSources();
     if (sources.isEmpty()) {
-      return new DefaultCodeSource(classPath);
+      return createDefaultCodeSource(classPath);
     }
     if (sources.size() > 1) {
        throw new RuntimeException("More than one CodeSource found on classpath.");
@@ -118,6 +130,18 @@ public class SettingsFactory {
     return sources.get(0).createCodeSource(classPath);
   }
 
+  private CodeSource createDefaultCodeSource(ProjectClassPaths classPath) {
+    final File location = this.options.getClassPathIndexLocation();
+    if (location == null) {
+      return new DefaultCodeSource(classPath);
+    }
+    final ClassPath cp = classPath.getClassPath();
+    final ClassInfoCache cache = new ClassInfoCache(new File(location, CLASS_INFO_FILE),
+        cp::classStamp);
+    return new DefaultCodeSource(classPath,
+        new Repository(new ClassPathByteArraySource(cp), cache));
+  }
+
   public HistoryFactory createHistory() {
     List<HistoryFactory> available = this.plugins.findHistory();
 
@@ -0,0 +1,103 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+import org.pitest.util.SocketFinder;
+
+/**
+ * Holds long lived minions so that they can be reused across mutation test
+ * units, avoiding the cost of launching a JVM and rediscovering tests for each
+ * unit. A minion is discarded after a crash or timeout, or once it has
+ * analysed a configured number of mutants.
+ *
+ * The number of minions in use at any one time is bounded by the number of
+ * threads running analysis units, so at most that many are kept idle.
+ */
+public class MinionPool implements Closeable {
+
+  private static final Logger             LOG = Log.getLogger();
+
+  private final int                       maxIdle;
+  private final int                       maxMutantsPerMinion;
+  private final SocketFinder              socketFinder = new SocketFinder();
+  private final BlockingQueue<PooledMinion> idle;
+  private final Set<PooledMinion>         all = ConcurrentHashMap.newKeySet();
+
+  public MinionPool(int numberOfThreads, int maxMutantsPerMinion) {
+    this.maxIdle = Math.max(1, numberOfThreads);
+    this.maxMutantsPerMinion = maxMutantsPerMinion;
+    this.idle = new LinkedBlockingQueue<>(this.maxIdle);
+  }
+
+  public MutationTestProcess createWorker(ProcessArgs processArgs, MinionArguments arguments) {
+    return createWorker(processArgs, arguments, t -> { });
+  }
+
+  /**
+   * @param testTimes receives the times taken by tests that passed
+   */
+  public MutationTestProcess createWorker(ProcessArgs processArgs, MinionArguments arguments,
+      Consumer<Map<String, TestTimeSamples>> testTimes) {
+    return new PooledMutationTestProcess(this, processArgs, arguments, testTimes);
+  }
+
+  PooledMinion acquire(ProcessArgs processArgs) throws IOException {
+    PooledMinion minion = this.idle.poll();
+    while (minion != null) {
+      if (minion.isIdle()) {
+        return minion;
+      }
+      discard(minion);
+      minion = this.idle.poll();
+    }
+
+    LOG.fine("Launching new pooled minion");
+    final PooledMinion launched = new PooledMinion(
+        this.socketFinder.getNextAvailableServerSocket(), processArgs);
+    this.all.add(launched);
+    launched.start();
+    return launched;
+  }
+
+  void release(PooledMinion minion, ExitCode exitCode) {
+    if (exitCode.isOk() && minion.isIdle() && !exhausted(minion)
+        && this.idle.offer(minion)) {
+      return;
+    }
+    discard(minion);
+  }
+
+  int size() {
+    return this.all.size();
+  }
+
+  @Override
+  public void close() {
+    this.idle.clear();
+    this.all.forEach(PooledMinion::shutdown);
+    this.all.clear();
+  }
+
+  private boolean exhausted(PooledMinion minion) {
+    return this.maxMutantsPerMinion > 0
+        && minion.mutantsRun() >= this.maxMutantsPerMinion;
+  }
+
+  private void discard(PooledMinion minion) {
+    this.all.remove(minion);
+    minion.shutdown();
+  }
+
+}
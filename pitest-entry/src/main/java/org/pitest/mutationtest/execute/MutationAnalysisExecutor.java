@@ -8,13 +8,21 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
 
+
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationResultInterceptor;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.build.DuplicateMutants;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Log;
 import org.pitest.util.Unchecked;
 
@@ -22,15 +30,40 @@ public class MutationAnalysisExecutor {
 
   private static final Logger                LOG = Log.getLogger();
 
+  private static final int                   SHUTDOWN_SECONDS = 30;
+
   private final List<MutationResultListener> listeners;
   private final ThreadPoolExecutor           executor;
 
   private final MutationResultInterceptor resultInterceptor;
 
+  private final DuplicateMutants          duplicateMutants;
+  private final BooleanSupplier           stopWhen;
+
+  private int                                duplicates;
+  private long                               duplicateMillis;
+  private boolean                            terminatedEarly;
+
   public MutationAnalysisExecutor(int numberOfThreads, MutationResultInterceptor interceptor,
       List<MutationResultListener> listeners) {
+    this(numberOfThreads, interceptor, listeners, new DuplicateMutants(), () -> false);
+  }
+
+  /**
+   * @param duplicates mutants not run, but given the result of a mutant
+   *                   identical to them
+   * @param stopWhen checked after each result is reported. Once true, units
+   *                 yet to complete are cancelled and their mutants reported
+   *                 as not started. Units that have already completed are
+   *                 reported as normal.
+   */
+  public MutationAnalysisExecutor(int numberOfThreads, MutationResultInterceptor interceptor,
+      List<MutationResultListener> listeners, DuplicateMutants duplicates,
+      BooleanSupplier stopWhen) {
     this.resultInterceptor = interceptor;
     this.listeners = listeners;
+    this.duplicateMutants = duplicates;
+    this.stopWhen = stopWhen;
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
         Executors.defaultThreadFactory());
@@ -53,7 +86,7 @@ public class MutationAnalysisExecutor {
     this.executor.shutdown();
 
     try {
-      processResult(results);
+      processResult(testUnits, results);
     } catch (final InterruptedException | ExecutionException e) {
       throw Unchecked.translateCheckedException(e);
     }
@@ -62,15 +95,15 @@ public class MutationAnalysisExecutor {
 
   }
 
-  private void processResult(List<Future<MutationMetaData>> results)
+  private void processResult(List<MutationAnalysisUnit> testUnits,
+      List<Future<MutationMetaData>> results)
           throws InterruptedException, ExecutionException {
-    for (Future<MutationMetaData> f : results) {
-      MutationMetaData metaData = f.get();
-      for (ClassMutationResults cr : resultInterceptor.modify(metaData.toClassResults())) {
-        for (MutationResultListener listener : this.listeners) {
-          listener.handleMutationResult(cr);
-        }
+    for (int i = 0; i != results.size(); i++) {
+      if (this.stopWhen.getAsBoolean()) {
+        cancel(testUnits.subList(i, testUnits.size()), results.subList(i, results.size()));
+        break;
       }
+      report(withDuplicates(results.get(i).get()));
     }
 
     // handle any results held back from processing. Only known
@@ -83,6 +116,113 @@ public class MutationAnalysisExecutor {
 
   }
 
+  private void report(MutationMetaData metaData) {
+    for (ClassMutationResults cr : resultInterceptor.modify(metaData.toClassResults())) {
+      for (MutationResultListener listener : this.listeners) {
+        listener.handleMutationResult(cr);
+      }
+    }
+  }
+
+  private void cancel(List<MutationAnalysisUnit> units, List<Future<MutationMetaData>> results)
+      throws InterruptedException {
+    LOG.info("Cancelling " + units.size() + " remaining units");
+    this.terminatedEarly = true;
+    results.forEach(f -> f.cancel(true));
+    // running units are interrupted, so take down their minions
+    this.executor.shutdownNow();
+    this.executor.awaitTermination(SHUTDOWN_SECONDS, TimeUnit.SECONDS);
+
+    for (int i = 0; i != units.size(); i++) {
+      report(completedOrNotStarted(units.get(i), results.get(i)));
+    }
+  }
+
+  /**
+   * Units may complete after the decision to stop and before they are
+   * cancelled, so the results of those that did are kept
+   */
+  private MutationMetaData completedOrNotStarted(MutationAnalysisUnit unit,
+      Future<MutationMetaData> result) throws InterruptedException {
+    if (result.isDone() && !result.isCancelled()) {
+      try {
+        return withDuplicates(result.get());
+      } catch (final ExecutionException ex) {
+        LOG.fine("Unit failed while cancelling " + ex);
+      }
+    }
+    return notStarted(unit);
+  }
+
+  private MutationMetaData notStarted(MutationAnalysisUnit unit) {
+    final List<MutationDetails> mutants = new ArrayList<>();
+    for (final MutationDetails each : unit.mutants()) {
+      mutants.add(each);
+      mutants.addAll(duplicatesOf(each));
+    }
+    final MutationStatusMap status = new MutationStatusMap();
+    status.setStatusForMutations(mutants, DetectionStatus.NOT_STARTED);
+    status.markUncoveredMutations();
+    return new MutationMetaData(status.createMutationResults());
+  }
+
+  /**
+   * @return true if the run was stopped before all units completed
+   */
+  public boolean terminatedEarly() {
+    return this.terminatedEarly;
+  }
+
+  /**
+   * @return number of mutants given the result of an identical mutant rather
+   *         than being run
+   */
+  public int duplicatesNotRun() {
+    return this.duplicates;
+  }
+
+  /**
+   * @return estimated time the duplicate mutants would have taken to run,
+   *         based on the recorded times of the tests run against them
+   */
+  public long duplicateMillisSaved() {
+    return this.duplicateMillis;
+  }
+
+  private MutationMetaData withDuplicates(MutationMetaData metaData) {
+    final List<MutationResult> results = new ArrayList<>(metaData.getMutations());
+    for (final MutationResult each : metaData.getMutations()) {
+      final List<MutationDetails> copies = duplicatesOf(each.getDetails());
+      for (final MutationDetails copy : copies) {
+        results.add(new MutationResult(copy, each.getStatusTestPair()));
+      }
+      this.duplicates += copies.size();
+      this.duplicateMillis += copies.size() * timeToRun(each);
+    }
+    if (results.size() == metaData.getMutations().size()) {
+      return metaData;
+    }
+    return new MutationMetaData(results);
+  }
+
+  private List<MutationDetails> duplicatesOf(MutationDetails representative) {
+    final List<MutationDetails> copies = this.duplicateMutants.of(representative);
+    // identical mutants are covered by the same tests
+    for (final MutationDetails each : copies) {
+      if (each.getTestsInOrder().isEmpty()) {
+        each.addTestsInOrder(representative.getTestsInOrder());
+      }
+    }
+    return copies;
+  }
+
+  private static long timeToRun(MutationResult result) {
+    return result.getDetails().getTestsInOrder().stream()
+        .limit(result.getNumberOfTestsRun())
+        .mapToLong(TestInfo::getTime)
+        .sum();
+  }
+
   private void signalRunStartToAllListeners() {
     this.listeners.forEach(MutationResultListener::runStart);
   }
@@ -0,0 +1,128 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.CommunicationThread;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * A long lived minion that accepts successive batches of mutants over a
+ * single socket connection.
+ */
+class PooledMinion {
+
+  private static final Logger   LOG = Log.getLogger();
+
+  private final ServerSocket    socket;
+  private final WrappingProcess process;
+
+  private Socket                connection;
+  private SafeDataInputStream   is;
+  private SafeDataOutputStream  os;
+
+  private volatile boolean      idle;
+  private int                   mutantsRun;
+
+  PooledMinion(ServerSocket socket, ProcessArgs processArgs) {
+    this.socket = socket;
+    this.process = WrappingProcess.create(socket.getLocalPort(), processArgs,
+        MutationTestMinion.class);
+  }
+
+  void start() throws IOException {
+    this.process.start();
+  }
+
+  /**
+   * Sends a batch of mutants to the minion and blocks until it has processed
+   * them, or has died trying.
+   */
+  ExitCode run(MinionArguments arguments,
+      Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      Consumer<Map<String, TestTimeSamples>> testTimes) {
+    this.idle = false;
+    this.mutantsRun = this.mutantsRun + arguments.mutations().size();
+
+    final Receive receive = new Receive(idMap, arguments.mutations(), testTimes);
+    final CommunicationThread thread = new CommunicationThread(
+        () -> communicate(arguments, receive));
+    thread.start();
+
+    return thread.waitToFinish(this.process::isAlive);
+  }
+
+  boolean isIdle() {
+    return this.idle && this.process.isAlive();
+  }
+
+  int mutantsRun() {
+    return this.mutantsRun;
+  }
+
+  void shutdown() {
+    try {
+      if (this.isIdle()) {
+        this.os.writeBoolean(false);
+        this.os.flush();
+      }
+    } catch (final RuntimeException e) {
+      LOG.log(Level.FINE, "Could not signal minion to shut down", e);
+    } finally {
+      this.idle = false;
+      closeQuietly();
+      this.process.destroy();
+    }
+  }
+
+  private ExitCode communicate(MinionArguments arguments, Receive receive) throws IOException {
+    if (this.connection == null) {
+      this.connection = this.socket.accept();
+      this.is = new SafeDataInputStream(new BufferedInputStream(this.connection.getInputStream()));
+      this.os = new SafeDataOutputStream(this.connection.getOutputStream());
+    } else {
+      this.os.writeBoolean(true);
+    }
+
+    this.os.write(arguments);
+    this.os.flush();
+
+    byte control = this.is.readByte();
+    while (control != Id.BATCH_DONE) {
+      if (control == Id.DONE) {
+        return ExitCode.fromCode(this.is.readInt());
+      }
+      receive.apply(control, this.is);
+      control = this.is.readByte();
+    }
+    this.idle = true;
+    return ExitCode.OK;
+  }
+
+  private void closeQuietly() {
+    try {
+      if (this.connection != null) {
+        this.connection.close();
+      }
+      this.socket.close();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not close minion socket", e);
+    }
+  }
+
+}
@@ -0,0 +1,60 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+
+/**
+ * Runs a batch of mutants on a minion borrowed from a MinionPool. The minion
+ * is returned to the pool if the batch completes normally.
+ */
+class PooledMutationTestProcess implements MutationTestProcess {
+
+  private final MinionPool      pool;
+  private final ProcessArgs     processArgs;
+  private final MinionArguments arguments;
+  private final Consumer<Map<String, TestTimeSamples>> testTimes;
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new ConcurrentHashMap<>();
+
+  private PooledMinion          minion;
+
+  PooledMutationTestProcess(MinionPool pool, ProcessArgs processArgs,
+      MinionArguments arguments, Consumer<Map<String, TestTimeSamples>> testTimes) {
+    this.pool = pool;
+    this.processArgs = processArgs;
+    this.arguments = arguments;
+    this.testTimes = testTimes;
+  }
+
+  @Override
+  public void start() throws IOException {
+    this.minion = this.pool.acquire(this.processArgs);
+  }
+
+  @Override
+  public void results(MutationStatusMap allmutations) {
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.idMap.get(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    final ExitCode exitCode = this.minion.run(this.arguments, this.idMap, this.testTimes);
+    this.pool.release(this.minion, exitCode);
+    return exitCode;
+  }
+
+}
@@ -2,22 +2,43 @@ package org.pitest.mutationtest.execute;
 
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.Id;
 import org.pitest.util.Log;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 class Receive implements ReceiveStrategy {
     private static final Logger LOG = Log.getLogger();
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final ResultEncoding encoding;
+    private final Consumer<Map<String, TestTimeSamples>> testTimes;
 
-    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    /**
+     * @param mutations the mutants of the batch, in the order sent to the minion
+     */
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final Collection<MutationDetails> mutations) {
+        this(idMap, mutations, t -> { });
+    }
+
+    /**
+     * @param testTimes receives the times taken by tests that passed
+     */
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final Collection<MutationDetails> mutations,
+        final Consumer<Map<String, TestTimeSamples>> testTimes) {
         this.idMap = idMap;
+        this.encoding = new ResultEncoding(mutations);
+        this.testTimes = testTimes;
     }
 
     @Override
@@ -29,21 +50,23 @@ class Receive implements ReceiveStrategy {
             case Id.REPORT:
                 handleReport(is);
                 break;
+            case Id.TEST_TIMES:
+                this.testTimes.accept(this.encoding.readTestTimes(is));
+                break;
             default:
                 LOG.severe("Unknown control byte " + control);
         }
     }
 
     private void handleReport(final SafeDataInputStream is) {
-        final MutationIdentifier mutation = is.read(MutationIdentifier.class);
-        final MutationStatusTestPair value = is
-                .read(MutationStatusTestPair.class);
+        final MutationIdentifier mutation = this.encoding.readId(is);
+        final MutationStatusTestPair value = this.encoding.readStatus(is);
         this.idMap.put(mutation, value);
         LOG.fine(mutation + " " + value);
     }
 
     private void handleDescribe(final SafeDataInputStream is) {
-        final MutationIdentifier mutation = is.read(MutationIdentifier.class);
+        final MutationIdentifier mutation = this.encoding.readId(is);
         this.idMap.put(mutation, MutationStatusTestPair.notAnalysed(1,
                 DetectionStatus.STARTED,null));
     }
@@ -0,0 +1,76 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.CommunicationThread;
+import org.pitest.util.ExitCode;
+
+/**
+ * Runs a single batch of mutants in a newly launched minion, which exits once
+ * the batch is complete.
+ */
+public class SingleUseMutationTestProcess implements MutationTestProcess {
+
+  private final WrappingProcess process;
+  private final CommunicationThread thread;
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+
+  public SingleUseMutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments) {
+    this(socket, processArgs, arguments, t -> { });
+  }
+
+  /**
+   * @param testTimes receives the times taken by tests that passed
+   */
+  public SingleUseMutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final Consumer<Map<String, TestTimeSamples>> testTimes) {
+    this.process = WrappingProcess.create(socket.getLocalPort(), processArgs,
+        MutationTestMinion.class);
+
+    this.idMap = new ConcurrentHashMap<>();
+    this.thread = new CommunicationThread(socket, new SendData(arguments), new Receive(idMap, arguments.mutations(), testTimes));
+
+  }
+
+  @Override
+  public void start() throws IOException, InterruptedException {
+    this.thread.start();
+    this.process.start();
+  }
+
+  @Override
+  public void results(final MutationStatusMap allmutations) throws IOException {
+
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.idMap.get(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    try {
+      return this.thread.waitToFinish(this.process::isAlive);
+    } finally {
+      this.process.destroy();
+    }
+
+  }
+
+}
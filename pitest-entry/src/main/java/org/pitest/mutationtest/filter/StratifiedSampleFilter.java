@@ -0,0 +1,100 @@
+package org.pitest.mutationtest.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.TestPrioritiser;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Runs a random sample of the mutants of each class, stratified by mutator and
+ * by whether the mutant is covered. Uncovered mutants cost nothing to analyse,
+ * so all of them are kept. Each mutant chosen is weighted by the number of
+ * mutants of its stratum it stands in for, so the score of all the mutants
+ * can be estimated.
+ *
+ * <p>The sample taken from a class depends only on the class and the seed, so
+ * is repeatable regardless of the order in which classes are examined.
+ */
+public class StratifiedSampleFilter implements MutationInterceptor {
+
+  private final int             percent;
+  private final long            seed;
+  private final TestPrioritiser prioritiser;
+
+  public StratifiedSampleFilter(int percent, long seed, TestPrioritiser prioritiser) {
+    this.percent = percent;
+    this.seed = seed;
+    this.prioritiser = prioritiser;
+  }
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    // noop
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    if (mutations.isEmpty() || this.percent >= 100) {
+      return mutations;
+    }
+
+    final Map<MutationDetails, Double> chosen = new HashMap<>();
+    final Map<String, List<MutationDetails>> strata = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      if (isCovered(each)) {
+        strata.computeIfAbsent(each.getMutator(), k -> new ArrayList<>()).add(each);
+      } else {
+        chosen.put(each, 1d);
+      }
+    }
+
+    final Random random = new Random(this.seed * 31
+        + mutations.iterator().next().getClassName().asJavaName().hashCode());
+    for (final List<MutationDetails> stratum : strata.values()) {
+      final int size = sampleSize(stratum.size());
+      final List<MutationDetails> shuffled = new ArrayList<>(stratum);
+      Collections.shuffle(shuffled, random);
+      final double weight = stratum.size() / (double) size;
+      for (final MutationDetails sampled : shuffled.subList(0, size)) {
+        chosen.put(sampled, weight);
+      }
+    }
+
+    return mutations.stream()
+        .filter(chosen::containsKey)
+        .map(md -> md.withSamplingWeight(chosen.get(md)))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public void end() {
+    // noop
+  }
+
+  private boolean isCovered(MutationDetails mutation) {
+    return !this.prioritiser.assignTests(mutation).isEmpty();
+  }
+
+  private int sampleSize(int stratum) {
+    return Math.max(1, (int) Math.ceil(stratum * this.percent / 100d));
+  }
+
+}
@@ -0,0 +1,39 @@
+package org.pitest.mutationtest.filter;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+
+public class StratifiedSampleFilterFactory implements MutationInterceptorFactory {
+
+  private final FeatureParameter percent = FeatureParameter.named("percent")
+      .withDescription("Integer percentage of the covered mutants of each class and mutator to run");
+
+  private final FeatureParameter seed = FeatureParameter.named("seed")
+      .withDescription("Integer seed for choosing the sample. Runs with the same seed choose the same mutants");
+
+  @Override
+  public String description() {
+    return "Stratified random sample of mutations";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("SAMPLE")
+        .withDescription("Runs a random sample of mutations and estimates the mutation score with a confidence interval")
+        .withParameter(this.percent)
+        .withParameter(this.seed);
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    final int percent = params.getInteger(this.percent)
+        .orElse(10);
+    final int seed = params.getInteger(this.seed)
+        .orElse(0);
+    return new StratifiedSampleFilter(percent, seed, params.testPrioritiser());
+  }
+
+}
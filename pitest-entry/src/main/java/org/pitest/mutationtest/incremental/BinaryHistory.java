@@ -0,0 +1,322 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.History;
+import org.pitest.mutationtest.MutationAnalyser;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * History store for large code bases. The file holds a header, a record per
+ * class and an index of class name to record offset sorted by name. The file
+ * is read through a memory mapping, so only the records of classes that are
+ * mutated are ever decoded.
+ *
+ * <pre>
+ * header  : int magic, int version, long index offset, long string table offset
+ * record  : boolean has class path entry
+ *             [long hash, utf hierarchical hash, utf coverage id, long test time]
+ *           int result count
+ *             [str method, str desc, int index count, int indexes..., str mutator,
+ *              str status, int tests run, killing, succeeding and covering tests]
+ * index   : int class count
+ *             [utf class name, long record offset, long test time]
+ * durations : int test count
+ *             [str test name, int first run count, long first runs...,
+ *              int later run count, long later runs...]
+ * strings : int string count
+ *             [int byte count, utf8 bytes...]
+ * </pre>
+ *
+ * <p>Each str is an int index into the string table, so a test name shared by
+ * many mutants is stored once and names are not limited to the 64k bytes that
+ * writeUTF allows.
+ *
+ * <p>Results are held in memory until the history is closed, then written in a
+ * single pass through one buffered channel.
+ */
+public class BinaryHistory implements History {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final CodeSource     code;
+  private final Optional<Path> input;
+  private final Optional<Path> output;
+
+  private final Map<String, ClassHistory>               classPath = new TreeMap<>();
+  private final Map<String, List<MutationStatusIdPair>> results   = new TreeMap<>();
+  private final Map<String, TestTimeSamples>            durations = new HashMap<>();
+
+  private MappedHistoryFile previous;
+  private CoverageDatabase  coverageData;
+
+  public BinaryHistory(CodeSource code, Optional<Path> input, Optional<Path> output) {
+    this.code = code;
+    this.input = input;
+    this.output = output;
+  }
+
+  @Override
+  public void initialize() {
+    this.input.filter(Files::isRegularFile).ifPresent(file -> {
+      try {
+        this.previous = MappedHistoryFile.open(file);
+      } catch (final IOException e) {
+        LOG.warning("Could not read previous history from " + file + ". " + e.getMessage());
+      }
+    });
+  }
+
+  @Override
+  public void processCoverage(CoverageDatabase coverageData) {
+    this.coverageData = coverageData;
+    final Set<ClassName> allClassNames = this.code.getAllClassAndTestNames();
+    final Map<ClassName, Long> testTimes = TestTimes.byTestClass(allClassNames,
+        coverageData);
+    for (final ClassHash each : this.code.fetchClassHashes(allClassNames)) {
+      final HierarchicalClassId id = each.getHierarchicalId();
+      this.classPath.put(id.getName().asJavaName(), new ClassHistory(id,
+          coverageData.getCoverageIdForClass(id.getName()).toString(16),
+          testTimes.getOrDefault(id.getName(), 0L)));
+    }
+  }
+
+  @Override
+  public synchronized void recordResult(MutationResult result) {
+    final MutationIdentifier id = result.getDetails().getId();
+    this.results.computeIfAbsent(id.getClassName().asJavaName(), k -> new ArrayList<>())
+        .add(new MutationStatusIdPair(id, result.getStatusTestPair()));
+  }
+
+  @Override
+  public List<MutationResult> analyse(List<MutationDetails> mutationsForClasses) {
+    final CodeHistory history;
+    if (this.previous == null) {
+      history = new CodeHistory(this.code, Collections.emptyMap(), Collections.emptyMap());
+    } else {
+      history = new CodeHistory(this.code, this.previous::result,
+          this.previous::classHistory);
+    }
+    final MutationAnalyser analyser = new IncrementalAnalyser(history, this.coverageData);
+    return analyser.analyse(mutationsForClasses);
+  }
+
+  @Override
+  public Optional<DetectionStatus> previousStatus(MutationIdentifier id) {
+    if (this.previous == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(this.previous.result(id))
+        .map(MutationStatusTestPair::getStatus);
+  }
+
+  @Override
+  public Map<ClassName, Long> historicTestTimes() {
+    if (this.previous == null) {
+      return Collections.emptyMap();
+    }
+    return this.previous.testTimes();
+  }
+
+  @Override
+  public Map<String, TestTimeSamples> historicTestDurations() {
+    if (this.previous == null) {
+      return Collections.emptyMap();
+    }
+    return this.previous.durations();
+  }
+
+  @Override
+  public synchronized void recordTestDurations(Map<String, TestTimeSamples> durations) {
+    durations.forEach((test, samples) -> this.durations
+        .computeIfAbsent(test, k -> new TestTimeSamples()).addAll(samples));
+  }
+
+  @Override
+  public synchronized void close() {
+    this.output.ifPresent(this::write);
+  }
+
+  private void write(Path file) {
+    try {
+      if (file.getParent() != null) {
+        Files.createDirectories(file.getParent());
+      }
+      // the previous history may be mapped from the same file, so replace it
+      // only once the new one is complete
+      final Path temp = Files.createTempFile(file.toAbsolutePath().getParent(),
+          "history", ".tmp");
+      try {
+        try (FileChannel channel = FileChannel.open(temp,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+          final ByteBuffer header = writeRecords(channel);
+          channel.write(header, 2 * Integer.BYTES);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private ByteBuffer writeRecords(FileChannel channel) throws IOException {
+    final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+        Channels.newOutputStream(channel), BUFFER_SIZE));
+    out.writeInt(MappedHistoryFile.MAGIC);
+    out.writeInt(MappedHistoryFile.VERSION);
+    out.writeLong(0);
+    out.writeLong(0);
+
+    final StringTable strings = new StringTable();
+
+    final Map<String, Long> offsets = new TreeMap<>();
+    final Set<String> classes = new TreeSet<>(this.classPath.keySet());
+    classes.addAll(this.results.keySet());
+    for (final String each : classes) {
+      offsets.put(each, (long) out.size());
+      writeRecord(out, strings, this.classPath.get(each),
+          this.results.getOrDefault(each, Collections.emptyList()));
+    }
+
+    final long indexOffset = out.size();
+    out.writeInt(offsets.size());
+    for (final Map.Entry<String, Long> each : offsets.entrySet()) {
+      final ClassHistory history = this.classPath.get(each.getKey());
+      out.writeUTF(each.getKey());
+      out.writeLong(each.getValue());
+      out.writeLong(history != null ? history.getTestTime() : 0);
+    }
+
+    writeDurations(out, strings, TestTimes.merge(historicTestDurations(),
+        this.durations));
+
+    final long stringsOffset = out.size();
+    strings.write(out);
+    out.flush();
+
+    final ByteBuffer header = ByteBuffer.allocate(2 * Long.BYTES);
+    header.putLong(indexOffset).putLong(stringsOffset).flip();
+    return header;
+  }
+
+  private static void writeRecord(DataOutputStream out, StringTable strings,
+      ClassHistory history, List<MutationStatusIdPair> results) throws IOException {
+    out.writeBoolean(history != null);
+    if (history != null) {
+      out.writeLong(history.getId().getId().getHash());
+      out.writeUTF(history.getId().getHierarchicalHash());
+      out.writeUTF(history.getCoverageId());
+      out.writeLong(history.getTestTime());
+    }
+
+    out.writeInt(results.size());
+    for (final MutationStatusIdPair each : results) {
+      out.writeInt(strings.ref(each.id.getLocation().getMethodName()));
+      out.writeInt(strings.ref(each.id.getLocation().getMethodDesc()));
+      out.writeInt(each.id.getIndexes().size());
+      for (final int index : each.id.getIndexes()) {
+        out.writeInt(index);
+      }
+      out.writeInt(strings.ref(each.id.getMutator()));
+      out.writeInt(strings.ref(each.status.getStatus().name()));
+      out.writeInt(each.status.getNumberOfTestsRun());
+      writeStrings(out, strings, each.status.getKillingTests());
+      writeStrings(out, strings, each.status.getSucceedingTests());
+      writeStrings(out, strings, each.status.getCoveringTests());
+    }
+  }
+
+  private static void writeDurations(DataOutputStream out, StringTable strings,
+      Map<String, TestTimeSamples> durations) throws IOException {
+    out.writeInt(durations.size());
+    for (final Map.Entry<String, TestTimeSamples> each : new TreeMap<>(durations).entrySet()) {
+      out.writeInt(strings.ref(each.getKey()));
+      writeSamples(out, each.getValue().samples(true));
+      writeSamples(out, each.getValue().samples(false));
+    }
+  }
+
+  private static void writeSamples(DataOutputStream out, long[] samples)
+      throws IOException {
+    out.writeInt(samples.length);
+    for (final long each : samples) {
+      out.writeLong(each);
+    }
+  }
+
+  private static void writeStrings(DataOutputStream out, StringTable strings,
+      Collection<String> values) throws IOException {
+    out.writeInt(values.size());
+    for (final String each : values) {
+      out.writeInt(strings.ref(each));
+    }
+  }
+
+  private static class StringTable {
+    private final Map<String, Integer> refs = new LinkedHashMap<>();
+
+    int ref(String value) {
+      return this.refs.computeIfAbsent(value, k -> this.refs.size());
+    }
+
+    void write(DataOutputStream out) throws IOException {
+      out.writeInt(this.refs.size());
+      for (final String each : this.refs.keySet()) {
+        final byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      }
+    }
+  }
+
+  private static class MutationStatusIdPair {
+    final MutationIdentifier     id;
+    final MutationStatusTestPair status;
+
+    MutationStatusIdPair(MutationIdentifier id, MutationStatusTestPair status) {
+      this.id = id;
+      this.status = status;
+    }
+  }
+
+}
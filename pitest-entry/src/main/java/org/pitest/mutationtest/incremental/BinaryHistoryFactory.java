@@ -0,0 +1,43 @@
+package org.pitest.mutationtest.incremental;
+
+import org.pitest.mutationtest.History;
+import org.pitest.mutationtest.HistoryFactory;
+import org.pitest.mutationtest.HistoryParams;
+import org.pitest.plugin.Feature;
+import org.pitest.util.Unchecked;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Optional;
+
+public class BinaryHistoryFactory implements HistoryFactory {
+    @Override
+    public History makeHistory(HistoryParams params, WriterFactory output, Optional<Reader> input) {
+        // the history file is mapped directly, so the reader is not needed
+        input.ifPresent(BinaryHistoryFactory::close);
+        return new BinaryHistory(params.code(),
+                params.historyInput().map(File::toPath),
+                params.historyOutput().map(File::toPath));
+    }
+
+    @Override
+    public String description() {
+        return "Binary, memory mapped history for large code bases";
+    }
+
+    @Override
+    public Feature provides() {
+        return Feature.named("binary_history")
+                .withOnByDefault(false)
+                .withDescription(description());
+    }
+
+    private static void close(Reader reader) {
+        try {
+            reader.close();
+        } catch (final IOException e) {
+            throw Unchecked.translateCheckedException(e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.pitest.mutationtest.incremental;
 
 import java.math.BigInteger;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.pitest.classinfo.ClassHash;
 import org.pitest.classinfo.ClassHashSource;
@@ -14,12 +15,22 @@ import org.pitest.mutationtest.engine.MutationIdentifier;
 class CodeHistory {
 
   private final ClassHashSource code;
-  private final Map<MutationIdentifier, MutationStatusTestPair> previousResults;
-  private final Map<ClassName, ClassHistory>                    previousClassPath;
+  private final Function<MutationIdentifier, MutationStatusTestPair> previousResults;
+  private final Function<ClassName, ClassHistory>                    previousClassPath;
 
   CodeHistory(final ClassHashSource code,
       final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
       final Map<ClassName, ClassHistory> previousClassPath) {
+    this(code, previousResults::get, previousClassPath::get);
+  }
+
+  /**
+   * Looks up historic data on demand, returning null for unknown
+   * mutants or classes in the same way as a map.
+   */
+  CodeHistory(final ClassHashSource code,
+      final Function<MutationIdentifier, MutationStatusTestPair> previousResults,
+      final Function<ClassName, ClassHistory> previousClassPath) {
     this.code = code;
     this.previousResults = previousResults;
     this.previousClassPath = previousClassPath;
@@ -27,11 +38,11 @@ class CodeHistory {
 
   public Optional<MutationStatusTestPair> getPreviousResult(
       final MutationIdentifier id) {
-    return Optional.ofNullable(this.previousResults.get(id));
+    return Optional.ofNullable(this.previousResults.apply(id));
   }
 
   public boolean hasClassChanged(final ClassName className) {
-    final ClassHistory historic = this.previousClassPath.get(className);
+    final ClassHistory historic = this.previousClassPath.apply(className);
     if (historic == null) {
       return true;
     }
@@ -43,7 +54,7 @@ class CodeHistory {
 
   public boolean hasCoverageChanged(final ClassName className,
       final BigInteger currentCoverage) {
-    return !this.previousClassPath.get(className).getCoverageId()
+    return !this.previousClassPath.apply(className).getCoverageId()
         .equals(currentCoverage.toString(16));
   }
 
@@ -0,0 +1,235 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.StreamUtil;
+
+/**
+ * Read side of the binary history format. Only the index is decoded when the
+ * file is opened, class records are decoded from the mapped file the first time
+ * they are asked for.
+ */
+final class MappedHistoryFile {
+
+  static final int MAGIC   = 0x50495448;
+  static final int VERSION = 3;
+
+  private final ByteBuffer buffer;
+  private final Strings    strings;
+  private final String[]   names;
+  private final int[]      offsets;
+  private final long[]     testTimes;
+  private final Map<String, TestTimeSamples> durations;
+
+  private final Map<String, Optional<ClassRecord>> decoded = new ConcurrentHashMap<>();
+
+  private MappedHistoryFile(ByteBuffer buffer, Strings strings, String[] names,
+      int[] offsets, long[] testTimes, Map<String, TestTimeSamples> durations) {
+    this.buffer = buffer;
+    this.strings = strings;
+    this.names = names;
+    this.offsets = offsets;
+    this.testTimes = testTimes;
+    this.durations = durations;
+  }
+
+  static MappedHistoryFile open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("History file " + file + " is too large to map");
+      }
+      // the mapping remains valid once the channel is closed
+      final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+          channel.size());
+      if (buffer.getInt() != MAGIC) {
+        throw new IOException(file + " is not a binary history file");
+      }
+      if (buffer.getInt() != VERSION) {
+        throw new IOException(file + " was written by a different version");
+      }
+      final int indexOffset = (int) buffer.getLong();
+      final Strings strings = readStringTable(inputAt(buffer, (int) buffer.getLong()));
+
+      final DataInputStream index = inputAt(buffer, indexOffset);
+      final int classes = index.readInt();
+      final String[] names = new String[classes];
+      final int[] offsets = new int[classes];
+      final long[] testTimes = new long[classes];
+      for (int i = 0; i != classes; i++) {
+        names[i] = index.readUTF();
+        // the file is known to be smaller than 2GB
+        offsets[i] = (int) index.readLong();
+        testTimes[i] = index.readLong();
+      }
+      final Map<String, TestTimeSamples> durations = readDurations(index, strings);
+      return new MappedHistoryFile(buffer, strings, names, offsets, testTimes,
+          durations);
+    }
+  }
+
+  int size() {
+    return this.names.length;
+  }
+
+  Map<ClassName, Long> testTimes() {
+    final Map<ClassName, Long> times = new HashMap<>();
+    for (int i = 0; i != this.names.length; i++) {
+      if (this.testTimes[i] > 0) {
+        times.put(ClassName.fromString(this.names[i]), this.testTimes[i]);
+      }
+    }
+    return times;
+  }
+
+  Map<String, TestTimeSamples> durations() {
+    return this.durations;
+  }
+
+  ClassHistory classHistory(ClassName clazz) {
+    return find(clazz).map(r -> r.history).orElse(null);
+  }
+
+  MutationStatusTestPair result(MutationIdentifier id) {
+    return find(id.getClassName()).map(r -> r.results.get(id)).orElse(null);
+  }
+
+  private Optional<ClassRecord> find(ClassName clazz) {
+    return this.decoded.computeIfAbsent(clazz.asJavaName(), this::decode);
+  }
+
+  private Optional<ClassRecord> decode(String name) {
+    final int i = Arrays.binarySearch(this.names, name);
+    if (i < 0) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(readRecord(ClassName.fromString(name),
+          inputAt(this.buffer, this.offsets[i]), this.strings));
+    } catch (final IOException e) {
+      throw new IllegalStateException("Corrupt history record for " + name, e);
+    }
+  }
+
+  private static ClassRecord readRecord(ClassName clazz, DataInputStream in,
+      Strings strings) throws IOException {
+    ClassHistory history = null;
+    if (in.readBoolean()) {
+      final long hash = in.readLong();
+      final String hierarchicalHash = in.readUTF();
+      final String coverageId = in.readUTF();
+      final long testTime = in.readLong();
+      history = new ClassHistory(new HierarchicalClassId(
+          new ClassIdentifier(hash, clazz), hierarchicalHash), coverageId, testTime);
+    }
+
+    final int count = in.readInt();
+    final Map<MutationIdentifier, MutationStatusTestPair> results = new HashMap<>(count * 2);
+    for (int i = 0; i != count; i++) {
+      final Location location = Location.location(clazz, strings.read(in),
+          strings.read(in));
+      final int indexCount = in.readInt();
+      final List<Integer> indexes = new ArrayList<>(indexCount);
+      for (int j = 0; j != indexCount; j++) {
+        indexes.add(in.readInt());
+      }
+      final MutationIdentifier id = new MutationIdentifier(location, indexes,
+          strings.read(in));
+      final DetectionStatus status = DetectionStatus.valueOf(strings.read(in));
+      final int testsRun = in.readInt();
+      results.put(id, new MutationStatusTestPair(testsRun, status,
+          readStrings(in, strings), readStrings(in, strings),
+          readStrings(in, strings)));
+    }
+    return new ClassRecord(history, results);
+  }
+
+  private static Map<String, TestTimeSamples> readDurations(DataInputStream in,
+      Strings strings) throws IOException {
+    final int count = in.readInt();
+    final Map<String, TestTimeSamples> durations = new HashMap<>(count * 2);
+    for (int i = 0; i != count; i++) {
+      final String test = strings.read(in);
+      final TestTimeSamples samples = new TestTimeSamples();
+      readSamples(in, samples, true);
+      readSamples(in, samples, false);
+      durations.put(test, samples);
+    }
+    return durations;
+  }
+
+  private static void readSamples(DataInputStream in, TestTimeSamples samples,
+      boolean firstRun) throws IOException {
+    final int count = in.readInt();
+    for (int i = 0; i != count; i++) {
+      samples.add(firstRun, in.readLong());
+    }
+  }
+
+  private static List<String> readStrings(DataInputStream in, Strings strings)
+      throws IOException {
+    final int count = in.readInt();
+    if (count == 0) {
+      return Collections.emptyList();
+    }
+    final List<String> values = new ArrayList<>(count);
+    for (int i = 0; i != count; i++) {
+      values.add(strings.read(in));
+    }
+    return values;
+  }
+
+  private static Strings readStringTable(DataInputStream in) throws IOException {
+    final String[] table = new String[in.readInt()];
+    for (int i = 0; i != table.length; i++) {
+      final byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      table[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return ref -> table[ref.readInt()];
+  }
+
+  private static DataInputStream inputAt(ByteBuffer buffer, int offset) {
+    final ByteBuffer view = buffer.duplicate();
+    view.position(offset);
+    return new DataInputStream(StreamUtil.asInputStream(view));
+  }
+
+  private interface Strings {
+    String read(DataInputStream in) throws IOException;
+  }
+
+  private static class ClassRecord {
+    final ClassHistory                                   history;
+    final Map<MutationIdentifier, MutationStatusTestPair> results;
+
+    ClassRecord(ClassHistory history,
+        Map<MutationIdentifier, MutationStatusTestPair> results) {
+      this.history = history;
+      this.results = results;
+    }
+  }
+
+}
@@ -26,10 +26,12 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.History;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.Log;
@@ -45,6 +47,8 @@ public class ObjectOutputStreamHistory implements History {
   private final BufferedReader                                  input;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<>();
   private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
+  private final Map<String, TestTimeSamples>                    previousDurations = new HashMap<>();
+  private final Map<String, TestTimeSamples>                    durations         = new HashMap<>();
   private CoverageDatabase coverageData;
 
   public ObjectOutputStreamHistory(CodeSource code, WriterFactory output,
@@ -75,8 +79,33 @@ public class ObjectOutputStreamHistory implements History {
   }
 
   @Override
-  public void close() {
+  public Optional<DetectionStatus> previousStatus(MutationIdentifier id) {
+    return Optional.ofNullable(this.previousResults.get(id))
+        .map(MutationStatusTestPair::getStatus);
+  }
+
+  @Override
+  public synchronized void recordTestDurations(Map<String, TestTimeSamples> durations) {
+    durations.forEach((test, samples) -> this.durations
+        .computeIfAbsent(test, k -> new TestTimeSamples()).addAll(samples));
+  }
 
+  @Override
+  public Map<String, TestTimeSamples> historicTestDurations() {
+    return this.previousDurations;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (this.previousDurations.isEmpty() && this.durations.isEmpty()) {
+      return;
+    }
+    // written last, so older versions that cannot read it lose no results
+    final Map<String, TestTimeSamples> merged = TestTimes.merge(this.previousDurations,
+        this.durations);
+    final PrintWriter output = this.outputFactory.create();
+    output.println(serialize(new TestDurations(merged)));
+    output.flush();
   }
 
   @Override
@@ -92,6 +121,13 @@ public class ObjectOutputStreamHistory implements History {
     }
   }
 
+  @Override
+  public Map<ClassName, Long> historicTestTimes() {
+    return this.previousClassPath.values().stream()
+            .filter(c -> c.getTestTime() > 0)
+            .collect(Collectors.toMap(ClassHistory::getName, ClassHistory::getTestTime));
+  }
+
   @Override
   public void processCoverage(CoverageDatabase coverageData) {
     this.coverageData = coverageData;
@@ -107,24 +143,32 @@ public class ObjectOutputStreamHistory implements History {
             .sorted(Comparator.comparing(HierarchicalClassId::getName))
             .collect(Collectors.toList());
 
+    final Map<ClassName, Long> testTimes = TestTimes.byTestClass(allClassNames,
+        coverageData);
+
     final PrintWriter output = this.outputFactory.create();
     output.println(ids.size());
     for (final HierarchicalClassId each : ids) {
       final ClassHistory coverage = new ClassHistory(each,
-              coverageData.getCoverageIdForClass(each.getName()).toString(16));
+              coverageData.getCoverageIdForClass(each.getName()).toString(16),
+              testTimes.getOrDefault(each.getName(), 0L));
       output.println(serialize(coverage));
     }
     output.flush();
   }
 
-
   private void restoreResults() {
     String line;
     try {
       line = this.input.readLine();
       while (line != null) {
-        final IdResult result = deserialize(line, IdResult.class);
-        this.previousResults.put(result.id, result.status);
+        final Object entry = deserialize(line, Object.class);
+        if (entry instanceof TestDurations) {
+          this.previousDurations.putAll(((TestDurations) entry).durations);
+        } else {
+          final IdResult result = (IdResult) entry;
+          this.previousResults.put(result.id, result.status);
+        }
         line = this.input.readLine();
       }
     } catch (final Exception e) {
@@ -177,6 +221,16 @@ public class ObjectOutputStreamHistory implements History {
     return this.previousResults;
   }
 
+  private static class TestDurations implements Serializable {
+    private static final long                 serialVersionUID = 1L;
+    final HashMap<String, TestTimeSamples>    durations;
+
+    TestDurations(final Map<String, TestTimeSamples> durations) {
+      this.durations = new HashMap<>(durations);
+    }
+
+  }
+
   private static class IdResult implements Serializable {
     private static final long    serialVersionUID = 1L;
     final MutationIdentifier     id;
@@ -0,0 +1,52 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.TestTimeSamples;
+
+/**
+ * Test timings shared by the history stores.
+ */
+final class TestTimes {
+
+  private TestTimes() {
+  }
+
+  /**
+   * @return total time of the tests defined in each test class that covers any
+   *         of the given classes
+   */
+  static Map<ClassName, Long> byTestClass(Set<ClassName> classes,
+      CoverageDatabase coverageData) {
+    // a test covering several classes is reported once per class, so dedupe by name
+    final Map<String, TestInfo> tests = new HashMap<>();
+    for (final ClassName each : classes) {
+      for (final TestInfo test : coverageData.getTestsForClass(each)) {
+        tests.putIfAbsent(test.getName(), test);
+      }
+    }
+    return tests.values().stream()
+            .collect(Collectors.groupingBy(TestInfo.toDefiningClassName(),
+                    Collectors.summingLong(TestInfo::getTime)));
+  }
+
+  /**
+   * @return samples from both runs, combined per test
+   */
+  static Map<String, TestTimeSamples> merge(Map<String, TestTimeSamples> previous,
+      Map<String, TestTimeSamples> current) {
+    final Map<String, TestTimeSamples> merged = new HashMap<>();
+    previous.forEach((test, samples) -> merged
+        .computeIfAbsent(test, k -> new TestTimeSamples()).addAll(samples));
+    current.forEach((test, samples) -> merged
+        .computeIfAbsent(test, k -> new TestTimeSamples()).addAll(samples));
+    return merged;
+  }
+
+}
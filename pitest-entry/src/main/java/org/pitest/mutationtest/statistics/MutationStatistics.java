@@ -20,6 +20,7 @@ import java.io.PrintStream;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.pitest.util.PercentageCalculator.getPercentage;
@@ -32,6 +33,8 @@ public final class MutationStatistics {
   private final long totalWithCoverage;
 
   private final Set<ClassName> mutatedClasses;
+  private final Optional<ScoreEstimate> estimate;
+  private final long totalNotAnalysed;
 
   public MutationStatistics(Iterable<Score> scores,
                             long totalMutations,
@@ -39,12 +42,37 @@ public final class MutationStatistics {
                             long totalWithCoverage,
                             long numberOfTestsRun,
                             Set<ClassName> mutatedClasses) {
+    this(scores, totalMutations, totalDetected, totalWithCoverage, numberOfTestsRun,
+        mutatedClasses, Optional.empty());
+  }
+
+  public MutationStatistics(Iterable<Score> scores,
+                            long totalMutations,
+                            long totalDetected,
+                            long totalWithCoverage,
+                            long numberOfTestsRun,
+                            Set<ClassName> mutatedClasses,
+                            Optional<ScoreEstimate> estimate) {
+    this(scores, totalMutations, totalDetected, totalWithCoverage, numberOfTestsRun,
+        mutatedClasses, estimate, 0);
+  }
+
+  public MutationStatistics(Iterable<Score> scores,
+                            long totalMutations,
+                            long totalDetected,
+                            long totalWithCoverage,
+                            long numberOfTestsRun,
+                            Set<ClassName> mutatedClasses,
+                            Optional<ScoreEstimate> estimate,
+                            long totalNotAnalysed) {
     this.scores = scores;
     this.totalMutations = totalMutations;
     this.totalDetected = totalDetected;
     this.numberOfTestsRun = numberOfTestsRun;
     this.totalWithCoverage = totalWithCoverage;
     this.mutatedClasses = mutatedClasses;
+    this.estimate = estimate;
+    this.totalNotAnalysed = totalNotAnalysed;
   }
 
   public Iterable<Score> getScores() {
@@ -75,6 +103,17 @@ public final class MutationStatistics {
     return getTotalMutations() - getTotalDetectedMutations();
   }
 
+  /**
+   * Returns the number of mutants that were not analysed, either because the
+   * time budget ran out before they were started or because this was a dry
+   * run. These are included in the total and counted as surviving.
+   *
+   * @return number of mutants not analysed
+   */
+  public long getTotalNotAnalysedMutations() {
+    return this.totalNotAnalysed;
+  }
+
   public Set<ClassName> mutatedClasses() {
     return mutatedClasses;
   }
@@ -83,6 +122,29 @@ public final class MutationStatistics {
     return getPercentage(getTotalMutations(), getTotalDetectedMutations());
   }
 
+  /**
+   * Returns the estimated score of all mutants when only a sample of them was
+   * run.
+   *
+   * @return the estimate, or empty if every mutant was run
+   */
+  public Optional<ScoreEstimate> getEstimate() {
+    return this.estimate;
+  }
+
+  /**
+   * Returns the score to compare against a mutation threshold. When only a
+   * sample of mutants was run this is the upper bound of the estimated score,
+   * so a threshold is failed only when the score is below it with 95%
+   * confidence.
+   *
+   * @return percentage of mutants detected
+   */
+  public int getPercentageDetectedForThreshold() {
+    return this.estimate.map(ScoreEstimate::getUpperBound)
+        .orElse(getPercentageDetected());
+  }
+
   public void report(final PrintStream out) {
     out.println(">> Generated " + this.getTotalMutations()
         + " mutations Killed " + this.getTotalDetectedMutations() + " ("
@@ -91,6 +153,11 @@ public final class MutationStatistics {
             + ". Test strength " + this.getTestStrength() + "%");
     out.println(">> Ran " + this.numberOfTestsRun + " tests ("
         + getTestsPerMutation() + " tests per mutation)");
+    this.estimate.ifPresent(e -> e.report(out));
+    if (this.totalNotAnalysed != 0) {
+      out.println(">> " + this.totalNotAnalysed
+          + " mutations not analysed. These are counted as surviving");
+    }
 
     out.println("Enhanced functionality available at https://www.arcmutate.com/");
   }
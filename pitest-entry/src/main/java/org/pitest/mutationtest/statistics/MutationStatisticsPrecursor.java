@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -11,12 +12,16 @@ import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 
 class MutationStatisticsPrecursor {
   private final Map<String, ScorePrecursor> mutatorTotalMap  = new HashMap<>();
   private final Set<ClassName> mutatedClasses = new HashSet<>();
   private long                              numberOfTestsRun = 0;
+  private final Map<String, ScoreEstimate.Stratum> strata = new HashMap<>();
+  private boolean sampled = false;
+  private long                              notAnalysed = 0;
 
   public void registerResults(final Collection<MutationResult> results) {
     results.forEach(register());
@@ -42,17 +47,33 @@ class MutationStatisticsPrecursor {
         MutationStatisticsPrecursor.this.mutatorTotalMap.put(key, total);
       }
       total.registerResult(mr.getStatus());
+      if (mr.getStatus() == DetectionStatus.NOT_STARTED) {
+        MutationStatisticsPrecursor.this.notAnalysed++;
+      }
+      registerStratum(mr);
     };
   }
 
+  private void registerStratum(MutationResult mr) {
+    final double weight = mr.getDetails().getSamplingWeight();
+    final String key = mr.getDetails().getClassName().asJavaName() + " "
+        + mr.getDetails().getMutator() + " " + weight;
+    this.strata.computeIfAbsent(key, k -> new ScoreEstimate.Stratum(weight))
+        .register(mr.getStatus().isDetected());
+    this.sampled = this.sampled || weight != 1;
+  }
+
   public MutationStatistics toStatistics() {
     final Iterable<Score> scores = getScores();
     final long totalMutations = FCollection.fold(addTotals(), 0L, scores);
     final long totalDetected = FCollection
         .fold(addDetectedTotals(), 0L, scores);
     final long totalWithCoverage = FCollection.fold(addCoveredTotals(), 0L, scores);
+    final Optional<ScoreEstimate> estimate = this.sampled
+        ? Optional.of(ScoreEstimate.fromStrata(this.strata.values()))
+        : Optional.empty();
     return new MutationStatistics(scores, totalMutations, totalDetected, totalWithCoverage,
-        this.numberOfTestsRun, mutatedClasses());
+        this.numberOfTestsRun, mutatedClasses(), estimate, this.notAnalysed);
   }
 
   Iterable<Score> getScores() {
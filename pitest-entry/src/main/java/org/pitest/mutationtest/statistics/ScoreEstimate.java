@@ -0,0 +1,105 @@
+package org.pitest.mutationtest.statistics;
+
+import java.io.PrintStream;
+import java.util.Collection;
+
+/**
+ * Mutation score of all mutants estimated from a stratified sample, with a 95%
+ * confidence interval.
+ *
+ * The spread within each stratum is estimated from the Agresti-Coull adjusted
+ * proportion, as the sample proportion gives no spread at all for strata in
+ * which every, or no, sampled mutant was detected.
+ */
+public final class ScoreEstimate {
+
+  private static final double Z_95    = 1.96;
+
+  // guards the bounds against rounding errors when the margin is zero
+  private static final double EPSILON = 1e-9;
+
+  private final long   sampled;
+  private final long   population;
+  private final double detected;
+  private final double margin;
+
+  ScoreEstimate(long sampled, long population, double detected, double margin) {
+    this.sampled = sampled;
+    this.population = population;
+    this.detected = detected;
+    this.margin = margin;
+  }
+
+  static ScoreEstimate fromStrata(Collection<Stratum> strata) {
+    long sampled = 0;
+    double population = 0;
+    double detected = 0;
+    double variance = 0;
+    for (final Stratum each : strata) {
+      final double size = each.weight * each.sampled;
+      final double p = each.detected / (double) each.sampled;
+      sampled = sampled + each.sampled;
+      population = population + size;
+      detected = detected + (size * p);
+      if (each.sampled < size) {
+        final double adjustedSampled = each.sampled + (Z_95 * Z_95);
+        final double adjusted = (each.detected + ((Z_95 * Z_95) / 2)) / adjustedSampled;
+        final double spread = adjusted * (1 - adjusted);
+        variance = variance + ((size * size * (1 - (each.sampled / size)) * spread) / adjustedSampled);
+      }
+    }
+    if (population == 0) {
+      return new ScoreEstimate(0, 0, 1, 0);
+    }
+    return new ScoreEstimate(sampled, Math.round(population), detected / population,
+        (Z_95 * Math.sqrt(variance)) / population);
+  }
+
+  public long getSampledMutations() {
+    return this.sampled;
+  }
+
+  public long getEstimatedMutations() {
+    return this.population;
+  }
+
+  public int getPercentageDetected() {
+    return (int) Math.round(this.detected * 100);
+  }
+
+  public int getLowerBound() {
+    return (int) Math.max(0, Math.floor(((this.detected - this.margin) * 100) + EPSILON));
+  }
+
+  public int getUpperBound() {
+    return (int) Math.min(100, Math.ceil(((this.detected + this.margin) * 100) - EPSILON));
+  }
+
+  public void report(final PrintStream out) {
+    out.println(">> Sampled " + this.sampled + " of about " + this.population
+        + " mutations. Estimated score " + getPercentageDetected()
+        + "% (95% confidence interval " + getLowerBound() + "% to "
+        + getUpperBound() + "%)");
+  }
+
+  /**
+   * Mutants of one class and mutator sampled at the same rate
+   */
+  static final class Stratum {
+    private final double weight;
+    private long         sampled;
+    private long         detected;
+
+    Stratum(double weight) {
+      this.weight = weight;
+    }
+
+    void register(boolean isDetected) {
+      this.sampled++;
+      if (isDetected) {
+        this.detected++;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,135 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.pitest.util.PercentageCalculator.getPercentage;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.Log;
+
+/**
+ * Tracks the best and worst scores that could still be achieved as results
+ * arrive, so a run can be ended once the mutation threshold, test strength
+ * threshold and maximum survivor checks can no longer change.
+ *
+ * The run is decided as soon as any check is certain to fail, or once every
+ * configured check is certain to pass. Mutants that are not analysed should
+ * be reported as surviving, which leaves the outcome of each check unchanged.
+ */
+public class ThresholdListener implements MutationResultListener {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final int  mutationThreshold;
+  private final int  testStrengthThreshold;
+  private final long maxSurvivors;
+  private final long totalMutations;
+
+  private long seen;
+  private long detected;
+  private long covered;
+
+  private Optional<String> decision = Optional.empty();
+
+  /**
+   * @param mutationThreshold     threshold for the mutation score, 0 if none
+   * @param testStrengthThreshold threshold for test strength, 0 if none
+   * @param maxSurvivors          maximum surviving mutants, negative if none
+   * @param totalMutations        number of results expected for the run
+   */
+  public ThresholdListener(int mutationThreshold, int testStrengthThreshold,
+      long maxSurvivors, long totalMutations) {
+    this.mutationThreshold = mutationThreshold;
+    this.testStrengthThreshold = testStrengthThreshold;
+    this.maxSurvivors = maxSurvivors;
+    this.totalMutations = totalMutations;
+  }
+
+  public boolean hasThresholds() {
+    return this.mutationThreshold != 0 || this.testStrengthThreshold != 0
+        || this.maxSurvivors >= 0;
+  }
+
+  public boolean isDecided() {
+    return this.decision.isPresent();
+  }
+
+  /**
+   * @return description of why the run could be ended, if it can
+   */
+  public Optional<String> decision() {
+    return this.decision;
+  }
+
+  @Override
+  public void runStart() {
+
+  }
+
+  @Override
+  public void handleMutationResult(ClassMutationResults results) {
+    for (final MutationResult each : results.getMutations()) {
+      this.seen++;
+      if (each.getStatus().isDetected()) {
+        this.detected++;
+      }
+      if (each.getStatus() != DetectionStatus.NO_COVERAGE) {
+        this.covered++;
+      }
+    }
+
+    if (!isDecided() && hasThresholds()) {
+      this.decision = decide();
+      this.decision.ifPresent(d -> LOG.info(d + ". Ending run early."));
+    }
+  }
+
+  @Override
+  public void runEnd() {
+
+  }
+
+  private Optional<String> decide() {
+    final long remaining = Math.max(0, this.totalMutations - this.seen);
+    if (remaining == 0) {
+      return Optional.empty();
+    }
+    final long total = this.seen + remaining;
+    final long survived = this.seen - this.detected;
+
+    if (this.mutationThreshold != 0
+        && getPercentage(total, total - survived) < this.mutationThreshold) {
+      return Optional.of("Mutation threshold of " + this.mutationThreshold
+          + "% can no longer be met");
+    }
+
+    if (this.testStrengthThreshold != 0
+        && getPercentage(this.covered + remaining, this.detected + remaining) < this.testStrengthThreshold) {
+      return Optional.of("Test strength threshold of " + this.testStrengthThreshold
+          + "% can no longer be met");
+    }
+
+    if (this.maxSurvivors >= 0 && survived > this.maxSurvivors) {
+      return Optional.of("More than " + this.maxSurvivors
+          + " mutants have survived");
+    }
+
+    final boolean scoreMet = this.mutationThreshold == 0
+        || getPercentage(total, this.detected) >= this.mutationThreshold;
+    final boolean strengthMet = this.testStrengthThreshold == 0
+        || getPercentage(this.covered + remaining, this.detected) >= this.testStrengthThreshold;
+    final boolean survivorsMet = this.maxSurvivors < 0
+        || survived + remaining <= this.maxSurvivors;
+
+    if (scoreMet && strengthMet && survivorsMet) {
+      return Optional.of("All thresholds are certain to be met");
+    }
+
+    return Optional.empty();
+  }
+
+}
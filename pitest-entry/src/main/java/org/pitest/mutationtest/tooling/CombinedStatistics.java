@@ -13,12 +13,22 @@ public class CombinedStatistics {
 
   private final List<BuildMessage> issues;
 
+  private final boolean            earlyTerminated;
+
   public CombinedStatistics(MutationStatistics mutationStatistics,
                             CoverageSummary coverageSummary,
                             List<BuildMessage> issues) {
+    this(mutationStatistics, coverageSummary, issues, false);
+  }
+
+  public CombinedStatistics(MutationStatistics mutationStatistics,
+                            CoverageSummary coverageSummary,
+                            List<BuildMessage> issues,
+                            boolean earlyTerminated) {
     this.mutationStatistics = mutationStatistics;
     this.coverageSummary = coverageSummary;
     this.issues = issues;
+    this.earlyTerminated = earlyTerminated;
   }
 
   public MutationStatistics getMutationStatistics() {
@@ -33,4 +43,12 @@ public class CombinedStatistics {
     return issues;
   }
 
+  /**
+   * When true the run was ended once the outcome of the thresholds was
+   * certain. Mutants not analysed are reported as not started.
+   */
+  public boolean isEarlyTerminated() {
+    return this.earlyTerminated;
+  }
+
 }
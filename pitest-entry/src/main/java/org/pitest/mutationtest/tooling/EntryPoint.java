@@ -1,10 +1,12 @@
 package org.pitest.mutationtest.tooling;
 
+import org.pitest.classpath.ArchiveHandles;
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageStore;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
 import org.pitest.mutationtest.History;
@@ -77,6 +79,18 @@ public class EntryPoint {
    */
   public AnalysisResult execute(File baseDir, ReportOptions data,
       SettingsFactory settings, Map<String, String> environmentVariables) {
+    return execute(baseDir, data, settings, environmentVariables, new Timings());
+  }
+
+  /**
+   * Entry point for tools that measure the run
+   *
+   * @param timings
+   *          records the time spent in each stage of the run
+   */
+  public AnalysisResult execute(File baseDir, ReportOptions data,
+      SettingsFactory settings, Map<String, String> environmentVariables,
+      Timings timings) {
 
     updateData(data, settings);
 
@@ -115,10 +129,11 @@ public class EntryPoint {
 
     final CodeSource code = settings.createCodeSource(cps);
 
-    final Timings timings = new Timings();
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, data.getVerbosity());
+        settings.createCoverageExporter(), timings, data.getVerbosity(),
+        data.getCoverageMinions(), data.isCompactCoverage(),
+        createCoverageStore(data, code, coverageOptions));
 
     final Optional<WriterFactory> maybeWriter = data.createHistoryWriter();
     WriterFactory historyWriter = maybeWriter.orElse(new NullWriterFactory());
@@ -138,13 +153,37 @@ public class EntryPoint {
     } catch (final IOException e) {
       return AnalysisResult.fail(e);
     } finally {
+      code.flushCache();
       jac.close();
       ja.close();
       historyWriter.close();
+      ArchiveHandles.shared().closeAll();
     }
 
   }
 
+  private static CoverageStore createCoverageStore(ReportOptions data,
+      CodeSource code, CoverageOptions coverageOptions) {
+    if (!data.isIncrementalCoverage()) {
+      return CoverageStore.none();
+    }
+    // coverage is stored in a file alongside the history. Resources and
+    // dependency archives are part of the configuration as tests may read any
+    // of them.
+    final String classPath = code.getClassPath().getLocalClassPath();
+    return new CoverageStore(coverageFile(data.getHistoryInputLocation()),
+        coverageFile(data.getHistoryOutputLocation()), code,
+        CoverageStore.configuration(coverageOptions, classPath,
+            CoverageStore.resources(classPath), CoverageStore.archives(classPath)));
+  }
+
+  private static File coverageFile(File history) {
+    if (history == null) {
+      return null;
+    }
+    return new File(history.getPath() + ".coverage");
+  }
+
   private List<String> createJvmArgs(ReportOptions data) {
     List<String> args = new ArrayList<>(data.getJvmArgs());
     args.addAll(ArgLineParser.split(data.getArgLine()));
@@ -162,7 +201,8 @@ public class EntryPoint {
     }
     FeatureParser parser = new FeatureParser();
     FeatureSelector select = new FeatureSelector(parser.parseFeatures(data.getFeatures()), singletonList(factory));
-    return factory.makeHistory(new HistoryParams(select, code), historyWriter.orElse(new NullWriterFactory()), reader);
+    HistoryParams params = new HistoryParams(select, code, data.getHistoryInputLocation(), data.getHistoryOutputLocation());
+    return factory.makeHistory(params, historyWriter.orElse(new NullWriterFactory()), reader);
   }
 
   private void checkMatrixMode(ReportOptions data) {
@@ -33,6 +33,12 @@ import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultInterceptor;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.AdaptiveTimeoutStrategy;
+import org.pitest.mutationtest.build.CompoundMutationInterceptor;
+import org.pitest.mutationtest.build.DiscoveredMutants;
+import org.pitest.mutationtest.build.DuplicateMutants;
+import org.pitest.mutationtest.build.MutantCache;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
@@ -41,15 +47,19 @@ import org.pitest.mutationtest.build.MutationTestBuilder;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
 import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
+import org.pitest.mutationtest.build.WorkerSettings;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.Deadline;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
 import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.NullHistory;
 import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
+import org.pitest.mutationtest.statistics.ThresholdListener;
 import org.pitest.mutationtest.statistics.Score;
 import org.pitest.mutationtest.verify.BuildMessage;
 import org.pitest.util.Log;
@@ -66,12 +76,14 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class MutationCoverage {
 
@@ -86,6 +98,9 @@ public class MutationCoverage {
   private final File               baseDir;
   private final SettingsFactory    settings;
 
+  // mutants found to be identical to another, shared by every discovery thread
+  private final DuplicateMutants   duplicates = new DuplicateMutants();
+
   public MutationCoverage(final MutationStrategies strategies,
       final File baseDir, final CodeSource code, final ReportOptions data,
       final SettingsFactory settings, final Timings timings) {
@@ -113,6 +128,7 @@ public class MutationCoverage {
         + " mb");
 
     final long t0 = System.nanoTime();
+    final Deadline deadline = deadline();
 
     List<BuildMessage> issues = verifyBuildSuitableForMutationTesting();
 
@@ -123,7 +139,8 @@ public class MutationCoverage {
             .withMutators(this.data.getMutators());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
-    List<MutationAnalysisUnit> preScanMutations = findMutations(engine, args);
+    final DiscoveredMutants discovered = new DiscoveredMutants();
+    List<MutationAnalysisUnit> preScanMutations = findMutations(engine, args, discovered);
     LOG.info("Created " + preScanMutations.size() + " mutation test units in pre scan");
 
     // throw error if configured to do so
@@ -142,8 +159,16 @@ public class MutationCoverage {
             .flatMap(unit -> unit.mutants().stream())
             .collect(Collectors.toList());
 
-    return runAnalysis(runtime, t0, args, engine, issues, unfilteredMutants);
+    return runAnalysis(runtime, t0, deadline, args, engine, issues, unfilteredMutants, discovered);
+
+  }
 
+  private Deadline deadline() {
+    if (this.data.getTimeBudgetSeconds() <= 0) {
+      return Deadline.none();
+    }
+    return Deadline.at(System.currentTimeMillis()
+        + SECONDS.toMillis(this.data.getTimeBudgetSeconds()));
   }
 
   private CombinedStatistics emptyStatistics() {
@@ -151,11 +176,14 @@ public class MutationCoverage {
     return new CombinedStatistics(mutationStatistics, new CoverageSummary(0,0, 0), Collections.emptyList());
   }
 
-  private CombinedStatistics runAnalysis(Runtime runtime, long t0, EngineArguments args, MutationEngine engine, List<BuildMessage> issues, List<MutationDetails> unfilteredMutants) {
+  private CombinedStatistics runAnalysis(Runtime runtime, long t0, Deadline deadline, EngineArguments args, MutationEngine engine, List<BuildMessage> issues, List<MutationDetails> unfilteredMutants,
+      DiscoveredMutants discovered) {
     History history = this.strategies.history();
     history.initialize();
 
-    CoverageDatabase coverageData = coverage().calculateCoverage(history.limitTests(unfilteredMutants));
+    CoverageDatabase coverageData = coverage().calculateCoverage(history.limitTests(unfilteredMutants)
+            .and(interceptorsLimitTests(unfilteredMutants)),
+        history.historicTestTimes());
     history.processCoverage(coverageData);
 
     LOG.fine("Used memory after coverage calculation "
@@ -164,9 +192,13 @@ public class MutationCoverage {
         + (runtime.freeMemory() / MB) + " mb");
 
 
+    final MinionPool pool = createMinionPool();
+    final MutantCache mutantCache = createMutantCache(args);
+
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData, history,
-            engine, args, allInterceptors());
+            engine, args, allInterceptors(), pool, mutantCache, discovered, deadline);
+    mutantCache.prepare(tus);
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created " + tus.size() + " mutation test units" );
@@ -181,23 +213,63 @@ public class MutationCoverage {
     final List<MutationResultListener> config = createConfig(t0, modifiedCoverage, history,
                 stats, engine, issues);
 
+    final Optional<ThresholdListener> thresholds = thresholdListener(tus);
+    thresholds.ifPresent(config::add);
+
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
-        numberOfThreads(), resultInterceptor(), config);
+        numberOfThreads(), resultInterceptor(), config, this.duplicates,
+        () -> thresholds.map(ThresholdListener::isDecided).orElse(false));
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
+    try {
+      mae.run(tus);
+    } finally {
+      if (pool != null) {
+        pool.close();
+      }
+    }
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+    if (mae.duplicatesNotRun() != 0) {
+      this.timings.registerSaving("not running " + mae.duplicatesNotRun()
+          + " duplicate mutants", mae.duplicateMillisSaved());
+    }
 
     LOG.info("Completed in " + timeSpan(t0));
 
     MutationStatistics mutationStats = stats.getStatistics();
     CombinedStatistics combined = new CombinedStatistics(mutationStats,
-            createSummary(coverageData.testCount(), modifiedCoverage, mutationStats.mutatedClasses()), issues);
+            createSummary(coverageData.testCount(), modifiedCoverage, mutationStats.mutatedClasses()), issues,
+            mae.terminatedEarly());
 
     printStats(combined);
 
     return combined;
   }
 
+  private Optional<ThresholdListener> thresholdListener(List<MutationAnalysisUnit> tus) {
+    if (!this.data.isEarlyTermination()) {
+      return Optional.empty();
+    }
+
+    final List<MutationDetails> mutants = tus.stream()
+        .flatMap(unit -> unit.mutants().stream())
+        .collect(Collectors.toList());
+    if (mutants.stream().anyMatch(m -> m.getSamplingWeight() != 1)) {
+      LOG.warning("Early termination is not available when sampling mutants");
+      return Optional.empty();
+    }
+
+    final long total = mutants.stream()
+        .mapToLong(m -> 1 + this.duplicates.of(m).size())
+        .sum();
+    final ThresholdListener listener = new ThresholdListener(this.data.getMutationThreshold(),
+        this.data.getTestStrengthThreshold(), this.data.getMaximumAllowedSurvivors(), total);
+    if (!listener.hasThresholds()) {
+      LOG.warning("Early termination requested, but no mutation threshold, test strength threshold or maximum survivors set");
+      return Optional.empty();
+    }
+    return Optional.of(listener);
+  }
+
   private ReportCoverage transformCoverage(ReportCoverage coverageData) {
     // cosmetic changes to coverage are made only after tests are assigned to
     // mutants to ensure they cannot affect results.
@@ -225,19 +297,34 @@ public class MutationCoverage {
     return i -> true;
   }
 
-  private List<MutationAnalysisUnit> findMutations(MutationEngine engine, EngineArguments args) {
+  private List<MutationAnalysisUnit> findMutations(MutationEngine engine, EngineArguments args,
+      DiscoveredMutants discovered) {
     // Run mutant discovery without coverage data or history.
-    // Ideally we'd ony discover mutants once, but the process is currently tightly
-    // entangled with coverage data. Generating coverage data is expensive for
-    // some projects, while discovery usually takes less than 1 second. By doing
-    // an initial run here we are able to skip coverage generation when no mutants
-    // are found, e.g if pitest is being run against diffs.
+    // Generating coverage data is expensive for some projects, while discovery
+    // is usually quick. By doing an initial run here we are able to skip coverage
+    // generation when no mutants are found, e.g if pitest is being run against diffs.
+    // The mutants found are recorded, so the main scan need only filter them
+    // and assign tests rather than discovering them again.
     this.timings.registerStart(Timings.Stage.MUTATION_PRE_SCAN);
-    List<MutationAnalysisUnit> mutants = buildMutationTests(new NoCoverage(), new NullHistory(), engine, args, noReportsOrFilters());
+    List<MutationAnalysisUnit> mutants = buildMutationTests(new NoCoverage(), new NullHistory(), engine, args, noReportsOrFilters(),
+        null, MutantCache.none(), discovered, Deadline.none());
     this.timings.registerEnd(Timings.Stage.MUTATION_PRE_SCAN);
     return mutants;
   }
 
+  private Predicate<ClassName> interceptorsLimitTests(List<MutationDetails> unfilteredMutants) {
+    // the pre scan interceptors have already removed mutants outside their scope,
+    // and may know which tests can reach those that remain
+    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
+        .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
+            new NoCoverage());
+    final CompoundMutationInterceptor interceptor = this.settings.getInterceptor()
+        .createInterceptor(this.data, new NoCoverage(), classBytes(), testPrioritiser, this.code)
+        .filter(noReportsOrFilters());
+    interceptor.initialise(this.code);
+    return interceptor.limitTests(unfilteredMutants);
+  }
+
   private Predicate<MutationInterceptor> noReportsOrFilters() {
     return i -> i.type().includeInPrescan();
   }
@@ -256,6 +343,27 @@ public class MutationCoverage {
     }
   }
 
+  private MinionPool createMinionPool() {
+    if (!this.data.isReuseMinions()) {
+      return null;
+    }
+    return new MinionPool(numberOfThreads(), this.data.getMaxMutantsPerMinion());
+  }
+
+  private MutantCache createMutantCache(EngineArguments args) {
+    if (this.data.getMutantCacheLocation() == null) {
+      return MutantCache.none();
+    }
+    // guarded mutants differ from unguarded ones, so are kept apart
+    final File dir = this.data.isLoopGuard()
+        ? new File(this.data.getMutantCacheLocation(), "loopguard")
+        : this.data.getMutantCacheLocation();
+    final MutationEngine engine = this.strategies.factory()
+        .createEngine(args.withLoopGuard(this.data.isLoopGuard()));
+    return new MutantCache(dir, engine.getName(), this.code,
+        () -> engine.createMutator(classBytes()), numberOfThreads());
+  }
+
   private int numberOfThreads() {
     return Math.max(1, this.data.getNumberOfThreads());
   }
@@ -321,6 +429,10 @@ public class MutationCoverage {
       ps.println(String.format(">> %d tests examined", coverage.getNumberOfTests()));
     }
 
+    if (combinedStatistics.isEarlyTerminated()) {
+      ps.println(">> Run ended early as the outcome of the thresholds was certain");
+    }
+
     stats.report(ps);
 
     if (!combinedStatistics.getIssues().isEmpty()) {
@@ -330,43 +442,70 @@ public class MutationCoverage {
     }
   }
 
+  private TimeoutLengthStrategy timeoutStrategy(History history) {
+    final TimeoutLengthStrategy constant = new PercentAndConstantTimeoutStrategy(
+        this.data.getTimeoutFactor(), this.data.getTimeoutConstant());
+    if (!this.data.isAdaptiveTimeouts()) {
+      return constant;
+    }
+    return AdaptiveTimeoutStrategy.fromHistory(history.historicTestDurations(),
+        this.data.getTimeoutFactor(), AdaptiveTimeoutStrategy.DEFAULT_MARGIN, constant);
+  }
+
   private List<MutationAnalysisUnit> buildMutationTests(CoverageDatabase coverageData,
                                                         History history,
                                                         MutationEngine engine,
                                                         EngineArguments args,
-                                                        Predicate<MutationInterceptor> interceptorFilter) {
+                                                        Predicate<MutationInterceptor> interceptorFilter,
+                                                        MinionPool pool,
+                                                        MutantCache mutantCache,
+                                                        DiscoveredMutants discovered,
+                                                        Deadline deadline) {
 
     final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
         .getLaunchOptions());
 
-    final ClassByteArraySource bas = new CachingByteArraySource(fallbackToClassLoader(new ClassPathByteArraySource(
-        this.data.getClassPath())), 200);
+    // each discovery thread needs its own interceptors and byte cache
+    final Supplier<MutationSource> sources = () -> {
+      final ClassByteArraySource bas = classBytes();
 
-    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
-        .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
-            coverageData);
+      final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
+          .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
+              coverageData);
 
-    final MutationInterceptor interceptor = this.settings.getInterceptor()
-            .createInterceptor(this.data, coverageData, bas, testPrioritiser, code)
-            .filter(interceptorFilter);
+      final CompoundMutationInterceptor interceptor = this.settings.getInterceptor()
+              .createInterceptor(this.data, coverageData, bas, testPrioritiser, code,
+                  this.duplicates)
+              .filter(interceptorFilter);
 
-    interceptor.initialise(this.code);
+      interceptor.initialise(this.code);
 
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
+      // mutants recorded by the pre scan have already passed through its interceptors
+      final MutationInterceptor afterPrescan = interceptor.filter(noReportsOrFilters().negate());
+
+      return new MutationSource(mutationConfig, testPrioritiser, bas, interceptor,
+          afterPrescan, discovered);
+    };
 
 
+    // interceptors analyse unguarded mutants, minions run guarded ones
     final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
-        .getConfiguration(), mutationConfig, args,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.getVerbosity(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
+        .getConfiguration(), mutationConfig, args.withLoopGuard(this.data.isLoopGuard())
+            .withSchemata(this.data.isMutantSchemata()),
+        timeoutStrategy(history), this.data.getVerbosity(), this.data.isFullMutationMatrix(),
+            this.data.getClassPath().getLocalClassPath(), WorkerSettings.defaults()
+                .withPool(pool)
+                .withMutantCache(mutantCache)
+                .withTestThreads(this.data.getTestThreads())
+                .withTestTimes(history::recordTestDurations)
+                .withDeadline(deadline));
 
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
 
     final MutationTestBuilder builder = new MutationTestBuilder(data.mode(), wf, history,
-        source, grouper);
+        sources, Math.max(1, this.data.getDiscoveryThreads()), grouper, deadline);
 
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
@@ -388,6 +527,11 @@ public class MutationCoverage {
     return this.strategies.coverage();
   }
 
+  private ClassByteArraySource classBytes() {
+    return new CachingByteArraySource(fallbackToClassLoader(new ClassPathByteArraySource(
+        this.data.getClassPath())), 200);
+  }
+
   // Since java 9 rt.jar is no longer on the classpath so jdk classes will not resolve from
   // the filesystem and must be pulled out via the classloader
   private ClassByteArraySource fallbackToClassLoader(final ClassByteArraySource bas) {
@@ -14,13 +14,14 @@
  */
 package org.pitest.util;
 
-import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,27 +30,29 @@ public final class CommunicationThread {
 
   private static final Logger                     LOG = Log.getLogger();
 
-  private final Consumer<SafeDataOutputStream> sendInitialData;
-  private final ReceiveStrategy                   receive;
-  private final ServerSocket                      socket;
+  private final Callable<ExitCode>                communication;
   private FutureTask<ExitCode>                    future;
 
   public CommunicationThread(final ServerSocket socket,
       final Consumer<SafeDataOutputStream> sendInitialData,
       final ReceiveStrategy receive) {
-    this.socket = socket;
-    this.sendInitialData = sendInitialData;
-    this.receive = receive;
+    this(new SocketReadingCallable(socket, sendInitialData, receive));
   }
 
-  public void start() throws IOException, InterruptedException {
+  /**
+   * @param communication exchanges data with a child process, returning its
+   *                      exit code once it is done
+   */
+  public CommunicationThread(final Callable<ExitCode> communication) {
+    this.communication = communication;
+  }
+
+  public void start() {
     this.future = createFuture();
   }
 
   private FutureTask<ExitCode> createFuture() {
-    final FutureTask<ExitCode> newFuture = new FutureTask<>(
-        new SocketReadingCallable(this.socket, this.sendInitialData,
-            this.receive));
+    final FutureTask<ExitCode> newFuture = new FutureTask<>(this.communication);
     final Thread thread = new Thread(newFuture);
     thread.setDaemon(true);
     thread.setName("pit communication");
@@ -64,7 +67,9 @@ public final class CommunicationThread {
       LOG.log(Level.WARNING, "Error while watching child process", e);
       return Optional.of(ExitCode.UNKNOWN_ERROR);
     } catch (final InterruptedException e) {
-      LOG.log(Level.WARNING, "interrupted while waiting for child process", e);
+      // expected when a run is cancelled, so leave it to the caller to act on
+      LOG.log(Level.FINE, "interrupted while waiting for child process", e);
+      Thread.currentThread().interrupt();
       return Optional.of(ExitCode.UNKNOWN_ERROR);
     } catch (final TimeoutException e) {
       return Optional.empty();
@@ -72,4 +77,32 @@ public final class CommunicationThread {
 
   }
 
+  /**
+   * Waits for communication to end while the child process is alive.
+   *
+   * @param processAlive reports whether the child process is still running
+   * @return the exit code reported by the child, or MINION_DIED if it went
+   *         down without reporting one
+   */
+  public ExitCode waitToFinish(BooleanSupplier processAlive) {
+    // Wait a moment to give the monitoring thread time to finish naturally.
+    // This happens when the child sends a "DONE" signal over the socket,
+    // although the process will most likely still be running.
+    Optional<ExitCode> maybeExit = waitToFinish(5);
+
+    // While the child reports being alive, keep polling the monitoring thread
+    while (maybeExit.isEmpty() && processAlive.getAsBoolean()) {
+      maybeExit = waitToFinish(10);
+    }
+
+    // Either the child died, or the thread ended. Check the thread one last
+    // time to try and avoid reporting an error code if it was the process
+    // that went down first
+    maybeExit = waitToFinish(10);
+
+    // If the thread is still live, but the process is dead then either the
+    // process never properly started or it died before reporting its exit
+    return maybeExit.orElse(ExitCode.MINION_DIED);
+  }
+
 }
@@ -43,6 +43,7 @@ public class Timings {
   }
 
   private final Map<Stage, TimeSpan> timings = new LinkedHashMap<>();
+  private final Map<String, Long>    savings = new LinkedHashMap<>();
 
   public void registerStart(final Stage stage) {
     this.timings.put(stage, new TimeSpan(System.nanoTime(), 0));
@@ -53,6 +54,28 @@ public class Timings {
     this.timings.get(stage).setEnd(end);
   }
 
+  /**
+   * Records work that was avoided, reported after the time that was spent.
+   *
+   * @param description what was not done
+   * @param millis estimate of the time it would have taken
+   */
+  public void registerSaving(final String description, final long millis) {
+    this.savings.merge(description, millis, Long::sum);
+  }
+
+  /**
+   * @return milliseconds spent in each stage that has been run, in the order
+   *         the stages started
+   */
+  public Map<Stage, Long> durations() {
+    final Map<Stage, Long> durations = new LinkedHashMap<>();
+    for (final Entry<Stage, TimeSpan> each : this.timings.entrySet()) {
+      durations.put(each.getKey(), each.getValue().duration());
+    }
+    return durations;
+  }
+
   public void report(final PrintStream ps) {
     long total = 0;
     for (final Entry<Stage, TimeSpan> each : this.timings.entrySet()) {
@@ -62,6 +85,13 @@ public class Timings {
     ps.println(StringUtil.separatorLine());
     ps.println("> Total " + " : " + new TimeSpan(0, MILLISECONDS.toNanos(total)));
     ps.println(StringUtil.separatorLine());
+    if (!this.savings.isEmpty()) {
+      for (final Entry<String, Long> each : this.savings.entrySet()) {
+        ps.println("> Saved by " + each.getKey() + " : about "
+            + new TimeSpan(0, MILLISECONDS.toNanos(each.getValue())));
+      }
+      ps.println(StringUtil.separatorLine());
+    }
   }
 
 }
@@ -0,0 +1,99 @@
+package org.pitest.classinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassInfoCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final Map<String, Optional<String>> stamps = new HashMap<>();
+
+  private File file;
+
+  private ClassInfoCache testee;
+
+  @Before
+  public void setUp() {
+    this.file = new File(this.folder.getRoot(), "cache/classinfo.bin");
+    this.testee = new ClassInfoCache(this.file, this::stamp);
+  }
+
+  @Test
+  public void returnsStoredInformationWhileStampIsUnchanged() {
+    this.stamps.put("com.example.Foo", Optional.of("1"));
+    this.testee.store(info("com/example/Foo", 42, "java/lang/Object", null));
+
+    final ClassInfoBuilder actual = this.testee.fetch(ClassName.fromString("com.example.Foo")).get();
+    assertThat(actual.id).isEqualTo(new ClassIdentifier(42, ClassName.fromString("com.example.Foo")));
+    assertThat(actual.superClass).isEqualTo("java/lang/Object");
+    assertThat(actual.outerClass).isNull();
+  }
+
+  @Test
+  public void returnsNothingOnceStampChanges() {
+    this.stamps.put("com.example.Foo", Optional.of("1"));
+    this.testee.store(info("com/example/Foo", 42, "java/lang/Object", null));
+    this.stamps.put("com.example.Foo", Optional.of("2"));
+
+    assertThat(this.testee.fetch(ClassName.fromString("com.example.Foo"))).isEmpty();
+  }
+
+  @Test
+  public void doesNotStoreClassesWithoutStamps() {
+    this.testee.store(info("com/example/Foo", 42, "java/lang/Object", null));
+    this.stamps.put("com.example.Foo", Optional.of("1"));
+
+    assertThat(this.testee.fetch(ClassName.fromString("com.example.Foo"))).isEmpty();
+  }
+
+  @Test
+  public void readsInformationWrittenByEarlierRuns() {
+    this.stamps.put("com.example.Foo$Bar", Optional.of("1"));
+    this.testee.store(info("com/example/Foo$Bar", 7, "com/example/Base", "com/example/Foo"));
+    this.testee.flush();
+
+    final ClassInfoCache nextRun = new ClassInfoCache(this.file, this::stamp);
+    final ClassInfoBuilder actual = nextRun.fetch(ClassName.fromString("com.example.Foo$Bar")).get();
+    assertThat(actual.id.getHash()).isEqualTo(7);
+    assertThat(actual.superClass).isEqualTo("com/example/Base");
+    assertThat(actual.outerClass).isEqualTo("com/example/Foo");
+  }
+
+  @Test
+  public void doesNotWriteWhenNothingStored() {
+    this.testee.flush();
+    assertThat(this.file).doesNotExist();
+  }
+
+  @Test
+  public void neverStoresWhenNoFileGiven() {
+    this.stamps.put("com.example.Foo", Optional.of("1"));
+    final ClassInfoCache none = ClassInfoCache.none();
+    none.store(info("com/example/Foo", 42, "java/lang/Object", null));
+    assertThat(none.fetch(ClassName.fromString("com.example.Foo"))).isEmpty();
+  }
+
+  private Optional<String> stamp(String name) {
+    return this.stamps.getOrDefault(name, Optional.empty());
+  }
+
+  private static ClassInfoBuilder info(String name, long hash, String superClass,
+      String outerClass) {
+    final ClassInfoBuilder builder = new ClassInfoBuilder();
+    builder.id = new ClassIdentifier(hash, ClassName.fromString(name));
+    builder.superClass = superClass;
+    builder.outerClass = outerClass;
+    return builder;
+  }
+}
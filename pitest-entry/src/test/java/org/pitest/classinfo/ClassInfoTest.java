@@ -14,11 +14,14 @@
  */
 package org.pitest.classinfo;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 import org.junit.Before;
 import org.junit.Test;
+import java.math.BigInteger;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ClassInfoTest {
 
@@ -56,6 +59,23 @@ public class ClassInfoTest {
         .equals(classB.getHierarchicalId().getHierarchicalHash()));
   }
 
+  @Test
+  public void shouldResolveParentAndOuterClassesOnceForDeepHash() {
+    final AtomicInteger fetches = new AtomicInteger();
+    final ClassInfo parent = new ClassInfo(emptyClassPointer(),
+        emptyClassPointer(), this.data);
+    final ClassPointer counted = () -> {
+      fetches.incrementAndGet();
+      return Optional.of(parent);
+    };
+    final ClassInfo testee = new ClassInfo(counted, counted, this.data);
+
+    final BigInteger first = testee.getDeepHash();
+
+    assertEquals(first, testee.getDeepHash());
+    assertEquals(2, fetches.get());
+  }
+
   private ClassPointer emptyClassPointer() {
     return () -> Optional.empty();
   }
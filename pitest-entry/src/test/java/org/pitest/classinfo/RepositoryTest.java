@@ -16,24 +16,39 @@ package org.pitest.classinfo;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.coverage.codeassist.ClassUtils;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.pitest.util.IsolationUtils;
 
 public class RepositoryTest {
 
+  @Rule
+  public TemporaryFolder       folder = new TemporaryFolder();
+
   private Repository           testee;
 
   @Mock
@@ -221,4 +236,44 @@ public class RepositoryTest {
         .getName().asInternalName();
   }
 
+  @Test
+  public void shouldUseCachedClassInformationInsteadOfReadingClasses(){
+    final Map<String, Optional<String>> stamps = new HashMap<>();
+    stamps.put(Bar.class.getName(), Optional.of("bar"));
+    stamps.put(Foo.class.getName(), Optional.of("foo"));
+    stamps.put(RepositoryTest.class.getName(), Optional.of("outer"));
+    final File file = new File(this.folder.getRoot(), "cache");
+    final ClassInfoCache cache = new ClassInfoCache(file,
+        n -> stamps.getOrDefault(n, Optional.empty()));
+    final Repository first = new Repository(new ClassloaderByteArraySource(
+        IsolationUtils.getContextClassLoader()), cache);
+    final HierarchicalClassId expected = first.fetchClass(Bar.class).get().getHierarchicalId();
+    first.flushCache();
+
+    this.testee = new Repository(this.source, new ClassInfoCache(file,
+        n -> stamps.getOrDefault(n, Optional.empty())));
+    when(this.source.getBytes(anyString())).thenReturn(Optional.empty());
+
+    assertEquals(expected, this.testee.fetchClass(Bar.class).get().getHierarchicalId());
+    assertTrue(this.testee.hasClass(ClassName.fromClass(Bar.class)));
+    verify(this.source, never()).getBytes(Bar.class.getName());
+    verify(this.source, never()).getBytes(Foo.class.getName());
+  }
+
+  @Test
+  public void shouldProvideTheSameClassToConcurrentCallers() throws Exception {
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Optional<ClassInfo>>> results = new ArrayList<>();
+      for (int i = 0; i != 8; i++) {
+        results.add(executor.submit(() -> this.testee.fetchClass(Bottom.class)));
+      }
+      final ClassInfo first = results.get(0).get().get();
+      for (final Future<Optional<ClassInfo>> each : results) {
+        assertSame(first, each.get().get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
@@ -0,0 +1,171 @@
+package org.pitest.coverage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.testapi.Description;
+
+public class CompactCoverageDataTest {
+
+  private CompactCoverageData testee;
+
+  @Mock
+  private CodeSource          code;
+
+  @Mock
+  private LineMap             lm;
+
+  private final ClassName     foo = ClassName.fromString("foo");
+
+  private final Map<BlockLocation, Set<Integer>> lines = new HashMap<>();
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(this.lm.mapLines(any(ClassName.class))).thenReturn(this.lines);
+    when(this.code.findTestee(any())).thenReturn(Optional.empty());
+    this.testee = new CompactCoverageData(this.code, this.lm, 42);
+  }
+
+  @Test
+  public void shouldReturnNoTestsForUncoveredBlock() {
+    assertThat(this.testee.getTestsForBlockLocation(block(1))).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnTestsForBlockInNameOrder() {
+    this.testee.calculateClassCoverage(result("zTest", block(1)));
+    this.testee.calculateClassCoverage(result("aTest", block(1), block(2)));
+    this.testee.calculateClassCoverage(result("mTest", block(1)));
+
+    assertThat(names(this.testee.getTestsForBlockLocation(block(1))))
+        .containsExactly("aTest", "mTest", "zTest");
+    assertThat(names(this.testee.getTestsForBlockLocation(block(2))))
+        .containsExactly("aTest");
+  }
+
+  @Test
+  public void shouldNotDuplicateTestsReportedTwice() {
+    this.testee.calculateClassCoverage(result("aTest", block(1)));
+    this.testee.calculateClassCoverage(result("aTest", block(1)));
+
+    assertThat(names(this.testee.getTestsForBlockLocation(block(1))))
+        .containsExactly("aTest");
+  }
+
+  @Test
+  public void shouldAcceptCoverageAfterBeingQueried() {
+    this.testee.calculateClassCoverage(result("bTest", block(1)));
+    this.testee.getTestsForBlockLocation(block(1));
+    this.testee.calculateClassCoverage(result("aTest", block(1)));
+
+    assertThat(names(this.testee.getTestsForBlockLocation(block(1))))
+        .containsExactly("aTest", "bTest");
+  }
+
+  @Test
+  public void shouldReturnTestsForClassOnlyFromBlocksWithLines() {
+    this.lines.put(block(1), Collections.singleton(10));
+    this.testee.calculateClassCoverage(result("aTest", block(1)));
+    this.testee.calculateClassCoverage(result("bTest", block(2)));
+
+    assertThat(names(this.testee.getTestsForClass(this.foo)))
+        .containsExactly("aTest");
+  }
+
+  @Test
+  public void shouldReportCoveredLines() {
+    this.lines.put(block(1), new HashSet<>(Arrays.asList(10, 11)));
+    this.lines.put(block(2), Collections.singleton(20));
+    this.testee.calculateClassCoverage(result("aTest", block(1)));
+
+    assertThat(this.testee.getCoveredLines(this.foo)).containsExactlyInAnyOrder(
+        new ClassLine(this.foo, 10), new ClassLine(this.foo, 11));
+  }
+
+  @Test
+  public void shouldReportFailingTests() {
+    this.testee.calculateClassCoverage(new CoverageResult(new Description("aTest"),
+        0, false, Collections.singleton(block(1))));
+
+    assertThat(this.testee.allTestsGreen()).isFalse();
+    assertThat(this.testee.getCountFailedTests()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReturnCoverageIdOf0WhenNoTestsCoverClass() {
+    assertThat(this.testee.getCoverageIdForClass(this.foo)).isEqualTo(BigInteger.ZERO);
+  }
+
+  @Test
+  public void shouldReturnNonZeroCoverageIdWhenTestsCoverClass() {
+    when(this.code.fetchClassHashes(any(Collection.class))).thenReturn(
+        Collections.singletonList(ClassInfoMother.make(this.foo)));
+    this.lines.put(block(1), Collections.singleton(10));
+    this.testee.calculateClassCoverage(new CoverageResult(new Description("aTest", "FooTest"),
+        0, true, Collections.singleton(block(1))));
+
+    assertThat(this.testee.getCoverageIdForClass(this.foo)).isNotEqualTo(BigInteger.ZERO);
+  }
+
+  @Test
+  public void shouldCreateSameBlockCoverageAsCoverageData() {
+    final CoverageData expected = new CoverageData(this.code, this.lm, 42);
+    final List<CoverageResult> results = Arrays.asList(
+        result("zTest", block(1), block(3)),
+        result("aTest", block(2)),
+        result("mTest", block(1), block(2), block(3)));
+    for (final CoverageResult each : results) {
+      expected.calculateClassCoverage(each);
+      this.testee.calculateClassCoverage(each);
+    }
+
+    assertThat(asStrings(this.testee.createCoverage()))
+        .isEqualTo(asStrings(expected.createCoverage()));
+  }
+
+  @Test
+  public void reportsTestCount() {
+    assertThat(this.testee.testCount()).isEqualTo(42);
+  }
+
+  private BlockLocation block(int block) {
+    return new BlockLocation(Location.location(this.foo, "method", "()V"), block);
+  }
+
+  private static CoverageResult result(String test, BlockLocation... blocks) {
+    return new CoverageResult(new Description(test), 1, true, Arrays.asList(blocks));
+  }
+
+  private static List<String> names(Collection<TestInfo> tests) {
+    return tests.stream().map(TestInfo::getName).collect(Collectors.toList());
+  }
+
+  private static List<String> asStrings(List<BlockCoverage> coverage) {
+    return coverage.stream()
+        .map(b -> b.getBlock() + " " + b.getTests())
+        .collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,259 @@
+package org.pitest.coverage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.classpath.CodeSource;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.testapi.Description;
+
+public class CoverageStoreTest {
+
+  private static final ClassName FOO_TEST = ClassName.fromString("com.example.FooTest");
+  private static final ClassName BAR_TEST = ClassName.fromString("com.example.BarTest");
+  private static final ClassName FOO      = ClassName.fromString("com.example.Foo");
+  private static final ClassName BAR      = ClassName.fromString("com.example.Bar");
+  private static final ClassName USES_HELPER = ClassName.fromClass(UsesHelperTest.class);
+  private static final ClassName HELPER      = ClassName.fromClass(Helper.class);
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final Map<ClassName, String> hashes = new HashMap<>();
+  private final ClassByteArraySource   bytes  = ClassloaderByteArraySource.fromContext();
+
+  private CodeSource code;
+  private File       file;
+
+  @Before
+  public void setUp() {
+    this.code = mock(CodeSource.class);
+    when(this.code.fetchClassHashes(any())).thenAnswer(a -> hashesFor(a.getArgument(0)));
+    when(this.code.fetchClassBytes(any())).thenAnswer(a -> this.bytes.getBytes(
+        a.getArgument(0, ClassName.class).asJavaName()));
+    when(this.code.getCodeUnderTestNames()).thenReturn(new HashSet<>(Arrays.asList(FOO, BAR)));
+    final ClassPath classPath = mock(ClassPath.class);
+    when(classPath.getComponent(any())).thenReturn(classPath);
+    when(classPath.classNames()).thenReturn(Arrays.asList(FOO_TEST.asJavaName(),
+        BAR_TEST.asJavaName(), USES_HELPER.asJavaName(), HELPER.asJavaName(),
+        FOO.asJavaName(), BAR.asJavaName()));
+    when(this.code.getClassPath()).thenReturn(classPath);
+    this.file = new File(this.folder.getRoot(), "history.coverage");
+    this.hashes.put(FOO_TEST, "1");
+    this.hashes.put(BAR_TEST, "2");
+    this.hashes.put(FOO, "3");
+    this.hashes.put(BAR, "4");
+    this.hashes.put(USES_HELPER, "5");
+    this.hashes.put(HELPER, "6");
+  }
+
+  @Test
+  public void reusesNothingWhenNothingStored() {
+    assertThat(store().reusable(Arrays.asList(FOO_TEST, BAR_TEST))).isEmpty();
+  }
+
+  @Test
+  public void reusesCoverageOfUnchangedTestClasses() {
+    storeRun(result(FOO_TEST, "test1", FOO), result(BAR_TEST, "test2", BAR));
+
+    final Map<ClassName, List<CoverageResult>> actual = store()
+        .reusable(Arrays.asList(FOO_TEST, BAR_TEST));
+
+    assertThat(actual).containsOnlyKeys(FOO_TEST, BAR_TEST);
+    final CoverageResult reused = actual.get(FOO_TEST).get(0);
+    assertThat(reused.getTestUnitDescription()).isEqualTo(new Description("test1", FOO_TEST.asJavaName()));
+    assertThat(reused.getExecutionTime()).isEqualTo(42);
+    assertThat(reused.isGreenTest()).isTrue();
+    assertThat(reused.getCoverage()).containsExactly(block(FOO));
+  }
+
+  @Test
+  public void rerunsTestClassesThatHaveChanged() {
+    storeRun(result(FOO_TEST, "test1", FOO), result(BAR_TEST, "test2", BAR));
+    this.hashes.put(FOO_TEST, "changed");
+
+    assertThat(store().reusable(Arrays.asList(FOO_TEST, BAR_TEST)))
+        .containsOnlyKeys(BAR_TEST);
+  }
+
+  @Test
+  public void rerunsTestClassesWhoseCoveredClassesHaveChanged() {
+    storeRun(result(FOO_TEST, "test1", FOO), result(BAR_TEST, "test2", BAR));
+    this.hashes.put(BAR, "changed");
+
+    assertThat(store().reusable(Arrays.asList(FOO_TEST, BAR_TEST)))
+        .containsOnlyKeys(FOO_TEST);
+  }
+
+  @Test
+  public void rerunsTestClassesWhoseHelperClassesHaveChanged() {
+    storeRun(Arrays.asList(USES_HELPER, BAR_TEST), result(USES_HELPER, "test1", FOO),
+        result(BAR_TEST, "test2", BAR));
+    this.hashes.put(HELPER, "changed");
+
+    assertThat(store().reusable(Arrays.asList(USES_HELPER, BAR_TEST)))
+        .containsOnlyKeys(BAR_TEST);
+  }
+
+  @Test
+  public void reusesTestClassesWhoseHelperClassesAreUnchanged() {
+    storeRun(Arrays.asList(USES_HELPER), result(USES_HELPER, "test1", FOO));
+
+    assertThat(store().reusable(Arrays.asList(USES_HELPER)))
+        .containsOnlyKeys(USES_HELPER);
+  }
+
+  @Test
+  public void identifiesChangedResources() throws Exception {
+    final File dir = this.folder.newFolder("resources");
+    final File resource = new File(dir, "fixture.txt");
+    Files.write(resource.toPath(), "one".getBytes(StandardCharsets.UTF_8));
+    final String before = CoverageStore.configuration(CoverageStore.resources(dir.getPath()));
+
+    Files.write(resource.toPath(), "two".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(CoverageStore.configuration(CoverageStore.resources(dir.getPath())))
+        .isNotEqualTo(before);
+  }
+
+  @Test
+  public void identifiesRebuiltArchives() throws Exception {
+    final File jar = this.folder.newFile("dependency.jar");
+    Files.write(jar.toPath(), "one".getBytes(StandardCharsets.UTF_8));
+    final String before = CoverageStore.configuration(CoverageStore.archives(jar.getPath()));
+
+    Files.write(jar.toPath(), "rebuilt".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(CoverageStore.configuration(CoverageStore.archives(jar.getPath())))
+        .isNotEqualTo(before);
+  }
+
+  @Test
+  public void rerunsTestClassesWhoseCoveredClassesNoLongerExist() {
+    storeRun(result(FOO_TEST, "test1", FOO));
+    this.hashes.remove(FOO);
+
+    assertThat(store().reusable(Arrays.asList(FOO_TEST))).isEmpty();
+  }
+
+  @Test
+  public void reusesTestClassesThatCoveredNothing() {
+    storeRun(result(FOO_TEST, "test1", FOO));
+    final CoverageStore store = store();
+    store.reusable(Arrays.asList(FOO_TEST, BAR_TEST));
+    store.write();
+
+    assertThat(store().reusable(Arrays.asList(FOO_TEST, BAR_TEST)).get(BAR_TEST))
+        .isEmpty();
+  }
+
+  @Test
+  public void ignoresCoverageGatheredWithOtherSettings() {
+    storeRun(result(FOO_TEST, "test1", FOO));
+    final CoverageStore other = new CoverageStore(this.file, this.file, this.code, "other");
+
+    assertThat(other.reusable(Arrays.asList(FOO_TEST))).isEmpty();
+  }
+
+  @Test
+  public void rerunsTestClassesWithFailingTests() {
+    final CoverageResult failing = new CoverageResult(new Description("test3", FOO_TEST.asJavaName()),
+        42, false, Arrays.asList(block(FOO)));
+    storeRun(result(FOO_TEST, "test1", FOO), failing, result(BAR_TEST, "test2", BAR));
+
+    assertThat(store().reusable(Arrays.asList(FOO_TEST, BAR_TEST)))
+        .containsOnlyKeys(BAR_TEST);
+  }
+
+  @Test
+  public void attributesNestedTestClassesToTheClassThatWasRun() {
+    storeRun(result(ClassName.fromString("com.example.FooTest$Nested"), "test1", FOO));
+
+    assertThat(store().reusable(Arrays.asList(FOO_TEST)).get(FOO_TEST)).hasSize(1);
+  }
+
+  @Test
+  public void storesNothingWhenResultsCannotBeAttributedToATestClass() {
+    storeRun(result(ClassName.fromString("com.example.Unknown"), "test1", FOO));
+
+    assertThat(this.file).doesNotExist();
+  }
+
+  @Test
+  public void identifiesEqualSettingsEqually() {
+    assertThat(CoverageStore.configuration("a", 1)).isEqualTo(CoverageStore.configuration("a", 1));
+    assertThat(CoverageStore.configuration("a", 1)).isNotEqualTo(CoverageStore.configuration("a", 2));
+  }
+
+  private void storeRun(CoverageResult... results) {
+    storeRun(Arrays.asList(FOO_TEST, BAR_TEST), results);
+  }
+
+  private void storeRun(List<ClassName> testClasses, CoverageResult... results) {
+    final CoverageStore store = store();
+    store.reusable(testClasses);
+    for (final CoverageResult each : results) {
+      store.record(each);
+    }
+    store.write();
+  }
+
+  private CoverageStore store() {
+    return new CoverageStore(this.file, this.file, this.code, "settings");
+  }
+
+  private static CoverageResult result(ClassName testClass, String name, ClassName covered) {
+    return new CoverageResult(new Description(name, testClass.asJavaName()), 42,
+        true, Arrays.asList(block(covered)));
+  }
+
+  private static BlockLocation block(ClassName clazz) {
+    return new BlockLocation(Location.location(clazz, "method", "()V"), 1);
+  }
+
+  private List<ClassHash> hashesFor(Collection<ClassName> classes) {
+    return classes.stream()
+        .filter(this.hashes::containsKey)
+        .map(this::hashOf)
+        .collect(Collectors.toList());
+  }
+
+  private ClassHash hashOf(ClassName name) {
+    final ClassHash hash = mock(ClassHash.class);
+    when(hash.getName()).thenReturn(name);
+    when(hash.getHierarchicalId()).thenReturn(
+        new HierarchicalClassId(0, name, this.hashes.get(name)));
+    return hash;
+  }
+
+  static class Helper {
+  }
+
+  static class UsesHelperTest {
+    Helper helper = new Helper();
+  }
+
+}
@@ -4,14 +4,17 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataInputStream;
-import sun.pitest.CodeCoverageStore;
 
 import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.when;
@@ -60,6 +63,27 @@ public class ReceiveTest {
     assertEquals(true, this.result.isGreenTest());
   }
 
+  @Test
+  public void shouldDecodeProbeHitsToBlocks() {
+    when(this.is.readInt()).thenReturn(0);
+    when(this.is.readString()).thenReturn("foo");
+    this.testee.apply(Id.CLAZZ, this.is);
+
+    when(this.is.readInt()).thenReturn(0, 1, 3);
+    when(this.is.readString()).thenReturn("method", "()V");
+    this.testee.apply(Id.PROBES, this.is);
+
+    when(this.is.read(Description.class)).thenReturn(this.description);
+    when(this.is.readInt()).thenReturn(1, 0, 1, 2, 0);
+    when(this.is.readByte()).thenReturn(ProbeHitEncoding.SPARSE);
+    when(this.is.readBoolean()).thenReturn(true);
+    this.testee.apply(Id.OUTCOME, this.is);
+
+    final Location method = Location.location(ClassName.fromString("foo"),
+        "method", "()V");
+    assertThat(this.result.getCoverage()).containsExactly(new BlockLocation(method, 1));
+  }
+
   private void recordTestCoverage(final int executionTime, final int classId,
       final int probeNumber, final boolean testPassed) {
     when(this.is.readInt()).thenReturn(classId, executionTime);
@@ -67,9 +91,8 @@ public class ReceiveTest {
     this.testee.apply(Id.CLAZZ, this.is);
 
     when(this.is.read(Description.class)).thenReturn(this.description);
-    when(this.is.readInt()).thenReturn(1);
-    when(this.is.readLong()).thenReturn(1L,
-        CodeCoverageStore.encode(classId, probeNumber));
+    when(this.is.readInt()).thenReturn(1, classId, 1, probeNumber, executionTime);
+    when(this.is.readByte()).thenReturn(ProbeHitEncoding.SPARSE);
     when(this.is.readBoolean()).thenReturn(testPassed);
     this.testee.apply(Id.OUTCOME, this.is);
   }
@@ -0,0 +1,71 @@
+package org.pitest.coverage.execute;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+
+public class TestClassPartitionerTest {
+
+  @Test
+  public void shouldCreateSingleShardWhenOneMinionRequested() {
+    final List<List<String>> actual = TestClassPartitioner.partition(
+        asList("a/A", "b/B", "c/C"), 1, Collections.emptyMap());
+    assertThat(actual).containsExactly(asList("a/A", "b/B", "c/C"));
+  }
+
+  @Test
+  public void shouldNotCreateMoreShardsThanTestClasses() {
+    final List<List<String>> actual = TestClassPartitioner.partition(
+        asList("a/A", "b/B"), 8, Collections.emptyMap());
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldSpreadTestsEvenlyWhenNoTimesKnown() {
+    final List<List<String>> actual = TestClassPartitioner.partition(
+        asList("a/A", "b/B", "c/C", "d/D"), 2, Collections.emptyMap());
+    assertThat(actual).containsExactly(asList("a/A", "c/C"),
+        asList("b/B", "d/D"));
+  }
+
+  @Test
+  public void shouldBalanceShardsByHistoricTestTime() {
+    final Map<ClassName, Long> times = new HashMap<>();
+    times.put(ClassName.fromString("a/A"), 100L);
+    times.put(ClassName.fromString("b/B"), 60L);
+    times.put(ClassName.fromString("c/C"), 30L);
+    times.put(ClassName.fromString("d/D"), 30L);
+    final List<List<String>> actual = TestClassPartitioner.partition(
+        asList("a/A", "b/B", "c/C", "d/D"), 2, times);
+    assertThat(actual).containsExactly(asList("a/A"),
+        asList("b/B", "c/C", "d/D"));
+  }
+
+  @Test
+  public void shouldAssumeAverageTimeForUnknownTests() {
+    final Map<ClassName, Long> times = new HashMap<>();
+    times.put(ClassName.fromString("a/A"), 10L);
+    times.put(ClassName.fromString("b/B"), 30L);
+    final List<List<String>> actual = TestClassPartitioner.partition(
+        asList("a/A", "b/B", "new/New"), 2, times);
+    assertThat(actual).containsExactly(asList("b/B"),
+        asList("new/New", "a/A"));
+  }
+
+  @Test
+  public void shouldIncludeEveryTestExactlyOnce() {
+    final List<String> tests = asList("a/A", "b/B", "c/C", "d/D", "e/E");
+    final List<List<String>> actual = TestClassPartitioner.partition(tests, 3,
+        Collections.emptyMap());
+    assertThat(actual.stream().flatMap(List::stream))
+        .containsExactlyInAnyOrderElementsOf(tests);
+  }
+
+}
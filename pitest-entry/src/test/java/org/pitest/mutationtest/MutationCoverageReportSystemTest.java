@@ -18,6 +18,7 @@ package org.pitest.mutationtest;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
+import static org.pitest.mutationtest.DetectionStatus.NOT_STARTED;
 import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.RUN_ERROR;
 import static org.pitest.mutationtest.DetectionStatus.SURVIVED;
@@ -27,6 +28,8 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -157,6 +160,44 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     verifyResults(NO_COVERAGE);
   }
 
+  @Test
+  public void shouldGiveDuplicateMutantsTheResultOfTheMutantRun() {
+    setMutators("INLINE_CONSTS", "PRIMITIVE_RETURNS");
+    this.data
+    .setTargetClasses(asList("com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setFeatures(Collections.singletonList("+FDEDUP"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED, SURVIVED);
+  }
+
+  @Test
+  public void shouldOnlyMutateLinesChangedByDiff() throws IOException {
+    setMutators("INLINE_CONSTS", "PRIMITIVE_RETURNS");
+    this.data
+    .setTargetClasses(asList("com.example.CoveredButOnlyPartiallyTested*"));
+    final Path diff = Files.createTempFile("changes", ".diff");
+    diff.toFile().deleteOnExit();
+    Files.write(diff, asList("+++ b/src/test/java/com/example/CoveredButOnlyPartiallyTested.java",
+        "@@ -25 +25 @@", "-    return 2;", "+    return 1;"));
+    this.data.setFeatures(Collections.singletonList("+DIFF(file[" + diff + "])"));
+    createAndRun();
+    verifyResults(SURVIVED, SURVIVED);
+  }
+
+  @Test
+  public void shouldReportRemainingMutantsAsNotStartedWhenEndingEarly() {
+    setMutators("INLINE_CONSTS", "PRIMITIVE_RETURNS");
+    this.data
+    .setTargetClasses(asList("com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setExcludedMethods(asList("coverMe"));
+    this.data.setNumberOfThreads(1);
+    this.data.setMutationUnitSize(1);
+    this.data.setMaximumAllowedSurvivors(0);
+    this.data.setEarlyTermination(true);
+    createAndRun();
+    verifyResults(SURVIVED, NOT_STARTED);
+  }
+
   @Test
   public void shouldWorkWithEasyMock() {
     this.data.setTargetClasses(asGlobs(CoveredByEasyMock.class));
@@ -17,6 +17,7 @@ import org.pitest.classpath.DefaultCodeSource;
 import org.pitest.classpath.PathFilter;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageStore;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
 import org.pitest.coverage.export.NullCoverageExporter;
@@ -118,7 +119,8 @@ public abstract class ReportTestBase {
 
       final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
           null, coverageOptions, launchOptions, code,
-          new NullCoverageExporter(), timings, Verbosity.DEFAULT);
+          new NullCoverageExporter(), timings, Verbosity.DEFAULT, 1, false,
+          CoverageStore.none());
 
       final History history = new NullHistory();
 
@@ -15,6 +15,7 @@
 package org.pitest.mutationtest;
 
 import static java.util.function.Predicate.isEqual;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 import static org.pitest.mutationtest.DetectionStatus.MEMORY_ERROR;
@@ -24,6 +25,7 @@ import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.SURVIVED;
 import static org.pitest.mutationtest.DetectionStatus.TIMED_OUT;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,6 +33,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import com.example.systemtest.EatsMemoryWhenMutated;
 import com.example.systemtest.InfiniteLoop;
@@ -44,8 +47,10 @@ import com.example.systemtest.ThreeMutations;
 import com.example.systemtest.ThreeMutationsTwoMeaningfullTests;
 import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
 import org.pitest.SystemTest;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
@@ -55,6 +60,7 @@ import org.pitest.classpath.PathFilter;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.CoverageStore;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
 import org.pitest.coverage.export.NullCoverageExporter;
@@ -62,18 +68,23 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.build.CompoundMutationInterceptor;
 import org.pitest.mutationtest.build.DefaultGrouper;
 import org.pitest.mutationtest.build.DefaultTestPrioritiser;
+import org.pitest.mutationtest.build.MutantCache;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationSource;
 import org.pitest.mutationtest.build.MutationTestBuilder;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
 import org.pitest.mutationtest.build.WorkerFactory;
+import org.pitest.mutationtest.build.WorkerSettings;
 import org.pitest.mutationtest.config.DefaultDependencyPathPredicate;
 import org.pitest.mutationtest.config.ExecutionMode;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.execute.Deadline;
+import org.pitest.mutationtest.execute.MinionPool;
+import org.pitest.mutationtest.execute.TestThreads;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
 import org.pitest.mutationtest.incremental.NullHistory;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
@@ -96,6 +107,18 @@ public class TestMutationTesting {
 
   private MetaDataExtractor        metaDataExtractor;
 
+  private MinionPool               pool;
+  private int                      unitSize;
+  private int                      coverageMinions = 1;
+  private boolean                  compactCoverage;
+  private File                     mutantCacheDir;
+  private TestThreads              testThreads = TestThreads.PER_TEST;
+  private boolean                  loopGuard;
+  private boolean                  schemata;
+
+  @Rule
+  public TemporaryFolder           folder = new TemporaryFolder();
+
   @Before
   public void setUp() {
     this.config = TestPluginArguments.defaults();
@@ -204,6 +227,120 @@ public class TestMutationTesting {
     verifyLineNumbers(111);
   }
 
+  @Test
+  public void shouldAnalyseMutantsWhenMinionsReused() {
+    this.pool = new MinionPool(1, 0);
+    this.unitSize = 1;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldAnalyseMutantsWhenMinionsRecycled() {
+    this.pool = new MinionPool(1, 1);
+    this.unitSize = 1;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldIsolateMutationsFromNestedClassesWhenMinionsReused() {
+    this.pool = new MinionPool(1, 0);
+    this.unitSize = 1;
+    run(MutationsInNestedClasses.class, MutationsInNestedClassesTest.class,
+        "FALSE_RETURNS");
+    verifyResults(SURVIVED, SURVIVED);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldReplaceReusedMinionAfterTimeout() {
+    this.pool = new MinionPool(1, 0);
+    this.unitSize = 1;
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test
+  public void shouldAnalyseMutantsUsingPooledTestThreads() {
+    this.testThreads = TestThreads.POOLED;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldDetectTimeoutsUsingPooledTestThreads() {
+    this.testThreads = TestThreads.POOLED;
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldDetectTimeoutsUsingLoopGuard() {
+    this.loopGuard = true;
+    this.pool = new MinionPool(1, 0);
+    this.unitSize = 1;
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test
+  public void shouldAnalyseMutantsUsingSchemata() {
+    this.schemata = true;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldAnalyseMutantsUsingSchemataWhenMinionsReused() {
+    this.schemata = true;
+    this.pool = new MinionPool(1, 0);
+    this.unitSize = 2;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test(timeout = 30000)
+  public void shouldDetectTimeoutsUsingSchemata() {
+    this.schemata = true;
+    this.loopGuard = true;
+    run(InfiniteLoop.class, InfiniteLoopTest.class,
+        "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test
+  public void shouldMergeCoverageFromShardedCoverageMinions() {
+    this.coverageMinions = 2;
+    run(ThreeMutations.class, Arrays.asList(ThreeMutationsTwoMeaningfullTests.class, NoTests.class),
+        ExecutionMode.NORMAL, "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldAnalyseMutantsUsingCompactCoverage() {
+    this.compactCoverage = true;
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldAnalyseMutantsReadFromMutantCache() {
+    this.mutantCacheDir = this.folder.getRoot();
+    run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "PRIMITIVE_RETURNS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+    assertThat(this.mutantCacheDir.list()).hasSize(1);
+  }
+
   @Test
   public void dryRunModeMarksMutantsAsNotStarted() {
     run(OneMutationOnly.class, OneMutationFullTest.class, ExecutionMode.DRY_RUN,
@@ -218,10 +355,17 @@ public class TestMutationTesting {
 
   private void run(Class<?> clazz, Class<?> test, ExecutionMode mode,
       final String ... mutators) {
+    run(clazz, Collections.singletonList(test), mode, mutators);
+  }
+
+  private void run(Class<?> clazz, List<Class<?>> testClasses, ExecutionMode mode,
+      final String ... mutators) {
 
     final ReportOptions data = new ReportOptions();
 
-    final Set<Predicate<String>> tests = Collections.singleton(isEqual(test.getName()));
+    final Set<Predicate<String>> tests = testClasses.stream()
+        .<Predicate<String>>map(t -> isEqual(t.getName()))
+        .collect(Collectors.toSet());
     data.setTargetTests(tests);
 
     final Set<String> mutees = Collections.singleton(clazz.getName() + "*");
@@ -261,7 +405,8 @@ public class TestMutationTesting {
 
     final CoverageGenerator coverageGenerator = new DefaultCoverageGenerator(
         null, coverageOptions, launchOptions, code, new NullCoverageExporter(),
-        timings, Verbosity.DEFAULT);
+        timings, Verbosity.DEFAULT, this.coverageMinions, this.compactCoverage,
+        CoverageStore.none());
 
     final CoverageDatabase coverageData = coverageGenerator.calculateCoverage(c -> true);
 
@@ -284,22 +429,45 @@ public class TestMutationTesting {
             coverageData), bas, emptyIntercpetor);
 
 
+    final MutantCache mutantCache = mutantCache(code, engine);
+
     final WorkerFactory wf = new WorkerFactory(null,
-        coverageOptions.getPitConfig(), mutationConfig, arguments,
+        coverageOptions.getPitConfig(), mutationConfig, arguments.withLoopGuard(this.loopGuard)
+            .withSchemata(this.schemata),
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
             data.getTimeoutConstant()), data.getVerbosity(), false, data.getClassPath()
-            .getLocalClassPath());
+            .getLocalClassPath(), WorkerSettings.defaults()
+                .withPool(this.pool)
+                .withMutantCache(mutantCache)
+                .withTestThreads(this.testThreads));
 
 
 
 
     final MutationTestBuilder builder = new MutationTestBuilder(mode, wf,
-        new NullHistory(), source, new DefaultGrouper(0));
+        new NullHistory(), () -> source, 1, new DefaultGrouper(this.unitSize),
+        Deadline.none());
 
     final List<MutationAnalysisUnit> tus = builder
         .createMutationTestUnits(codeClasses);
+    mutantCache.prepare(tus);
 
-    this.mae.run(tus);
+    try {
+      this.mae.run(tus);
+    } finally {
+      if (this.pool != null) {
+        this.pool.close();
+      }
+    }
+  }
+
+  private MutantCache mutantCache(CodeSource code, MutationEngine engine) {
+    if (this.mutantCacheDir == null) {
+      return MutantCache.none();
+    }
+    return new MutantCache(this.mutantCacheDir, engine.getName(), code,
+        () -> engine.createMutator(new ClassloaderByteArraySource(
+            IsolationUtils.getContextClassLoader())), 1);
   }
 
   private CoverageOptions createCoverageOptions(ReportOptions data) {
@@ -0,0 +1,96 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class CostBalancedGrouperTest {
+
+  private static final ClassName FOO = ClassName.fromString("foo");
+  private static final ClassName BAR = ClassName.fromString("bar");
+
+  private int index;
+
+  @Test
+  public void shouldNotCombineMutantsFromDifferentClasses() {
+    final CostBalancedGrouper testee = new CostBalancedGrouper(1, 0);
+    final List<List<MutationDetails>> actual = testee.groupMutations(null,
+        Arrays.asList(mutant(FOO, 1), mutant(BAR, 1)));
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual).allMatch(unit -> unit.stream().map(MutationDetails::getClassName).distinct().count() == 1);
+  }
+
+  @Test
+  public void shouldSplitExpensiveClassesIntoSeveralUnits() {
+    final CostBalancedGrouper testee = new CostBalancedGrouper(2, 0);
+    final List<MutationDetails> mutants = new ArrayList<>();
+    for (int i = 0; i != 8; i++) {
+      mutants.add(mutant(FOO, 100));
+    }
+    mutants.add(mutant(BAR, 1));
+
+    final List<List<MutationDetails>> actual = testee.groupMutations(null, mutants);
+
+    assertThat(actual).hasSize(9);
+  }
+
+  @Test
+  public void shouldKeepCheapMutantsTogether() {
+    final CostBalancedGrouper testee = new CostBalancedGrouper(1, 0);
+    final List<MutationDetails> mutants = new ArrayList<>();
+    for (int i = 0; i != 10; i++) {
+      mutants.add(mutant(FOO, 1));
+    }
+    mutants.add(mutant(BAR, 1000));
+
+    final List<List<MutationDetails>> actual = testee.groupMutations(null, mutants);
+
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldRespectMaximumUnitSize() {
+    final CostBalancedGrouper testee = new CostBalancedGrouper(1, 2);
+    final List<List<MutationDetails>> actual = testee.groupMutations(null,
+        Arrays.asList(mutant(FOO, 1), mutant(FOO, 1), mutant(FOO, 1), mutant(BAR, 1000)));
+
+    assertThat(actual).hasSize(3);
+  }
+
+  @Test
+  public void shouldPrioritiseUnitsByTestCost() {
+    final CostBalancedGrouper testee = new CostBalancedGrouper(1, 0);
+    final List<MutationDetails> cheap = Arrays.asList(mutant(FOO, 1), mutant(FOO, 1), mutant(FOO, 1));
+    final List<MutationDetails> expensive = Collections.singletonList(mutant(BAR, 500));
+
+    assertThat(testee.priority(expensive)).isGreaterThan(testee.priority(cheap));
+  }
+
+  @Test
+  public void shouldEstimateCostOfUncoveredMutantsAsOverhead() {
+    final MutationDetails uncovered = aMutationDetail().build();
+    assertThat(CostBalancedGrouper.cost(uncovered)).isEqualTo(CostBalancedGrouper.MUTANT_OVERHEAD);
+  }
+
+  private MutationDetails mutant(ClassName clazz, int testTime) {
+    this.index++;
+    return aMutationDetail()
+        .withId(aMutationId().withLocation(aLocation().withClass(clazz)).withIndex(this.index))
+        .withTestsInOrder(Collections.singletonList(new TestInfo("FooTest", "test" + this.index, testTime, Optional.empty(), 1)))
+        .build();
+  }
+
+}
@@ -0,0 +1,187 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.Deadline;
+import org.pitest.mutationtest.execute.MutantCacheFile;
+
+public class MutantCacheTest {
+
+  @Rule
+  public TemporaryFolder root = new TemporaryFolder();
+
+  @Mock
+  private CodeSource code;
+
+  @Mock
+  private Mutater mutater;
+
+  private final ClassName foo = ClassName.fromString("com.example.Foo");
+
+  private MutantCache testee;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(this.mutater.getMutation(any())).thenAnswer(
+        a -> new Mutant(null, new byte[] { 42 }));
+    classHashIs(BigInteger.ONE);
+    this.testee = new MutantCache(this.root.getRoot(), "gregor", this.code,
+        () -> this.mutater, 2);
+  }
+
+  @Test
+  public void shouldCacheMutantsOfUnitsToBeRun() throws IOException {
+    final MutationDetails mutant = coveredMutant(1);
+
+    this.testee.prepare(units(mutant));
+
+    final File file = this.testee.filesFor(Arrays.asList(mutant)).get(this.foo);
+    assertThat(MutantCacheFile.open(file.toPath()).get(mutant.getId()))
+        .contains(new byte[] { 42 });
+  }
+
+  @Test
+  public void shouldNotCacheMutantsWithoutCoverage() {
+    final MutationDetails mutant = aMutationDetail()
+        .withId(aMutationId().withLocation(aLocation().withClass(this.foo)))
+        .build();
+
+    this.testee.prepare(units(mutant));
+
+    assertThat(this.testee.filesFor(Arrays.asList(mutant))).isEmpty();
+    verify(this.mutater, never()).getMutation(any());
+  }
+
+  @Test
+  public void shouldNotRegenerateMutantsWhenClassUnchanged() {
+    final MutationDetails mutant = coveredMutant(1);
+    this.testee.prepare(units(mutant));
+
+    final Mutater unused = mock(Mutater.class);
+    new MutantCache(this.root.getRoot(), "gregor", this.code, () -> unused, 2)
+        .prepare(units(mutant));
+
+    verify(unused, never()).getMutation(any());
+  }
+
+  @Test
+  public void shouldNotShareMutantsBetweenEngines() {
+    final MutationDetails mutant = coveredMutant(1);
+    this.testee.prepare(units(mutant));
+
+    final Mutater other = mock(Mutater.class);
+    when(other.getMutation(any())).thenAnswer(a -> new Mutant(null, new byte[] { 7 }));
+    new MutantCache(this.root.getRoot(), "other", this.code, () -> other, 2)
+        .prepare(units(mutant));
+
+    verify(other).getMutation(mutant.getId());
+  }
+
+  @Test
+  public void shouldAddNewMutantsToExistingFile() throws IOException {
+    final MutationDetails first = coveredMutant(1);
+    final MutationDetails second = coveredMutant(2);
+    this.testee.prepare(units(first));
+    this.testee.prepare(units(first, second));
+
+    final File file = this.testee.filesFor(Arrays.asList(first)).get(this.foo);
+    assertThat(MutantCacheFile.open(file.toPath()).keys()).hasSize(2);
+  }
+
+  @Test
+  public void shouldReplaceFilesForChangedClasses() throws IOException {
+    final MutationDetails mutant = coveredMutant(1);
+    this.testee.prepare(units(mutant));
+    final File old = this.testee.filesFor(Arrays.asList(mutant)).get(this.foo);
+
+    classHashIs(BigInteger.TEN);
+    this.testee.prepare(units(mutant));
+    final File current = this.testee.filesFor(Arrays.asList(mutant)).get(this.foo);
+
+    assertThat(current).isNotEqualTo(old);
+    assertThat(Files.exists(current.toPath())).isTrue();
+    assertThat(Files.exists(old.toPath())).isFalse();
+  }
+
+  @Test
+  public void shouldProvideNoFilesWhenDisabled() {
+    final MutationDetails mutant = coveredMutant(1);
+    final MutantCache none = MutantCache.none();
+    none.prepare(units(mutant));
+    assertThat(none.filesFor(Arrays.asList(mutant))).isEmpty();
+  }
+
+  private List<MutationAnalysisUnit> units(MutationDetails... mutants) {
+    return Collections.singletonList(new MutationTestUnit(Arrays.asList(mutants), null, 1,
+        Deadline.none()));
+  }
+
+  private MutationDetails coveredMutant(int index) {
+    return aMutationDetail()
+        .withId(aMutationId().withLocation(aLocation().withClass(this.foo)).withIndex(index))
+        .withTestsInOrder(Collections.singletonList(
+            new TestInfo("FooTest", "aTest", 1, Optional.empty(), 1)))
+        .build();
+  }
+
+  private void classHashIs(BigInteger deepHash) {
+    final ClassHash hash = new ClassHash() {
+      @Override
+      public ClassIdentifier getId() {
+        return new ClassIdentifier(1, MutantCacheTest.this.foo);
+      }
+
+      @Override
+      public ClassName getName() {
+        return MutantCacheTest.this.foo;
+      }
+
+      @Override
+      public BigInteger getDeepHash() {
+        return deepHash;
+      }
+
+      @Override
+      public HierarchicalClassId getHierarchicalId() {
+        return new HierarchicalClassId(getId(), deepHash);
+      }
+    };
+    when(this.code.fetchClassHashes(any(Collection.class)))
+        .thenReturn(Collections.singletonList(hash));
+  }
+
+}
@@ -3,8 +3,10 @@ package org.pitest.mutationtest.build;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.pitest.bytecode.analysis.ClassTree;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
@@ -19,14 +21,19 @@ import org.pitest.process.LaunchOptions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 
@@ -48,6 +55,12 @@ public class MutationSourceTest {
   @Mock
   private TestPrioritiser      prioritiser;
 
+  @Mock
+  private MutationInterceptor  interceptor;
+
+  @Mock
+  private MutationInterceptor  afterPrescan;
+
   private final ClassName      foo = ClassName.fromClass(Foo.class);
 
   @Before
@@ -77,6 +90,78 @@ public class MutationSourceTest {
     assertEquals(expected, actual.getTestsInOrder());
   }
 
+  @Test
+  public void shouldNotMutateClassesAgainWhenFoundByPrescan() {
+    final DiscoveredMutants discovered = new DiscoveredMutants();
+    when(this.mutater.findMutations(any(ClassName.class)))
+        .thenReturn(makeMutations("foo"));
+    when(this.afterPrescan.intercept(any(), any(Mutater.class)))
+        .thenAnswer(a -> a.getArgument(0));
+
+    final Collection<MutationDetails> prescanned = sourceFor(discovered)
+        .createMutations(this.foo);
+    final Collection<MutationDetails> actual = sourceFor(discovered)
+        .createMutations(this.foo);
+
+    verify(this.mutater, times(1)).findMutations(this.foo);
+    assertThat(actual).containsExactlyElementsOf(prescanned);
+  }
+
+  @Test
+  public void shouldApplyOnlyRemainingInterceptorsToPrescannedMutants() {
+    final DiscoveredMutants discovered = new DiscoveredMutants();
+    final List<MutationDetails> mutations = makeMutations("foo");
+    final ClassTree tree = ClassTree.fromBytes(this.source.getBytes(this.foo.asJavaName()).get());
+    discovered.record(this.foo, tree, mutations);
+    when(this.afterPrescan.intercept(any(), any(Mutater.class)))
+        .thenAnswer(a -> a.getArgument(0));
+
+    new MutationSource(this.config, this.prioritiser, this.source,
+        this.interceptor, this.afterPrescan, discovered).createMutations(this.foo);
+
+    final ArgumentCaptor<ClassTree> begun = ArgumentCaptor.forClass(ClassTree.class);
+    verify(this.afterPrescan).begin(begun.capture());
+    assertThat(begun.getValue()).isSameAs(tree);
+    verify(this.afterPrescan).intercept(mutations, this.mutater);
+    verify(this.interceptor, never()).intercept(any(), any(Mutater.class));
+  }
+
+  @Test
+  public void shouldAssignTestsToPrescannedMutants() {
+    final DiscoveredMutants discovered = new DiscoveredMutants();
+    final List<TestInfo> expected = makeTestInfos(0);
+    final List<MutationDetails> mutations = makeMutations("foo");
+    discovered.record(this.foo, ClassTree.fromBytes(this.source.getBytes(this.foo.asJavaName()).get()),
+        mutations);
+    when(this.afterPrescan.intercept(any(), any(Mutater.class)))
+        .thenAnswer(a -> a.getArgument(0));
+    when(this.prioritiser.assignTests(any(MutationDetails.class))).thenReturn(
+        expected);
+
+    final MutationDetails actual = sourceFor(discovered).createMutations(this.foo)
+        .iterator().next();
+    assertEquals(expected, actual.getTestsInOrder());
+  }
+
+  @Test
+  public void shouldNotMutateClassesAgainWhenPrescanFoundNoMutants() {
+    final DiscoveredMutants discovered = new DiscoveredMutants();
+    when(this.mutater.findMutations(any(ClassName.class)))
+        .thenReturn(Collections.emptyList());
+
+    sourceFor(discovered).createMutations(this.foo);
+    final Collection<MutationDetails> actual = sourceFor(discovered)
+        .createMutations(this.foo);
+
+    verify(this.mutater, times(1)).findMutations(this.foo);
+    assertThat(actual).isEmpty();
+  }
+
+  private MutationSource sourceFor(DiscoveredMutants discovered) {
+    return new MutationSource(this.config, this.prioritiser, this.source,
+        CompoundMutationInterceptor.nullInterceptor(), this.afterPrescan, discovered);
+  }
+
   private List<TestInfo> makeTestInfos(final Integer... times) {
     return Arrays.stream(times)
             .map(timeToTestInfo())
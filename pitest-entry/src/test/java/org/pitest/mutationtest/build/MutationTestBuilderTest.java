@@ -1,23 +1,38 @@
 package org.pitest.mutationtest.build;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.ExecutionMode;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.Deadline;
 import org.pitest.mutationtest.incremental.NullHistory;
 
 public class MutationTestBuilderTest {
@@ -81,6 +96,148 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldCreateSameUnitsWhenDiscoveringInParallel() {
+    final List<ClassName> classes = classes(200);
+    final MutationSource source = sourceWithTwoMutantsPerClass();
+
+    final List<List<MutationIdentifier>> sequential = ids(new MutationTestBuilder(
+        ExecutionMode.NORMAL, this.wf, new NullHistory(), () -> source, 1,
+        new DefaultGrouper(0), Deadline.none()).createMutationTestUnits(classes));
+    final List<List<MutationIdentifier>> parallel = ids(new MutationTestBuilder(
+        ExecutionMode.NORMAL, this.wf, new NullHistory(), () -> source, 4,
+        new DefaultGrouper(0), Deadline.none()).createMutationTestUnits(classes));
+
+    assertThat(parallel).isEqualTo(sequential);
+  }
+
+  @Test
+  public void shouldUseSeparateSourceForEachDiscoveryThread() {
+    final Map<MutationSource, Set<Thread>> threadsPerSource = new ConcurrentHashMap<>();
+    final MutationTestBuilder testee = new MutationTestBuilder(ExecutionMode.NORMAL,
+        this.wf, new NullHistory(), () -> {
+          final MutationSource source = mock(MutationSource.class);
+          final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+          threadsPerSource.put(source, threads);
+          when(source.createMutations(any(ClassName.class))).thenAnswer(a -> {
+            threads.add(Thread.currentThread());
+            return Collections.emptyList();
+          });
+          return source;
+        }, 4, new DefaultGrouper(0), Deadline.none());
+
+    testee.createMutationTestUnits(classes(200));
+
+    assertThat(threadsPerSource.values()).allMatch(threads -> threads.size() == 1);
+  }
+
+  @Test
+  public void shouldRethrowErrorsFromParallelDiscovery() {
+    when(this.source.createMutations(any(ClassName.class)))
+        .thenThrow(new IllegalStateException("boom"));
+    final MutationTestBuilder testee = new MutationTestBuilder(ExecutionMode.NORMAL,
+        this.wf, new NullHistory(), () -> this.source, 4, new DefaultGrouper(0),
+        Deadline.none());
+
+    assertThatThrownBy(() -> testee.createMutationTestUnits(classes(10)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("boom");
+  }
+
+  @Test
+  public void shouldOrderMutantsByInformationPerCostWhenDeadlineSet() {
+    final MutationDetails slow = createDetails("foo", 1, 10);
+    final MutationDetails uncovered = createDetails("foo", 2);
+    final MutationDetails fast = createDetails("foo", 3, 1);
+    final MutationDetails survivedLastTime = createDetails("foo", 4, 1);
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(slow, uncovered, fast, survivedLastTime));
+
+    final List<MutationAnalysisUnit> actual = budgetedTestee(survivedLastTime.getId())
+        .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+
+    assertThat(actual.get(0).mutants())
+        .containsExactly(uncovered, fast, slow, survivedLastTime);
+  }
+
+  @Test
+  public void shouldRunCheapestUnitsFirstWhenDeadlineSet() {
+    final ClassName foo = ClassName.fromString("foo");
+    final ClassName bar = ClassName.fromString("bar");
+    final ClassName baz = ClassName.fromString("baz");
+    when(this.source.createMutations(foo)).thenReturn(Arrays.asList(createDetails("foo", 1, 10)));
+    when(this.source.createMutations(bar)).thenReturn(Arrays.asList(createDetails("bar", 1, 1)));
+    when(this.source.createMutations(baz)).thenReturn(Arrays.asList(createDetails("baz", 1)));
+
+    final List<MutationAnalysisUnit> actual = budgetedTestee()
+        .createMutationTestUnits(Arrays.asList(foo, bar, baz));
+
+    assertThat(actual).extracting(u -> u.mutants().iterator().next().getClassName())
+        .containsExactly(baz, bar, foo);
+  }
+
+  @Test
+  public void shouldCostMutantsByTimeAllowedForTheirTestsWhenDeadlineSet() {
+    final MutationDetails steady = createDetails("foo", 1, 10);
+    final MutationDetails erratic = createDetails("foo", 2, 1);
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(erratic, steady));
+
+    final MutationTestBuilder testee = budgetedTestee();
+    // test1 was quick during coverage, but its history allows it far longer
+    when(this.wf.timeoutStrategy()).thenReturn(new TimeoutLengthStrategy() {
+      @Override
+      public long getAllowedTime(long normalDuration) {
+        return normalDuration;
+      }
+
+      @Override
+      public long getAllowedTime(String test, boolean firstRun, long normalDuration) {
+        return test.equals("test1") ? 1000 : normalDuration;
+      }
+    });
+    final List<MutationAnalysisUnit> actual = testee
+        .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+
+    assertThat(actual.get(0).mutants()).containsExactly(steady, erratic);
+  }
+
+  private MutationTestBuilder budgetedTestee(MutationIdentifier... survived) {
+    final NullHistory history = new NullHistory() {
+      @Override
+      public Optional<DetectionStatus> previousStatus(MutationIdentifier id) {
+        return Arrays.asList(survived).contains(id)
+            ? Optional.of(DetectionStatus.SURVIVED) : Optional.empty();
+      }
+    };
+    when(this.wf.timeoutStrategy()).thenReturn(new PercentAndConstantTimeoutStrategy(2f, 0));
+    return new MutationTestBuilder(ExecutionMode.NORMAL, this.wf, history,
+        () -> this.source, 1, new DefaultGrouper(0), Deadline.at(Long.MAX_VALUE));
+  }
+
+  private static List<ClassName> classes(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> ClassName.fromString("com.example.Class" + i))
+        .collect(Collectors.toList());
+  }
+
+  private MutationSource sourceWithTwoMutantsPerClass() {
+    when(this.source.createMutations(any(ClassName.class))).thenAnswer(a -> {
+      final ClassName clazz = a.getArgument(0);
+      return new ArrayList<>(Arrays.asList(createDetails(clazz.asJavaName()),
+          createDetails(clazz.asJavaName())));
+    });
+    return this.source;
+  }
+
+  private static List<List<MutationIdentifier>> ids(List<MutationAnalysisUnit> units) {
+    return units.stream()
+        .map(u -> u.mutants().stream()
+            .map(MutationDetails::getId)
+            .collect(Collectors.toList()))
+        .collect(Collectors.toList());
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
@@ -93,7 +250,17 @@ public class MutationTestBuilderTest {
 
   private void makeTesteeWithUnitSizeOf(int unitSize) {
     this.testee = new MutationTestBuilder(ExecutionMode.NORMAL, this.wf, new NullHistory(),
-        this.source, new DefaultGrouper(unitSize));
+        () -> this.source, 1, new DefaultGrouper(unitSize), Deadline.none());
+  }
+
+  private static MutationDetails createDetails(String clazz, int index, long... testTimes) {
+    final MutationDetails details = new MutationDetails(aMutationId().withLocation(aLocation(clazz))
+        .withIndex(index).build(), "", "desc", 42, 0);
+    for (final long time : testTimes) {
+      details.addTestsInOrder(Collections.singletonList(
+          new TestInfo("foo", "test" + time, (int) time, Optional.empty(), 1)));
+    }
+    return details;
   }
 
   public static MutationDetails createDetails(String clazz) {
@@ -7,12 +7,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
@@ -24,6 +26,7 @@ import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.Deadline;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.util.Verbosity;
@@ -54,7 +57,7 @@ public class MutationTestUnitTest {
     this.tests = new ArrayList<>();
     this.testee = new MutationTestUnit(this.mutations,
         new WorkerFactory(null, TestPluginArguments.defaults(), this.mutationConfig, EngineArguments.arguments(), this.timeout,
-            Verbosity.DEFAULT, false, null));
+            Verbosity.DEFAULT, false, null, WorkerSettings.defaults()), 1, Deadline.none());
 
   }
 
@@ -69,10 +72,22 @@ public class MutationTestUnitTest {
   }
 
   @Test
-  public void shouldReportPriorityBasedOnNumberOfMutations() {
-    this.mutations.add(MutationDetailsMother.aMutationDetail().build());
+  public void shouldNotStartMutantsOnceDeadlinePassed() throws Exception {
+    addMutation();
+    this.mutations.get(0).addTestsInOrder(
+        Collections.singletonList(new TestInfo("foo", "fooTest", 1, Optional.empty(), 1)));
+    this.testee = new MutationTestUnit(this.mutations, null, 1, Deadline.at(1));
+
+    final MutationMetaData actual = this.testee.call();
+
+    assertThat(actual.getMutations()).extracting(MutationResult::getStatus)
+        .containsExactly(DetectionStatus.NOT_STARTED);
+  }
+
+  @Test
+  public void shouldReportSuppliedPriority() {
     this.testee = new MutationTestUnit(MutationDetailsMother.aMutationDetail()
-        .build(42), null);
+        .build(1), null, 42, Deadline.none());
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
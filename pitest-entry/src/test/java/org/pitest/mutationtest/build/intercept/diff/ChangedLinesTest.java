@@ -0,0 +1,122 @@
+package org.pitest.mutationtest.build.intercept.diff;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class ChangedLinesTest {
+
+  @Test
+  public void marksAddedLinesAsChanged() {
+    final ChangedLines testee = ChangedLines.parse(Arrays.asList(
+        "diff --git a/src/main/java/com/example/Foo.java b/src/main/java/com/example/Foo.java",
+        "--- a/src/main/java/com/example/Foo.java",
+        "+++ b/src/main/java/com/example/Foo.java",
+        "@@ -10,2 +10,3 @@ class Foo {",
+        " unchanged",
+        "-removed",
+        "+added",
+        "+added"));
+
+    assertThat(testee.isChanged("com/example/Foo.java", 10)).isFalse();
+    assertThat(testee.isChanged("com/example/Foo.java", 11)).isTrue();
+    assertThat(testee.isChanged("com/example/Foo.java", 12)).isTrue();
+    assertThat(testee.isChanged("com/example/Foo.java", 13)).isFalse();
+  }
+
+  @Test
+  public void readsHunksWithoutContext() {
+    final ChangedLines testee = ChangedLines.parse(Arrays.asList(
+        "+++ b/com/example/Foo.java",
+        "@@ -3 +3 @@",
+        "-old",
+        "+new",
+        "@@ -20,0 +21,2 @@",
+        "+one",
+        "+two"));
+
+    assertThat(testee.isChanged("com/example/Foo.java", 3)).isTrue();
+    assertThat(testee.isChanged("com/example/Foo.java", 21)).isTrue();
+    assertThat(testee.isChanged("com/example/Foo.java", 22)).isTrue();
+    assertThat(testee.isChanged("com/example/Foo.java", 20)).isFalse();
+  }
+
+  @Test
+  public void doesNotMatchFilesInOtherPackages() {
+    final ChangedLines testee = ChangedLines.parse(Arrays.asList(
+        "+++ b/src/com/other/Foo.java",
+        "@@ -1 +1 @@",
+        "+new"));
+
+    assertThat(testee.isChanged("com/example/Foo.java", 1)).isFalse();
+    assertThat(testee.isChanged("com/other/Foo.java", 1)).isTrue();
+  }
+
+  @Test
+  public void doesNotMatchFilesWhoseNameEndsTheSame() {
+    final ChangedLines testee = ChangedLines.parse(Arrays.asList(
+        "+++ b/com/example/BarFoo.java",
+        "@@ -1 +1 @@",
+        "+new"));
+
+    assertThat(testee.isChanged("com/example/Foo.java", 1)).isFalse();
+  }
+
+  @Test
+  public void ignoresTimestampsAfterPaths() {
+    final ChangedLines testee = ChangedLines.parse(Arrays.asList(
+        "+++ com/example/Foo.java\t2024-01-01 10:00:00.000000000 +0000",
+        "@@ -1 +1 @@",
+        "+new"));
+
+    assertThat(testee.isChanged("com/example/Foo.java", 1)).isTrue();
+  }
+
+  @Test
+  public void marksEveryLineOfNewFilesAsChanged() {
+    final ChangedLines testee = ChangedLines.parse(Collections.emptyList(),
+        Arrays.asList("src/main/java/com/example/Foo.java"));
+
+    assertThat(testee.isChanged("com/example/Foo.java", 1)).isTrue();
+    assertThat(testee.isChanged("com/example/Foo.java", 1000)).isTrue();
+    assertThat(testee.isChanged("com/other/Foo.java", 1)).isFalse();
+  }
+
+  @Test
+  public void marksNothingForDeletedFiles() {
+    final ChangedLines testee = ChangedLines.parse(Arrays.asList(
+        "--- a/com/example/Foo.java",
+        "+++ /dev/null",
+        "@@ -1,2 +0,0 @@",
+        "-one",
+        "-two",
+        "+++ b/com/example/Bar.java",
+        "@@ -1 +1 @@",
+        "+new"));
+
+    assertThat(testee.isChanged("com/example/Foo.java", 1)).isFalse();
+    assertThat(testee.isChanged("com/example/Bar.java", 1)).isTrue();
+  }
+
+  @Test
+  public void doesNotTreatRemovedLinesStartingWithDashesAsHeaders() {
+    final ChangedLines testee = ChangedLines.parse(Arrays.asList(
+        "+++ b/com/example/Foo.java",
+        "@@ -1,2 +1,2 @@",
+        "--- a comment",
+        "+++ a comment",
+        " context"));
+
+    assertThat(testee.isChanged("com/example/Foo.java", 1)).isTrue();
+    assertThat(testee.isChanged("com/example/Foo.java", 2)).isFalse();
+  }
+
+  @Test
+  public void isEmptyForEmptyDiff() {
+    assertThat(ChangedLines.parse(Collections.emptyList()).isEmpty()).isTrue();
+  }
+
+}
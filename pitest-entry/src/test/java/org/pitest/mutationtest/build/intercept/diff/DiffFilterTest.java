@@ -0,0 +1,321 @@
+package org.pitest.mutationtest.build.intercept.diff;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.classpath.CodeSource;
+import org.pitest.classpath.DirectoryClassPathRoot;
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.plugin.FeatureSetting;
+import org.pitest.util.PitError;
+import org.pitest.verifier.interceptors.FactoryVerifier;
+
+public class DiffFilterTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  DiffFilter testee = new DiffFilter(ChangedLines.parse(Arrays.asList(
+      "+++ b/src/main/java/com/example/Foo.java",
+      "@@ -10 +10 @@",
+      "-original",
+      "+changed",
+      "+++ b/Bar.java",
+      "@@ -3 +3 @@",
+      "-original",
+      "+changed")));
+
+  @Test
+  public void isOnChain() {
+    FactoryVerifier.confirmFactory(new DiffFilterFactory())
+        .isOnChain();
+  }
+
+  @Test
+  public void isOffByDefault() {
+    FactoryVerifier.confirmFactory(new DiffFilterFactory())
+        .isOffByDefault();
+  }
+
+  @Test
+  public void shouldDeclareTypeAsPreScanFilter() {
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.PRE_SCAN_FILTER);
+  }
+
+  @Test
+  public void keepsMutantsOnChangedLines() {
+    final MutationDetails changed = mutant("com.example.Foo", "Foo.java", 10);
+    final MutationDetails unchanged = mutant("com.example.Foo", "Foo.java", 11);
+
+    assertThat(this.testee.intercept(Arrays.asList(changed, unchanged), null))
+        .containsExactly(changed);
+  }
+
+  @Test
+  public void removesMutantsInSameNamedFilesOfOtherPackages() {
+    final MutationDetails mutant = mutant("com.other.Foo", "Foo.java", 10);
+
+    assertThat(this.testee.intercept(Collections.singletonList(mutant), null)).isEmpty();
+  }
+
+  @Test
+  public void matchesClassesInTheDefaultPackage() {
+    final MutationDetails mutant = mutant("Bar", "Bar.java", 3);
+
+    assertThat(this.testee.intercept(Collections.singletonList(mutant), null))
+        .containsExactly(mutant);
+  }
+
+  @Test
+  public void limitsTestsToThoseReferringToMutatedClasses() {
+    this.testee.initialise(codeOf(Arrays.asList(Target.class, Caller.class),
+        Arrays.asList(CallerTest.class, TargetTest.class, OtherTest.class)));
+
+    final Predicate<ClassName> actual = this.testee.limitTests(Collections.singletonList(
+        mutant(Target.class.getName(), "DiffFilterTest.java", 1)));
+
+    assertThat(actual.test(ClassName.fromClass(TargetTest.class))).isTrue();
+    assertThat(actual.test(ClassName.fromClass(CallerTest.class))).isTrue();
+    assertThat(actual.test(ClassName.fromClass(OtherTest.class))).isFalse();
+  }
+
+  @Test
+  public void limitsTestsToThoseReferringToServicesOfMutatedProviders() throws IOException {
+    final File root = this.folder.newFolder("classes");
+    writeServices(root, Service.class, Provider.class);
+    this.testee.initialise(codeOf(Arrays.asList(Service.class, Provider.class),
+        Arrays.asList(ServiceTest.class, OtherTest.class), root));
+
+    final Predicate<ClassName> actual = this.testee.limitTests(Collections.singletonList(
+        mutant(Provider.class.getName(), "DiffFilterTest.java", 1)));
+
+    assertThat(actual.test(ClassName.fromClass(ServiceTest.class))).isTrue();
+    assertThat(actual.test(ClassName.fromClass(OtherTest.class))).isFalse();
+  }
+
+  @Test
+  public void runsAllTestsForProvidersOfServicesOutsideTheProject() throws IOException {
+    final File root = this.folder.newFolder("classes");
+    writeServices(root, Runnable.class, Provider.class);
+    this.testee.initialise(codeOf(Collections.singletonList(Provider.class),
+        Arrays.asList(ServiceTest.class, OtherTest.class), root));
+
+    final Predicate<ClassName> actual = this.testee.limitTests(Collections.singletonList(
+        mutant(Provider.class.getName(), "DiffFilterTest.java", 1)));
+
+    assertThat(actual.test(ClassName.fromClass(OtherTest.class))).isTrue();
+  }
+
+  @Test
+  public void runsNoTestsWhenNoMutantsRemain() {
+    this.testee.initialise(codeOf(Collections.singletonList(Target.class),
+        Collections.singletonList(TargetTest.class)));
+
+    assertThat(this.testee.limitTests(Collections.emptyList())
+        .test(ClassName.fromClass(TargetTest.class))).isFalse();
+  }
+
+  @Test
+  public void readsDiffFromFile() throws IOException {
+    final File diff = this.folder.newFile("changes.diff");
+    Files.write(diff.toPath(), Arrays.asList("+++ b/com/example/Foo.java",
+        "@@ -5 +5 @@", "-original", "+changed"), StandardCharsets.UTF_8);
+
+    final DiffFilter filter = (DiffFilter) new DiffFilterFactory()
+        .createInterceptor(params("file", diff.getAbsolutePath()));
+
+    final MutationDetails mutant = mutant("com.example.Foo", "Foo.java", 5);
+    assertThat(filter.intercept(Collections.singletonList(mutant), null))
+        .containsExactly(mutant);
+  }
+
+  @Test
+  public void errorsWhenNeitherFileNorBaseGiven() {
+    assertThatThrownBy(() -> new DiffFilterFactory().createInterceptor(params("other", "foo")))
+        .isInstanceOf(PitError.class);
+  }
+
+  @Test
+  public void readsDiffOncePerFactory() throws IOException {
+    final File diff = this.folder.newFile("changes.diff");
+    Files.write(diff.toPath(), Arrays.asList("+++ b/com/example/Foo.java",
+        "@@ -5 +5 @@", "-original", "+changed"), StandardCharsets.UTF_8);
+    final DiffFilterFactory factory = new DiffFilterFactory();
+    factory.createInterceptor(params("file", diff.getAbsolutePath()));
+    Files.delete(diff.toPath());
+
+    final DiffFilter filter = (DiffFilter) factory
+        .createInterceptor(params("file", diff.getAbsolutePath()));
+
+    final MutationDetails mutant = mutant("com.example.Foo", "Foo.java", 5);
+    assertThat(filter.intercept(Collections.singletonList(mutant), null))
+        .containsExactly(mutant);
+  }
+
+  @Test
+  public void errorsWhenFileCannotBeRead() {
+    final String missing = new File(this.folder.getRoot(), "missing.diff").getAbsolutePath();
+    assertThatThrownBy(() -> new DiffFilterFactory().createInterceptor(params("file", missing)))
+        .isInstanceOf(PitError.class);
+  }
+
+  @Test
+  public void treatsFilesNotYetAddedToGitAsChanged() throws Exception {
+    final File repo = this.folder.newFolder("repo");
+    git(repo, "init", "-q");
+    git(repo, "-c", "user.name=test", "-c", "user.email=test@example.com",
+        "commit", "-q", "--allow-empty", "-m", "initial");
+    final File source = new File(repo, "src/com/example/Foo.java");
+    source.getParentFile().mkdirs();
+    Files.write(source.toPath(), Arrays.asList("class Foo {", "}"),
+        StandardCharsets.UTF_8);
+
+    final ReportOptions data = FactoryVerifier.emptyOptions();
+    data.setProjectBase(repo.toPath());
+    final DiffFilter filter = (DiffFilter) new DiffFilterFactory()
+        .createInterceptor(params("base", "HEAD", data));
+
+    final MutationDetails mutant = mutant("com.example.Foo", "Foo.java", 2);
+    assertThat(filter.intercept(Collections.singletonList(mutant), null))
+        .containsExactly(mutant);
+  }
+
+  private static void git(File dir, String... args) throws Exception {
+    final List<String> command = new ArrayList<>();
+    command.add("git");
+    command.addAll(Arrays.asList(args));
+    final Process process = new ProcessBuilder(command)
+        .directory(dir)
+        .inheritIO()
+        .start();
+    assertThat(process.waitFor()).isZero();
+  }
+
+  private static InterceptorParameters params(String key, String value) {
+    return params(key, value, FactoryVerifier.emptyOptions());
+  }
+
+  private static InterceptorParameters params(String key, String value,
+      ReportOptions data) {
+    final Map<String, List<String>> values = new HashMap<>();
+    values.put(key, Collections.singletonList(value));
+    final FeatureSetting fs = new FeatureSetting("DIFF", null, values);
+    return new InterceptorParameters(fs, data, null, null, null, null);
+  }
+
+  private static MutationDetails mutant(String clazz, String file, int line) {
+    return aMutationDetail()
+        .withId(aMutationId().withLocation(aLocation(clazz)))
+        .withFilename(file)
+        .withLineNumber(line)
+        .build();
+  }
+
+  private static void writeServices(File root, Class<?> service, Class<?> provider)
+      throws IOException {
+    final File services = new File(root, "META-INF/services");
+    services.mkdirs();
+    Files.write(new File(services, service.getName()).toPath(),
+        Arrays.asList("# comment", provider.getName()), StandardCharsets.UTF_8);
+  }
+
+  private static CodeSource codeOf(Collection<Class<?>> code, Collection<Class<?>> tests) {
+    return codeOf(code, tests, null);
+  }
+
+  private static CodeSource codeOf(Collection<Class<?>> code, Collection<Class<?>> tests,
+      File root) {
+    final ClassloaderByteArraySource bytes = ClassloaderByteArraySource.fromContext();
+    final CodeSource source = mock(CodeSource.class);
+    if (root != null) {
+      when(source.getClassPath()).thenReturn(new ClassPath(new DirectoryClassPathRoot(root)));
+    }
+    when(source.getAllClassAndTestNames()).thenReturn(names(code, tests));
+    when(source.getTestClassNames()).thenReturn(names(tests));
+    when(source.fetchClassBytes(any(ClassName.class)))
+        .thenAnswer(a -> bytes.getBytes(a.<ClassName>getArgument(0).asJavaName()));
+    return source;
+  }
+
+  @SafeVarargs
+  private static HashSet<ClassName> names(Collection<Class<?>>... classes) {
+    final HashSet<ClassName> names = new HashSet<>();
+    for (final Collection<Class<?>> each : classes) {
+      each.forEach(c -> names.add(ClassName.fromClass(c)));
+    }
+    return names;
+  }
+
+  static class Target {
+    int value() {
+      return 1;
+    }
+  }
+
+  static class Caller {
+    int call() {
+      return new Target().value();
+    }
+  }
+
+  static class TargetTest {
+    void test() {
+      new Target().value();
+    }
+  }
+
+  static class CallerTest {
+    void test() {
+      new Caller().call();
+    }
+  }
+
+  interface Service {
+  }
+
+  static class Provider implements Service, Runnable {
+    @Override
+    public void run() {
+    }
+  }
+
+  static class ServiceTest {
+    Service service;
+  }
+
+  static class OtherTest {
+    void test() {
+      // refers to nothing in the project
+    }
+  }
+
+}
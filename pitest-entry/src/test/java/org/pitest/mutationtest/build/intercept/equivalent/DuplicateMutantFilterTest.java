@@ -0,0 +1,113 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.build.DuplicateMutants;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.verifier.interceptors.FactoryVerifier;
+
+public class DuplicateMutantFilterTest {
+
+  DuplicateMutants      duplicates = new DuplicateMutants();
+  DuplicateMutantFilter testee     = new DuplicateMutantFilter(this.duplicates);
+
+  @Test
+  public void isOnChain() {
+    FactoryVerifier.confirmFactory(new DuplicateMutantFilterFactory())
+        .isOnChain();
+  }
+
+  @Test
+  public void isOffByDefault() {
+    FactoryVerifier.confirmFactory(new DuplicateMutantFilterFactory())
+        .isOffByDefault();
+  }
+
+  @Test
+  public void shouldDeclareTypeAsFilter() {
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.FILTER);
+  }
+
+  @Test
+  public void runsOneOfEachSetOfIdenticalMutants() {
+    final GregorMutater mutater = mutater("INLINE_CONSTS", "PRIMITIVE_RETURNS");
+    final List<MutationDetails> mutations = mutater.findMutations(ClassName.fromClass(ReturnsOne.class));
+    assertThat(mutations).hasSize(2);
+
+    final Collection<MutationDetails> actual = this.testee.intercept(mutations, mutater);
+
+    assertThat(actual).containsExactly(mutations.get(0));
+    assertThat(this.duplicates.of(actual.iterator().next())).containsExactly(mutations.get(1));
+  }
+
+  @Test
+  public void runsMutantsThatDiffer() {
+    final GregorMutater mutater = mutater("INLINE_CONSTS", "PRIMITIVE_RETURNS");
+    final List<MutationDetails> mutations = mutater.findMutations(ClassName.fromClass(ReturnsTwo.class));
+    assertThat(mutations).hasSize(2);
+
+    final Collection<MutationDetails> actual = this.testee.intercept(mutations, mutater);
+
+    assertThat(actual).containsExactlyElementsOf(mutations);
+    assertThat(actual).allMatch(m -> this.duplicates.of(m).isEmpty());
+  }
+
+  @Test
+  public void keepsDuplicatesWhenDescriptionChanged() {
+    final GregorMutater mutater = mutater("INLINE_CONSTS", "PRIMITIVE_RETURNS");
+    final List<MutationDetails> mutations = mutater.findMutations(ClassName.fromClass(ReturnsOne.class));
+
+    final MutationDetails actual = this.testee.intercept(mutations, mutater).iterator().next()
+        .withDescription("changed");
+
+    assertThat(this.duplicates.of(actual)).containsExactly(mutations.get(1));
+  }
+
+  @Test
+  public void ignoresUnusedValuesPushedOntoTheStack() {
+    final byte[] pushesAndPops = DuplicateMutantFilter.normalise(
+        bytesOf(mutater("PRIMITIVE_RETURNS"), ReturnsOne.class));
+    final byte[] returnsZero = DuplicateMutantFilter.normalise(
+        bytesOf(mutater("INLINE_CONSTS"), ReturnsOne.class));
+
+    assertThat(pushesAndPops).isEqualTo(returnsZero);
+  }
+
+  private static byte[] bytesOf(GregorMutater mutater, Class<?> clazz) {
+    final MutationDetails only = mutater.findMutations(ClassName.fromClass(clazz)).get(0);
+    return mutater.getMutation(only.getId()).getBytes();
+  }
+
+  private static GregorMutater mutater(String... names) {
+    final List<MethodMutatorFactory> mutators = new ArrayList<>();
+    for (final String each : names) {
+      mutators.addAll(Mutator.byName(each));
+    }
+    return new GregorMutater(ClassloaderByteArraySource.fromContext(),
+        m -> !m.getName().equals("<init>"), mutators);
+  }
+
+  static class ReturnsOne {
+    int one() {
+      return 1;
+    }
+  }
+
+  static class ReturnsTwo {
+    int two() {
+      return 2;
+    }
+  }
+
+}
@@ -8,6 +8,7 @@ import org.pitest.mutationtest.build.InterceptorParameters;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationInterceptorFactory;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.incremental.BinaryHistoryFactory;
 import org.pitest.mutationtest.filter.LimitNumberOfMutationsPerClassFilterFactory;
 import org.pitest.mutationtest.report.csv.CSVReportFactory;
 import org.pitest.plugin.Feature;
@@ -48,8 +49,9 @@ public class PluginServicesTest {
   }
 
   @Test
-  public void noHistoryStoresProvidedByDefault() {
-    assertThat(testee.findHistory()).isEmpty();
+  public void onlyBinaryHistoryStoreProvidedByDefault() {
+    assertThat(testee.findHistory()).hasOnlyElementsOfType(BinaryHistoryFactory.class)
+        .hasSize(1);
   }
 
 
@@ -9,7 +9,10 @@ import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
+import org.pitest.mutationtest.build.CostBalancedGrouperFactory;
+import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.incremental.BinaryHistoryFactory;
 import org.pitest.mutationtest.incremental.DefaultHistoryFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.testapi.TestGroupConfig;
@@ -79,6 +82,17 @@ public class SettingsFactoryTest {
             .noneMatch(path -> path.getFileName().toString().equals("linecoverage.xml"));
   }
 
+  @Test
+  public void usesDefaultGrouperByDefault() {
+    assertTrue(this.testee.getMutationGrouper() instanceof DefaultMutationGrouperFactory);
+  }
+
+  @Test
+  public void usesCostBalancedGrouperWhenSchedulingByCost() {
+    this.options.setScheduleByCost(true);
+    assertTrue(this.testee.getMutationGrouper() instanceof CostBalancedGrouperFactory);
+  }
+
   @Test
   public void shouldReturnEngineWhenRequestedEngineIsKnown() {
     assertTrue(this.testee.createEngine() instanceof GregorEngineFactory);
@@ -187,4 +201,10 @@ public class SettingsFactoryTest {
     assertThat(this.testee.createHistory()).isInstanceOf(DefaultHistoryFactory.class);
   }
 
+  @Test
+  public void producesBinaryHistoryStoreWhenFeatureEnabled() {
+    this.options.setFeatures(Arrays.asList("+binary_history"));
+    assertThat(this.testee.createHistory()).isInstanceOf(BinaryHistoryFactory.class);
+  }
+
 }
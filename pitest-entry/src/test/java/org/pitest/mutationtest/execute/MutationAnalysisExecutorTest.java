@@ -0,0 +1,212 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.DuplicateMutants;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class MutationAnalysisExecutorTest {
+
+  private final List<MutationResult> reported   = new ArrayList<>();
+  private final DuplicateMutants     duplicates = new DuplicateMutants();
+
+  @Test
+  public void reportsResultsOfMutantsRun() {
+    final MutationDetails mutant = mutant(1);
+    final MutationStatusTestPair status = MutationStatusTestPair.notAnalysed(1, DetectionStatus.KILLED);
+
+    run(result(mutant, status));
+
+    assertThat(this.reported).containsExactly(new MutationResult(mutant, status));
+  }
+
+  @Test
+  public void givesDuplicatesTheResultOfTheMutantRun() {
+    final MutationDetails duplicate = mutant(2);
+    final MutationDetails mutant = mutant(1);
+    this.duplicates.register(mutant, Collections.singletonList(duplicate));
+    final MutationStatusTestPair status = MutationStatusTestPair.notAnalysed(1, DetectionStatus.SURVIVED);
+
+    run(result(mutant, status));
+
+    assertThat(this.reported).containsExactlyInAnyOrder(new MutationResult(mutant, status),
+        new MutationResult(duplicate, status));
+  }
+
+  @Test
+  public void givesDuplicatesTheTestsOfTheMutantRun() {
+    final MutationDetails duplicate = mutant(2);
+    final MutationDetails mutant = mutant(1);
+    mutant.addTestsInOrder(Collections.singletonList(test(10)));
+    this.duplicates.register(mutant, Collections.singletonList(duplicate));
+
+    run(result(mutant, MutationStatusTestPair.notAnalysed(1, DetectionStatus.KILLED)));
+
+    assertThat(duplicate.getTestsInOrder()).containsExactly(test(10));
+  }
+
+  @Test
+  public void estimatesTimeSavedByNotRunningDuplicates() {
+    final MutationDetails mutant = mutant(1);
+    this.duplicates.register(mutant, Arrays.asList(mutant(2), mutant(3)));
+    mutant.addTestsInOrder(Arrays.asList(test(10), test(20), test(40)));
+
+    final MutationAnalysisExecutor testee = run(result(mutant,
+        MutationStatusTestPair.notAnalysed(2, DetectionStatus.KILLED)));
+
+    assertThat(testee.duplicatesNotRun()).isEqualTo(2);
+    assertThat(testee.duplicateMillisSaved()).isEqualTo(60);
+  }
+
+  @Test
+  public void reportsMutantsOfRemainingUnitsAsNotStartedOnceStopped() {
+    final MutationDetails first = mutant(1);
+    final MutationDetails second = mutant(2);
+    second.addTestsInOrder(Collections.singletonList(test(1)));
+    final MutationDetails uncovered = mutant(3);
+    final MutationStatusTestPair killed = MutationStatusTestPair.notAnalysed(1, DetectionStatus.KILLED);
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1, r -> r,
+        Collections.singletonList(new Recorder()), this.duplicates,
+        () -> !this.reported.isEmpty());
+    testee.run(Arrays.asList(new Fixed(result(first, killed)),
+        new Blocking(result(second, killed), new CountDownLatch(1)),
+        new Fixed(result(uncovered, killed))));
+
+    assertThat(testee.terminatedEarly()).isTrue();
+    assertThat(this.reported).extracting(MutationResult::getStatus)
+        .containsExactly(DetectionStatus.KILLED, DetectionStatus.NOT_STARTED,
+            DetectionStatus.NO_COVERAGE);
+  }
+
+  @Test
+  public void reportsResultsOfUnitsThatCompletedBeforeBeingStopped() {
+    final MutationStatusTestPair killed = MutationStatusTestPair.notAnalysed(1, DetectionStatus.KILLED);
+    // with a single thread, the blocking unit starting means the unit
+    // before it has completed
+    final CountDownLatch laterUnitDone = new CountDownLatch(1);
+
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1, r -> r,
+        Collections.singletonList(new Recorder()), this.duplicates,
+        () -> !this.reported.isEmpty() && awaitUninterruptibly(laterUnitDone));
+    testee.run(Arrays.asList(new Fixed(result(mutant(1), killed)),
+        new Fixed(result(mutant(2), killed)),
+        new Blocking(result(mutant(3), killed), laterUnitDone)));
+
+    assertThat(testee.terminatedEarly()).isTrue();
+    assertThat(this.reported).extracting(MutationResult::getStatus)
+        .containsExactly(DetectionStatus.KILLED, DetectionStatus.KILLED,
+            DetectionStatus.NO_COVERAGE);
+  }
+
+  @Test
+  public void runsEveryUnitWhenNotStopped() {
+    final MutationAnalysisExecutor testee = run(result(mutant(1),
+        MutationStatusTestPair.notAnalysed(1, DetectionStatus.KILLED)));
+
+    assertThat(testee.terminatedEarly()).isFalse();
+  }
+
+  private MutationAnalysisExecutor run(MutationResult result) {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1, r -> r,
+        Collections.singletonList(new Recorder()), this.duplicates, () -> false);
+    testee.run(Collections.singletonList(new Fixed(result)));
+    return testee;
+  }
+
+  private static boolean awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+      return true;
+    } catch (final InterruptedException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  private static MutationResult result(MutationDetails mutant, MutationStatusTestPair status) {
+    return new MutationResult(mutant, status);
+  }
+
+  private static MutationDetails mutant(int index) {
+    return aMutationDetail().withId(aMutationId().withIndex(index)).build();
+  }
+
+  private static TestInfo test(int time) {
+    return new TestInfo("foo", "test" + time, time, Optional.empty(), 1);
+  }
+
+  private class Recorder implements MutationResultListener {
+    @Override
+    public void runStart() {
+    }
+
+    @Override
+    public void handleMutationResult(ClassMutationResults results) {
+      MutationAnalysisExecutorTest.this.reported.addAll(results.getMutations());
+    }
+
+    @Override
+    public void runEnd() {
+    }
+  }
+
+  private static class Fixed implements MutationAnalysisUnit {
+    private final MutationResult result;
+
+    Fixed(MutationResult result) {
+      this.result = result;
+    }
+
+    @Override
+    public MutationMetaData call() throws InterruptedException {
+      return new MutationMetaData(new ArrayList<>(Collections.singletonList(this.result)));
+    }
+
+    @Override
+    public int priority() {
+      return 0;
+    }
+
+    @Override
+    public Collection<MutationDetails> mutants() {
+      return Collections.singletonList(this.result.getDetails());
+    }
+  }
+
+  private static class Blocking extends Fixed {
+    private final CountDownLatch started;
+
+    Blocking(MutationResult result, CountDownLatch started) {
+      super(result);
+      this.started = started;
+    }
+
+    @Override
+    public MutationMetaData call() throws InterruptedException {
+      this.started.countDown();
+      // runs until cancelled
+      Thread.sleep(Long.MAX_VALUE);
+      return super.call();
+    }
+  }
+
+}
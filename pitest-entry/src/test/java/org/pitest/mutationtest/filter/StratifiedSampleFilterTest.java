@@ -0,0 +1,126 @@
+package org.pitest.mutationtest.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Test;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.build.TestPrioritiser;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.verifier.interceptors.FactoryVerifier;
+
+public class StratifiedSampleFilterTest {
+
+  private final Set<Integer> uncovered = new HashSet<>();
+  private final TestPrioritiser prioritiser = m -> this.uncovered.contains(m.getFirstIndex())
+      ? Collections.emptyList()
+      : Collections.singletonList(new TestInfo("foo", "test", 1, Optional.empty(), 1));
+
+  private Mutater unused;
+
+  @Test
+  public void isOnChain() {
+    FactoryVerifier.confirmFactory(new StratifiedSampleFilterFactory())
+        .isOnChain();
+  }
+
+  @Test
+  public void isOffByDefault() {
+    FactoryVerifier.confirmFactory(new StratifiedSampleFilterFactory())
+        .isOffByDefault();
+  }
+
+  @Test
+  public void samplesGivenPercentageOfEachMutator() {
+    final List<MutationDetails> input = make("a", 1, 20);
+    input.addAll(make("b", 21, 30));
+
+    final Collection<MutationDetails> actual = testee(10, 0).intercept(input, this.unused);
+
+    assertThat(actual).filteredOn(m -> m.getMutator().equals("a")).hasSize(2);
+    assertThat(actual).filteredOn(m -> m.getMutator().equals("b")).hasSize(1);
+  }
+
+  @Test
+  public void weightsSampledMutantsByTheMutantsTheyStandInFor() {
+    final List<MutationDetails> input = make("a", 1, 20);
+    input.addAll(make("b", 21, 30));
+
+    final Collection<MutationDetails> actual = testee(10, 0).intercept(input, this.unused);
+
+    assertThat(actual).filteredOn(m -> m.getMutator().equals("a"))
+        .allMatch(m -> m.getSamplingWeight() == 10);
+    assertThat(actual).filteredOn(m -> m.getMutator().equals("b"))
+        .allMatch(m -> m.getSamplingWeight() == 10);
+  }
+
+  @Test
+  public void samplesAtLeastOneMutantOfEachMutator() {
+    final List<MutationDetails> input = make("a", 1, 3);
+
+    final Collection<MutationDetails> actual = testee(1, 0).intercept(input, this.unused);
+
+    assertThat(actual).hasSize(1);
+    assertThat(actual.iterator().next().getSamplingWeight()).isEqualTo(3);
+  }
+
+  @Test
+  public void keepsAllUncoveredMutants() {
+    final List<MutationDetails> input = make("a", 1, 10);
+    this.uncovered.add(1);
+    this.uncovered.add(2);
+
+    final Collection<MutationDetails> actual = testee(10, 0).intercept(input, this.unused);
+
+    assertThat(actual).filteredOn(m -> m.getFirstIndex() <= 2)
+        .hasSize(2)
+        .allMatch(m -> m.getSamplingWeight() == 1);
+    assertThat(actual).hasSize(3);
+  }
+
+  @Test
+  public void choosesTheSameSampleWithTheSameSeed() {
+    final List<MutationDetails> input = make("a", 1, 100);
+
+    assertThat(testee(10, 1).intercept(input, this.unused))
+        .containsExactlyElementsOf(testee(10, 1).intercept(input, this.unused));
+  }
+
+  @Test
+  public void choosesADifferentSampleWithADifferentSeed() {
+    final List<MutationDetails> input = make("a", 1, 100);
+
+    assertThat(testee(10, 1).intercept(input, this.unused))
+        .isNotEqualTo(testee(10, 2).intercept(input, this.unused));
+  }
+
+  @Test
+  public void keepsAllMutantsWhenSamplingEverything() {
+    final List<MutationDetails> input = make("a", 1, 10);
+
+    assertThat(testee(100, 0).intercept(input, this.unused)).isSameAs(input);
+  }
+
+  private StratifiedSampleFilter testee(int percent, long seed) {
+    return new StratifiedSampleFilter(percent, seed, this.prioritiser);
+  }
+
+  private static List<MutationDetails> make(String mutator, int from, int to) {
+    final List<MutationDetails> ms = new ArrayList<>();
+    for (int i = from; i <= to; i++) {
+      ms.add(new MutationDetails(aMutationId().withIndex(i).withMutator(mutator).build(),
+          "", "", 0, 0));
+    }
+    return ms;
+  }
+
+}
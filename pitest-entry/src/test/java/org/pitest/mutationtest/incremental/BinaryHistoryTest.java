@@ -0,0 +1,317 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassHash;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class BinaryHistoryTest {
+
+  private static final String COV = BigInteger.TEN.toString(16);
+
+  @Rule
+  public TemporaryFolder root = new TemporaryFolder();
+
+  @Mock
+  private CoverageDatabase coverage;
+
+  @Mock
+  private CodeSource code;
+
+  private Path file;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.openMocks(this);
+    when(this.coverage.getCoverageIdForClass(any(ClassName.class))).thenReturn(
+        BigInteger.TEN);
+    this.file = this.root.getRoot().toPath().resolve("history.bin");
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveClassPath() throws IOException {
+    final HierarchicalClassId foo = id("com.example.Foo", 1);
+    final HierarchicalClassId bar = id("com.example.Bar", 2);
+
+    final BinaryHistory testee = history();
+    testee.processCoverage(withClassPath(foo, bar));
+    testee.close();
+
+    final MappedHistoryFile actual = MappedHistoryFile.open(this.file);
+    assertThat(actual.size()).isEqualTo(2);
+    assertThat(actual.classHistory(foo.getName())).isEqualTo(new ClassHistory(foo, COV));
+    assertThat(actual.classHistory(bar.getName())).isEqualTo(new ClassHistory(bar, COV));
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveResults() throws IOException {
+    final MutationIdentifier id = new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Foo"), "method", "()V"),
+        Arrays.asList(1, 2), "mutator");
+    final MutationStatusTestPair status = new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, Arrays.asList("killer"), Arrays.asList("survivor"),
+        Arrays.asList("killer", "survivor"));
+
+    final BinaryHistory testee = history();
+    testee.processCoverage(withClassPath(id("com.example.Foo", 1)));
+    testee.recordResult(new MutationResult(details(id), status));
+    testee.close();
+
+    final MappedHistoryFile actual = MappedHistoryFile.open(this.file);
+    assertThat(actual.result(id)).isEqualTo(status);
+  }
+
+  @Test
+  public void shouldRecordResultsForClassesNotOnClassPath() throws IOException {
+    final MutationIdentifier id = new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Foo"), "method", "()V"), 1, "mutator");
+    final MutationStatusTestPair status = new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList());
+
+    final BinaryHistory testee = history();
+    testee.processCoverage(withClassPath());
+    testee.recordResult(new MutationResult(details(id), status));
+    testee.close();
+
+    final MappedHistoryFile actual = MappedHistoryFile.open(this.file);
+    assertThat(actual.result(id)).isEqualTo(status);
+    assertThat(actual.classHistory(id.getClassName())).isNull();
+  }
+
+  @Test
+  public void shouldRecordTestNamesLongerThanWriteUtfAllows() throws IOException {
+    final String longName = String.join("", Collections.nCopies(70000, "x"));
+    final MutationIdentifier first = new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Foo"), "method", "()V"), 1, "mutator");
+    final MutationIdentifier second = new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Foo"), "method", "()V"), 2, "mutator");
+    final MutationStatusTestPair status = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, Arrays.asList(longName), Collections.emptyList(),
+        Arrays.asList(longName));
+
+    final BinaryHistory testee = history();
+    testee.processCoverage(withClassPath(id("com.example.Foo", 1)));
+    testee.recordResult(new MutationResult(details(first), status));
+    testee.recordResult(new MutationResult(details(second), status));
+    testee.recordTestDurations(durations(longName, 10));
+    testee.close();
+
+    final MappedHistoryFile actual = MappedHistoryFile.open(this.file);
+    assertThat(actual.result(first)).isEqualTo(status);
+    assertThat(actual.result(second)).isEqualTo(status);
+    assertThat(actual.durations()).containsOnlyKeys(longName);
+    // the name is shared by both mutants and the durations, so is stored once
+    assertThat(Files.size(this.file)).isLessThan(2L * longName.length());
+  }
+
+  @Test
+  public void shouldReturnNullForUnknownClasses() throws IOException {
+    final BinaryHistory testee = history();
+    testee.processCoverage(withClassPath(id("com.example.Foo", 1)));
+    testee.close();
+
+    final MappedHistoryFile actual = MappedHistoryFile.open(this.file);
+    assertThat(actual.classHistory(ClassName.fromString("com.example.Unknown"))).isNull();
+    assertThat(actual.result(new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Unknown"), "method", "()V"), 1, "mutator")))
+        .isNull();
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveTestTimes() {
+    final HierarchicalClassId foo = id("foo", 1);
+    final HierarchicalClassId fooTest = id("fooTest", 2);
+    final TestInfo one = new TestInfo("fooTest", "one", 10, Optional.empty(), 1);
+    final TestInfo two = new TestInfo("fooTest", "two", 5, Optional.empty(), 1);
+    when(this.coverage.getTestsForClass(foo.getName())).thenReturn(Arrays.asList(one, two));
+
+    final BinaryHistory first = history();
+    first.processCoverage(withClassPath(foo, fooTest));
+    first.close();
+
+    final BinaryHistory testee = history();
+    testee.initialize();
+    assertThat(testee.historicTestTimes()).containsOnlyKeys(fooTest.getName())
+        .containsEntry(fooTest.getName(), 15L);
+  }
+
+  @Test
+  public void shouldProvidePreviousStatusOfMutants() {
+    final MutationIdentifier id = new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Foo"), "method", "()V"), 1, "mutator");
+    final MutationIdentifier unknown = new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Foo"), "method", "()V"), 2, "mutator");
+
+    final BinaryHistory first = history();
+    first.processCoverage(withClassPath(id("com.example.Foo", 1)));
+    first.recordResult(new MutationResult(details(id), new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList())));
+    first.close();
+
+    final BinaryHistory testee = history();
+    testee.initialize();
+    assertThat(testee.previousStatus(id)).contains(DetectionStatus.SURVIVED);
+    assertThat(testee.previousStatus(unknown)).isEmpty();
+  }
+
+  @Test
+  public void shouldAddNewTestDurationsToPreviousOnes() {
+    final BinaryHistory first = history();
+    first.processCoverage(withClassPath(id("com.example.Foo", 1)));
+    first.recordTestDurations(durations("aTest", 10));
+    first.close();
+
+    final BinaryHistory second = history();
+    second.initialize();
+    second.processCoverage(withClassPath(id("com.example.Foo", 1)));
+    second.recordTestDurations(durations("aTest", 20));
+    second.recordTestDurations(durations("anotherTest", 5));
+    second.close();
+
+    final BinaryHistory testee = history();
+    testee.initialize();
+    assertThat(testee.historicTestDurations()).containsOnlyKeys("aTest", "anotherTest");
+    assertThat(testee.historicTestDurations().get("aTest").samples(false))
+        .containsExactly(10, 20);
+  }
+
+  @Test
+  public void shouldIgnoreFilesWrittenByOtherVersions() throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(MappedHistoryFile.MAGIC);
+    out.writeInt(MappedHistoryFile.VERSION - 1);
+    out.writeLong(16);
+    out.writeInt(0);
+    Files.write(this.file, bytes.toByteArray());
+
+    final BinaryHistory testee = history();
+    testee.initialize();
+
+    assertThat(testee.historicTestTimes()).isEmpty();
+    assertThat(testee.historicTestDurations()).isEmpty();
+  }
+
+  @Test
+  public void shouldReplaceHistoryReadFromSameFile() throws IOException {
+    final BinaryHistory first = history();
+    first.processCoverage(withClassPath(id("com.example.Foo", 1)));
+    first.close();
+
+    final BinaryHistory second = history();
+    second.initialize();
+    second.processCoverage(withClassPath(id("com.example.Foo", 1),
+        id("com.example.Bar", 2)));
+    second.close();
+
+    assertThat(MappedHistoryFile.open(this.file).size()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldIgnoreFilesInOtherFormats() throws IOException {
+    Files.write(this.file, "1\nnot binary\n".getBytes(StandardCharsets.UTF_8));
+
+    final BinaryHistory testee = history();
+    testee.initialize();
+
+    assertThat(testee.historicTestTimes()).isEmpty();
+  }
+
+  @Test
+  public void shouldStartWithoutHistoryWhenNoFileExists() {
+    final BinaryHistory testee = history();
+    testee.initialize();
+
+    assertThat(testee.historicTestTimes()).isEmpty();
+  }
+
+  private static Map<String, TestTimeSamples> durations(String test, long... times) {
+    final TestTimeSamples samples = new TestTimeSamples();
+    for (final long each : times) {
+      samples.add(false, each);
+    }
+    return Collections.singletonMap(test, samples);
+  }
+
+  private BinaryHistory history() {
+    return new BinaryHistory(this.code, Optional.of(this.file), Optional.of(this.file));
+  }
+
+  private CoverageDatabase withClassPath(HierarchicalClassId... ids) {
+    when(this.code.getAllClassAndTestNames()).thenReturn(Arrays.stream(ids)
+        .map(HierarchicalClassId::getName)
+        .collect(Collectors.toCollection(HashSet::new)));
+    final Collection<ClassHash> hashes = Arrays.stream(ids)
+        .map(id -> new ClassHash() {
+          @Override
+          public ClassIdentifier getId() {
+            return id.getId();
+          }
+
+          @Override
+          public ClassName getName() {
+            return id.getName();
+          }
+
+          @Override
+          public BigInteger getDeepHash() {
+            return BigInteger.ZERO;
+          }
+
+          @Override
+          public HierarchicalClassId getHierarchicalId() {
+            return id;
+          }
+        }).collect(Collectors.toList());
+    when(this.code.fetchClassHashes(any(Collection.class))).thenReturn(hashes);
+    return this.coverage;
+  }
+
+  private static HierarchicalClassId id(String name, long hash) {
+    return new HierarchicalClassId(new ClassIdentifier(hash,
+        ClassName.fromString(name)), "hierarchy" + hash);
+  }
+
+  private static MutationDetails details(MutationIdentifier id) {
+    return new MutationDetails(id, "Foo.java", "desc", 42, 0);
+  }
+
+}
@@ -35,6 +35,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -48,6 +49,9 @@ public class HistoryTest {
     @Rule
     public TemporaryFolder root = new TemporaryFolder();
 
+    private List<String> features = Collections.emptyList();
+    private boolean incrementalCoverage = false;
+
     @Test
     public void sameResultsWhenNoChanges() throws Exception {
         Project project = createProject(root, ClassA.class, ClassATest.class);
@@ -126,6 +130,59 @@ public class HistoryTest {
     }
 
 
+    @Test
+    public void binaryHistoryGivesSameResultsWhenNoChanges() throws Exception {
+        features = singletonList("+binary_history");
+        Project project = createProject(root, ClassA.class, ClassATest.class);
+        AnalysisResult run1 = runPitest(project);
+        AnalysisResult run2 = runPitest(project);
+
+        assertSameNumberOfMutationsKilled(run1, run2);
+        assertThat(numberOfTestsRun(run2)).isEqualTo(0);
+    }
+
+    @Test
+    public void binaryHistoryRerunsTestsWhenCodeUnderTestTouched() throws Exception {
+        features = singletonList("+binary_history");
+        Project project = createProject(root, ClassA.class, ClassATest.class);
+
+        AnalysisResult run1 = runPitest(project);
+
+        project.modifyClass(ClassA.class);
+
+        AnalysisResult run2 = runPitest(project);
+
+        assertSameNumberOfMutationsKilled(run1, run2);
+        assertThat(numberOfTestsRun(run2)).isGreaterThan(0);
+    }
+
+    @Test
+    public void sameResultsWhenCoverageReused() throws Exception {
+        incrementalCoverage = true;
+        Project project = createProject(root, ClassA.class, ClassATest.class);
+        AnalysisResult run1 = runPitest(project);
+
+        assertThat(project.root().resolve("history.txt.coverage")).exists();
+
+        AnalysisResult run2 = runPitest(project);
+
+        assertSameNumberOfMutationsKilled(run1, run2);
+    }
+
+    @Test
+    public void sameResultsWhenCoverageReusedAfterCodeUnderTestTouched() throws Exception {
+        incrementalCoverage = true;
+        Project project = createProject(root, ClassA.class, ClassATest.class);
+        AnalysisResult run1 = runPitest(project);
+
+        project.modifyClass(ClassA.class);
+
+        AnalysisResult run2 = runPitest(project);
+
+        assertSameNumberOfMutationsKilled(run1, run2);
+        assertThat(numberOfTestsRun(run2)).isGreaterThan(0);
+    }
+
     private static long getTotalDetectedMutations(AnalysisResult run2) {
         return run2.getStatistics().get().getMutationStatistics().getTotalDetectedMutations();
     }
@@ -139,6 +196,8 @@ public class HistoryTest {
         data.setSourceDirs(Collections.emptyList());
         data.setVerbosity(Verbosity.VERBOSE);
         data.setTargetClasses(singletonList("com.example.*"));
+        data.setFeatures(features);
+        data.setIncrementalCoverage(incrementalCoverage);
 
         data.setHistoryInputLocation(project.root().resolve("history.txt").toFile());
         data.setHistoryOutputLocation(project.root().resolve("history.txt").toFile());
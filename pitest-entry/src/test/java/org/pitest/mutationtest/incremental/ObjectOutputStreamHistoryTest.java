@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.incremental;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
@@ -11,11 +12,12 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.io.Writer;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 
 import org.junit.Before;
@@ -28,6 +30,7 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -35,6 +38,7 @@ import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.report.MutationTestResultMother;
 
@@ -50,7 +54,7 @@ public class ObjectOutputStreamHistoryTest {
     @Mock
     private CodeSource code;
 
-    private final Writer                    output        = new StringWriter();
+    private final StringWriter              output        = new StringWriter();
 
     private final WriterFactory             writerFactory = new WriterFactory() {
 
@@ -94,6 +98,33 @@ public class ObjectOutputStreamHistoryTest {
         assertEquals(expected, this.testee.getHistoricClassPath());
     }
 
+    @Test
+    public void shouldRecordAndRetrieveTestTimes() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        final HierarchicalClassId fooTest = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("fooTest")), "");
+        final HierarchicalClassId bar = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("bar")), "");
+        final TestInfo one = new TestInfo("fooTest", "one", 10, Optional.empty(), 1);
+        final TestInfo two = new TestInfo("fooTest", "two", 5, Optional.empty(), 1);
+        when(this.code.getAllClassAndTestNames()).thenReturn(new HashSet<>(Arrays.asList(
+            foo.getName(), fooTest.getName(), bar.getName())));
+        when(this.coverage.getTestsForClass(foo.getName())).thenReturn(Arrays.asList(one, two));
+        when(this.coverage.getTestsForClass(bar.getName())).thenReturn(Arrays.asList(one));
+
+        recordClassPathWithTestee(foo, fooTest, bar);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistory(this.code, this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        final Map<ClassName, Long> expected = new HashMap<>();
+        expected.put(fooTest.getName(), 15L);
+        assertEquals(expected, this.testee.historicTestTimes());
+    }
+
     @Test
     public void shouldRecordAndRetrieveResults() {
         final HierarchicalClassId foo = new HierarchicalClassId(
@@ -115,6 +146,51 @@ public class ObjectOutputStreamHistoryTest {
         assertEquals(expected, this.testee.getHistoricResults());
     }
 
+    @Test
+    public void shouldRecordAndRetrieveTestDurations() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        recordClassPathWithTestee(foo);
+        final MutationResult mr = new MutationResult(
+            MutationTestResultMother.createDetails("foo"),
+            new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+        this.testee.recordResult(mr);
+        this.testee.recordTestDurations(durations("testName", 10));
+        this.testee.close();
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistory(this.code, this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        assertEquals(durations("testName", 10), this.testee.historicTestDurations());
+        assertFalse(this.testee.getHistoricResults().isEmpty());
+    }
+
+    @Test
+    public void shouldAddNewTestDurationsToPreviousOnes() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        recordClassPathWithTestee(foo);
+        this.testee.recordTestDurations(durations("testName", 10));
+        this.testee.close();
+
+        this.testee = new ObjectOutputStreamHistory(this.code, this.writerFactory,
+            Optional.of(new StringReader(this.output.toString())));
+        this.testee.initialize();
+        this.output.getBuffer().setLength(0);
+        this.testee.processCoverage(this.coverage);
+        this.testee.recordTestDurations(durations("testName", 20));
+        this.testee.close();
+
+        this.testee = new ObjectOutputStreamHistory(this.code, this.writerFactory,
+            Optional.of(new StringReader(this.output.toString())));
+        this.testee.initialize();
+
+        assertThat(this.testee.historicTestDurations().get("testName").samples(false))
+            .containsExactly(10, 20);
+    }
+
     @Test
     public void shouldNotAttemptToWriteToFileWhenNoneSupplied() {
         try {
@@ -168,6 +244,14 @@ public class ObjectOutputStreamHistoryTest {
         assertFalse(this.testee.getHistoricResults().isEmpty());
     }
 
+    private static Map<String, TestTimeSamples> durations(String test, long... times) {
+        final TestTimeSamples samples = new TestTimeSamples();
+        for (final long each : times) {
+            samples.add(false, each);
+        }
+        return Collections.singletonMap(test, samples);
+    }
+
     private String pitest14HistoryFile() {
         return "rO0ABXNyACRvcmcucGl0ZXN0Lm11dGF0aW9udGVzdC5DbGFzc0hpc3RvcnkAAAAAAAAAAQIAAkwACmNvdmVyYWdlSWR0ABJMamF2YS9sYW5nL1N0cmluZztM" +
                 "AAJpZHQAKkxvcmcvcGl0ZXN0L2NsYXNzaW5mby9IaWVyYXJjaGljYWxDbGFzc0lkO3hwdAAIMTY1MmVhMDRzcgAob3JnLnBpdGVzdC5jbGFzc2luZm8uSGllc" +
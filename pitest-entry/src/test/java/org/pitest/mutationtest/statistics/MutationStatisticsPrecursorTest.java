@@ -170,6 +170,58 @@ public class MutationStatisticsPrecursorTest {
     assertEquals(">> Ran 43 tests (21.5 tests per mutation)", actual[2]);
   }
 
+  @Test
+  public void shouldNotEstimateScoreWhenAllMutantsRun() {
+    this.testee.registerResults(Arrays.asList(
+            makeResult(DetectionStatus.SURVIVED),
+            makeResult(DetectionStatus.KILLED)));
+    assertFalse(this.testee.toStatistics().getEstimate().isPresent());
+    assertEquals(50, this.testee.toStatistics().getPercentageDetectedForThreshold());
+  }
+
+  @Test
+  public void shouldEstimateScoreWhenMutantsSampled() {
+    this.testee.registerResults(Arrays.asList(
+            makeSampledResult(DetectionStatus.SURVIVED, 3),
+            makeSampledResult(DetectionStatus.KILLED, 3),
+            makeResult(DetectionStatus.NO_COVERAGE)));
+    final MutationStatistics actual = this.testee.toStatistics();
+    assertEquals(7, actual.getEstimate().get().getEstimatedMutations());
+    assertEquals(43, actual.getEstimate().get().getPercentageDetected());
+    assertEquals(actual.getEstimate().get().getUpperBound(),
+        actual.getPercentageDetectedForThreshold());
+  }
+
+  @Test
+  public void shouldReportEstimatedScoreWhenMutantsSampled() {
+    this.testee.registerResults(Arrays.asList(
+            makeSampledResult(DetectionStatus.KILLED, 3),
+            makeSampledResult(DetectionStatus.KILLED, 3)));
+    final String[] actual = generateReportLines();
+    assertTrue(actual[3].startsWith(">> Sampled 2 of about 6 mutations. Estimated score 100%"));
+  }
+
+  @Test
+  public void shouldCountMutantsNotAnalysed() {
+    this.testee.registerResults(Arrays.asList(
+            makeResult(DetectionStatus.KILLED),
+            makeResult(DetectionStatus.NOT_STARTED),
+            makeResult(DetectionStatus.NOT_STARTED)));
+    final MutationStatistics actual = this.testee.toStatistics();
+    assertEquals(2, actual.getTotalNotAnalysedMutations());
+    assertEquals(3, actual.getTotalMutations());
+    assertEquals(2, actual.getTotalSurvivingMutations());
+  }
+
+  @Test
+  public void shouldReportMutantsNotAnalysed() {
+    this.testee.registerResults(Arrays.asList(
+            makeResult(DetectionStatus.KILLED),
+            makeResult(DetectionStatus.NOT_STARTED)));
+    final String[] actual = generateReportLines();
+    assertEquals(">> 1 mutations not analysed. These are counted as surviving", actual[3]);
+  }
+
   private Predicate<Score> hasResultForMutator(final String mutator) {
     return a -> a.getMutatorName().equals(mutator);
   }
@@ -185,6 +237,12 @@ public class MutationStatisticsPrecursorTest {
             new MutationStatusTestPair(numberOfTests, status, "foo"));
   }
 
+  private MutationResult makeSampledResult(final DetectionStatus status, double weight) {
+    return new MutationResult(
+            MutationTestResultMother.createDetails("foo.java").withSamplingWeight(weight),
+            new MutationStatusTestPair(1, status, "foo"));
+  }
+
   private String[] generateReportLines() {
     final ByteArrayOutputStream s = new ByteArrayOutputStream();
     final PrintStream out = new PrintStream(s);
@@ -0,0 +1,120 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class ScoreEstimateTest {
+
+  @Test
+  public void hasNoMarginWhenEveryMutantRun() {
+    final ScoreEstimate testee = ScoreEstimate.fromStrata(
+        Collections.singletonList(stratum(1, 10, 7)));
+
+    assertThat(testee.getPercentageDetected()).isEqualTo(70);
+    assertThat(testee.getLowerBound()).isEqualTo(70);
+    assertThat(testee.getUpperBound()).isEqualTo(70);
+  }
+
+  @Test
+  public void weightsStrataBySizeOfTheirPopulation() {
+    final ScoreEstimate testee = ScoreEstimate.fromStrata(Arrays.asList(
+        stratum(10, 10, 10),
+        stratum(1, 100, 0)));
+
+    assertThat(testee.getEstimatedMutations()).isEqualTo(200);
+    assertThat(testee.getSampledMutations()).isEqualTo(110);
+    assertThat(testee.getPercentageDetected()).isEqualTo(50);
+  }
+
+  @Test
+  public void widensIntervalAsSampleShrinks() {
+    final ScoreEstimate large = ScoreEstimate.fromStrata(
+        Collections.singletonList(stratum(2, 500, 250)));
+    final ScoreEstimate small = ScoreEstimate.fromStrata(
+        Collections.singletonList(stratum(20, 50, 25)));
+
+    assertThat(large.getPercentageDetected()).isEqualTo(50);
+    assertThat(small.getPercentageDetected()).isEqualTo(50);
+    assertThat(small.getUpperBound() - small.getLowerBound())
+        .isGreaterThan(large.getUpperBound() - large.getLowerBound());
+  }
+
+  @Test
+  public void calculatesNormalApproximationInterval() {
+    // p = 0.5, n = 100 of N = 1000 gives a margin of
+    // 1.96 * sqrt(0.9 * 0.25 / (100 + 1.96^2))
+    final ScoreEstimate testee = ScoreEstimate.fromStrata(
+        Collections.singletonList(stratum(10, 100, 50)));
+
+    assertThat(testee.getLowerBound()).isEqualTo(40);
+    assertThat(testee.getUpperBound()).isEqualTo(60);
+  }
+
+  @Test
+  public void hasMarginWhenEveryStratumIsAllOrNothing() {
+    final ScoreEstimate testee = ScoreEstimate.fromStrata(Arrays.asList(
+        stratum(10, 20, 20),
+        stratum(10, 20, 0),
+        stratum(5, 40, 40)));
+
+    assertThat(testee.getPercentageDetected()).isEqualTo(67);
+    assertThat(testee.getLowerBound()).isLessThan(67);
+    assertThat(testee.getUpperBound()).isGreaterThan(67);
+  }
+
+  @Test
+  public void hasMarginWhenEverySampledMutantIsDetected() {
+    final ScoreEstimate testee = ScoreEstimate.fromStrata(
+        Collections.singletonList(stratum(5, 40, 40)));
+
+    assertThat(testee.getPercentageDetected()).isEqualTo(100);
+    assertThat(testee.getLowerBound()).isLessThan(100);
+  }
+
+  @Test
+  public void allowsForUncertaintyOfSingleMutantStrata() {
+    final ScoreEstimate testee = ScoreEstimate.fromStrata(
+        Collections.singletonList(stratum(4, 1, 1)));
+
+    assertThat(testee.getPercentageDetected()).isEqualTo(100);
+    assertThat(testee.getLowerBound()).isLessThan(100);
+  }
+
+  @Test
+  public void keepsBoundsWithinRange() {
+    final ScoreEstimate none = ScoreEstimate.fromStrata(
+        Collections.singletonList(stratum(50, 1, 0)));
+    final ScoreEstimate all = ScoreEstimate.fromStrata(
+        Collections.singletonList(stratum(50, 1, 1)));
+
+    assertThat(none.getLowerBound()).isEqualTo(0);
+    assertThat(all.getUpperBound()).isEqualTo(100);
+  }
+
+  @Test
+  public void reportsEstimateAndInterval() {
+    final ScoreEstimate testee = ScoreEstimate.fromStrata(
+        Collections.singletonList(stratum(10, 100, 50)));
+    final ByteArrayOutputStream s = new ByteArrayOutputStream();
+
+    testee.report(new PrintStream(s));
+
+    assertThat(new String(s.toByteArray())).startsWith(
+        ">> Sampled 100 of about 1000 mutations. Estimated score 50% (95% confidence interval 40% to 60%)");
+  }
+
+  private static ScoreEstimate.Stratum stratum(double weight, int sampled, int detected) {
+    final ScoreEstimate.Stratum stratum = new ScoreEstimate.Stratum(weight);
+    for (int i = 0; i != sampled; i++) {
+      stratum.register(i < detected);
+    }
+    return stratum;
+  }
+
+}
@@ -0,0 +1,106 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class ThresholdListenerTest {
+
+  @Test
+  public void hasNoThresholdsWhenNoneSet() {
+    assertThat(new ThresholdListener(0, 0, -1, 10).hasThresholds()).isFalse();
+    assertThat(new ThresholdListener(0, 0, 0, 10).hasThresholds()).isTrue();
+  }
+
+  @Test
+  public void decidesOnceMutationThresholdCanNoLongerBeMet() {
+    final ThresholdListener testee = new ThresholdListener(80, 0, -1, 10);
+
+    testee.handleMutationResult(results(DetectionStatus.SURVIVED, DetectionStatus.SURVIVED));
+    assertThat(testee.isDecided()).isFalse();
+
+    testee.handleMutationResult(results(DetectionStatus.SURVIVED));
+    assertThat(testee.decision()).contains("Mutation threshold of 80% can no longer be met");
+  }
+
+  @Test
+  public void decidesOnceMutationThresholdIsCertainToBeMet() {
+    final ThresholdListener testee = new ThresholdListener(50, 0, -1, 10);
+
+    testee.handleMutationResult(results(DetectionStatus.KILLED, DetectionStatus.KILLED,
+        DetectionStatus.KILLED, DetectionStatus.KILLED));
+    assertThat(testee.isDecided()).isFalse();
+
+    testee.handleMutationResult(results(DetectionStatus.TIMED_OUT));
+    assertThat(testee.decision()).contains("All thresholds are certain to be met");
+  }
+
+  @Test
+  public void doesNotDecidePassWhileAnyThresholdIsOpen() {
+    final ThresholdListener testee = new ThresholdListener(50, 0, 0, 10);
+
+    testee.handleMutationResult(results(DetectionStatus.KILLED, DetectionStatus.KILLED,
+        DetectionStatus.KILLED, DetectionStatus.KILLED, DetectionStatus.KILLED));
+
+    assertThat(testee.isDecided()).isFalse();
+  }
+
+  @Test
+  public void decidesOnceTooManyMutantsSurvive() {
+    final ThresholdListener testee = new ThresholdListener(0, 0, 1, 10);
+
+    testee.handleMutationResult(results(DetectionStatus.SURVIVED));
+    assertThat(testee.isDecided()).isFalse();
+
+    testee.handleMutationResult(results(DetectionStatus.NO_COVERAGE));
+    assertThat(testee.decision()).contains("More than 1 mutants have survived");
+  }
+
+  @Test
+  public void decidesOnceTestStrengthThresholdCanNoLongerBeMet() {
+    final ThresholdListener testee = new ThresholdListener(0, 90, -1, 10);
+
+    testee.handleMutationResult(results(DetectionStatus.SURVIVED));
+    assertThat(testee.isDecided()).isFalse();
+
+    testee.handleMutationResult(results(DetectionStatus.SURVIVED));
+    assertThat(testee.decision()).contains("Test strength threshold of 90% can no longer be met");
+  }
+
+  @Test
+  public void ignoresUncoveredMutantsForTestStrength() {
+    final ThresholdListener testee = new ThresholdListener(0, 90, -1, 10);
+
+    testee.handleMutationResult(results(DetectionStatus.NO_COVERAGE, DetectionStatus.NO_COVERAGE,
+        DetectionStatus.NO_COVERAGE));
+
+    assertThat(testee.isDecided()).isFalse();
+  }
+
+  @Test
+  public void doesNotDecideOnceAllResultsSeen() {
+    final ThresholdListener testee = new ThresholdListener(80, 0, -1, 2);
+
+    testee.handleMutationResult(results(DetectionStatus.SURVIVED, DetectionStatus.SURVIVED));
+
+    assertThat(testee.isDecided()).isFalse();
+  }
+
+  private static ClassMutationResults results(DetectionStatus... statuses) {
+    final List<MutationResult> results = new ArrayList<>();
+    for (final DetectionStatus each : statuses) {
+      results.add(new MutationResult(MutationTestResultMother.createDetails("foo.java"),
+          new MutationStatusTestPair(1, each, "foo")));
+    }
+    return new ClassMutationResults(results);
+  }
+
+}
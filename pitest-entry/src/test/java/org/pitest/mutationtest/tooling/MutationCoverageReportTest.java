@@ -28,6 +28,7 @@ import static org.pitest.mutationtest.LocationMother.aMutationId;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.Before;
@@ -109,7 +110,7 @@ public class MutationCoverageReportTest {
     MockitoAnnotations.openMocks(this);
     this.data = new ReportOptions();
     this.data.setSourceDirs(Collections.emptyList());
-    when(this.coverage.calculateCoverage(any(Predicate.class))).thenReturn(this.coverageDb);
+    when(this.coverage.calculateCoverage(any(Predicate.class), any(Map.class))).thenReturn(this.coverageDb);
     when(
         this.listenerFactory.getListener(any(),
             any(ListenerArguments.class))).thenReturn(this.listener);
@@ -184,7 +185,7 @@ public class MutationCoverageReportTest {
   public void shouldNotRunCoverageWhenNoMutationsFound() {
     this.data.setFailWhenNoMutations(false);
     createAndRunTestee();
-    verify(coverage, never()).calculateCoverage(any(Predicate.class));
+    verify(coverage, never()).calculateCoverage(any(Predicate.class), any(Map.class));
   }
 
   @Test
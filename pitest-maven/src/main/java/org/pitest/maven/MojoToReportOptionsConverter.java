@@ -30,6 +30,7 @@ import org.pitest.classpath.DirectoryClassPathRoot;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.config.ExecutionMode;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.execute.TestThreads;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Glob;
 import org.pitest.util.Verbosity;
@@ -252,6 +253,23 @@ public class MojoToReportOptionsConverter {
     data.setFullMutationMatrix(this.mojo.isFullMutationMatrix());
 
     data.setMutationUnitSize(this.mojo.getMutationUnitSize());
+    // thresholds are checked by the mojo, but are needed to end a run early
+    data.setMutationThreshold(this.mojo.getMutationThreshold());
+    data.setTestStrengthThreshold(this.mojo.getTestStrengthThreshold());
+    data.setMaximumAllowedSurvivors(this.mojo.getMaxSurviving());
+    data.setEarlyTermination(this.mojo.isEarlyTermination());
+    data.setTimeBudgetSeconds(this.mojo.getTimeBudgetSeconds());
+    data.setMutantSchemata(this.mojo.isMutantSchemata());
+    data.setIncrementalCoverage(this.mojo.isIncrementalCoverage());
+    data.setLoopGuard(this.mojo.isLoopGuard());
+    data.setAdaptiveTimeouts(this.mojo.isAdaptiveTimeouts());
+    data.setTestThreads(TestThreads.fromString(this.mojo.getTestThreads()));
+    data.setDiscoveryThreads(this.mojo.getDiscoveryThreads());
+    data.setCompactCoverage(this.mojo.isCompactCoverage());
+    data.setCoverageMinions(this.mojo.getCoverageMinions());
+    data.setScheduleByCost(this.mojo.isScheduleByCost());
+    data.setReuseMinions(this.mojo.isReuseMinions());
+    data.setMaxMutantsPerMinion(this.mojo.getMaxMutantsPerMinion());
     data.setShouldCreateTimestampedReports(this.mojo.isTimestampedReports());
     data.setDetectInlinedCode(this.mojo.isDetectInlinedCode());
 
@@ -338,6 +356,8 @@ public class MojoToReportOptionsConverter {
     // set explicit history files if configured
     data.setHistoryInputLocation(this.mojo.getHistoryInputFile());
     data.setHistoryOutputLocation(this.mojo.getHistoryOutputFile());
+    data.setMutantCacheLocation(this.mojo.getMutantCacheDirectory());
+    data.setClassPathIndexLocation(this.mojo.getClassPathIndexDirectory());
 
     // If withHistory option set, overwrite config with files in temp dir.
     // This allows a user to configure files for use on ci, but still easily use temp files
@@ -128,6 +128,21 @@ public final class PitMojo extends AbstractMojo {
   @Parameter(defaultValue = "false", property = "withHistory")
   private boolean                     withHistory;  
 
+  /**
+   * Directory in which to cache generated mutants, so that runs against
+   * unchanged classes do not regenerate them
+   */
+  @Parameter(property = "mutantCacheDirectory")
+  private File                        mutantCacheDirectory;
+
+  /**
+   * Directory in which to cache the class names held by each jar on the
+   * classpath and the hashes of classes, so unchanged jars and classes are
+   * not scanned on each run
+   */
+  @Parameter(property = "classPathIndexDirectory")
+  private File                        classPathIndexDirectory;
+
   /**
    * Number of threads to use
    */
@@ -252,6 +267,86 @@ public final class PitMojo extends AbstractMojo {
   @Parameter(property = "mutationUnitSize")
   private int                         mutationUnitSize;
 
+  /**
+   * Stop analysing mutants once the result of the mutation threshold, test strength threshold and maximum survivors checks is certain
+   */
+  @Parameter(defaultValue = "false", property = "earlyTermination")
+  private boolean                     earlyTermination;
+
+  /**
+   * Maximum time in seconds for the whole run. Once it has passed no further mutants are started, and those not analysed are reported as such. 0 for no limit
+   */
+  @Parameter(defaultValue = "0", property = "timeBudgetSeconds")
+  private int                         timeBudgetSeconds;
+
+  /**
+   * Compile the mutants of each class into a single class, and switch between them rather than redefining the class for each mutant
+   */
+  @Parameter(defaultValue = "false", property = "mutantSchemata")
+  private boolean                     mutantSchemata;
+
+  /**
+   * Store coverage alongside history, and reuse it for test classes unaffected by changes since it was stored
+   */
+  @Parameter(defaultValue = "false", property = "incrementalCoverage")
+  private boolean                     incrementalCoverage;
+
+  /**
+   * Guard loops in mutated methods, so that a mutant stuck in an infinite loop is abandoned without killing the minion
+   */
+  @Parameter(defaultValue = "false", property = "loopGuard")
+  private boolean                     loopGuard;
+
+  /**
+   * Limit each test by the times it took in previous runs, as recorded in the history file
+   */
+  @Parameter(defaultValue = "false", property = "adaptiveTimeouts")
+  private boolean                     adaptiveTimeouts;
+
+  /**
+   * How minions provide threads to run tests on. PER_TEST, POOLED or VIRTUAL,
+   * see TestThreads.POOLED before reusing threads
+   */
+  @Parameter(defaultValue = "PER_TEST", property = "testThreads")
+  // should be able to use an enum here, but test harness is broken
+  private String                      testThreads;
+
+  /**
+   * Number of threads to use when searching classes for mutants
+   */
+  @Parameter(defaultValue = "1", property = "discoveryThreads")
+  private int                         discoveryThreads;
+
+  /**
+   * Hold coverage in a compact int based form, reducing memory use for very large suites
+   */
+  @Parameter(defaultValue = "false", property = "compactCoverage")
+  private boolean                     compactCoverage;
+
+  /**
+   * Number of minions to shard coverage generation across
+   */
+  @Parameter(defaultValue = "1", property = "coverageMinions")
+  private int                         coverageMinions;
+
+  /**
+   * Split and order units of analysis by the estimated cost of the tests covering each mutant
+   */
+  @Parameter(defaultValue = "false", property = "scheduleByCost")
+  private boolean                     scheduleByCost;
+
+  /**
+   * Reuse minions across units of analysis rather than launching a new JVM for each unit
+   */
+  @Parameter(defaultValue = "false", property = "reuseMinions")
+  private boolean                     reuseMinions;
+
+  /**
+   * Number of mutants a reused minion may analyse before it is replaced. 0 for no limit.
+   */
+  @Parameter(defaultValue = "0", property = "maxMutantsPerMinion")
+  private int                         maxMutantsPerMinion;
+
   /**
    * Export line coverage data
    */
@@ -543,9 +638,9 @@ public final class PitMojo extends AbstractMojo {
   private void throwErrorIfScoreBelowThreshold(final MutationStatistics result)
       throws MojoFailureException {
     if ((this.mutationThreshold != 0)
-        && (result.getPercentageDetected() < this.mutationThreshold)) {
+        && (result.getPercentageDetectedForThreshold() < this.mutationThreshold)) {
       throw new MojoFailureException("Mutation score of "
-          + result.getPercentageDetected() + " is below threshold of "
+          + result.getPercentageDetectedForThreshold() + " is below threshold of "
           + this.mutationThreshold);
     }
   }
@@ -712,6 +807,70 @@ public final class PitMojo extends AbstractMojo {
     return this.mutationUnitSize;
   }
 
+  public int getMutationThreshold() {
+    return this.mutationThreshold;
+  }
+
+  public int getTestStrengthThreshold() {
+    return this.testStrengthThreshold;
+  }
+
+  public int getMaxSurviving() {
+    return this.maxSurviving;
+  }
+
+  public boolean isEarlyTermination() {
+    return this.earlyTermination;
+  }
+
+  public int getTimeBudgetSeconds() {
+    return this.timeBudgetSeconds;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public boolean isIncrementalCoverage() {
+    return this.incrementalCoverage;
+  }
+
+  public boolean isLoopGuard() {
+    return this.loopGuard;
+  }
+
+  public boolean isAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
+  public String getTestThreads() {
+    return this.testThreads;
+  }
+
+  public int getDiscoveryThreads() {
+    return this.discoveryThreads;
+  }
+
+  public boolean isCompactCoverage() {
+    return this.compactCoverage;
+  }
+
+  public int getCoverageMinions() {
+    return this.coverageMinions;
+  }
+
+  public boolean isScheduleByCost() {
+    return this.scheduleByCost;
+  }
+
+  public boolean isReuseMinions() {
+    return this.reuseMinions;
+  }
+
+  public int getMaxMutantsPerMinion() {
+    return this.maxMutantsPerMinion;
+  }
+
   public boolean isTimestampedReports() {
     return this.timestampedReports;
   }
@@ -732,6 +891,14 @@ public final class PitMojo extends AbstractMojo {
     return this.historyInputFile;
   }
 
+  public File getMutantCacheDirectory() {
+    return this.mutantCacheDirectory;
+  }
+
+  public File getClassPathIndexDirectory() {
+    return this.classPathIndexDirectory;
+  }
+
   public boolean isExportLineCoverage() {
     return this.exportLineCoverage;
   }
@@ -25,6 +25,7 @@ import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.mockito.Mockito;
 import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.execute.TestThreads;
 import org.pitest.util.Unchecked;
 
 import java.io.File;
@@ -313,6 +314,80 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
         actual.getMutationUnitSize());
   }
 
+  public void testParsesThresholds() {
+    final ReportOptions actual = parseConfig("<mutationThreshold>80</mutationThreshold>"
+        + "<testStrengthThreshold>70</testStrengthThreshold>"
+        + "<maxSurviving>3</maxSurviving>");
+    assertEquals(80, actual.getMutationThreshold());
+    assertEquals(70, actual.getTestStrengthThreshold());
+    assertEquals(3, actual.getMaximumAllowedSurvivors());
+  }
+
+  public void testParsesEarlyTermination() {
+    final ReportOptions actual = parseConfig("<earlyTermination>true</earlyTermination>");
+    assertEquals(true, actual.isEarlyTermination());
+  }
+
+  public void testParsesTimeBudgetSeconds() {
+    final ReportOptions actual = parseConfig("<timeBudgetSeconds>1200</timeBudgetSeconds>");
+    assertEquals(1200, actual.getTimeBudgetSeconds());
+  }
+
+  public void testParsesMutantSchemata() {
+    final ReportOptions actual = parseConfig("<mutantSchemata>true</mutantSchemata>");
+    assertEquals(true, actual.isMutantSchemata());
+  }
+
+  public void testParsesIncrementalCoverage() {
+    final ReportOptions actual = parseConfig("<incrementalCoverage>true</incrementalCoverage>");
+    assertEquals(true, actual.isIncrementalCoverage());
+  }
+
+  public void testParsesLoopGuard() {
+    final ReportOptions actual = parseConfig("<loopGuard>true</loopGuard>");
+    assertEquals(true, actual.isLoopGuard());
+  }
+
+  public void testParsesAdaptiveTimeouts() {
+    final ReportOptions actual = parseConfig("<adaptiveTimeouts>true</adaptiveTimeouts>");
+    assertEquals(true, actual.isAdaptiveTimeouts());
+  }
+
+  public void testParsesTestThreads() {
+    final ReportOptions actual = parseConfig("<testThreads>POOLED</testThreads>");
+    assertEquals(TestThreads.POOLED, actual.getTestThreads());
+  }
+
+  public void testParsesDiscoveryThreads() {
+    final ReportOptions actual = parseConfig("<discoveryThreads>4</discoveryThreads>");
+    assertEquals(4, actual.getDiscoveryThreads());
+  }
+
+  public void testParsesCompactCoverage() {
+    final ReportOptions actual = parseConfig("<compactCoverage>true</compactCoverage>");
+    assertEquals(true, actual.isCompactCoverage());
+  }
+
+  public void testParsesCoverageMinions() {
+    final ReportOptions actual = parseConfig("<coverageMinions>4</coverageMinions>");
+    assertEquals(4, actual.getCoverageMinions());
+  }
+
+  public void testParsesScheduleByCost() {
+    final ReportOptions actual = parseConfig("<scheduleByCost>true</scheduleByCost>");
+    assertEquals(true, actual.isScheduleByCost());
+  }
+
+  public void testParsesReuseMinions() {
+    final ReportOptions actual = parseConfig("<reuseMinions>true</reuseMinions>");
+    assertEquals(true, actual.isReuseMinions());
+  }
+
+  public void testParsesMaxMutantsPerMinion() {
+    final ReportOptions actual = parseConfig("<maxMutantsPerMinion>500</maxMutantsPerMinion>");
+    assertEquals(500, actual.getMaxMutantsPerMinion());
+  }
+
   public void testParsesTimeStampedReports() {
     final ReportOptions actual = parseConfig("<timestampedReports>false</timestampedReports>");
     assertEquals(false, actual.shouldCreateTimeStampedReports());
@@ -327,7 +402,17 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     final ReportOptions actual = parseConfig("<historyOutputFile>foo</historyOutputFile>");
     assertEquals(new File("foo"), actual.getHistoryOutputLocation());
   }
+
+  public void testParsesMutantCacheDirectory() {
+    final ReportOptions actual = parseConfig("<mutantCacheDirectory>foo</mutantCacheDirectory>");
+    assertEquals(new File("foo"), actual.getMutantCacheLocation());
+  }
   
+  public void testParsesClassPathIndexDirectory() {
+    final ReportOptions actual = parseConfig("<classPathIndexDirectory>foo</classPathIndexDirectory>");
+    assertEquals(new File("foo"), actual.getClassPathIndexLocation());
+  }
+
   public void testParsesLocalHistoryFlag() {
     when(this.project.getGroupId()).thenReturn("com.example");
     when(this.project.getArtifactId()).thenReturn("foo");    
@@ -14,61 +14,82 @@
  */
 package org.pitest.classpath;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
-import java.util.zip.ZipFile;
 
 import java.util.Optional;
 import org.pitest.util.StreamUtil;
 import org.pitest.util.Unchecked;
 
 /**
- * ClassPathRoot wrapping a jar or zip file
+ * ClassPathRoot wrapping a jar or zip file.
+ *
+ * The archive's entries are indexed on first use, so lookups for names the
+ * archive does not contain never touch the file. Archives are read through a
+ * pool of open handles rather than being reopened for each lookup.
  */
 public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
-  private final File file;
+  private final File             file;
+  private final ArchiveHandles   handles;
+  private final ArchiveNameCache names;
+
+  private SoftReference<Index> index;
 
   public ArchiveClassPathRoot(final File file) {
+    this(file, ArchiveHandles.shared());
+  }
+
+  public ArchiveClassPathRoot(final File file, final ArchiveHandles handles) {
+    this(file, handles, ArchiveNameCache.none());
+  }
+
+  /**
+   * @param names cache from which class names are read in preference to
+   *              scanning the archive
+   */
+  public ArchiveClassPathRoot(final File file, final ArchiveHandles handles,
+      final ArchiveNameCache names) {
     this.file = file;
+    this.handles = handles;
+    this.names = names;
   }
 
   @Override
   public InputStream getData(final String name) throws IOException {
-    try (ZipHandle zip = getRoot()) {
-      final ZipEntry entry = zip.getEntry(name.replace('.', '/') + ".class");
-      if (entry == null) {
-        return null;
-      }
-      return StreamUtil.copyStream(zip.getInputStream(entry));
-    } catch (Exception e) {
+    final ZipEntry entry = index().entries.get(name.replace('.', '/') + ".class");
+    if (entry == null) {
+      return null;
+    }
+    try (ZipHandle zip = this.handles.acquire(this.file)) {
+      return new ByteArrayInputStream(read(zip, entry));
+    } catch (IOException e) {
       throw Unchecked.translateCheckedException(e);
     }
   }
 
   @Override
   public URL getResource(final String name) throws MalformedURLException {
-    try (ZipHandle zip = getRoot()) {
-      final ZipEntry entry = zip.getEntry(name);
-      if (entry != null) {
-        return new URL("jar:file:" + zip.getName() + "!/" + entry.getName());
-      } else {
-        return null;
-      }
-    } catch (Exception e) {
-      throw Unchecked.translateCheckedException(e);
+    final ZipEntry entry = index().entries.get(name);
+    if (entry != null) {
+      return new URL("jar:file:" + this.file.getPath() + "!/" + entry.getName());
+    } else {
+      return null;
     }
-
   }
 
   @Override
@@ -78,23 +99,10 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
   @Override
   public Collection<String> classNames() {
-    final List<String> names = new ArrayList<>();
-    try (ZipHandle root = getRoot()) {
-      final Enumeration<? extends ZipEntry> entries = root.entries();
-      while (entries.hasMoreElements()) {
-        final ZipEntry entry = entries.nextElement();
-        if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
-          names.add(stringToClassName(entry.getName()));
-        }
-      }
-      return names;
-    } catch (Exception e) {
-      throw Unchecked.translateCheckedException(e);
-    }
-
+    return this.names.classNames(this.file, () -> index().classNames);
   }
 
-  private String stringToClassName(final String name) {
+  private static String stringToClassName(final String name) {
     return name.substring(0, (name.length() - ".class".length())).replace('/',
         '.');
   }
@@ -104,20 +112,74 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
     return Optional.ofNullable(this.file.getAbsolutePath());
   }
 
-  private ZipHandle getRoot() {
-    try {
-      return new WrappedZip(new ZipFile(this.file));
+  @Override
+  public Optional<String> classStamp(final String name) {
+    if (!index().entries.containsKey(name.replace('.', '/') + ".class")) {
+      return Optional.empty();
+    }
+    // entries cannot change without the archive changing
+    return Optional.of(this.file.getAbsolutePath() + "|" + this.file.length()
+        + "|" + this.file.lastModified());
+  }
+
+  private static byte[] read(ZipHandle zip, ZipEntry entry) throws IOException {
+    try (InputStream in = zip.getInputStream(entry)) {
+      final long size = entry.getSize();
+      if (size < 0 || size > Integer.MAX_VALUE) {
+        return StreamUtil.streamToByteArray(in);
+      }
+      // the size is known from the central directory, so inflate straight into
+      // an array of the right length rather than growing one and copying it
+      return in.readNBytes((int) size);
+    }
+  }
+
+  private synchronized Index index() {
+    if (this.index != null) {
+      final Index cached = this.index.get();
+      if (cached != null) {
+        return cached;
+      }
+    }
+    final Index built = buildIndex();
+    this.index = new SoftReference<>(built);
+    return built;
+  }
+
+  private Index buildIndex() {
+    try (ZipHandle zip = this.handles.acquire(this.file)) {
+      final Map<String, ZipEntry> entries = new HashMap<>();
+      final List<String> classNames = new ArrayList<>();
+      final Enumeration<? extends ZipEntry> all = zip.entries();
+      while (all.hasMoreElements()) {
+        final ZipEntry entry = all.nextElement();
+        entries.put(entry.getName(), entry);
+        if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
+          classNames.add(stringToClassName(entry.getName()));
+        }
+      }
+      return new Index(entries, classNames);
     } catch (ZipException ex) {
       // We might be passed files that are not archives on the classpath
       // rather than trying to filter these out by naming convention we've opted to
       // handle the error quietly here
-      return new NotAZip();
+      return new Index(Collections.emptyMap(), Collections.emptyList());
     } catch (IOException ex) {
       throw Unchecked.translateCheckedException(ex.getMessage() + " ("
           + this.file + ")", ex);
     }
   }
 
+  private static final class Index {
+    private final Map<String, ZipEntry> entries;
+    private final Collection<String>    classNames;
+
+    Index(Map<String, ZipEntry> entries, List<String> classNames) {
+      this.entries = entries;
+      this.classNames = Collections.unmodifiableList(classNames);
+    }
+  }
+
 }
 
 interface ZipHandle extends AutoCloseable {
@@ -128,66 +190,7 @@ interface ZipHandle extends AutoCloseable {
   String getName();
 
   InputStream getInputStream(ZipEntry entry) throws IOException;
-}
-
-
-class WrappedZip implements ZipHandle {
-
-  private final ZipFile zip;
-
-  WrappedZip(ZipFile zip) {
-    this.zip = zip;
-  }
-
-  @Override
-  public ZipEntry getEntry(String name) {
-    return zip.getEntry(name);
-  }
-
-  @Override
-  public Enumeration<? extends ZipEntry> entries() {
-    return zip.entries();
-  }
-
-  @Override
-  public String getName() {
-    return zip.getName();
-  }
-
-  @Override
-  public InputStream getInputStream(ZipEntry entry) throws IOException {
-    return zip.getInputStream(entry);
-  }
 
   @Override
-  public void close() throws Exception {
-    zip.close();
-  }
+  void close();
 }
-
-class NotAZip implements ZipHandle {
-
-  @Override
-  public ZipEntry getEntry(String name) {
-    return null;
-  }
-
-  @Override
-  public Enumeration<? extends ZipEntry> entries() {
-    return Collections.emptyEnumeration();
-  }
-
-  @Override
-  public String getName() {
-    return "";
-  }
-
-  @Override
-  public InputStream getInputStream(ZipEntry entry) {
-    return null;
-  }
-
-  @Override
-  public void close() throws Exception {
-  }
-}
\ No newline at end of file
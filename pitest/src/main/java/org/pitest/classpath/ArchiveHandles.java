@@ -0,0 +1,176 @@
+package org.pitest.classpath;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Bounded pool of open archives, so repeated lookups against the same jar do
+ * not each pay to open it and parse its central directory. The least recently
+ * used archive is closed once the pool is full, but not while a handle to it
+ * is still in use.
+ */
+public final class ArchiveHandles {
+
+  public static final int DEFAULT_CAPACITY = 32;
+
+  private static final ArchiveHandles SHARED = new ArchiveHandles(DEFAULT_CAPACITY);
+
+  private final int capacity;
+  private final LinkedHashMap<File, Pooled> open = new LinkedHashMap<>(16, 0.75f, true);
+
+  ArchiveHandles(int capacity) {
+    this.capacity = capacity;
+  }
+
+  public static ArchiveHandles shared() {
+    return SHARED;
+  }
+
+  /**
+   * Closes every archive not currently in use. Archives in use are closed as
+   * soon as their last handle is released.
+   */
+  public synchronized void closeAll() {
+    final List<Pooled> all = new ArrayList<>(this.open.values());
+    this.open.clear();
+    for (final Pooled each : all) {
+      each.retire();
+    }
+  }
+
+  /**
+   * The returned handle must be closed to return it to the pool
+   */
+  ZipHandle acquire(File file) throws IOException {
+    final ZipHandle existing = leaseIfOpen(file);
+    if (existing != null) {
+      return existing;
+    }
+
+    // opening reads the central directory, so is done without holding the
+    // lock that every other lookup needs
+    final ZipFile zip = new ZipFile(file);
+    final Pooled pooled;
+    synchronized (this) {
+      final Pooled raced = this.open.get(file);
+      if (raced == null) {
+        pooled = new Pooled(zip);
+        this.open.put(file, pooled);
+        evict();
+      } else {
+        pooled = raced;
+      }
+      pooled.users++;
+    }
+    if (pooled.zip != zip) {
+      // another thread opened the archive first
+      closeQuietly(zip);
+    }
+    return new Lease(pooled);
+  }
+
+  private synchronized ZipHandle leaseIfOpen(File file) {
+    final Pooled pooled = this.open.get(file);
+    if (pooled == null) {
+      return null;
+    }
+    pooled.users++;
+    return new Lease(pooled);
+  }
+
+  synchronized int openCount() {
+    return this.open.size();
+  }
+
+  private void evict() {
+    final Iterator<Map.Entry<File, Pooled>> it = this.open.entrySet().iterator();
+    while (this.open.size() > this.capacity && it.hasNext()) {
+      final Pooled eldest = it.next().getValue();
+      it.remove();
+      eldest.retire();
+    }
+  }
+
+  private synchronized void release(Pooled pooled) {
+    pooled.users--;
+    if (pooled.retired && pooled.users == 0) {
+      pooled.close();
+    }
+  }
+
+  private static final class Pooled {
+    private final ZipFile zip;
+    private int           users;
+    private boolean       retired;
+
+    Pooled(ZipFile zip) {
+      this.zip = zip;
+    }
+
+    void retire() {
+      this.retired = true;
+      if (this.users == 0) {
+        close();
+      }
+    }
+
+    void close() {
+      closeQuietly(this.zip);
+    }
+  }
+
+  private static void closeQuietly(ZipFile zip) {
+    try {
+      zip.close();
+    } catch (final IOException ex) {
+      // nothing useful we can do, the archive was only read
+    }
+  }
+
+  private final class Lease implements ZipHandle {
+    private final Pooled pooled;
+    private boolean      released;
+
+    Lease(Pooled pooled) {
+      this.pooled = pooled;
+    }
+
+    @Override
+    public ZipEntry getEntry(String name) {
+      return this.pooled.zip.getEntry(name);
+    }
+
+    @Override
+    public Enumeration<? extends ZipEntry> entries() {
+      return this.pooled.zip.entries();
+    }
+
+    @Override
+    public String getName() {
+      return this.pooled.zip.getName();
+    }
+
+    @Override
+    public InputStream getInputStream(ZipEntry entry) throws IOException {
+      return this.pooled.zip.getInputStream(entry);
+    }
+
+    @Override
+    public void close() {
+      if (!this.released) {
+        this.released = true;
+        release(this.pooled);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,130 @@
+package org.pitest.classpath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+
+/**
+ * Keeps the class names held by each archive on the classpath between runs,
+ * so unchanged dependency jars need not be scanned again. An entry is only
+ * used while the archive's size and modification time match those it was
+ * recorded against.
+ */
+public class ArchiveNameCache {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final int VERSION = 1;
+
+  private final File dir;
+
+  public ArchiveNameCache(File dir) {
+    this.dir = dir;
+  }
+
+  public static ArchiveNameCache none() {
+    return new ArchiveNameCache(null);
+  }
+
+  /**
+   * @param archive archive to find the class names of
+   * @param scan supplies the names when none are stored for the archive
+   */
+  public Collection<String> classNames(File archive, Supplier<Collection<String>> scan) {
+    if (this.dir == null) {
+      return scan.get();
+    }
+    final Key key = new Key(archive);
+    final Optional<Collection<String>> stored = read(key);
+    if (stored.isPresent()) {
+      return stored.get();
+    }
+    final Collection<String> names = scan.get();
+    write(key, names);
+    return names;
+  }
+
+  private Optional<Collection<String>> read(Key key) {
+    final File file = key.file(this.dir);
+    if (!file.exists()) {
+      return Optional.empty();
+    }
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+      if (in.readInt() != VERSION || !key.matches(in.readUTF(), in.readLong(), in.readLong())) {
+        return Optional.empty();
+      }
+      final int count = in.readInt();
+      final List<String> names = new ArrayList<>(count);
+      for (int i = 0; i != count; i++) {
+        names.add(in.readUTF());
+      }
+      return Optional.of(names);
+    } catch (final IOException ex) {
+      LOG.fine("Could not read cached class names for " + key.path + " " + ex);
+      return Optional.empty();
+    }
+  }
+
+  private void write(Key key, Collection<String> names) {
+    try {
+      Files.createDirectories(this.dir.toPath());
+      final Path tmp = Files.createTempFile(this.dir.toPath(), "names", ".tmp");
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+        out.writeInt(VERSION);
+        out.writeUTF(key.path);
+        out.writeLong(key.size);
+        out.writeLong(key.modified);
+        out.writeInt(names.size());
+        for (final String each : names) {
+          out.writeUTF(each);
+        }
+      }
+      // other processes may share the directory, so entries appear whole or not at all
+      Files.move(tmp, key.file(this.dir).toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException ex) {
+      LOG.fine("Could not cache class names for " + key.path + " " + ex);
+    }
+  }
+
+  private static final class Key {
+    private final String path;
+    private final long   size;
+    private final long   modified;
+
+    Key(File archive) {
+      this.path = archive.getAbsolutePath();
+      this.size = archive.length();
+      this.modified = archive.lastModified();
+    }
+
+    File file(File dir) {
+      return new File(dir, UUID.nameUUIDFromBytes(
+          this.path.getBytes(StandardCharsets.UTF_8)) + ".names");
+    }
+
+    boolean matches(String path, long size, long modified) {
+      return this.path.equals(path) && this.size == size
+          && this.modified == modified;
+    }
+  }
+
+}
@@ -54,7 +54,14 @@ public class ClassPath {
   }
 
   public ClassPath(final Collection<File> files) {
-    this(createRoots(FCollection.filter(files, exists())));
+    this(files, ArchiveNameCache.none());
+  }
+
+  /**
+   * @param names cache of the class names held by archives
+   */
+  public ClassPath(final Collection<File> files, final ArchiveNameCache names) {
+    this(createRoots(FCollection.filter(files, exists()), names));
   }
 
   ClassPath(List<ClassPathRoot> roots) {
@@ -66,7 +73,8 @@ public class ClassPath {
   }
 
   // fixme should not be determining type here
-  private static List<ClassPathRoot> createRoots(final Collection<File> files) {
+  private static List<ClassPathRoot> createRoots(final Collection<File> files,
+      final ArchiveNameCache names) {
     File lastFile = null;
     try {
       final List<ClassPathRoot> rs = new ArrayList<>();
@@ -76,7 +84,7 @@ public class ClassPath {
         if (f.isDirectory()) {
           rs.add(new DirectoryClassPathRoot(f));
         } else {
-          handleArchive(rs, f);
+          handleArchive(rs, f, names);
         }
       }
       return rs;
@@ -85,13 +93,13 @@ public class ClassPath {
     }
   }
 
-  private static void handleArchive(final List<ClassPathRoot> rs, final File f)
-      throws IOException {
+  private static void handleArchive(final List<ClassPathRoot> rs, final File f,
+      final ArchiveNameCache names) throws IOException {
     try {
       if (!f.canRead()) {
         throw new IOException("Can't read the file " + f);
       }
-      rs.add(new ArchiveClassPathRoot(f));
+      rs.add(new ArchiveClassPathRoot(f, ArchiveHandles.shared(), names));
     } catch (final ZipException ex) {
       LOG.warning("Can't open the archive " + f);
     }
@@ -107,6 +115,13 @@ public class ClassPath {
     }
   }
 
+  /**
+   * @see ClassPathRoot#classStamp(String)
+   */
+  public Optional<String> classStamp(final String classname) {
+    return this.root.classStamp(classname);
+  }
+
   public URL findResource(final String name) {
       return this.root.getResource(name);
   }
@@ -32,4 +32,16 @@ public interface ClassPathRoot {
 
   Optional<String> cacheLocation();
 
+  /**
+   * Describes the file a class was read from, in a form that changes when the
+   * file does, so information derived from the class can be reused until then.
+   *
+   * @param name java name of the class
+   * @return empty if the class is not held by this root or the root cannot
+   *         tell when it changes
+   */
+  default Optional<String> classStamp(String name) {
+    return Optional.empty();
+  }
+
 }
@@ -3,11 +3,14 @@ package org.pitest.classpath;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -16,13 +19,51 @@ public class CompoundClassPathRoot implements ClassPathRoot,
 
   private final List<ClassPathRoot> roots = new ArrayList<>();
 
+  private SoftReference<Index> index;
+
   public CompoundClassPathRoot(final List<ClassPathRoot> roots) {
     this.roots.addAll(wrapToAvoidIOOperations(roots));
   }
 
   @Override
   public InputStream getData(final String name) throws IOException {
-    for (final ClassPathRoot each : this.roots) {
+    final Index index = index();
+    final int owner = index.owner(name.replace('/', '.'));
+    // roots that cannot list their classes might still hold the class, so
+    // any that precede the owner are asked first
+    for (final int each : index.unlisted) {
+      if (each > owner) {
+        break;
+      }
+      final InputStream is = this.roots.get(each).getData(name);
+      if (is != null) {
+        return is;
+      }
+    }
+    if (owner == this.roots.size()) {
+      return null;
+    }
+    final InputStream is = this.roots.get(owner).getData(name);
+    if (is != null) {
+      return is;
+    }
+    return searchFrom(owner + 1, name);
+  }
+
+  @Override
+  public Optional<String> classStamp(final String name) {
+    final Index index = index();
+    final int owner = index.owner(name.replace('/', '.'));
+    // a class held by a root that cannot list its classes might shadow the owner
+    if (owner == this.roots.size()
+        || (index.unlisted.length != 0 && index.unlisted[0] < owner)) {
+      return Optional.empty();
+    }
+    return this.roots.get(owner).classStamp(name);
+  }
+
+  private InputStream searchFrom(int start, String name) throws IOException {
+    for (final ClassPathRoot each : this.roots.subList(start, this.roots.size())) {
       final InputStream is = each.getData(name);
       if (is != null) {
         return is;
@@ -80,6 +121,45 @@ public class CompoundClassPathRoot implements ClassPathRoot,
     return this.roots.iterator();
   }
 
+  private synchronized Index index() {
+    if (this.index != null) {
+      final Index cached = this.index.get();
+      if (cached != null) {
+        return cached;
+      }
+    }
+    final Index built = buildIndex();
+    this.index = new SoftReference<>(built);
+    return built;
+  }
+
+  private Index buildIndex() {
+    // listing each root is io bound, so the roots are listed in parallel
+    final List<Collection<String>> names = this.roots.parallelStream()
+        .map(r -> listsAllClasses(r) ? r.classNames() : null)
+        .collect(Collectors.toList());
+
+    final Map<String, Integer> owners = new HashMap<>();
+    final List<Integer> unlisted = new ArrayList<>();
+    for (int i = 0; i != names.size(); i++) {
+      if (names.get(i) == null) {
+        unlisted.add(i);
+        continue;
+      }
+      final Integer root = i;
+      for (final String each : names.get(i)) {
+        // earlier roots shadow later ones
+        owners.putIfAbsent(each, root);
+      }
+    }
+    return new Index(owners, unlisted.stream().mapToInt(Integer::intValue).toArray(),
+        this.roots.size());
+  }
+
+  private static boolean listsAllClasses(ClassPathRoot root) {
+    return root instanceof IOHeavyRoot || root instanceof NameCachingRoot;
+  }
+
   private  static List<ClassPathRoot> wrapToAvoidIOOperations(
       List<ClassPathRoot> roots) {
     return roots.stream()
@@ -87,5 +167,24 @@ public class CompoundClassPathRoot implements ClassPathRoot,
             .collect(Collectors.toList());
   }
 
+  /**
+   * Maps each class name to the position of the first root holding it
+   */
+  private static final class Index {
+    private final Map<String, Integer> owners;
+    private final int[]                unlisted;
+    private final int                  none;
+
+    Index(Map<String, Integer> owners, int[] unlisted, int none) {
+      this.owners = owners;
+      this.unlisted = unlisted;
+      this.none = none;
+    }
+
+    int owner(String name) {
+      final Integer owner = this.owners.get(name);
+      return owner == null ? this.none : owner;
+    }
+  }
 
 }
@@ -6,8 +6,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 import java.util.Optional;
@@ -63,7 +63,7 @@ public class DirectoryClassPathRoot implements ClassPathRoot, IOHeavyRoot {
   }
 
   private Collection<String> classNames(final File file) {
-    final List<String> classNames = new LinkedList<>();
+    final List<String> classNames = new ArrayList<>();
     for (final File f : file.listFiles()) {
       if (f.isDirectory()) {
         classNames.addAll(classNames(f));
@@ -82,6 +82,17 @@ public class DirectoryClassPathRoot implements ClassPathRoot, IOHeavyRoot {
             .replace(File.separatorChar, '.');
   }
 
+  @Override
+  public Optional<String> classStamp(final String classname) {
+    final File file = new File(this.root, classname.replace('.', File.separatorChar)
+        .concat(".class"));
+    if (!file.isFile()) {
+      return Optional.empty();
+    }
+    return Optional.of(file.getAbsolutePath() + "|" + file.length() + "|"
+        + file.lastModified());
+  }
+
   @Override
   public Optional<String> cacheLocation() {
     return Optional.ofNullable(this.root.getAbsolutePath());
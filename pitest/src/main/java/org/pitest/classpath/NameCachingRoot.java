@@ -6,6 +6,8 @@ import java.lang.ref.SoftReference;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.pitest.classinfo.ClassName;
@@ -20,7 +22,7 @@ public class NameCachingRoot implements ClassPathRoot {
 
   private final ClassPathRoot child;
 
-  private SoftReference<Collection<String>> cache;
+  private SoftReference<Set<String>> cache;
 
   public NameCachingRoot(ClassPathRoot child) {
     this.child = child;
@@ -33,22 +35,35 @@ public class NameCachingRoot implements ClassPathRoot {
 
   @Override
   public InputStream getData(String name) throws IOException {
-    final Collection<String> names = classNames();
+    final Set<String> names = names();
     if (!names.contains(ClassName.fromString(name).asJavaName())) {
       return null;
     }
     return this.child.getData(name);
   }
 
+  @Override
+  public Optional<String> classStamp(String name) {
+    if (!names().contains(ClassName.fromString(name).asJavaName())) {
+      return Optional.empty();
+    }
+    return this.child.classStamp(name);
+  }
+
   @Override
   public Collection<String> classNames() {
+    return names();
+  }
+
+  // held as a set so each lookup is not a scan of every name in the root
+  private synchronized Set<String> names() {
     if (this.cache != null) {
-      final Collection<String> cachedNames = this.cache.get();
+      final Set<String> cachedNames = this.cache.get();
       if (cachedNames != null) {
         return cachedNames;
       }
     }
-    final Collection<String> names = this.child.classNames();
+    final Set<String> names = new LinkedHashSet<>(this.child.classNames());
     this.cache = new SoftReference<>(names);
     return  names;
   }
@@ -1,7 +1,6 @@
 package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
-import java.util.Collection;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.Description;
@@ -10,8 +9,9 @@ import org.pitest.util.Id;
 import org.pitest.util.SafeDataOutputStream;
 
 import sun.pitest.CodeCoverageStore;
+import sun.pitest.ProbeHitReceiver;
 
-public class CoveragePipe implements CoverageReceiver {
+public class CoveragePipe implements CoverageReceiver, ProbeHitReceiver {
 
   private final SafeDataOutputStream dos;
 
@@ -22,19 +22,22 @@ public class CoveragePipe implements CoverageReceiver {
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
-
     this.dos.writeByte(Id.OUTCOME);
     this.dos.write(description);
-    this.dos.writeInt(hits.size());
-    for (final Long each : hits) {
-      this.dos.writeLong(each);
-    }
+    CodeCoverageStore.drainHits(this);
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
-    
-    CodeCoverageStore.reset();
+  }
 
+  @Override
+  public void beginHits(int numberOfClasses) {
+    this.dos.writeInt(numberOfClasses);
+  }
+
+  @Override
+  public void hitClass(int classId, boolean[] probes) {
+    this.dos.writeInt(classId);
+    ProbeHitEncoding.write(this.dos, probes);
   }
 
   public synchronized void end(final ExitCode exitCode) {
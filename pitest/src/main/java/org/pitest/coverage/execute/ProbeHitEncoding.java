@@ -0,0 +1,88 @@
+package org.pitest.coverage.execute;
+
+import java.util.function.IntConsumer;
+
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Wire format for the probes hit within a single class. Classes with few hits
+ * are sent as a list of probe ids, classes with many as a packed bitset,
+ * whichever is smaller. Probe 0, which only records that the class was hit at
+ * all, is never sent.
+ */
+public final class ProbeHitEncoding {
+
+  static final byte SPARSE = 0;
+  static final byte BITSET = 1;
+
+  private ProbeHitEncoding() {
+  }
+
+  public static void write(SafeDataOutputStream os, boolean[] probes) {
+    int count = 0;
+    int highest = 0;
+    for (int probe = 1; probe < probes.length; probe++) {
+      if (probes[probe]) {
+        count++;
+        highest = probe;
+      }
+    }
+
+    final int words = (highest >>> 6) + 1;
+    if (count * Integer.BYTES <= words * Long.BYTES) {
+      writeSparse(os, probes, count);
+    } else {
+      writeBitset(os, probes, words);
+    }
+  }
+
+  public static void read(SafeDataInputStream is, IntConsumer probes) {
+    final byte form = is.readByte();
+    if (form == SPARSE) {
+      final int count = is.readInt();
+      for (int i = 0; i != count; i++) {
+        probes.accept(is.readInt());
+      }
+    } else {
+      final int words = is.readInt();
+      for (int w = 0; w != words; w++) {
+        long word = is.readLong();
+        while (word != 0) {
+          final int bit = Long.numberOfTrailingZeros(word);
+          probes.accept((w << 6) + bit);
+          word &= word - 1;
+        }
+      }
+    }
+  }
+
+  private static void writeSparse(SafeDataOutputStream os, boolean[] probes,
+      int count) {
+    os.writeByte(SPARSE);
+    os.writeInt(count);
+    for (int probe = 1; probe < probes.length; probe++) {
+      if (probes[probe]) {
+        os.writeInt(probe);
+      }
+    }
+  }
+
+  private static void writeBitset(SafeDataOutputStream os, boolean[] probes,
+      int words) {
+    os.writeByte(BITSET);
+    os.writeInt(words);
+    for (int w = 0; w != words; w++) {
+      long word = 0;
+      final int first = w << 6;
+      final int last = Math.min(first + 64, probes.length);
+      for (int probe = Math.max(first, 1); probe < last; probe++) {
+        if (probes[probe]) {
+          word |= 1L << (probe - first);
+        }
+      }
+      os.writeLong(word);
+    }
+  }
+
+}
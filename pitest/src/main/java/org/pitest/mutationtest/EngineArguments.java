@@ -10,10 +10,24 @@ public class EngineArguments implements Serializable {
 
   private final Collection<String> mutators;
   private final Collection<String> excludedMethods;
+  private final boolean            loopGuard;
+  private final boolean            schemata;
 
   public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods) {
+    this(mutators, excludedMethods, false);
+  }
+
+  public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods,
+      boolean loopGuard) {
+    this(mutators, excludedMethods, loopGuard, false);
+  }
+
+  public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods,
+      boolean loopGuard, boolean schemata) {
     this.mutators = mutators;
     this.excludedMethods = excludedMethods;
+    this.loopGuard = loopGuard;
+    this.schemata = schemata;
   }
 
   public static EngineArguments arguments() {
@@ -21,11 +35,28 @@ public class EngineArguments implements Serializable {
   }
 
   public EngineArguments withMutators(Collection<String> mutators) {
-    return new EngineArguments(mutators, this.excludedMethods);
+    return new EngineArguments(mutators, this.excludedMethods, this.loopGuard, this.schemata);
   }
 
   public EngineArguments withExcludedMethods(Collection<String> excludedMethods) {
-    return new EngineArguments(this.mutators, excludedMethods);
+    return new EngineArguments(this.mutators, excludedMethods, this.loopGuard, this.schemata);
+  }
+
+  /**
+   * Loops in mutated methods are guarded so that a mutant which never leaves
+   * one can be abandoned once its test is out of time. Guarded mutants are for
+   * running only, not for analysis.
+   */
+  public EngineArguments withLoopGuard(boolean loopGuard) {
+    return new EngineArguments(this.mutators, this.excludedMethods, loopGuard, this.schemata);
+  }
+
+  /**
+   * The mutants of each class are compiled into a single class, and run by
+   * switching between them rather than by redefining the class for each.
+   */
+  public EngineArguments withSchemata(boolean schemata) {
+    return new EngineArguments(this.mutators, this.excludedMethods, this.loopGuard, schemata);
   }
 
   public Collection<String> mutators() {
@@ -36,5 +67,13 @@ public class EngineArguments implements Serializable {
     return this.excludedMethods;
   }
 
+  public boolean loopGuard() {
+    return this.loopGuard;
+  }
+
+  public boolean schemata() {
+    return this.schemata;
+  }
+
 }
 
@@ -0,0 +1,119 @@
+package org.pitest.mutationtest;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * The most recent execution times of a single test, in milliseconds. The first
+ * execution of a test within a minion pays for class loading and JIT
+ * compilation, so it is held apart from later executions.
+ */
+public final class TestTimeSamples implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final int CAPACITY = 32;
+
+  private final Recent firstRuns = new Recent();
+  private final Recent laterRuns = new Recent();
+
+  public void add(boolean firstRun, long millis) {
+    runs(firstRun).add(millis);
+  }
+
+  /**
+   * Adds the samples of another instance, which are treated as more recent
+   * than those already held.
+   */
+  public void addAll(TestTimeSamples other) {
+    for (final long each : other.samples(true)) {
+      this.firstRuns.add(each);
+    }
+    for (final long each : other.samples(false)) {
+      this.laterRuns.add(each);
+    }
+  }
+
+  /**
+   * @return the samples held, oldest first
+   */
+  public long[] samples(boolean firstRun) {
+    return runs(firstRun).toArray();
+  }
+
+  public int count(boolean firstRun) {
+    return runs(firstRun).count;
+  }
+
+  /**
+   * @param percentile value between 0 and 1
+   * @param minimumSamples number of samples below which no value is given
+   * @return nearest rank percentile of the samples held
+   */
+  public OptionalLong percentile(boolean firstRun, double percentile,
+      int minimumSamples) {
+    final long[] sorted = samples(firstRun);
+    if (sorted.length < Math.max(1, minimumSamples)) {
+      return OptionalLong.empty();
+    }
+    Arrays.sort(sorted);
+    final int rank = (int) Math.ceil(percentile * sorted.length);
+    return OptionalLong.of(sorted[Math.max(1, rank) - 1]);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final TestTimeSamples that = (TestTimeSamples) o;
+    return Arrays.equals(samples(true), that.samples(true))
+        && Arrays.equals(samples(false), that.samples(false));
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(samples(true)) + Arrays.hashCode(samples(false));
+  }
+
+  @Override
+  public String toString() {
+    return "TestTimeSamples [firstRuns=" + Arrays.toString(samples(true))
+        + ", laterRuns=" + Arrays.toString(samples(false)) + "]";
+  }
+
+  private Recent runs(boolean firstRun) {
+    return firstRun ? this.firstRuns : this.laterRuns;
+  }
+
+  /**
+   * Ring buffer that discards the oldest sample once full
+   */
+  private static final class Recent implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long[] values = new long[CAPACITY];
+    private int          next;
+    private int          count;
+
+    void add(long value) {
+      this.values[this.next] = value;
+      this.next = (this.next + 1) % CAPACITY;
+      this.count = Math.min(CAPACITY, this.count + 1);
+    }
+
+    long[] toArray() {
+      final long[] ordered = new long[this.count];
+      final int oldest = (this.next - this.count + CAPACITY) % CAPACITY;
+      for (int i = 0; i != this.count; i++) {
+        ordered[i] = this.values[(oldest + i) % CAPACITY];
+      }
+      return ordered;
+    }
+  }
+
+}
@@ -16,9 +16,27 @@
 package org.pitest.mutationtest;
 
 import java.io.Serializable;
+import java.util.Collection;
 
 public interface TimeoutLengthStrategy extends Serializable {
 
   long getAllowedTime(long normalDuration);
 
+  /**
+   * @param test name of the test about to be run
+   * @param firstRun true if the test has not yet been run by this minion
+   * @param normalDuration time the test took during coverage analysis
+   */
+  default long getAllowedTime(String test, boolean firstRun, long normalDuration) {
+    return getAllowedTime(normalDuration);
+  }
+
+  /**
+   * @return a strategy holding only what is needed to time the named tests,
+   *         to be sent to a minion that runs no others
+   */
+  default TimeoutLengthStrategy forTests(Collection<String> tests) {
+    return this;
+  }
+
 }
@@ -0,0 +1,107 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+
+/**
+ * Sets a limit for each test from the times it took in previous runs, rather
+ * than from the single time recorded during coverage analysis. First runs of
+ * a test within a minion are limited by the times of previous first runs,
+ * later runs by the times of previous later runs, so a warmed up test is not
+ * given the allowance needed by a cold one.
+ *
+ * <p>Tests without enough history are limited by a fallback strategy. A
+ * learned limit is never less than half the fallback limit, as a fast test
+ * with few samples would otherwise be reported as timed out by a single
+ * garbage collection pause or a busy machine.
+ */
+public class AdaptiveTimeoutStrategy implements TimeoutLengthStrategy {
+
+  private static final long serialVersionUID = 1L;
+
+  public static final double PERCENTILE      = 0.99;
+  public static final int    MINIMUM_SAMPLES = 5;
+  public static final long   DEFAULT_MARGIN  = 250;
+
+  public static final double MINIMUM_FRACTION_OF_FALLBACK = 0.5;
+
+  private final Map<String, Long>     firstRunLimits;
+  private final Map<String, Long>     laterRunLimits;
+  private final TimeoutLengthStrategy fallback;
+
+  AdaptiveTimeoutStrategy(Map<String, Long> firstRunLimits,
+      Map<String, Long> laterRunLimits, TimeoutLengthStrategy fallback) {
+    this.firstRunLimits = firstRunLimits;
+    this.laterRunLimits = laterRunLimits;
+    this.fallback = fallback;
+  }
+
+  /**
+   * @param history previous execution times of each test
+   * @param factor multiplier applied to the percentile time of each test
+   * @param margin constant added to each limit, to absorb pauses for garbage
+   *               collection and scheduling
+   * @param fallback strategy for tests without enough history
+   */
+  public static AdaptiveTimeoutStrategy fromHistory(Map<String, TestTimeSamples> history,
+      float factor, long margin, TimeoutLengthStrategy fallback) {
+    final Map<String, Long> firstRuns = new HashMap<>();
+    final Map<String, Long> laterRuns = new HashMap<>();
+    for (final Map.Entry<String, TestTimeSamples> each : history.entrySet()) {
+      limit(each.getValue(), true, factor, margin)
+          .ifPresent(l -> firstRuns.put(each.getKey(), l));
+      limit(each.getValue(), false, factor, margin)
+          .ifPresent(l -> laterRuns.put(each.getKey(), l));
+    }
+    return new AdaptiveTimeoutStrategy(firstRuns, laterRuns, fallback);
+  }
+
+  @Override
+  public long getAllowedTime(long normalDuration) {
+    return this.fallback.getAllowedTime(normalDuration);
+  }
+
+  @Override
+  public long getAllowedTime(String test, boolean firstRun, long normalDuration) {
+    final Long limit = (firstRun ? this.firstRunLimits : this.laterRunLimits).get(test);
+    final long fallbackLimit = this.fallback.getAllowedTime(test, firstRun, normalDuration);
+    if (limit == null) {
+      return fallbackLimit;
+    }
+    return Math.max(limit, Math.round(fallbackLimit * MINIMUM_FRACTION_OF_FALLBACK));
+  }
+
+  @Override
+  public TimeoutLengthStrategy forTests(Collection<String> tests) {
+    final Map<String, Long> firstRuns = new HashMap<>();
+    final Map<String, Long> laterRuns = new HashMap<>();
+    for (final String each : tests) {
+      copy(each, this.firstRunLimits, firstRuns);
+      copy(each, this.laterRunLimits, laterRuns);
+    }
+    return new AdaptiveTimeoutStrategy(firstRuns, laterRuns,
+        this.fallback.forTests(tests));
+  }
+
+  private static OptionalLong limit(TestTimeSamples samples, boolean firstRun,
+      float factor, long margin) {
+    final OptionalLong time = samples.percentile(firstRun, PERCENTILE, MINIMUM_SAMPLES);
+    if (time.isPresent()) {
+      return OptionalLong.of(Math.round(time.getAsLong() * factor) + margin);
+    }
+    return OptionalLong.empty();
+  }
+
+  private static void copy(String test, Map<String, Long> from, Map<String, Long> to) {
+    final Long limit = from.get(test);
+    if (limit != null) {
+      to.put(test, limit);
+    }
+  }
+
+}
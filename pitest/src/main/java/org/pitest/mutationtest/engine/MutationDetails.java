@@ -40,6 +40,7 @@ public final class MutationDetails implements Serializable {
   private final int                 lineNumber;
   private final String              description;
   private final ArrayList<TestInfo> testsInOrder = new ArrayList<>();
+  private final double              samplingWeight;
 
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block) {
@@ -48,11 +49,18 @@ public final class MutationDetails implements Serializable {
 
   public MutationDetails(final MutationIdentifier id, final String filename,
                          final String description, final int lineNumber, List<Integer> blocks) {
+    this(id, filename, description, lineNumber, blocks, 1);
+  }
+
+  private MutationDetails(final MutationIdentifier id, final String filename,
+      final String description, final int lineNumber, List<Integer> blocks,
+      double samplingWeight) {
     this.id = id;
     this.description = Objects.requireNonNull(description);
     this.filename = defaultFilenameIfNotSupplied(filename);
     this.lineNumber = lineNumber;
     this.blocks = blocks;
+    this.samplingWeight = samplingWeight;
   }
 
   @Override
@@ -63,7 +71,20 @@ public final class MutationDetails implements Serializable {
   }
 
   public MutationDetails withDescription(String desc) {
-    return new MutationDetails(this.id, this.filename, desc, this.lineNumber, this.blocks);
+    return new MutationDetails(this.id, this.filename, desc, this.lineNumber, this.blocks,
+        this.samplingWeight);
+  }
+
+  /**
+   * Returns a copy of this mutation chosen as part of a sample, standing in for
+   * the given number of mutants of its kind.
+   *
+   * @param weight number of mutants this mutation represents
+   * @return a copy of this mutation
+   */
+  public MutationDetails withSamplingWeight(double weight) {
+    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber,
+        this.blocks, weight);
   }
 
   /**
@@ -163,6 +184,16 @@ public final class MutationDetails implements Serializable {
     return this.testsInOrder;
   }
 
+  /**
+   * Returns the number of mutants this mutation represents. This is 1 unless
+   * the mutation was chosen as part of a sample.
+   *
+   * @return the sampling weight
+   */
+  public double getSamplingWeight() {
+    return this.samplingWeight;
+  }
+
   /**
    * Adds tests to the list of covering tests
    *
@@ -29,6 +29,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.bytecode.NullVisitor;
@@ -47,13 +48,26 @@ public class GregorMutater implements Mutater {
   private final Predicate<MethodInfo>     filter;
   private final ClassByteArraySource      byteSource;
   private final List<MethodMutatorFactory> mutators;
+  private final boolean                   loopGuard;
 
   public GregorMutater(final ClassByteArraySource byteSource,
       final Predicate<MethodInfo> filter,
       final Collection<MethodMutatorFactory> mutators) {
+    this(byteSource, filter, mutators, false);
+  }
+
+  /**
+   * @param loopGuard if true, loops in the mutated method are guarded so that
+   *                  a mutant which never leaves one can be abandoned
+   */
+  public GregorMutater(final ClassByteArraySource byteSource,
+      final Predicate<MethodInfo> filter,
+      final Collection<MethodMutatorFactory> mutators,
+      final boolean loopGuard) {
     this.filter = filter;
     this.mutators = orderAndDeDuplicate(mutators);
     this.byteSource = byteSource;
+    this.loopGuard = loopGuard;
   }
 
   @Override
@@ -100,7 +114,8 @@ public class GregorMutater implements Mutater {
     final ClassReader reader = new ClassReader(bytes.get());
     final ClassWriter w = new ComputeClassWriter(this.byteSource,
         this.computeCache, FrameOptions.pickFlags(bytes.get()));
-    final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
+    final ClassVisitor out = this.loopGuard ? new LoopGuardClassVisitor(w, id.getLocation()) : w;
+    final MutatingClassVisitor mca = new MutatingClassVisitor(out, context,
         filterMethods(), FCollection.filter(this.mutators,
             m -> m.isMutatorFor(id)));
     reader.accept(mca, ClassReader.EXPAND_FRAMES);
@@ -34,16 +34,26 @@ public class GregorMutationEngine implements MutationEngine {
 
   private final Set<MethodMutatorFactory> mutationOperators = new LinkedHashSet<>();
   private final Predicate<MethodInfo>     methodFilter;
+  private final boolean                   loopGuard;
 
   public GregorMutationEngine(final MutationEngineConfiguration config) {
+    this(config, false);
+  }
+
+  /**
+   * @param loopGuard if true, loops in mutated methods are guarded
+   */
+  public GregorMutationEngine(final MutationEngineConfiguration config,
+      final boolean loopGuard) {
     this.methodFilter = config.methodFilter();
     this.mutationOperators.addAll(config.mutators());
+    this.loopGuard = loopGuard;
   }
 
   @Override
   public Mutater createMutator(final ClassByteArraySource byteSource) {
     return new GregorMutater(byteSource, this.methodFilter,
-        this.mutationOperators);
+        this.mutationOperators, this.loopGuard);
   }
 
   @Override
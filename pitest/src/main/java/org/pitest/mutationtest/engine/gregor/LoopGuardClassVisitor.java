@@ -0,0 +1,66 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.bytecode.ASMVersion;
+import org.pitest.mutationtest.engine.Location;
+
+import sun.pitest.LoopGuard;
+
+/**
+ * Inserts a call to the loop guard before each backwards jump in a single
+ * method, so that a mutant which turns a loop into an infinite one can be
+ * abandoned once its test is out of time.
+ */
+class LoopGuardClassVisitor extends ClassVisitor {
+
+  private final Location target;
+
+  LoopGuardClassVisitor(ClassVisitor cv, Location target) {
+    super(ASMVersion.ASM_VERSION, cv);
+    this.target = target;
+  }
+
+  @Override
+  public MethodVisitor visitMethod(int access, String name, String descriptor,
+      String signature, String[] exceptions) {
+    final MethodVisitor mv = super.visitMethod(access, name, descriptor, signature,
+        exceptions);
+    if (name.equals(this.target.getMethodName())
+        && descriptor.equals(this.target.getMethodDesc())) {
+      return new LoopGuardMethodVisitor(mv);
+    }
+    return mv;
+  }
+
+  private static class LoopGuardMethodVisitor extends MethodVisitor {
+
+    // a jump to a label that has already been visited is a back edge
+    private final Set<Label> visited = new HashSet<>();
+
+    LoopGuardMethodVisitor(MethodVisitor mv) {
+      super(ASMVersion.ASM_VERSION, mv);
+    }
+
+    @Override
+    public void visitLabel(Label label) {
+      this.visited.add(label);
+      super.visitLabel(label);
+    }
+
+    @Override
+    public void visitJumpInsn(int opcode, Label label) {
+      if (this.visited.contains(label)) {
+        super.visitMethodInsn(Opcodes.INVOKESTATIC, LoopGuard.CLASS_NAME,
+            LoopGuard.METHOD_NAME, LoopGuard.METHOD_DESC, false);
+      }
+      super.visitJumpInsn(opcode, label);
+    }
+  }
+
+}
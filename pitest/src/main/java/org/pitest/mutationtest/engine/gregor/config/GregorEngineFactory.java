@@ -31,17 +31,24 @@ public final class GregorEngineFactory implements MutationEngineFactory {
   @Override
   public MutationEngine createEngine(EngineArguments args) {
     return createEngineWithMutators(args.excludedMethods(),
-           createMutatorListFromArrayOrUseDefaults(args.mutators()));
+           createMutatorListFromArrayOrUseDefaults(args.mutators()), args.loopGuard());
   }
 
   MutationEngine createEngineWithMutators(
       final Collection<String> excludedMethods,
       final Collection<? extends MethodMutatorFactory> mutators) {
+    return createEngineWithMutators(excludedMethods, mutators, false);
+  }
+
+  private MutationEngine createEngineWithMutators(
+      final Collection<String> excludedMethods,
+      final Collection<? extends MethodMutatorFactory> mutators,
+      final boolean loopGuard) {
 
     final Predicate<MethodInfo> filter = Prelude.not(stringToMethodInfoPredicate(excludedMethods));
     final DefaultMutationEngineConfiguration config = new DefaultMutationEngineConfiguration(
         filter, mutators);
-    return new GregorMutationEngine(config);
+    return new GregorMutationEngine(config, loopGuard);
   }
 
   private static Collection<? extends MethodMutatorFactory> createMutatorListFromArrayOrUseDefaults(
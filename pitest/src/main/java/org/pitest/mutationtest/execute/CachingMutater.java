@@ -0,0 +1,78 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * Serves mutants from the cache files prepared by the controlling process,
+ * falling back to generating them when a mutant is not cached.
+ */
+class CachingMutater implements Mutater {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final Mutater child;
+
+  private final Map<File, Optional<MutantCacheFile>> opened  = new HashMap<>();
+  private Map<ClassName, File>                       files   = Collections.emptyMap();
+  private Map<MutationIdentifier, MutationDetails>   details = Collections.emptyMap();
+
+  CachingMutater(Mutater child) {
+    this.child = child;
+  }
+
+  /**
+   * Sets the mutants that will be requested, and the cache files for their
+   * classes.
+   */
+  void prepare(Collection<MutationDetails> mutations, Map<ClassName, File> files) {
+    this.files = files;
+    this.details = new HashMap<>();
+    for (final MutationDetails each : mutations) {
+      this.details.put(each.getId(), each);
+    }
+  }
+
+  @Override
+  public Mutant getMutation(MutationIdentifier id) {
+    final MutationDetails known = this.details.get(id);
+    final File file = this.files.get(id.getClassName());
+    if (known != null && file != null) {
+      final Optional<byte[]> bytes = this.opened.computeIfAbsent(file, CachingMutater::open)
+          .flatMap(f -> f.get(id));
+      if (bytes.isPresent()) {
+        return new Mutant(known, bytes.get());
+      }
+    }
+    return this.child.getMutation(id);
+  }
+
+  @Override
+  public List<MutationDetails> findMutations(ClassName classToMutate) {
+    return this.child.findMutations(classToMutate);
+  }
+
+  private static Optional<MutantCacheFile> open(File file) {
+    try {
+      return Optional.of(MutantCacheFile.open(file.toPath()));
+    } catch (final IOException e) {
+      LOG.warning("Could not read mutant cache " + file + ". " + e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+}
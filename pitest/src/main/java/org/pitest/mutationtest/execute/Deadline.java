@@ -0,0 +1,50 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Serializable;
+
+/**
+ * Wall clock time after which no further mutants should be started. Wall
+ * clock time is used so the deadline means the same in the main process and
+ * in its minions.
+ */
+public final class Deadline implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final long NONE = 0;
+
+  private final long epochMillis;
+
+  private Deadline(long epochMillis) {
+    this.epochMillis = epochMillis;
+  }
+
+  public static Deadline none() {
+    return new Deadline(NONE);
+  }
+
+  /**
+   * @param epochMillis time as returned by System.currentTimeMillis
+   */
+  public static Deadline at(long epochMillis) {
+    return new Deadline(epochMillis);
+  }
+
+  public boolean isSet() {
+    return this.epochMillis != NONE;
+  }
+
+  public boolean hasPassed() {
+    return hasPassed(System.currentTimeMillis());
+  }
+
+  boolean hasPassed(long now) {
+    return isSet() && now >= this.epochMillis;
+  }
+
+  @Override
+  public String toString() {
+    return isSet() ? "Deadline at " + this.epochMillis : "No deadline";
+  }
+
+}
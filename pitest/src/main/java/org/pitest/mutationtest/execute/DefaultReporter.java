@@ -15,25 +15,44 @@
 package org.pitest.mutationtest.execute;
 
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
 import org.pitest.util.SafeDataOutputStream;
 
+import java.io.BufferedOutputStream;
 import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
+/**
+ * Sends results to the parent process. A mutant is described, and the
+ * description flushed, before it is run so that the parent can attribute a
+ * crash to it. Reports are not flushed themselves, but travel with the next
+ * description, or with the end of the batch.
+ */
 public class DefaultReporter implements Reporter {
 
   private final SafeDataOutputStream w;
 
+  private ResultEncoding encoding = new ResultEncoding(Collections.emptyList());
+
   DefaultReporter(final OutputStream w) {
-    this.w = new SafeDataOutputStream(w);
+    this.w = new SafeDataOutputStream(new BufferedOutputStream(w));
+  }
+
+  @Override
+  public synchronized void startBatch(final Collection<MutationDetails> mutations) {
+    this.encoding = new ResultEncoding(mutations);
   }
 
   @Override
   public synchronized void describe(final MutationIdentifier i) {
     this.w.writeByte(Id.DESCRIBE);
-    this.w.write(i);
+    this.encoding.writeId(this.w, i);
     this.w.flush();
   }
 
@@ -41,8 +60,22 @@ public class DefaultReporter implements Reporter {
   public synchronized void report(final MutationIdentifier i,
       final MutationStatusTestPair mutationDetected) {
     this.w.writeByte(Id.REPORT);
-    this.w.write(i);
-    this.w.write(mutationDetected);
+    this.encoding.writeId(this.w, i);
+    this.encoding.writeStatus(this.w, mutationDetected);
+  }
+
+  @Override
+  public synchronized void testTimes(final Map<String, TestTimeSamples> times) {
+    if (times.isEmpty()) {
+      return;
+    }
+    this.w.writeByte(Id.TEST_TIMES);
+    this.encoding.writeTestTimes(this.w, times);
+  }
+
+  @Override
+  public synchronized void batchDone() {
+    this.w.writeByte(Id.BATCH_DONE);
     this.w.flush();
   }
 
@@ -14,8 +14,10 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.File;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Map;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.EngineArguments;
@@ -36,11 +38,15 @@ public class MinionArguments implements Serializable {
   final Verbosity verbosity;
   final boolean                     fullMutationMatrix;
   final TestPluginArguments         pitConfig;
+  final MinionRunSettings           settings;
 
+  /**
+   * @param settings how the minion runs the mutants
+   */
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final String engine, final EngineArguments engineArgs,
       final TimeoutLengthStrategy timeoutStrategy, final Verbosity verbosity, final boolean fullMutationMatrix,
-      final TestPluginArguments pitConfig) {
+      final TestPluginArguments pitConfig, final MinionRunSettings settings) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
@@ -49,10 +55,35 @@ public class MinionArguments implements Serializable {
     this.verbosity = verbosity;
     this.fullMutationMatrix = fullMutationMatrix;
     this.pitConfig = pitConfig;
+    this.settings = settings;
   }
 
   public Verbosity verbosity() {
     return this.verbosity;
   }
 
+  public Collection<MutationDetails> mutations() {
+    return this.mutations;
+  }
+
+  /**
+   * @return true if the minion should wait for further batches of mutants
+   *         once these have been processed, rather than exiting
+   */
+  public boolean isReusable() {
+    return this.settings.isReusable();
+  }
+
+  public Map<ClassName, File> mutantCache() {
+    return this.settings.mutantCache();
+  }
+
+  public TestThreads testThreads() {
+    return this.settings.testThreads();
+  }
+
+  public Deadline deadline() {
+    return this.settings.deadline();
+  }
+
 }
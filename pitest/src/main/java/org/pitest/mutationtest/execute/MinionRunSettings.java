@@ -0,0 +1,81 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+
+/**
+ * How a minion runs its mutants, beyond what mutants and tests it is given
+ */
+public final class MinionRunSettings implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final boolean              reusable;
+  private final Map<ClassName, File> mutantCache;
+  private final TestThreads          testThreads;
+  private final Deadline             deadline;
+
+  private MinionRunSettings(boolean reusable, Map<ClassName, File> mutantCache,
+      TestThreads testThreads, Deadline deadline) {
+    this.reusable = reusable;
+    this.mutantCache = mutantCache;
+    this.testThreads = testThreads;
+    this.deadline = deadline;
+  }
+
+  public static MinionRunSettings defaults() {
+    return new MinionRunSettings(false, Collections.emptyMap(), TestThreads.PER_TEST,
+        Deadline.none());
+  }
+
+  /**
+   * The minion waits for further batches of mutants once these have been
+   * processed, rather than exiting
+   */
+  public MinionRunSettings withReusable(boolean reusable) {
+    return new MinionRunSettings(reusable, this.mutantCache, this.testThreads, this.deadline);
+  }
+
+  /**
+   * @param mutantCache files holding previously generated mutants for the
+   *                    classes being mutated
+   */
+  public MinionRunSettings withMutantCache(Map<ClassName, File> mutantCache) {
+    return new MinionRunSettings(this.reusable, mutantCache, this.testThreads, this.deadline);
+  }
+
+  /**
+   * @param testThreads how threads are provided to run each test
+   */
+  public MinionRunSettings withTestThreads(TestThreads testThreads) {
+    return new MinionRunSettings(this.reusable, this.mutantCache, testThreads, this.deadline);
+  }
+
+  /**
+   * @param deadline time after which the minion should start no further mutants
+   */
+  public MinionRunSettings withDeadline(Deadline deadline) {
+    return new MinionRunSettings(this.reusable, this.mutantCache, this.testThreads, deadline);
+  }
+
+  public boolean isReusable() {
+    return this.reusable;
+  }
+
+  public Map<ClassName, File> mutantCache() {
+    return this.mutantCache;
+  }
+
+  public TestThreads testThreads() {
+    return this.testThreads;
+  }
+
+  public Deadline deadline() {
+    return this.deadline;
+  }
+
+}
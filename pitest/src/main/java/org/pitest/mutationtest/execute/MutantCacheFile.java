@@ -0,0 +1,156 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.StreamUtil;
+
+/**
+ * The bytes of previously generated mutants of a single class. The file is
+ * written by the controlling process and memory mapped by the minions, so
+ * repeated runs against an unchanged class need not regenerate its mutants.
+ *
+ * <pre>
+ * header : int magic, int version, int index offset
+ * data   : the bytes of each mutant
+ * index  : int count, [utf key, int offset, int length] sorted by key
+ * </pre>
+ */
+public final class MutantCacheFile {
+
+  private static final int MAGIC   = 0x5049544d;
+  private static final int VERSION = 1;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final ByteBuffer buffer;
+  private final String[]   keys;
+  private final int[]      offsets;
+  private final int[]      lengths;
+
+  private MutantCacheFile(ByteBuffer buffer, String[] keys, int[] offsets,
+      int[] lengths) {
+    this.buffer = buffer;
+    this.keys = keys;
+    this.offsets = offsets;
+    this.lengths = lengths;
+  }
+
+  public static MutantCacheFile open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Mutant cache " + file + " is too large to map");
+      }
+      final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+          channel.size());
+      if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        throw new IOException(file + " is not a mutant cache");
+      }
+      final ByteBuffer view = buffer.duplicate();
+      view.position(buffer.getInt());
+      final DataInputStream index = new DataInputStream(StreamUtil.asInputStream(view));
+      final int count = index.readInt();
+      final String[] keys = new String[count];
+      final int[] offsets = new int[count];
+      final int[] lengths = new int[count];
+      for (int i = 0; i != count; i++) {
+        keys[i] = index.readUTF();
+        offsets[i] = index.readInt();
+        lengths[i] = index.readInt();
+      }
+      return new MutantCacheFile(buffer, keys, offsets, lengths);
+    }
+  }
+
+  /**
+   * Writes the supplied mutant bytes, keyed as by {@link #key}, replacing any
+   * existing file once the new one is complete.
+   */
+  public static void write(Path file, Map<String, byte[]> mutants) throws IOException {
+    // several processes may share the cache, so each writes to its own file
+    final Path temp = Files.createTempFile(file.toAbsolutePath().getParent(),
+        "mutants", ".tmp");
+    try {
+      writeTo(temp, mutants);
+      Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static void writeTo(Path file, Map<String, byte[]> mutants)
+      throws IOException {
+    final SortedMap<String, int[]> index = new TreeMap<>();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+          Channels.newOutputStream(channel), BUFFER_SIZE));
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(0);
+      for (final Entry<String, byte[]> each : mutants.entrySet()) {
+        index.put(each.getKey(), new int[] { out.size(), each.getValue().length });
+        out.write(each.getValue());
+      }
+
+      final int indexOffset = out.size();
+      out.writeInt(index.size());
+      for (final Entry<String, int[]> each : index.entrySet()) {
+        out.writeUTF(each.getKey());
+        out.writeInt(each.getValue()[0]);
+        out.writeInt(each.getValue()[1]);
+      }
+      out.flush();
+
+      final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+      header.putInt(indexOffset).flip();
+      channel.write(header, 2 * Integer.BYTES);
+    }
+  }
+
+  /**
+   * Identifies a mutant within its class.
+   */
+  public static String key(MutationIdentifier id) {
+    return id.getLocation().getMethodName() + id.getLocation().getMethodDesc()
+        + " " + id.getIndexes() + " " + id.getMutator();
+  }
+
+  public List<String> keys() {
+    return Arrays.asList(this.keys);
+  }
+
+  public Optional<byte[]> get(String key) {
+    final int i = Arrays.binarySearch(this.keys, key);
+    if (i < 0) {
+      return Optional.empty();
+    }
+    final byte[] bytes = new byte[this.lengths[i]];
+    final ByteBuffer view = this.buffer.duplicate();
+    view.position(this.offsets[i]);
+    view.get(bytes);
+    return Optional.of(bytes);
+  }
+
+  public Optional<byte[]> get(MutationIdentifier id) {
+    return get(key(id));
+  }
+
+}
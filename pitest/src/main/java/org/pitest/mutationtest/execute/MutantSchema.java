@@ -0,0 +1,44 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * A class holding several mutants, each of which is made active by setting
+ * {@link sun.pitest.ActiveMutant} to its switch value.
+ */
+final class MutantSchema {
+
+  private final ClassName                        clazz;
+  private final byte[]                           bytes;
+  private final Map<MutationIdentifier, Integer> switches;
+
+  MutantSchema(ClassName clazz, byte[] bytes, Map<MutationIdentifier, Integer> switches) {
+    this.clazz = clazz;
+    this.bytes = bytes;
+    this.switches = switches;
+  }
+
+  ClassName getClassName() {
+    return this.clazz;
+  }
+
+  byte[] getBytes() {
+    return this.bytes;
+  }
+
+  boolean contains(MutationIdentifier id) {
+    return this.switches.containsKey(id);
+  }
+
+  int switchFor(MutationIdentifier id) {
+    return this.switches.get(id);
+  }
+
+  int size() {
+    return this.switches.size();
+  }
+
+}
@@ -0,0 +1,233 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassTooLargeException;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodTooLargeException;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+import sun.pitest.ActiveMutant;
+
+/**
+ * Compiles the mutants of a class into a single class, in which each mutated
+ * method switches on {@link ActiveMutant} between its original code and the
+ * code of each of its mutants. Once the schema is in place, moving from one of
+ * its mutants to the next needs no class redefinition, so code the JIT has
+ * compiled for the class and its callers is kept.
+ *
+ * <p>Only method bodies differ from the original class, so a schema is hot
+ * swapped in like a single mutant. Mutants that change anything other than
+ * the body of their method, or that are in a static initializer, are left
+ * out and must be run alone.
+ */
+class MutantSchemata {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final ClassByteArraySource source;
+  private final Map<String, String>  computeCache = new HashMap<>();
+
+  // switch values are never reused, so two schemata cannot activate together
+  private int                        next         = ActiveMutant.NONE + 1;
+
+  MutantSchemata(ClassByteArraySource source) {
+    this.source = source;
+  }
+
+  static MutantSchemata none() {
+    return new MutantSchemata(null);
+  }
+
+  /**
+   * @param clazz class mutated by each of the mutants
+   * @param ids the mutants to hold
+   * @param mutater creates the mutants
+   * @return a schema holding as many of the mutants as possible, or empty if
+   *         fewer than two can be held
+   */
+  Optional<MutantSchema> create(ClassName clazz, Collection<MutationIdentifier> ids,
+      Mutater mutater) {
+    if (this.source == null || ids.size() < 2) {
+      return Optional.empty();
+    }
+    final Optional<byte[]> original = this.source.getBytes(clazz.asJavaName());
+    if (original.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final ClassNode base = read(original.get());
+    final Map<String, List<Variant>> byMethod = new LinkedHashMap<>();
+    for (final MutationIdentifier each : ids) {
+      variantOf(base, mutater.getMutation(each))
+          .ifPresent(v -> byMethod.computeIfAbsent(v.method.name + v.method.desc,
+              k -> new ArrayList<>()).add(v));
+    }
+
+    while (count(byMethod) > 1) {
+      try {
+        return Optional.of(build(clazz, original.get(), byMethod));
+      } catch (final MethodTooLargeException ex) {
+        // the method's mutants will be run alone
+        byMethod.remove(ex.getMethodName() + ex.getDescriptor());
+      } catch (final ClassTooLargeException ex) {
+        return Optional.empty();
+      } catch (final RuntimeException ex) {
+        LOG.fine("Could not create mutant schema for " + clazz + " " + ex);
+        return Optional.empty();
+      }
+    }
+    return Optional.empty();
+  }
+
+  private MutantSchema build(ClassName clazz, byte[] original,
+      Map<String, List<Variant>> byMethod) {
+    final ClassNode schema = read(original);
+    final Map<MutationIdentifier, Integer> switches = new HashMap<>();
+    int value = this.next;
+    for (final MethodNode method : schema.methods) {
+      final List<Variant> variants = byMethod.get(method.name + method.desc);
+      if (variants == null) {
+        continue;
+      }
+
+      final InsnList body = new InsnList();
+      final List<TryCatchBlockNode> handlers = new ArrayList<>(method.tryCatchBlocks);
+      final LabelNode unmutated = new LabelNode();
+      final int[] keys = new int[variants.size()];
+      final LabelNode[] starts = new LabelNode[variants.size()];
+      for (int i = 0; i != variants.size(); i++) {
+        keys[i] = value;
+        starts[i] = new LabelNode();
+        switches.put(variants.get(i).id, value);
+        value++;
+      }
+
+      body.add(new FieldInsnNode(Opcodes.GETSTATIC, ActiveMutant.CLASS_NAME,
+          ActiveMutant.FIELD_NAME, ActiveMutant.FIELD_DESC));
+      body.add(new LookupSwitchInsnNode(unmutated, keys, starts));
+      for (int i = 0; i != variants.size(); i++) {
+        body.add(starts[i]);
+        copy(variants.get(i).method, body, handlers);
+      }
+      body.add(unmutated);
+      body.add(method.instructions);
+
+      method.instructions = body;
+      method.tryCatchBlocks = handlers;
+    }
+
+    final ClassWriter w = new ComputeClassWriter(this.source, this.computeCache,
+        FrameOptions.pickFlags(original));
+    schema.accept(w);
+    final byte[] bytes = w.toByteArray();
+    this.next = value;
+    return new MutantSchema(clazz, bytes, switches);
+  }
+
+  private static Optional<Variant> variantOf(ClassNode base, Mutant mutant) {
+    final MutationIdentifier id = mutant.getDetails().getId();
+    final Location location = id.getLocation();
+    // a static initializer runs only once, so cannot be switched
+    if (location.getMethodName().equals("<clinit>")) {
+      return Optional.empty();
+    }
+    final ClassNode mutated = read(mutant.getBytes());
+    if (!shape(base, location).equals(shape(mutated, location))) {
+      return Optional.empty();
+    }
+    return findMethod(mutated, location).map(m -> new Variant(id, m));
+  }
+
+  /**
+   * Summarises everything about a class, other than the body of the given
+   * method, that a mutant could change.
+   */
+  private static List<String> shape(ClassNode node, Location mutated) {
+    final List<String> shape = new ArrayList<>();
+    shape.add(node.access + " " + node.name + " " + node.superName + " " + node.interfaces);
+    for (final FieldNode each : node.fields) {
+      shape.add(each.access + " " + each.name + " " + each.desc + " " + each.value);
+    }
+    for (final MethodNode each : node.methods) {
+      final boolean target = each.name.equals(mutated.getMethodName())
+          && each.desc.equals(mutated.getMethodDesc());
+      shape.add(each.access + " " + each.name + each.desc + " "
+          + (target ? "" : each.instructions.size()));
+    }
+    return shape;
+  }
+
+  private static void copy(MethodNode from, InsnList to, List<TryCatchBlockNode> handlers) {
+    final Map<LabelNode, LabelNode> labels = new HashMap<>();
+    for (final AbstractInsnNode each : from.instructions) {
+      if (each instanceof LabelNode) {
+        labels.put((LabelNode) each, new LabelNode());
+      }
+    }
+    for (final AbstractInsnNode each : from.instructions) {
+      to.add(each.clone(labels));
+    }
+    for (final TryCatchBlockNode each : from.tryCatchBlocks) {
+      handlers.add(new TryCatchBlockNode(labels.get(each.start), labels.get(each.end),
+          labels.get(each.handler), each.type));
+    }
+  }
+
+  private static Optional<MethodNode> findMethod(ClassNode node, Location location) {
+    return node.methods.stream()
+        .filter(m -> m.name.equals(location.getMethodName())
+            && m.desc.equals(location.getMethodDesc()))
+        .findFirst();
+  }
+
+  private static int count(Map<String, List<Variant>> byMethod) {
+    return byMethod.values().stream()
+        .mapToInt(List::size)
+        .sum();
+  }
+
+  private static ClassNode read(byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    // frames are recomputed once the variants are in place
+    new ClassReader(bytes).accept(node, ClassReader.SKIP_FRAMES);
+    return node;
+  }
+
+  private static final class Variant {
+    private final MutationIdentifier id;
+    private final MethodNode         method;
+
+    Variant(MutationIdentifier id, MethodNode method) {
+      this.id = id;
+      this.method = method;
+    }
+  }
+
+}
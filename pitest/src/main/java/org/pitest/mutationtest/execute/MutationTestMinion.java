@@ -24,6 +24,7 @@ import org.pitest.mutationtest.environment.ResetEnvironment;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.environment.TransformationPlugin;
 import org.pitest.testapi.Configuration;
@@ -33,6 +34,7 @@ import org.pitest.util.ExitCode;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
 import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.Unchecked;
 
 import javax.management.NotificationListener;
 import javax.management.openmbean.CompositeData;
@@ -41,10 +43,14 @@ import java.lang.instrument.ClassFileTransformer;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class MutationTestMinion {
 
@@ -57,18 +63,28 @@ public class MutationTestMinion {
   private final SafeDataInputStream dis;
   private final Reporter            reporter;
   private final MinionSettings      plugins;
+  private final Runnable            awaitingWork;
+
+  // test units are retained between batches when the minion is reused
+  private final Map<ClassName, List<TestUnit>> testUnits = new HashMap<>();
 
   public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
       final Reporter reporter) {
+    this(plugins, dis, reporter, () -> { });
+  }
+
+  public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
+      final Reporter reporter, Runnable awaitingWork) {
     this.dis = dis;
     this.reporter = reporter;
     this.plugins = plugins;
+    this.awaitingWork = awaitingWork;
   }
 
   public void run() {
     try {
 
-      final MinionArguments paramsFromParent = this.dis
+      MinionArguments paramsFromParent = this.dis
           .read(MinionArguments.class);
 
       configureVerbosity(paramsFromParent);
@@ -84,16 +100,40 @@ public class MutationTestMinion {
 
       final ResetEnvironment reset = this.plugins.createReset();
 
-      final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, reset, paramsFromParent.fullMutationMatrix);
+      final CachingMutater mutater = new CachingMutater(engine.createMutator(byteSource));
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
+      final MutantSchemata schemata = paramsFromParent.engineArgs.schemata()
+          ? new MutantSchemata(byteSource)
+          : MutantSchemata.none();
 
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+      final MutationTestWorker worker = new MutationTestWorker(hotswap,
+          mutater, loader, reset, paramsFromParent.fullMutationMatrix, schemata);
+
+      final Configuration testPlugin = createTestPlugin(paramsFromParent.pitConfig);
+
+      // created once, so pooled threads are reused across batches
+      final Executor testThreads = paramsFromParent.testThreads().createExecutor();
+
+      // first runs are only first runs once per minion, so kept across batches
+      final TestDurations durations = new TestDurations();
+
+      runMutants(worker, mutater, loader, testPlugin, testThreads, durations, paramsFromParent);
+
+      // a reusable minion keeps its test units and bytecode cache warm and
+      // waits for the parent to send more work or tell it to shut down
+      while (paramsFromParent.isReusable()) {
+        restoreOriginalClasses(hotswap, loader, byteSource, paramsFromParent.mutations);
+        this.reporter.testTimes(durations.drain());
+        this.reporter.batchDone();
+        this.awaitingWork.run();
+        if (!this.dis.readBoolean()) {
+          break;
+        }
+        paramsFromParent = this.dis.read(MinionArguments.class);
+        runMutants(worker, mutater, loader, testPlugin, testThreads, durations, paramsFromParent);
+      }
 
+      this.reporter.testTimes(durations.drain());
       this.reporter.done(ExitCode.OK);
 
       // rudely kill the vm in case it is kept alive
@@ -108,6 +148,46 @@ public class MutationTestMinion {
 
   }
 
+  private void runMutants(MutationTestWorker worker, CachingMutater mutater, ClassLoader loader,
+      Configuration testPlugin, Executor testThreads, TestDurations durations,
+      MinionArguments params) throws IOException {
+    mutater.prepare(params.mutations, params.mutantCache());
+    this.reporter.startBatch(params.mutations);
+    final List<TestUnit> tests = findTestsForTestClasses(loader,
+        params.testClasses, testPlugin);
+
+    worker.run(params.mutations, this.reporter,
+        new TimeOutDecoratedTestSource(params.timeoutStrategy,
+            tests, this.reporter, testThreads, durations), params.deadline());
+  }
+
+  private List<TestUnit> findTestsForTestClasses(
+      final ClassLoader loader, final Collection<ClassName> testClasses,
+      final Configuration pitConfig) {
+    final FindTestUnits finder = new FindTestUnits(pitConfig);
+    return testClasses.stream()
+            .flatMap(c -> this.testUnits.computeIfAbsent(c, k -> findTestsForTestClass(loader, k, finder)).stream())
+            .collect(Collectors.toList());
+  }
+
+  private static List<TestUnit> findTestsForTestClass(ClassLoader loader, ClassName testClass,
+      FindTestUnits finder) {
+    final Collection<Class<?>> tcs = Stream.of(testClass)
+            .flatMap(ClassName.nameToClass(loader))
+            .collect(Collectors.toList());
+    return finder.findTestUnitsForAllSuppliedClasses(tcs);
+  }
+
+  // A mutant left in place would poison the next batch, which may target a different class
+  private static void restoreOriginalClasses(HotSwap hotswap, ClassLoader loader,
+      ClassByteArraySource byteSource, Collection<MutationDetails> mutations) {
+    mutations.stream()
+            .map(MutationDetails::getClassName)
+            .distinct()
+            .forEach(c -> byteSource.getBytes(c.asJavaName())
+                    .ifPresent(bytes -> hotswap.insertClass(c, loader, bytes)));
+  }
+
   private void configureVerbosity(MinionArguments paramsFromParent) {
     Log.setVerbose(paramsFromParent.verbosity());
     if (!paramsFromParent.verbosity().showMinionOutput()) {
@@ -143,7 +223,9 @@ public class MutationTestMinion {
       addMemoryWatchDog(reporter);
       final ClientPluginServices plugins = ClientPluginServices.makeForContextLoader();
       final MinionSettings factory = new MinionSettings(plugins);
-      final MutationTestMinion instance = new MutationTestMinion(factory, dis, reporter);
+      final Socket socket = s;
+      final MutationTestMinion instance = new MutationTestMinion(factory, dis, reporter,
+          () -> waitIndefinitely(socket));
       instance.run();
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
@@ -156,17 +238,6 @@ public class MutationTestMinion {
 
   }
 
-  private static List<TestUnit> findTestsForTestClasses(
-      final ClassLoader loader, final Collection<ClassName> testClasses,
-      final Configuration pitConfig) {
-
-    final Collection<Class<?>> tcs = testClasses.stream()
-            .flatMap(ClassName.nameToClass(loader))
-            .collect(Collectors.toList());
-    final FindTestUnits finder = new FindTestUnits(pitConfig);
-    return finder.findTestUnitsForAllSuppliedClasses(tcs);
-  }
-
   private static void enableTransformations() {
     ClientPluginServices plugins = ClientPluginServices.makeForContextLoader();
     for (TransformationPlugin each : plugins.findTransformations()) {
@@ -177,6 +248,15 @@ public class MutationTestMinion {
     }
   }
 
+  // a reused minion may sit idle in the pool for longer than the read timeout
+  private static void waitIndefinitely(final Socket s) {
+    try {
+      s.setSoTimeout(0);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   private static void safelyCloseSocket(final Socket s) {
     if (s != null) {
       try {
@@ -14,6 +14,7 @@
  */
 package org.pitest.mutationtest.execute;
 
+import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.environment.ResetEnvironment;
@@ -31,12 +32,17 @@ import org.pitest.testapi.execute.Pitest;
 import org.pitest.testapi.execute.containers.ConcreteResultCollector;
 import org.pitest.testapi.execute.containers.UnContainer;
 import org.pitest.util.Log;
+import sun.pitest.ActiveMutant;
+import sun.pitest.LoopGuard;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -61,42 +67,125 @@ public class MutationTestWorker {
 
   private final ResetEnvironment                            reset;
 
+  private final MutantSchemata                              schemata;
+
+  // schema currently in place of its class, if any
+  private MutantSchema                                      installed;
+
 
   public MutationTestWorker(HotSwap hotswap,
                             Mutater mutater,
                             ClassLoader loader,
                             ResetEnvironment reset,
                             boolean fullMutationMatrix) {
+    this(hotswap, mutater, loader, reset, fullMutationMatrix, MutantSchemata.none());
+  }
+
+  /**
+   * @param schemata compiles the mutants of each class into a single class
+   */
+  MutationTestWorker(HotSwap hotswap,
+                     Mutater mutater,
+                     ClassLoader loader,
+                     ResetEnvironment reset,
+                     boolean fullMutationMatrix,
+                     MutantSchemata schemata) {
     this.loader = loader;
     this.reset = reset;
     this.mutater = mutater;
     this.hotswap = hotswap;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.schemata = schemata;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
+    run(range, r, testSource, Deadline.none());
+  }
 
-    for (final MutationDetails mutation : range) {
-      if (DEBUG) {
-        LOG.fine("Running mutation " + mutation);
-      }
-      final long t0 = System.nanoTime();
-      processMutation(r, testSource, mutation);
-      if (DEBUG) {
-        LOG.fine("processed mutation in " + NANOSECONDS.toMillis(System.nanoTime() - t0)
-            + " ms.");
+  /**
+   * Mutants not started before the deadline are left unreported, so the
+   * parent sees them as not analysed.
+   */
+  protected void run(final Collection<MutationDetails> range, final Reporter r,
+      final TimeOutDecoratedTestSource testSource, final Deadline deadline) throws IOException {
+
+    try {
+      for (final List<MutationDetails> forClass : byClass(range)) {
+        final Optional<MutantSchema> schema = installSchema(forClass);
+        for (final MutationDetails mutation : schemaFirst(forClass, schema)) {
+          if (deadline.hasPassed()) {
+            LOG.fine("Deadline passed, so not starting further mutants");
+            return;
+          }
+          if (DEBUG) {
+            LOG.fine("Running mutation " + mutation);
+          }
+          final long t0 = System.nanoTime();
+          processMutation(r, testSource, mutation, schema);
+          if (DEBUG) {
+            LOG.fine("processed mutation in " + NANOSECONDS.toMillis(System.nanoTime() - t0)
+                + " ms.");
+          }
+        }
       }
+    } finally {
+      // the minion restores the original classes between batches
+      this.installed = null;
+    }
+
+  }
+
+  private static Collection<List<MutationDetails>> byClass(Collection<MutationDetails> range) {
+    final Map<ClassName, List<MutationDetails>> byClass = new LinkedHashMap<>();
+    for (final MutationDetails each : range) {
+      byClass.computeIfAbsent(each.getClassName(), k -> new ArrayList<>()).add(each);
     }
+    return byClass.values();
+  }
+
+  private Optional<MutantSchema> installSchema(List<MutationDetails> forClass) {
+    final ClassName clazz = forClass.get(0).getClassName();
+    final Optional<MutantSchema> schema = this.schemata.create(clazz, forClass.stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList()), this.mutater);
+    if (schema.isEmpty()) {
+      return schema;
+    }
+    if (!this.hotswap.insertClass(clazz, this.loader, schema.get().getBytes())) {
+      LOG.fine("Could not insert mutant schema for " + clazz + ", so running its mutants alone");
+      return Optional.empty();
+    }
+    if (DEBUG) {
+      LOG.fine("Inserted schema holding " + schema.get().size() + " of "
+          + forClass.size() + " mutants of " + clazz);
+    }
+    this.installed = schema.get();
+    return schema;
+  }
 
+  // mutants left out of the schema replace it, so are run once it is done with
+  private static List<MutationDetails> schemaFirst(List<MutationDetails> forClass,
+      Optional<MutantSchema> schema) {
+    if (schema.isEmpty()) {
+      return forClass;
+    }
+    final List<MutationDetails> ordered = new ArrayList<>(forClass.size());
+    forClass.stream().filter(m -> schema.get().contains(m.getId())).forEach(ordered::add);
+    forClass.stream().filter(m -> !schema.get().contains(m.getId())).forEach(ordered::add);
+    return ordered;
   }
 
   private void processMutation(Reporter r,
                                TimeOutDecoratedTestSource testSource,
-                               MutationDetails mutationDetails) {
+                               MutationDetails mutationDetails,
+                               Optional<MutantSchema> schema) {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
-    final Mutant mutatedClass = this.mutater.getMutation(mutationId);
+    final Optional<MutantSchema> holding = schema.filter(s -> s.contains(mutationId));
+    final Mutant mutatedClass = holding
+        .map(s -> new Mutant(mutationDetails, s.getBytes()))
+        .orElseGet(() -> this.mutater.getMutation(mutationId));
 
     reset.resetFor(mutatedClass);
 
@@ -109,7 +198,7 @@ public class MutationTestWorker {
     r.describe(mutationId);
 
     final MutationStatusTestPair mutationDetected = handleMutation(
-        mutationDetails, mutatedClass, relevantTests);
+        mutationDetails, mutatedClass, relevantTests, holding);
 
     r.report(mutationId, mutationDetected);
     if (DEBUG) {
@@ -119,7 +208,7 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair handleMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final Optional<MutantSchema> schema) {
     final MutationStatusTestPair mutationDetected;
     if ((relevantTests == null) || relevantTests.isEmpty()) {
       LOG.log(Level.WARNING, "No test coverage for mutation " + mutationId + " in " + mutatedClass.getDetails().getMethod()
@@ -127,7 +216,7 @@ public class MutationTestWorker {
       mutationDetected =  MutationStatusTestPair.notAnalysed(0, DetectionStatus.RUN_ERROR, Collections.emptyList());
     } else {
       mutationDetected = handleCoveredMutation(mutationId, mutatedClass,
-          relevantTests);
+          relevantTests, schema);
 
     }
     return mutationDetected;
@@ -135,7 +224,7 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair handleCoveredMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final Optional<MutantSchema> schema) {
     final MutationStatusTestPair mutationDetected;
     if (DEBUG) {
       LOG.fine(relevantTests.size() + " relevant test for "
@@ -145,14 +234,17 @@ public class MutationTestWorker {
     final Container c = createNewContainer();
     final long t0 = System.nanoTime();
 
-    if (this.hotswap.insertClass(mutationId.getClassName(), this.loader,
-        mutatedClass.getBytes())) {
+    if (insertMutant(mutationId, mutatedClass, schema)) {
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
             + NANOSECONDS.toMillis(System.nanoTime() - t0) + " ms");
       }
 
-      mutationDetected = doTestsDetectMutation(c, relevantTests);
+      try {
+        mutationDetected = doTestsDetectMutation(c, relevantTests);
+      } finally {
+        ActiveMutant.clear();
+      }
     } else {
       LOG.warning("Mutation " + mutationId + " was not viable ");
       mutationDetected = MutationStatusTestPair.notAnalysed(0,
@@ -163,6 +255,22 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
+  private boolean insertMutant(MutationDetails mutationId, Mutant mutatedClass,
+      Optional<MutantSchema> schema) {
+    if (schema.isPresent()) {
+      if (this.installed != schema.get() && !this.hotswap.insertClass(
+          mutationId.getClassName(), this.loader, schema.get().getBytes())) {
+        return false;
+      }
+      this.installed = schema.get();
+      ActiveMutant.activate(schema.get().switchFor(mutationId.getId()));
+      return true;
+    }
+    this.installed = null;
+    return this.hotswap.insertClass(mutationId.getClassName(), this.loader,
+        mutatedClass.getBytes());
+  }
+
   private static Container createNewContainer() {
     return new UnContainer() {
       @Override
@@ -188,6 +296,7 @@ public class MutationTestWorker {
       final List<TestUnit> tests) {
     try {
       final CheckTestHasFailedResultListener listener = new CheckTestHasFailedResultListener(fullMutationMatrix);
+      LoopGuard.reset();
 
       final Pitest pit = new Pitest(listener);
 
@@ -213,6 +322,12 @@ public class MutationTestWorker {
     List<String> coveredTests = relevantTests.stream()
         .map(t -> t.getDescription().getQualifiedName()).collect(Collectors.toList());
 
+    // a test abandoned by the loop guard has failed, but the mutant timed out
+    if (LoopGuard.hasTripped()) {
+      return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
+          DetectionStatus.TIMED_OUT, Collections.emptyList(), succeedingTests, coveredTests);
+    }
+
     return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
         listener.status(), failingTests, succeedingTests, coveredTests);
   }
@@ -15,6 +15,7 @@
 package org.pitest.mutationtest.execute;
 
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -22,33 +23,56 @@ import java.util.concurrent.TimeoutException;
 import org.pitest.extension.common.TestUnitDecorator;
 import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 import org.pitest.util.Unchecked;
 
+import sun.pitest.LoopGuard;
+
 public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
+  // time allowed for a tripped loop guard to abandon the test
+  static final long                   LOOP_GUARD_GRACE = 500;
+
   private final TimeoutLengthStrategy timeOutStrategy;
   private final SideEffect            timeOutSideEffect;
   private final long                  executionTime;
+  private final Executor              executor;
+  private final TestDurations         durations;
 
+  /**
+   * @param executor runs the child test on a thread other than the caller's
+   * @param durations records the time taken by tests that pass
+   */
   public MutationTimeoutDecorator(final TestUnit child,
       final SideEffect timeOutSideEffect,
-      final TimeoutLengthStrategy timeStrategy, final long executionTime) {
+      final TimeoutLengthStrategy timeStrategy, final long executionTime,
+      final Executor executor, final TestDurations durations) {
     super(child);
     this.timeOutSideEffect = timeOutSideEffect;
     this.executionTime = executionTime;
     this.timeOutStrategy = timeStrategy;
+    this.executor = executor;
+    this.durations = durations;
   }
 
   @Override
   public void execute(final ResultCollector rc) {
 
+    final String test = child().getDescription().getQualifiedName();
+    final boolean firstRun = this.durations.start(test);
     final long maxTime = this.timeOutStrategy
-        .getAllowedTime(this.executionTime);
+        .getAllowedTime(test, firstRun, this.executionTime);
 
-    final FutureTask<?> future = createFutureForChildTestUnit(rc);
+    LoopGuard.startTest();
+    final FutureTask<?> future = createFutureForChildTestUnit(rc, test, firstRun);
     executeFutureWithTimeOut(maxTime, future, rc);
+    if (!future.isDone() && LoopGuard.isLooping()) {
+      // abandon the test from its next loop iteration, without killing the minion
+      LoopGuard.trip();
+      executeFutureWithTimeOut(LOOP_GUARD_GRACE, future, rc);
+    }
     if (!future.isDone()) {
       this.timeOutSideEffect.apply();
     }
@@ -66,24 +90,66 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     }
   }
 
-  private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc) {
-    final FutureTask<?> future = new FutureTask<>(createRunnable(rc), null);
-    final Thread thread = new Thread(future);
-    thread.setDaemon(true);
-    thread.setName("mutationTestThread");
-    thread.start();
+  private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc,
+      final String test, final boolean firstRun) {
+    final FutureTask<?> future = new FutureTask<>(createRunnable(rc, test, firstRun), null);
+    this.executor.execute(future);
     return future;
   }
 
-  private Runnable createRunnable(final ResultCollector rc) {
+  private Runnable createRunnable(final ResultCollector rc, final String test,
+      final boolean firstRun) {
     return () -> {
+      final FailureNotingCollector collector = new FailureNotingCollector(rc);
+      final long t0 = System.nanoTime();
       try {
-        child().execute(rc);
+        child().execute(collector);
       } catch (final Throwable ex) {
-        rc.notifyEnd(child().getDescription(), ex);
+        collector.notifyEnd(child().getDescription(), ex);
+      }
+      // a failing test may stop early, so tells us nothing about its normal time
+      if (!collector.failed) {
+        this.durations.record(test, firstRun,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
       }
-
     };
   }
 
+  private static final class FailureNotingCollector implements ResultCollector {
+    private final ResultCollector child;
+    private volatile boolean      failed;
+
+    FailureNotingCollector(ResultCollector child) {
+      this.child = child;
+    }
+
+    @Override
+    public void notifyEnd(Description description, Throwable t) {
+      if (t != null) {
+        this.failed = true;
+      }
+      this.child.notifyEnd(description, t);
+    }
+
+    @Override
+    public void notifyEnd(Description description) {
+      this.child.notifyEnd(description);
+    }
+
+    @Override
+    public void notifyStart(Description description) {
+      this.child.notifyStart(description);
+    }
+
+    @Override
+    public void notifySkipped(Description description) {
+      this.child.notifySkipped(description);
+    }
+
+    @Override
+    public boolean shouldExit() {
+      return this.child.shouldExit();
+    }
+  }
+
 }
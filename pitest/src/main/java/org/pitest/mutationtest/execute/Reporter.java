@@ -15,15 +15,37 @@
 package org.pitest.mutationtest.execute;
 
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface Reporter {
 
+  /**
+   * Signals the start of a batch. Only mutants within the current batch may be
+   * described or reported.
+   */
+  void startBatch(Collection<MutationDetails> mutations);
+
   void describe(MutationIdentifier i);
 
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected);
 
+  /**
+   * Sends the times taken by tests that passed.
+   */
+  void testTimes(Map<String, TestTimeSamples> times);
+
   void done(ExitCode exitCode);
 
+  /**
+   * Signals that all mutants sent to a reusable minion have been processed
+   * and that it is waiting for more work.
+   */
+  void batchDone();
+
 }
@@ -0,0 +1,155 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Wire format for the results of a batch of mutants. Both sides hold the
+ * mutants of the batch in the order sent to the minion, so a mutant is sent as
+ * its index in that list. Test names are sent in full the first time they are
+ * seen, and afterwards as an index into the names sent so far.
+ *
+ * <p>The encoding is stateful, a new instance is required for each batch on
+ * both the sending and receiving side.
+ */
+public final class ResultEncoding {
+
+  private static final int NULL_LIST = -1;
+
+  private static final DetectionStatus[] STATUSES = DetectionStatus.values();
+
+  private final List<MutationIdentifier>         ids     = new ArrayList<>();
+  private final Map<MutationIdentifier, Integer> indexes = new HashMap<>();
+
+  private final List<String>         names       = new ArrayList<>();
+  private final Map<String, Integer> nameIndexes = new HashMap<>();
+
+  public ResultEncoding(Collection<MutationDetails> mutations) {
+    for (final MutationDetails each : mutations) {
+      this.indexes.putIfAbsent(each.getId(), this.ids.size());
+      this.ids.add(each.getId());
+    }
+  }
+
+  public void writeId(SafeDataOutputStream os, MutationIdentifier id) {
+    final Integer index = this.indexes.get(id);
+    if (index == null) {
+      throw new IllegalArgumentException(id + " is not part of this batch");
+    }
+    os.writeInt(index);
+  }
+
+  public MutationIdentifier readId(SafeDataInputStream is) {
+    return this.ids.get(is.readInt());
+  }
+
+  public void writeStatus(SafeDataOutputStream os, MutationStatusTestPair status) {
+    os.writeByte((byte) status.getStatus().ordinal());
+    os.writeInt(status.getNumberOfTestsRun());
+    writeNames(os, status.getKillingTests());
+    writeNames(os, status.getSucceedingTests());
+    writeNames(os, status.getCoveringTests());
+  }
+
+  public MutationStatusTestPair readStatus(SafeDataInputStream is) {
+    final DetectionStatus status = STATUSES[is.readByte()];
+    final int testsRun = is.readInt();
+    final List<String> killing = readNames(is);
+    final List<String> succeeding = readNames(is);
+    final List<String> covering = readNames(is);
+    return new MutationStatusTestPair(testsRun, status, killing, succeeding, covering);
+  }
+
+  public void writeTestTimes(SafeDataOutputStream os, Map<String, TestTimeSamples> times) {
+    os.writeInt(times.size());
+    for (final Map.Entry<String, TestTimeSamples> each : times.entrySet()) {
+      writeName(os, each.getKey());
+      writeSamples(os, each.getValue().samples(true));
+      writeSamples(os, each.getValue().samples(false));
+    }
+  }
+
+  public Map<String, TestTimeSamples> readTestTimes(SafeDataInputStream is) {
+    final int count = is.readInt();
+    final Map<String, TestTimeSamples> times = new HashMap<>(count);
+    for (int i = 0; i != count; i++) {
+      final String name = readName(is);
+      final TestTimeSamples samples = new TestTimeSamples();
+      readSamples(is, samples, true);
+      readSamples(is, samples, false);
+      times.put(name, samples);
+    }
+    return times;
+  }
+
+  private static void writeSamples(SafeDataOutputStream os, long[] samples) {
+    os.writeInt(samples.length);
+    for (final long each : samples) {
+      os.writeLong(each);
+    }
+  }
+
+  private static void readSamples(SafeDataInputStream is, TestTimeSamples samples,
+      boolean firstRun) {
+    final int count = is.readInt();
+    for (int i = 0; i != count; i++) {
+      samples.add(firstRun, is.readLong());
+    }
+  }
+
+  private void writeNames(SafeDataOutputStream os, List<String> names) {
+    if (names == null) {
+      os.writeInt(NULL_LIST);
+      return;
+    }
+    os.writeInt(names.size());
+    for (final String each : names) {
+      writeName(os, each);
+    }
+  }
+
+  private void writeName(SafeDataOutputStream os, String name) {
+    final Integer index = this.nameIndexes.get(name);
+    if (index != null) {
+      os.writeInt(index);
+    } else {
+      // an index one past the end of the table introduces a new name
+      final int added = this.nameIndexes.size();
+      this.nameIndexes.put(name, added);
+      os.writeInt(added);
+      os.writeString(name);
+    }
+  }
+
+  private List<String> readNames(SafeDataInputStream is) {
+    final int count = is.readInt();
+    if (count == NULL_LIST) {
+      return null;
+    }
+    final List<String> read = new ArrayList<>(count);
+    for (int i = 0; i != count; i++) {
+      read.add(readName(is));
+    }
+    return read;
+  }
+
+  private String readName(SafeDataInputStream is) {
+    final int index = is.readInt();
+    if (index == this.names.size()) {
+      this.names.add(is.readString());
+    }
+    return this.names.get(index);
+  }
+
+}
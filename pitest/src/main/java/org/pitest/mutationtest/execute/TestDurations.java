@@ -0,0 +1,41 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.mutationtest.TestTimeSamples;
+
+/**
+ * Records how long each test takes to run within a minion, so the parent can
+ * learn the time each test normally needs.
+ */
+public class TestDurations {
+
+  private final Set<String>                  started = new HashSet<>();
+  private Map<String, TestTimeSamples>       times   = new HashMap<>();
+
+  /**
+   * Notes that a test is about to run.
+   *
+   * @return true if this is the first time the test has run in this minion
+   */
+  public synchronized boolean start(String test) {
+    return this.started.add(test);
+  }
+
+  public synchronized void record(String test, boolean firstRun, long millis) {
+    this.times.computeIfAbsent(test, k -> new TestTimeSamples()).add(firstRun, millis);
+  }
+
+  /**
+   * @return the times recorded since the last call
+   */
+  public synchronized Map<String, TestTimeSamples> drain() {
+    final Map<String, TestTimeSamples> drained = this.times;
+    this.times = new HashMap<>();
+    return drained;
+  }
+
+}
@@ -0,0 +1,92 @@
+package org.pitest.mutationtest.execute;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+
+/**
+ * How the minion provides threads on which to run each test. A test that does
+ * not complete in time is abandoned on its thread, so a thread is only reused
+ * once the test it was running has finished.
+ */
+public enum TestThreads {
+
+  /**
+   * A new thread for each test
+   */
+  PER_TEST,
+
+  /**
+   * Threads are kept and reused between tests. ThreadLocal state a test leaves
+   * behind is seen by later tests on the same thread, so tests that rely on
+   * framework state bound to the thread and not cleared afterwards, such as
+   * Mockito stubbing in progress, logging MDC values or transaction and
+   * security contexts, may pass or fail differently than when run alone.
+   * Use PER_TEST for such suites.
+   */
+  POOLED,
+
+  /**
+   * A new virtual thread for each test. Requires java 21 or above, pooled
+   * threads are used on earlier versions.
+   */
+  VIRTUAL;
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final String THREAD_NAME = "mutationTestThread";
+
+  public static TestThreads fromString(String threads) {
+    if (threads == null) {
+      return PER_TEST;
+    }
+    try {
+      return valueOf(threads.toUpperCase());
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Unrecognised test threads " + threads);
+    }
+  }
+
+  Executor createExecutor() {
+    switch (this) {
+    case POOLED:
+      return pooled();
+    case VIRTUAL:
+      return virtual();
+    default:
+      return TestThreads::startThread;
+    }
+  }
+
+  private static ExecutorService pooled() {
+    // grows only when a thread is held by an abandoned test
+    return Executors.newCachedThreadPool(r -> {
+      final Thread thread = new Thread(r);
+      thread.setDaemon(true);
+      thread.setName(THREAD_NAME);
+      return thread;
+    });
+  }
+
+  private static Executor virtual() {
+    try {
+      final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (Executor) factory.invoke(null);
+    } catch (final ReflectiveOperationException ex) {
+      LOG.fine("Virtual threads not supported by this jvm, using pooled threads");
+      return pooled();
+    }
+  }
+
+  private static void startThread(Runnable r) {
+    final Thread thread = new Thread(r);
+    thread.setDaemon(true);
+    thread.setName(THREAD_NAME);
+    thread.start();
+  }
+
+}
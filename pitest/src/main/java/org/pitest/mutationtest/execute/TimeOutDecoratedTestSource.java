@@ -18,6 +18,7 @@ package org.pitest.mutationtest.execute;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -31,13 +32,36 @@ public class TimeOutDecoratedTestSource {
   private final Map<String, TestUnit> allTests = new HashMap<>();
   private final TimeoutLengthStrategy timeoutStrategy;
   private final Reporter              r;
+  private final Executor              executor;
+  private final TestDurations         durations;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
+    this(timeoutStrategy, allTests, r, TestThreads.PER_TEST.createExecutor());
+  }
+
+  /**
+   * @param executor provides the threads on which tests are run
+   */
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final Reporter r, final Executor executor) {
+    this(timeoutStrategy, allTests, r, executor, new TestDurations());
+  }
+
+  /**
+   * @param durations records the time taken by each test
+   */
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final Reporter r, final Executor executor,
+      final TestDurations durations) {
     this.timeoutStrategy = timeoutStrategy;
     mapTests(allTests);
     this.r = r;
+    this.executor = executor;
+    this.durations = durations;
   }
 
   private void mapTests(final List<TestUnit> tests) {
@@ -59,7 +83,9 @@ public class TimeOutDecoratedTestSource {
             .of(new MutationTimeoutDecorator(tu,
                 new TimeOutSystemExitSideEffect(
                     TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime(),
+                    TimeOutDecoratedTestSource.this.executor,
+                    TimeOutDecoratedTestSource.this.durations));
       }
       return Stream.empty();
     };
@@ -26,6 +26,28 @@ public abstract class StreamUtil {
     return new ByteArrayInputStream(bs);
   }
 
+  /**
+   * Reads the remaining content of a buffer, advancing its position.
+   */
+  public static InputStream asInputStream(final ByteBuffer buffer) {
+    return new InputStream() {
+      @Override
+      public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+      }
+
+      @Override
+      public int read(final byte[] b, final int off, final int len) {
+        if (!buffer.hasRemaining()) {
+          return -1;
+        }
+        final int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+      }
+    };
+  }
+
   private static void copy(final InputStream input, final OutputStream output)
       throws IOException {
     //Ensure that this thread does not have the "interrupted" flag set, otherwise
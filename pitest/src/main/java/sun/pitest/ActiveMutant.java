@@ -0,0 +1,34 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Selects which of the mutants compiled into a mutant schema is active. Each
+ * mutated method of a schema switches on this field, running the original
+ * code when no mutant of the method is active.
+ */
+public final class ActiveMutant {
+
+  public static final String CLASS_NAME = ActiveMutant.class.getName().replace('.', '/');
+  public static final String FIELD_NAME = "id";
+  public static final String FIELD_DESC = "I";
+
+  /**
+   * Value of the field when no mutant is active
+   */
+  public static final int NONE = 0;
+
+  public static volatile int id = NONE;
+
+  private ActiveMutant() {
+  }
+
+  public static void activate(int mutant) {
+    id = mutant;
+  }
+
+  public static void clear() {
+    id = NONE;
+  }
+
+}
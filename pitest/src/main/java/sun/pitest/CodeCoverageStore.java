@@ -23,9 +23,6 @@ package sun.pitest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Store for line visit information.
@@ -33,6 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class CodeCoverageStore {
 
   private static final int                     CLASS_HIT_INDEX   = 0;
+  private static final int                     INITIAL_CLASSES   = 256;
 
   public static final String                   CLASS_NAME        = CodeCoverageStore.class
                                                                      .getName()
@@ -51,8 +49,14 @@ public final class CodeCoverageStore {
   // before relationship significantly outperforms
   // both AtomicInteger array with bit per flag and integer per flag.
   // optimisation with other methods of ensuring a happens before not yet
-  // investigated
-  private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
+  // investigated.
+  // Class ids are allocated sequentially, so the arrays are held in a table
+  // indexed by id rather than a map, making a scan for hit classes a walk
+  // over a single array.
+  private static boolean[][]                   classHits         = new boolean[INITIAL_CLASSES][];
+
+  // ids of the classes found to be hit by the last scan, reused between tests
+  private static int[]                         hitClassIds       = new int[INITIAL_CLASSES];
 
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
@@ -62,23 +66,19 @@ public final class CodeCoverageStore {
   }
 
   public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      if (each.getValue()[CLASS_HIT_INDEX]) { //Probe 0 gets covered by any method that runs
-        Arrays.fill(each.getValue(), false);
+    for (final boolean[] each : classHits) {
+      if (each != null && each[CLASS_HIT_INDEX]) { //Probe 0 gets covered by any method that runs
+        Arrays.fill(each, false);
       }
     }
   }
 
   public static synchronized Collection<Long> getHits() {
     final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      final boolean[] bs = each.getValue();
-      // first entry tracks if class has been visited at all
-      if (!bs[CLASS_HIT_INDEX]) {
-        continue;
-      }
-      final int classId = each.getKey();
-
+    final int count = findHitClasses();
+    for (int i = 0; i != count; i++) {
+      final int classId = hitClassIds[i];
+      final boolean[] bs = classHits[classId];
       for (int probeId = 1; probeId != bs.length; probeId++) {
         if (bs[probeId]) {
           blockHits.add(encode(classId, probeId));
@@ -88,6 +88,39 @@ public final class CodeCoverageStore {
     return blockHits;
   }
 
+  /**
+   * Passes each class hit since the last reset to the receiver, clearing its
+   * probes once received. Equivalent to {@link #getHits()} followed by
+   * {@link #reset()}, but scans the classes only once and does not box each hit.
+   */
+  public static synchronized void drainHits(final ProbeHitReceiver receiver) {
+    final int count = findHitClasses();
+    receiver.beginHits(count);
+    for (int i = 0; i != count; i++) {
+      final int classId = hitClassIds[i];
+      final boolean[] bs = classHits[classId];
+      receiver.hitClass(classId, bs);
+      Arrays.fill(bs, false);
+    }
+  }
+
+  private static int findHitClasses() {
+    int count = 0;
+    final boolean[][] all = classHits;
+    for (int classId = 0; classId != all.length; classId++) {
+      final boolean[] bs = all[classId];
+      // first entry tracks if class has been visited at all
+      if (bs != null && bs[CLASS_HIT_INDEX]) {
+        if (count == hitClassIds.length) {
+          hitClassIds = Arrays.copyOf(hitClassIds, count * 2);
+        }
+        hitClassIds[count] = classId;
+        count++;
+      }
+    }
+    return count;
+  }
+
   public static int registerClass(final String className) {
     final int id = nextId();
     invokeQueue.registerClass(id, className);
@@ -116,27 +149,30 @@ public final class CodeCoverageStore {
     return ((long) classId << 32) | line;
   }
 
-  public static boolean[] getOrRegisterClassProbes(final int classId,
+  public static synchronized boolean[] getOrRegisterClassProbes(final int classId,
       int probeCount) {
-    return CLASS_HITS.compute(classId, (key, probes) -> {
-      if ((probes == null)
-              /*
-              It's possible that some other java agent has transformed this class, which has
-              resulted in it getting more blocks. It seems like our intended behavior is to
-              still collect coverage of these new synthetic blocks, so we need to
-              make sure that our coverage array grows when the class is re-transformed,
-              and it's possible that we have already instrumented the class, causing its
-              coverage array to get set up at the wrong size.
-               */
-              || (probes.length < probeCount + 1)) {
-        return new boolean[probeCount + 1];
-      }
-      return probes;
-    });
+    if (classId >= classHits.length) {
+      classHits = Arrays.copyOf(classHits, Math.max(classId + 1, classHits.length * 2));
+    }
+    final boolean[] probes = classHits[classId];
+    if ((probes == null)
+            /*
+            It's possible that some other java agent has transformed this class, which has
+            resulted in it getting more blocks. It seems like our intended behavior is to
+            still collect coverage of these new synthetic blocks, so we need to
+            make sure that our coverage array grows when the class is re-transformed,
+            and it's possible that we have already instrumented the class, causing its
+            coverage array to get set up at the wrong size.
+             */
+            || (probes.length < probeCount + 1)) {
+      classHits[classId] = new boolean[probeCount + 1];
+    }
+    return classHits[classId];
   }
 
-  public static void resetAllStaticState() {
-    CLASS_HITS.clear();
+  public static synchronized void resetAllStaticState() {
+    classHits = new boolean[INITIAL_CLASSES][];
+    hitClassIds = new int[INITIAL_CLASSES];
   }
 
 }
@@ -0,0 +1,65 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Called on the loop back edges of a mutated method. Once tripped, each back
+ * edge throws, so a test stuck in a loop of a mutant can be abandoned without
+ * killing the minion.
+ */
+public final class LoopGuard {
+
+  public static final String CLASS_NAME  = LoopGuard.class.getName().replace('.', '/');
+  public static final String METHOD_NAME = "backEdge";
+  public static final String METHOD_DESC = "()V";
+
+  private static volatile boolean looping;
+  private static volatile boolean tripped;
+
+  private LoopGuard() {
+  }
+
+  public static void backEdge() {
+    if (tripped) {
+      throw new LoopGuardError();
+    }
+    if (!looping) {
+      looping = true;
+    }
+  }
+
+  /**
+   * Notes that a new test is starting.
+   */
+  public static void startTest() {
+    looping = false;
+  }
+
+  /**
+   * @return true if a guarded loop has been entered since the current test
+   *         started
+   */
+  public static boolean isLooping() {
+    return looping;
+  }
+
+  /**
+   * Makes every guarded back edge throw until reset.
+   */
+  public static void trip() {
+    tripped = true;
+  }
+
+  public static boolean hasTripped() {
+    return tripped;
+  }
+
+  /**
+   * Clears all state, ready for the next mutant.
+   */
+  public static void reset() {
+    looping = false;
+    tripped = false;
+  }
+
+}
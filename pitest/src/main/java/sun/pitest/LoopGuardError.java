@@ -0,0 +1,14 @@
+package sun.pitest;
+
+/**
+ * Thrown from a guarded loop once its test has run out of time.
+ */
+public final class LoopGuardError extends Error {
+
+  private static final long serialVersionUID = 1L;
+
+  public LoopGuardError() {
+    super("Test ran out of time in a loop of a mutated method");
+  }
+
+}
@@ -0,0 +1,17 @@
+package sun.pitest;
+
+public interface ProbeHitReceiver {
+
+  /**
+   * Called once before any classes are passed to {@link #hitClass}.
+   */
+  void beginHits(int numberOfClasses);
+
+  /**
+   * Receives the probe array of a class that was hit. The first entry
+   * indicates that the class was hit at all. The array is owned by the
+   * store and must not be retained.
+   */
+  void hitClass(int classId, boolean[] probes);
+
+}
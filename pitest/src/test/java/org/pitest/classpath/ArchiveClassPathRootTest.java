@@ -14,6 +14,7 @@
  */
 package org.pitest.classpath;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -24,12 +25,20 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.zip.ZipFile;
+
+import org.pitest.util.StreamUtil;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class ArchiveClassPathRootTest {
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   private ArchiveClassPathRoot testee;
 
   @Before
@@ -81,4 +90,48 @@ public class ArchiveClassPathRootTest {
     assertNotNull(this.testee.getResource("injar/p1/P1Test.class"));
   }
 
+  @Test
+  public void shouldReturnTheFullContentOfAClass() throws Exception {
+    try (ZipFile zip = new ZipFile(new File("mytests.jar"))) {
+      final byte[] expected = StreamUtil.streamToByteArray(
+          zip.getInputStream(zip.getEntry("injar/p1/P1Test.class")));
+      assertThat(StreamUtil.streamToByteArray(this.testee.getData("injar.p1.P1Test")))
+          .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void shouldReturnTheSameClassNamesOnEachCall() {
+    assertThat(this.testee.classNames()).isEqualTo(this.testee.classNames());
+  }
+
+  @Test
+  public void shouldReadClassesAfterTheArchiveHasBeenClosed() throws Exception {
+    final ArchiveHandles handles = new ArchiveHandles(1);
+    final ArchiveClassPathRoot root = new ArchiveClassPathRoot(new File("mytests.jar"), handles);
+    root.classNames();
+    handles.closeAll();
+    assertNotNull(root.getData("injar.p1.P1Test"));
+  }
+
+  @Test
+  public void shouldTreatFilesThatAreNotArchivesAsEmpty() throws Exception {
+    final File notAnArchive = this.folder.newFile("foo.jar");
+    final ArchiveClassPathRoot root = new ArchiveClassPathRoot(notAnArchive);
+    assertThat(root.classNames()).isEmpty();
+    assertNull(root.getData("foo"));
+    assertNull(root.getResource("foo"));
+  }
+
+  @Test
+  public void shouldStampClassesWithTheArchive() {
+    final File jar = new File("mytests.jar");
+    assertThat(this.testee.classStamp("injar.p1.P1Test")).contains(
+        jar.getAbsolutePath() + "|" + jar.length() + "|" + jar.lastModified());
+  }
+
+  @Test
+  public void shouldNotStampUnknownClasses() {
+    assertThat(this.testee.classStamp("injar.p1.Missing")).isEmpty();
+  }
 }
@@ -0,0 +1,141 @@
+package org.pitest.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveHandlesTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private ArchiveHandles testee;
+
+  private File a;
+  private File b;
+  private File c;
+
+  @Before
+  public void setUp() throws IOException {
+    this.testee = new ArchiveHandles(2);
+    this.a = archive("a.jar");
+    this.b = archive("b.jar");
+    this.c = archive("c.jar");
+  }
+
+  @Test
+  public void keepsArchivesOpenBetweenLookups() throws IOException {
+    this.testee.acquire(this.a).close();
+    this.testee.acquire(this.a).close();
+    assertThat(this.testee.openCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void closesLeastRecentlyUsedArchiveWhenFull() throws IOException {
+    final ZipHandle first = this.testee.acquire(this.a);
+    first.close();
+    this.testee.acquire(this.b).close();
+    this.testee.acquire(this.c).close();
+
+    assertThat(this.testee.openCount()).isEqualTo(2);
+    assertThatThrownBy(() -> first.getInputStream(first.getEntry("foo")))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void usingAnArchiveMakesItMostRecentlyUsed() throws IOException {
+    this.testee.acquire(this.a).close();
+    this.testee.acquire(this.b).close();
+    final ZipHandle again = this.testee.acquire(this.a);
+    again.close();
+    this.testee.acquire(this.c).close();
+
+    assertThat(read(again)).isEqualTo("foo");
+  }
+
+  @Test
+  public void doesNotCloseArchivesStillInUse() throws IOException {
+    final ZipHandle inUse = this.testee.acquire(this.a);
+    this.testee.acquire(this.b).close();
+    this.testee.acquire(this.c).close();
+
+    assertThat(read(inUse)).isEqualTo("foo");
+    inUse.close();
+    assertThatThrownBy(() -> read(inUse))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void closeAllClosesIdleArchives() throws IOException {
+    final ZipHandle handle = this.testee.acquire(this.a);
+    handle.close();
+    this.testee.closeAll();
+
+    assertThat(this.testee.openCount()).isZero();
+    assertThatThrownBy(() -> read(handle))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void reopensArchivesAfterCloseAll() throws IOException {
+    this.testee.acquire(this.a).close();
+    this.testee.closeAll();
+    try (ZipHandle handle = this.testee.acquire(this.a)) {
+      assertThat(read(handle)).isEqualTo("foo");
+    }
+  }
+
+  @Test
+  public void sharesOneArchiveBetweenThreadsOpeningItTogether() throws Exception {
+    final ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      final List<Callable<String>> reads = new ArrayList<>();
+      for (int i = 0; i != 32; i++) {
+        reads.add(() -> {
+          try (ZipHandle handle = this.testee.acquire(this.a)) {
+            return read(handle);
+          }
+        });
+      }
+      for (final Future<String> each : pool.invokeAll(reads)) {
+        assertThat(each.get()).isEqualTo("foo");
+      }
+    } finally {
+      pool.shutdown();
+    }
+    assertThat(this.testee.openCount()).isEqualTo(1);
+  }
+
+  private String read(ZipHandle handle) throws IOException {
+    try (InputStream in = handle.getInputStream(handle.getEntry("foo"))) {
+      return new String(in.readAllBytes(), "UTF-8");
+    }
+  }
+
+  private File archive(String name) throws IOException {
+    final File file = this.folder.newFile(name);
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+      out.putNextEntry(new ZipEntry("foo"));
+      out.write("foo".getBytes("UTF-8"));
+      out.closeEntry();
+    }
+    return file;
+  }
+}
@@ -0,0 +1,88 @@
+package org.pitest.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveNameCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private ArchiveNameCache testee;
+
+  private File archive;
+
+  private final AtomicInteger scans = new AtomicInteger();
+
+  @Before
+  public void setUp() throws IOException {
+    this.testee = new ArchiveNameCache(new File(this.folder.getRoot(), "cache"));
+    this.archive = this.folder.newFile("foo.jar");
+    Files.write(this.archive.toPath(), new byte[] { 1, 2, 3 });
+  }
+
+  @Test
+  public void scansArchivesNotSeenBefore() {
+    assertThat(this.testee.classNames(this.archive, scan("a.Foo", "a.Bar")))
+        .containsExactly("a.Foo", "a.Bar");
+    assertThat(this.scans).hasValue(1);
+  }
+
+  @Test
+  public void readsNamesOfUnchangedArchivesFromCache() {
+    this.testee.classNames(this.archive, scan("a.Foo", "a.Bar"));
+    final ArchiveNameCache nextRun = new ArchiveNameCache(new File(this.folder.getRoot(), "cache"));
+
+    assertThat(nextRun.classNames(this.archive, scan("unexpected")))
+        .containsExactly("a.Foo", "a.Bar");
+    assertThat(this.scans).hasValue(1);
+  }
+
+  @Test
+  public void rescansArchivesWhoseSizeHasChanged() throws IOException {
+    this.testee.classNames(this.archive, scan("a.Foo"));
+    final long modified = this.archive.lastModified();
+    Files.write(this.archive.toPath(), new byte[] { 1, 2, 3, 4 });
+    this.archive.setLastModified(modified);
+
+    assertThat(this.testee.classNames(this.archive, scan("a.Bar")))
+        .containsExactly("a.Bar");
+  }
+
+  @Test
+  public void rescansArchivesWhoseModificationTimeHasChanged() {
+    this.testee.classNames(this.archive, scan("a.Foo"));
+    this.archive.setLastModified(this.archive.lastModified() - 10000);
+
+    assertThat(this.testee.classNames(this.archive, scan("a.Bar")))
+        .containsExactly("a.Bar");
+  }
+
+  @Test
+  public void alwaysScansWhenNoLocationGiven() {
+    final ArchiveNameCache none = ArchiveNameCache.none();
+    none.classNames(this.archive, scan("a.Foo"));
+    none.classNames(this.archive, scan("a.Foo"));
+    assertThat(this.scans).hasValue(2);
+  }
+
+  private Supplier<Collection<String>> scan(String... names) {
+    return () -> {
+      this.scans.incrementAndGet();
+      return Arrays.asList(names);
+    };
+  }
+
+}
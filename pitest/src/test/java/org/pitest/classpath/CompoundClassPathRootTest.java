@@ -12,6 +12,7 @@ import java.net.URL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -32,6 +33,9 @@ public class CompoundClassPathRootTest {
   @Mock
   private IOHeavyRoot           heavyChild;
 
+  @Mock
+  private IOHeavyRoot           otherHeavyChild;
+
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
@@ -90,6 +94,70 @@ public class CompoundClassPathRootTest {
     verify(this.heavyChild).getData("Heavy");
   }
 
-}
+  @Test
+  public void shouldReadClassesFromTheFirstHeavyRootHoldingThem() throws IOException {
+    final CompoundClassPathRoot testee = new CompoundClassPathRoot(
+        Arrays.asList(this.heavyChild, this.otherHeavyChild));
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("Foo"));
+    when(this.otherHeavyChild.classNames()).thenReturn(Arrays.asList("Foo", "Bar"));
+    final InputStream first = Mockito.mock(InputStream.class);
+    final InputStream second = Mockito.mock(InputStream.class);
+    when(this.heavyChild.getData("Foo")).thenReturn(first);
+    when(this.otherHeavyChild.getData("Bar")).thenReturn(second);
+
+    assertThat(testee.getData("Foo")).isSameAs(first);
+    assertThat(testee.getData("Bar")).isSameAs(second);
+    verify(this.otherHeavyChild, never()).getData("Foo");
+    verify(this.heavyChild, never()).getData("Bar");
+  }
+
+  @Test
+  public void shouldAskRootsThatCannotListClassesBeforeLaterHeavyRoots() throws IOException {
+    when(this.heavyChild.classNames()).thenReturn(Collections.emptyList());
+    when(this.child2.classNames()).thenReturn(Collections.emptyList());
+    final InputStream is = Mockito.mock(InputStream.class);
+    when(this.child2.getData("Foo")).thenReturn(is);
+
+    assertThat(this.testee.getData("Foo")).isSameAs(is);
+    verify(this.heavyChild, never()).getData("Foo");
+  }
+
+  @Test
+  public void shouldFindClassesByInternalName() throws IOException {
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("com.example.Foo"));
+    final InputStream is = Mockito.mock(InputStream.class);
+    when(this.heavyChild.getData("com/example/Foo")).thenReturn(is);
+
+    assertThat(this.testee.getData("com/example/Foo")).isSameAs(is);
+  }
+
+  @Test
+  public void shouldListHeavyRootsOnlyOnceForManyLookups() throws IOException {
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("Heavy"));
+    for (int i = 0; i != 10; i++) {
+      this.testee.getData("Heavy");
+      this.testee.getData("Missing");
+    }
+    verify(this.heavyChild).classNames();
+  }
 
+  @Test
+  public void shouldStampClassesUsingTheRootHoldingThem() {
+    final CompoundClassPathRoot testee = new CompoundClassPathRoot(
+        Arrays.asList(this.heavyChild, this.otherHeavyChild));
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("Foo"));
+    when(this.otherHeavyChild.classNames()).thenReturn(Collections.singletonList("Bar"));
+    when(this.otherHeavyChild.classStamp("Bar")).thenReturn(Optional.of("stamp"));
+
+    assertThat(testee.classStamp("Bar")).contains("stamp");
+    assertThat(testee.classStamp("Missing")).isEmpty();
+  }
 
+  @Test
+  public void shouldNotStampClassesThatARootWhichCannotListClassesMightShadow() {
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("Heavy"));
+    when(this.heavyChild.classStamp("Heavy")).thenReturn(Optional.of("stamp"));
+
+    assertThat(this.testee.classStamp("Heavy")).isEmpty();
+  }
+}
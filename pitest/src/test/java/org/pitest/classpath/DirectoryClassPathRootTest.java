@@ -1,9 +1,11 @@
 package org.pitest.classpath;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.Optional;
 
 import org.junit.Test;
 
@@ -26,4 +28,20 @@ public class DirectoryClassPathRootTest {
         DirectoryClassPathRootTest.class.getName()));
   }
 
+  @Test
+  public void shouldStampClassesWithTheirFile() {
+    final File root = new File("target/test-classes/");
+    this.testee = new DirectoryClassPathRoot(root);
+    final File file = new File(root,
+        DirectoryClassPathRootTest.class.getName().replace('.', File.separatorChar) + ".class");
+    assertEquals(Optional.of(file.getAbsolutePath() + "|" + file.length() + "|"
+        + file.lastModified()),
+        this.testee.classStamp(DirectoryClassPathRootTest.class.getName()));
+  }
+
+  @Test
+  public void shouldNotStampUnknownClasses() {
+    this.testee = new DirectoryClassPathRoot(new File("target/test-classes/"));
+    assertEquals(Optional.empty(), this.testee.classStamp("not.Here"));
+  }
 }
@@ -0,0 +1,77 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class ProbeHitEncodingTest {
+
+  @Test
+  public void shouldRoundTripClassWithNoProbeHits() {
+    final boolean[] probes = probes(10);
+    assertThat(roundTrip(probes)).isEmpty();
+  }
+
+  @Test
+  public void shouldRoundTripSparseHits() {
+    final boolean[] probes = probes(1000, 3, 700);
+    assertThat(roundTrip(probes)).containsExactly(3, 700);
+  }
+
+  @Test
+  public void shouldRoundTripDenseHits() {
+    final boolean[] probes = probes(130, 1, 2, 3, 63, 64, 65, 127, 128, 129);
+    assertThat(roundTrip(probes)).containsExactly(1, 2, 3, 63, 64, 65, 127, 128, 129);
+  }
+
+  @Test
+  public void shouldNotSendClassHitProbe() {
+    final boolean[] probes = probes(5, 0, 4);
+    assertThat(roundTrip(probes)).containsExactly(4);
+  }
+
+  @Test
+  public void shouldUseSparseFormWhenFewProbesHit() {
+    final boolean[] probes = probes(1000, 500);
+    assertThat(encode(probes)[0]).isEqualTo(ProbeHitEncoding.SPARSE);
+  }
+
+  @Test
+  public void shouldUseBitsetWhenManyProbesHit() {
+    final boolean[] probes = probes(64, 1, 2, 3, 4, 5, 6);
+    assertThat(encode(probes)[0]).isEqualTo(ProbeHitEncoding.BITSET);
+  }
+
+  private static boolean[] probes(int size, int... hits) {
+    final boolean[] probes = new boolean[size];
+    probes[0] = true;
+    for (final int each : hits) {
+      probes[each] = true;
+    }
+    return probes;
+  }
+
+  private static byte[] encode(boolean[] probes) {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final SafeDataOutputStream os = new SafeDataOutputStream(bos);
+    ProbeHitEncoding.write(os, probes);
+    os.flush();
+    return bos.toByteArray();
+  }
+
+  private static List<Integer> roundTrip(boolean[] probes) {
+    final SafeDataInputStream is = new SafeDataInputStream(
+        new ByteArrayInputStream(encode(probes)));
+    final List<Integer> actual = new ArrayList<>();
+    ProbeHitEncoding.read(is, actual::add);
+    return actual;
+  }
+
+}
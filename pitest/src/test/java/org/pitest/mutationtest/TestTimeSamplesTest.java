@@ -0,0 +1,76 @@
+package org.pitest.mutationtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.OptionalLong;
+
+import org.junit.Test;
+
+public class TestTimeSamplesTest {
+
+  private final TestTimeSamples testee = new TestTimeSamples();
+
+  @Test
+  public void shouldHoldFirstAndLaterRunsSeparately() {
+    this.testee.add(true, 100);
+    this.testee.add(false, 5);
+    this.testee.add(false, 6);
+
+    assertThat(this.testee.samples(true)).containsExactly(100);
+    assertThat(this.testee.samples(false)).containsExactly(5, 6);
+  }
+
+  @Test
+  public void shouldDiscardOldestSamplesWhenFull() {
+    for (int i = 0; i != TestTimeSamples.CAPACITY + 2; i++) {
+      this.testee.add(false, i);
+    }
+
+    assertThat(this.testee.count(false)).isEqualTo(TestTimeSamples.CAPACITY);
+    assertThat(this.testee.samples(false)[0]).isEqualTo(2);
+    assertThat(this.testee.samples(false)[TestTimeSamples.CAPACITY - 1])
+        .isEqualTo(TestTimeSamples.CAPACITY + 1);
+  }
+
+  @Test
+  public void shouldTreatAddedSamplesAsMoreRecent() {
+    this.testee.add(true, 1);
+    final TestTimeSamples other = new TestTimeSamples();
+    other.add(true, 2);
+
+    this.testee.addAll(other);
+
+    assertThat(this.testee.samples(true)).containsExactly(1, 2);
+  }
+
+  @Test
+  public void shouldGiveNoPercentileWithTooFewSamples() {
+    this.testee.add(false, 10);
+    assertThat(this.testee.percentile(false, 0.99, 2)).isEmpty();
+  }
+
+  @Test
+  public void shouldGiveNearestRankPercentile() {
+    for (int i = 1; i != 101; i++) {
+      this.testee.add(false, i);
+    }
+    // only the most recent samples are held
+    assertThat(this.testee.percentile(false, 0.5, 1))
+        .isEqualTo(OptionalLong.of(84));
+    assertThat(this.testee.percentile(false, 1, 1))
+        .isEqualTo(OptionalLong.of(100));
+  }
+
+  @Test
+  public void shouldBeEqualWhenSamplesMatch() {
+    final TestTimeSamples other = new TestTimeSamples();
+    this.testee.add(true, 1);
+    other.add(true, 1);
+    assertThat(this.testee).isEqualTo(other);
+    assertThat(this.testee.hashCode()).isEqualTo(other.hashCode());
+
+    other.add(false, 1);
+    assertThat(this.testee).isNotEqualTo(other);
+  }
+
+}
@@ -0,0 +1,88 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+
+public class AdaptiveTimeoutStrategyTest {
+
+  // no constant, so learned limits are not raised to the floor
+  private final TimeoutLengthStrategy fallback = new PercentAndConstantTimeoutStrategy(1.5f, 0);
+
+  private final Map<String, TestTimeSamples> history = new HashMap<>();
+
+  @Test
+  public void shouldLimitTestsByPercentileOfPreviousTimes() {
+    this.history.put("aTest", samples(false, 10, 20, 30, 40, 50));
+
+    final AdaptiveTimeoutStrategy testee = AdaptiveTimeoutStrategy.fromHistory(this.history,
+        2f, 100, this.fallback);
+
+    assertThat(testee.getAllowedTime("aTest", false, 1)).isEqualTo(50 * 2 + 100);
+  }
+
+  @Test
+  public void shouldLimitFirstRunsSeparatelyFromLaterRuns() {
+    this.history.put("aTest", samples(false, 10, 10, 10, 10, 10));
+    this.history.get("aTest").addAll(samples(true, 900, 900, 900, 900, 900));
+
+    final AdaptiveTimeoutStrategy testee = AdaptiveTimeoutStrategy.fromHistory(this.history,
+        1f, 0, this.fallback);
+
+    assertThat(testee.getAllowedTime("aTest", true, 1)).isEqualTo(900);
+    assertThat(testee.getAllowedTime("aTest", false, 1)).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldNotLimitTestsToLessThanHalfTheFallbackLimit() {
+    this.history.put("aTest", samples(false, 10, 10, 11, 10, 10));
+    final TimeoutLengthStrategy defaults = new PercentAndConstantTimeoutStrategy(1.25f, 4000);
+
+    final AdaptiveTimeoutStrategy testee = AdaptiveTimeoutStrategy.fromHistory(this.history,
+        1.25f, AdaptiveTimeoutStrategy.DEFAULT_MARGIN, defaults);
+
+    assertThat(testee.getAllowedTime("aTest", false, 10))
+        .isEqualTo(Math.round(defaults.getAllowedTime(10) * 0.5));
+  }
+
+  @Test
+  public void shouldUseFallbackWhenTooFewSamplesHeld() {
+    this.history.put("aTest", samples(false, 10));
+
+    final AdaptiveTimeoutStrategy testee = AdaptiveTimeoutStrategy.fromHistory(this.history,
+        1f, 0, this.fallback);
+
+    assertThat(testee.getAllowedTime("aTest", false, 100))
+        .isEqualTo(this.fallback.getAllowedTime(100));
+    assertThat(testee.getAllowedTime("unknownTest", false, 100))
+        .isEqualTo(this.fallback.getAllowedTime(100));
+  }
+
+  @Test
+  public void shouldRetainOnlyLimitsForRequestedTests() {
+    this.history.put("aTest", samples(false, 10, 10, 10, 10, 10));
+    this.history.put("anotherTest", samples(false, 10, 10, 10, 10, 10));
+
+    final TimeoutLengthStrategy testee = AdaptiveTimeoutStrategy.fromHistory(this.history,
+        1f, 0, this.fallback).forTests(Collections.singleton("aTest"));
+
+    assertThat(testee.getAllowedTime("aTest", false, 1)).isEqualTo(10);
+    assertThat(testee.getAllowedTime("anotherTest", false, 100))
+        .isEqualTo(this.fallback.getAllowedTime(100));
+  }
+
+  private static TestTimeSamples samples(boolean firstRun, long... times) {
+    final TestTimeSamples samples = new TestTimeSamples();
+    for (final long each : times) {
+      samples.add(firstRun, each);
+    }
+    return samples;
+  }
+
+}
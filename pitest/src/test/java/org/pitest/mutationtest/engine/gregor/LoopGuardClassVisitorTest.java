@@ -0,0 +1,131 @@
+package org.pitest.mutationtest.engine.gregor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+
+import sun.pitest.LoopGuard;
+import sun.pitest.LoopGuardError;
+
+public class LoopGuardClassVisitorTest {
+
+  @After
+  public void tearDown() {
+    LoopGuard.reset();
+  }
+
+  @Test
+  public void shouldRunGuardedLoopNormallyUntilTripped() throws Throwable {
+    final Method sum = load(mutate(true), "sum");
+
+    LoopGuard.startTest();
+
+    assertThat(invoke(sum, 10)).isEqualTo(-20);
+    assertThat(LoopGuard.isLooping()).isTrue();
+  }
+
+  @Test
+  public void shouldAbandonGuardedLoopOnceTripped() throws Throwable {
+    final Method sum = load(mutate(true), "sum");
+
+    LoopGuard.trip();
+
+    assertThatThrownBy(() -> invoke(sum, 10)).isInstanceOf(LoopGuardError.class);
+  }
+
+  @Test
+  public void shouldNotGuardLoopsUnlessRequested() throws Throwable {
+    final Method sum = load(mutate(false), "sum");
+
+    LoopGuard.trip();
+
+    assertThat(invoke(sum, 10)).isEqualTo(-20);
+  }
+
+  @Test
+  public void shouldOnlyGuardTheMutatedMethod() throws Throwable {
+    final Method unmutated = load(mutate(true), "unmutated");
+
+    LoopGuard.trip();
+
+    assertThat(invoke(unmutated, 10)).isEqualTo(10);
+  }
+
+  private static Mutant mutate(boolean loopGuard) {
+    final GregorMutater testee = new GregorMutater(ClassloaderByteArraySource.fromContext(),
+        m -> m.getName().equals("sum"), Collections.singletonList(MathMutator.MATH), loopGuard);
+    final List<MutationDetails> mutations = testee.findMutations(
+        ClassName.fromClass(HasLoops.class));
+    assertThat(mutations).hasSize(1);
+    return testee.getMutation(mutations.get(0).getId());
+  }
+
+  private static Method load(Mutant mutant, String method) throws Exception {
+    final ClassLoader loader = new MutantLoader(mutant);
+    return loader.loadClass(HasLoops.class.getName()).getMethod(method, int.class);
+  }
+
+  private static int invoke(Method method, int n) throws Throwable {
+    try {
+      return (Integer) method.invoke(null, n);
+    } catch (final InvocationTargetException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  public static class HasLoops {
+    public static int sum(int n) {
+      int total = 0;
+      for (int i = 0; i != n; i++) {
+        total = total + 2;
+      }
+      return total;
+    }
+
+    public static int unmutated(int n) {
+      int total = 0;
+      for (int i = 0; i != n; i++) {
+        total++;
+      }
+      return total;
+    }
+  }
+
+  // loads the mutant, delegating everything else so the guard is shared
+  private static class MutantLoader extends ClassLoader {
+    private final Mutant mutant;
+
+    MutantLoader(Mutant mutant) {
+      super(LoopGuardClassVisitorTest.class.getClassLoader());
+      this.mutant = mutant;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (name.equals(this.mutant.getDetails().getClassName().asJavaName())) {
+        synchronized (getClassLoadingLock(name)) {
+          Class<?> c = findLoadedClass(name);
+          if (c == null) {
+            final byte[] bytes = this.mutant.getBytes();
+            c = defineClass(name, bytes, 0, bytes.length);
+          }
+          return c;
+        }
+      }
+      return super.loadClass(name, resolve);
+    }
+  }
+
+}
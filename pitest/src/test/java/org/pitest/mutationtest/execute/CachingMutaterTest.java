@@ -0,0 +1,102 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class CachingMutaterTest {
+
+  @Rule
+  public TemporaryFolder root = new TemporaryFolder();
+
+  @Mock
+  private Mutater child;
+
+  private CachingMutater testee;
+
+  private final ClassName foo = ClassName.fromString("Foo");
+
+  private final MutationDetails cached = mutant(1);
+  private final MutationDetails uncached = mutant(2);
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    this.testee = new CachingMutater(this.child);
+  }
+
+  @Test
+  public void shouldServeCachedMutantsWithoutGeneratingThem() throws IOException {
+    this.testee.prepare(Arrays.asList(this.cached), cacheHolding(this.cached));
+
+    final Mutant actual = this.testee.getMutation(this.cached.getId());
+
+    assertThat(actual.getBytes()).containsExactly(42);
+    assertThat(actual.getDetails()).isSameAs(this.cached);
+    verifyNoInteractions(this.child);
+  }
+
+  @Test
+  public void shouldGenerateMutantsMissingFromCache() throws IOException {
+    final Mutant generated = new Mutant(this.uncached, new byte[] { 1 });
+    when(this.child.getMutation(this.uncached.getId())).thenReturn(generated);
+    this.testee.prepare(Arrays.asList(this.cached, this.uncached),
+        cacheHolding(this.cached));
+
+    assertThat(this.testee.getMutation(this.uncached.getId())).isSameAs(generated);
+  }
+
+  @Test
+  public void shouldGenerateMutantsWhenNoCacheProvided() {
+    this.testee.prepare(Arrays.asList(this.cached), Collections.emptyMap());
+
+    this.testee.getMutation(this.cached.getId());
+
+    verify(this.child).getMutation(this.cached.getId());
+  }
+
+  @Test
+  public void shouldGenerateMutantsWhenCacheUnreadable() {
+    final File missing = new File(this.root.getRoot(), "missing.mutants");
+    this.testee.prepare(Arrays.asList(this.cached),
+        Collections.singletonMap(this.foo, missing));
+
+    this.testee.getMutation(this.cached.getId());
+
+    verify(this.child).getMutation(this.cached.getId());
+  }
+
+  private Map<ClassName, File> cacheHolding(MutationDetails mutant) throws IOException {
+    final File file = new File(this.root.getRoot(), "Foo.mutants");
+    MutantCacheFile.write(file.toPath(), Collections.singletonMap(
+        MutantCacheFile.key(mutant.getId()), new byte[] { 42 }));
+    return Collections.singletonMap(this.foo, file);
+  }
+
+  private MutationDetails mutant(int index) {
+    return new MutationDetails(aMutationId()
+        .withLocation(aLocation().withClass(this.foo))
+        .withIndex(index).build(), "Foo.java", "desc", 42, 0);
+  }
+
+}
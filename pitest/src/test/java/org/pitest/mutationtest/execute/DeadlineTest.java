@@ -0,0 +1,22 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class DeadlineTest {
+
+  @Test
+  public void neverPassesWhenNotSet() {
+    assertThat(Deadline.none().isSet()).isFalse();
+    assertThat(Deadline.none().hasPassed(Long.MAX_VALUE)).isFalse();
+  }
+
+  @Test
+  public void passesAtGivenTime() {
+    final Deadline testee = Deadline.at(1000);
+    assertThat(testee.hasPassed(999)).isFalse();
+    assertThat(testee.hasPassed(1000)).isTrue();
+  }
+
+}
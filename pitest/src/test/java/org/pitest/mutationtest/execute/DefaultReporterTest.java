@@ -4,6 +4,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
@@ -12,6 +14,9 @@ import org.pitest.util.SafeDataInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
@@ -22,33 +27,75 @@ public class DefaultReporterTest {
 
   private ByteArrayOutputStream os;
 
+  private final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
+      .build();
+
+  private final List<MutationDetails> batch = Collections.singletonList(
+      new MutationDetails(this.mi, "file", "desc", 1, 0));
+
   @Before
   public void setUp() {
     this.os = new ByteArrayOutputStream();
     this.testee = new DefaultReporter(this.os);
+    this.testee.startBatch(this.batch);
   }
 
   @Test
   public void shouldSendMutationIdentifierToOutputStream() throws IOException {
-    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
-        .build();
-    this.testee.describe(mi);
+    this.testee.describe(this.mi);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.DESCRIBE, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
+    assertEquals(this.mi, new ResultEncoding(this.batch).readId(is));
   }
 
   @Test
   public void shouldSendDetectionStatus() throws IOException {
-    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
-        .build();
     final MutationStatusTestPair ms = new MutationStatusTestPair(2,
         DetectionStatus.KILLED, "foo");
-    this.testee.report(mi, ms);
+    this.testee.report(this.mi, ms);
+    this.testee.batchDone();
+    final SafeDataInputStream is = resultToStream();
+    final ResultEncoding encoding = new ResultEncoding(this.batch);
+    assertEquals(Id.REPORT, is.readByte());
+    assertEquals(this.mi, encoding.readId(is));
+    assertEquals(ms, encoding.readStatus(is));
+  }
+
+  @Test
+  public void shouldSendReportsWithNextDescription() {
+    this.testee.report(this.mi, new MutationStatusTestPair(1, DetectionStatus.SURVIVED, null));
+    assertEquals(0, this.os.size());
+
+    this.testee.describe(this.mi);
     final SafeDataInputStream is = resultToStream();
+    final ResultEncoding encoding = new ResultEncoding(this.batch);
     assertEquals(Id.REPORT, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
-    assertEquals(is.read(MutationStatusTestPair.class), ms);
+    encoding.readId(is);
+    encoding.readStatus(is);
+    assertEquals(Id.DESCRIBE, is.readByte());
+  }
+
+  @Test
+  public void shouldSendTestTimesWithEndOfBatch() {
+    final TestTimeSamples samples = new TestTimeSamples();
+    samples.add(true, 42);
+    final Map<String, TestTimeSamples> times = Collections.singletonMap("aTest", samples);
+
+    this.testee.testTimes(times);
+    this.testee.batchDone();
+
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.TEST_TIMES, is.readByte());
+    assertEquals(times, new ResultEncoding(this.batch).readTestTimes(is));
+    assertEquals(Id.BATCH_DONE, is.readByte());
+  }
+
+  @Test
+  public void shouldNotSendEmptyTestTimes() {
+    this.testee.testTimes(Collections.emptyMap());
+    this.testee.batchDone();
+
+    assertEquals(Id.BATCH_DONE, resultToStream().readByte());
   }
 
   private SafeDataInputStream resultToStream() {
@@ -0,0 +1,100 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class MutantCacheFileTest {
+
+  @Rule
+  public TemporaryFolder root = new TemporaryFolder();
+
+  private Path file;
+
+  @Before
+  public void setUp() {
+    this.file = this.root.getRoot().toPath().resolve("Foo.mutants");
+  }
+
+  @Test
+  public void shouldRoundTripMutantBytes() throws IOException {
+    final Map<String, byte[]> mutants = new HashMap<>();
+    mutants.put(MutantCacheFile.key(id(1)), new byte[] { 1, 2, 3 });
+    mutants.put(MutantCacheFile.key(id(2)), new byte[] { 4, 5 });
+
+    MutantCacheFile.write(this.file, mutants);
+    final MutantCacheFile actual = MutantCacheFile.open(this.file);
+
+    assertThat(actual.get(id(1))).contains(new byte[] { 1, 2, 3 });
+    assertThat(actual.get(id(2))).contains(new byte[] { 4, 5 });
+  }
+
+  @Test
+  public void shouldReturnEmptyForUncachedMutants() throws IOException {
+    final Map<String, byte[]> mutants = new HashMap<>();
+    mutants.put(MutantCacheFile.key(id(1)), new byte[] { 1 });
+
+    MutantCacheFile.write(this.file, mutants);
+
+    assertThat(MutantCacheFile.open(this.file).get(id(3))).isEmpty();
+  }
+
+  @Test
+  public void shouldListKeysInOrder() throws IOException {
+    final Map<String, byte[]> mutants = new HashMap<>();
+    mutants.put("b", new byte[0]);
+    mutants.put("c", new byte[0]);
+    mutants.put("a", new byte[0]);
+
+    MutantCacheFile.write(this.file, mutants);
+
+    assertThat(MutantCacheFile.open(this.file).keys()).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  public void shouldReplaceExistingFile() throws IOException {
+    final Map<String, byte[]> first = new HashMap<>();
+    first.put("a", new byte[] { 1 });
+    MutantCacheFile.write(this.file, first);
+    MutantCacheFile.open(this.file);
+
+    final Map<String, byte[]> second = new HashMap<>();
+    second.put("b", new byte[] { 2 });
+    MutantCacheFile.write(this.file, second);
+
+    assertThat(MutantCacheFile.open(this.file).keys()).containsExactly("b");
+  }
+
+  @Test
+  public void shouldDistinguishMutantsByMutator() {
+    final MutationIdentifier a = aMutationId().withMutator("a").build();
+    final MutationIdentifier b = aMutationId().withMutator("b").build();
+    assertThat(MutantCacheFile.key(a)).isNotEqualTo(MutantCacheFile.key(b));
+  }
+
+  @Test
+  public void shouldRejectFilesInOtherFormats() throws IOException {
+    Files.write(this.file, "not a cache".getBytes(StandardCharsets.UTF_8));
+    assertThatThrownBy(() -> MutantCacheFile.open(this.file))
+        .isInstanceOf(IOException.class);
+  }
+
+  private static MutationIdentifier id(int index) {
+    return aMutationId().withLocation(aLocation("Foo")).withIndex(index).build();
+  }
+
+}
@@ -0,0 +1,197 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+import sun.pitest.ActiveMutant;
+
+public class MutantSchemataTest {
+
+  private static final ClassName TARGET = ClassName.fromClass(Target.class);
+
+  private GregorMutater         mutater;
+  private MutantSchemata        testee;
+  private List<MutationDetails> mutations;
+
+  @Before
+  public void setUp() {
+    final ClassloaderByteArraySource source = ClassloaderByteArraySource.fromContext();
+    this.mutater = new GregorMutater(source, m -> !m.getName().equals("probe"),
+        Mutator.all());
+    this.testee = new MutantSchemata(source);
+    this.mutations = this.mutater.findMutations(TARGET);
+  }
+
+  @After
+  public void tearDown() {
+    ActiveMutant.clear();
+  }
+
+  @Test
+  public void eachMutantInSchemaBehavesAsWhenRunAlone() throws Exception {
+    final MutantSchema schema = this.testee.create(TARGET, ids(), this.mutater).get();
+    final Class<?> schemaClass = load(schema.getBytes());
+
+    int held = 0;
+    for (final MutationDetails each : this.mutations) {
+      if (!schema.contains(each.getId())) {
+        continue;
+      }
+      held++;
+      final Mutant alone = this.mutater.getMutation(each.getId());
+      ActiveMutant.activate(schema.switchFor(each.getId()));
+      assertThat(probe(schemaClass))
+          .describedAs(each.getDescription() + " in " + each.getMethod())
+          .isEqualTo(probe(load(alone.getBytes())));
+    }
+    assertThat(held).isGreaterThan(10);
+  }
+
+  @Test
+  public void runsOriginalCodeWhenNoMutantActive() throws Exception {
+    final MutantSchema schema = this.testee.create(TARGET, ids(), this.mutater).get();
+
+    assertThat(probe(load(schema.getBytes()))).isEqualTo(Target.probe());
+  }
+
+  @Test
+  public void holdsConstructorMutants() {
+    final MutantSchema schema = this.testee.create(TARGET, ids(), this.mutater).get();
+
+    assertThat(this.mutations.stream()
+        .filter(m -> m.getMethod().equals("<init>"))
+        .filter(m -> schema.contains(m.getId())))
+        .isNotEmpty();
+  }
+
+  @Test
+  public void leavesOutStaticInitializerMutants() {
+    final MutantSchema schema = this.testee.create(TARGET, ids(), this.mutater).get();
+
+    final List<MutationDetails> inInitializer = this.mutations.stream()
+        .filter(m -> m.getMethod().equals("<clinit>"))
+        .collect(Collectors.toList());
+    assertThat(inInitializer).isNotEmpty();
+    assertThat(inInitializer).noneMatch(m -> schema.contains(m.getId()));
+  }
+
+  @Test
+  public void neverReusesSwitchValues() {
+    final MutantSchema first = this.testee.create(TARGET, ids(), this.mutater).get();
+    final MutantSchema second = this.testee.create(TARGET, ids(), this.mutater).get();
+
+    final MutationIdentifier any = this.mutations.get(0).getId();
+    assertThat(first.switchFor(any)).isNotEqualTo(second.switchFor(any));
+    assertThat(first.switchFor(any)).isNotEqualTo(ActiveMutant.NONE);
+  }
+
+  @Test
+  public void createsNoSchemaForASingleMutant() {
+    assertThat(this.testee.create(TARGET,
+        Collections.singletonList(this.mutations.get(0).getId()), this.mutater)).isEmpty();
+  }
+
+  @Test
+  public void createsNoSchemaWhenDisabled() {
+    assertThat(MutantSchemata.none().create(TARGET, ids(), this.mutater)).isEmpty();
+  }
+
+  private List<MutationIdentifier> ids() {
+    return this.mutations.stream()
+        .map(MutationDetails::getId)
+        .collect(Collectors.toList());
+  }
+
+  private static String probe(Class<?> target) throws Exception {
+    return (String) target.getMethod("probe").invoke(null);
+  }
+
+  private static Class<?> load(byte[] bytes) throws Exception {
+    return new SingleClassLoader(bytes).loadClass(Target.class.getName());
+  }
+
+  public static class Target {
+    static int seed = Integer.parseInt("3") + 1;
+
+    private final int base;
+
+    public Target(int base) {
+      this.base = base + seed;
+    }
+
+    public int scale(int n) {
+      if (n > this.base) {
+        return n * 2;
+      }
+      return n - this.base;
+    }
+
+    public String divide(int n) {
+      try {
+        return "v" + (10 / n);
+      } catch (final ArithmeticException ex) {
+        return "none" + Math.abs(n);
+      }
+    }
+
+    public static boolean isSmall(long n) {
+      return n < 100 && n >= -100;
+    }
+
+    public static String probe() {
+      final StringBuilder sb = new StringBuilder();
+      for (final int n : new int[] { -200, -2, 0, 1, 5, 150 }) {
+        try {
+          final Target t = new Target(n);
+          sb.append(t.scale(n)).append(',')
+            .append(t.scale(n + 10)).append(',')
+            .append(t.divide(n)).append(',')
+            .append(isSmall(n)).append(';');
+        } catch (final Throwable ex) {
+          sb.append(ex.getClass().getName()).append(';');
+        }
+      }
+      return sb.toString();
+    }
+  }
+
+  // defines the target from the given bytes, delegating everything else so
+  // the active mutant is shared
+  private static class SingleClassLoader extends ClassLoader {
+    private final byte[] bytes;
+
+    SingleClassLoader(byte[] bytes) {
+      super(MutantSchemataTest.class.getClassLoader());
+      this.bytes = bytes;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (name.equals(Target.class.getName())) {
+        synchronized (getClassLoadingLock(name)) {
+          Class<?> c = findLoadedClass(name);
+          if (c == null) {
+            c = defineClass(name, this.bytes, 0, this.bytes.length);
+          }
+          return c;
+        }
+      }
+      return super.loadClass(name, resolve);
+    }
+  }
+
+}
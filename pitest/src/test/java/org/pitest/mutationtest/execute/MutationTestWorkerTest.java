@@ -1,6 +1,12 @@
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.DetectionStatus.NON_VIABLE;
@@ -12,7 +18,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -32,6 +41,9 @@ import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
 import junit.framework.AssertionFailedError;
+import sun.pitest.ActiveMutant;
+import sun.pitest.LoopGuard;
+import sun.pitest.LoopGuardError;
 
 public class MutationTestWorkerTest {
 
@@ -73,6 +85,14 @@ public class MutationTestWorkerTest {
     verify(this.reporter).describe(mutantTwo.getId());
   }
 
+  @Test
+  public void shouldNotStartMutantsOnceDeadlinePassed() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final Collection<MutationDetails> range = Arrays.asList(mutantOne);
+    this.testee.run(range, this.reporter, this.testSource, Deadline.at(1));
+    verify(this.reporter, never()).describe(mutantOne.getId());
+  }
+
   @Test
   @Ignore("disabled while checking coverage issue")
   public void shouldReportNoCoverageForMutationWithNoTestCoverage()
@@ -131,6 +151,145 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldReportTimeOutWhenTestAbandonedByLoopGuard() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final Collection<MutationDetails> range = Arrays.asList(mutantOne);
+    final TestUnit tu = makeLoopingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    try {
+      this.testee.run(range, this.reporter, this.testSource);
+    } finally {
+      LoopGuard.reset();
+    }
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.TIMED_OUT, Collections.emptyList(),
+            Collections.emptyList(), Collections.singletonList("atest")));
+  }
+
+  @Test
+  public void shouldInsertSchemaOnceForAllMutantsItHolds() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final byte[] schemaBytes = new byte[1];
+    final MutantSchema schema = givenSchema(schemaBytes, mutantOne, mutantTwo);
+    final List<Integer> active = new ArrayList<>();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makeRecordingTest(active)));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter, this.testSource);
+
+    verify(this.hotswapper, times(1)).insertClass(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+    verify(this.hotswapper).insertClass(ClassName.fromString("foo"), this.loader, schemaBytes);
+    verify(this.mutater, never()).getMutation(any(MutationIdentifier.class));
+    assertThat(active).containsExactly(schema.switchFor(mutantOne.getId()),
+        schema.switchFor(mutantTwo.getId()));
+    assertThat(ActiveMutant.id).isEqualTo(ActiveMutant.NONE);
+  }
+
+  @Test
+  public void shouldRunMutantsLeftOutOfSchemaAlone() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final MutationDetails leftOut = makeMutant("foo", 3);
+    givenSchema(new byte[1], mutantOne, mutantTwo);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(leftOut, mutantOne, mutantTwo), this.reporter, this.testSource);
+
+    verify(this.mutater).getMutation(leftOut.getId());
+    verify(this.hotswapper, times(2)).insertClass(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+  }
+
+  @Test
+  public void shouldRunMutantsAloneWhenSchemaCannotBeInserted() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final MutationDetails mutantTwo = makeMutant("foo", 2);
+    final byte[] schemaBytes = new byte[1];
+    givenSchema(schemaBytes, mutantOne, mutantTwo);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    when(this.hotswapper.insertClass(any(ClassName.class), any(ClassLoader.class),
+        eq(schemaBytes))).thenReturn(false);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo), this.reporter, this.testSource);
+
+    verify(this.mutater).getMutation(mutantOne.getId());
+    verify(this.mutater).getMutation(mutantTwo.getId());
+  }
+
+  private MutantSchema givenSchema(byte[] bytes, MutationDetails... mutants) {
+    final Map<MutationIdentifier, Integer> switches = new HashMap<>();
+    for (final MutationDetails each : mutants) {
+      switches.put(each.getId(), switches.size() + 1);
+    }
+    final MutantSchema schema = new MutantSchema(ClassName.fromString("foo"), bytes, switches);
+    final MutantSchemata schemata = mock(MutantSchemata.class);
+    when(schemata.create(any(ClassName.class), anyCollection(), any(Mutater.class)))
+        .thenReturn(Optional.of(schema));
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, this.reset, false, schemata);
+    return schema;
+  }
+
+  private TestUnit makeRecordingTest(List<Integer> active) {
+    return new TestUnit() {
+
+      @Override
+      public void execute(final ResultCollector rc) {
+        rc.notifyStart(getDescription());
+        active.add(ActiveMutant.id);
+        rc.notifyEnd(getDescription());
+      }
+
+      @Override
+      public Description getDescription() {
+        return new Description("atest");
+      }
+
+    };
+  }
+
+  private TestUnit makeLoopingTest() {
+    return new TestUnit() {
+
+      @Override
+      public void execute(final ResultCollector rc) {
+        rc.notifyStart(getDescription());
+        LoopGuard.trip();
+        try {
+          while (true) {
+            LoopGuard.backEdge();
+          }
+        } catch (final LoopGuardError ex) {
+          rc.notifyEnd(getDescription(), ex);
+        }
+      }
+
+      @Override
+      public Description getDescription() {
+        return new Description("atest");
+      }
+
+    };
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
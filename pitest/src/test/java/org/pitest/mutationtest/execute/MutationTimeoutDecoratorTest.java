@@ -17,15 +17,28 @@ package org.pitest.mutationtest.execute;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.TestTimeSamples;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
+import sun.pitest.LoopGuard;
+import sun.pitest.LoopGuardError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -37,7 +50,7 @@ public class MutationTimeoutDecoratorTest {
   @Mock
   private SideEffect               sideEffect;
 
-  @Mock
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
   private TimeoutLengthStrategy    timeoutStrategy;
 
   @Mock
@@ -51,8 +64,10 @@ public class MutationTimeoutDecoratorTest {
   @Before
   public void setUp() {
     MockitoAnnotations.openMocks(this);
+    when(this.child.getDescription()).thenReturn(new Description("aTest"));
     this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
-        this.timeoutStrategy, NORMAL_EXECUTION);
+        this.timeoutStrategy, NORMAL_EXECUTION, TestThreads.PER_TEST.createExecutor(),
+        new TestDurations());
   }
 
   @Test
@@ -64,6 +79,102 @@ public class MutationTimeoutDecoratorTest {
     verify(this.sideEffect, never()).apply();
   }
 
+  @Test
+  public void shouldRunChildOnSuppliedExecutor() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        1000L);
+    final List<Runnable> submitted = new ArrayList<>();
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, r -> {
+          submitted.add(r);
+          r.run();
+        }, new TestDurations());
+
+    this.testee.execute(this.rc);
+
+    assertEquals(1, submitted.size());
+    verify(this.child).execute(any(ResultCollector.class));
+    verify(this.sideEffect, never()).apply();
+  }
+
+  @Test
+  public void shouldApplySideEffectWhenExecutorDoesNotRunChildInTime() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(10L);
+    // an executor whose thread is still held by an abandoned test
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, r -> { }, new TestDurations());
+
+    this.testee.execute(this.rc);
+
+    verify(this.sideEffect).apply();
+  }
+
+  @Test
+  public void shouldAskForLimitOfFirstRunOnlyOnce() {
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, Runnable::run, new TestDurations());
+    doReturn(1000L).when(this.timeoutStrategy).getAllowedTime("aTest", true, NORMAL_EXECUTION);
+    doReturn(1000L).when(this.timeoutStrategy).getAllowedTime("aTest", false, NORMAL_EXECUTION);
+
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+
+    verify(this.timeoutStrategy).getAllowedTime("aTest", true, NORMAL_EXECUTION);
+    verify(this.timeoutStrategy).getAllowedTime("aTest", false, NORMAL_EXECUTION);
+  }
+
+  @Test
+  public void shouldRecordDurationOfPassingTests() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(1000L);
+    final TestDurations durations = new TestDurations();
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, Runnable::run, durations);
+
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+
+    final Map<String, TestTimeSamples> times = durations.drain();
+    assertThat(times.get("aTest").count(true)).isEqualTo(1);
+    assertThat(times.get("aTest").count(false)).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotRecordDurationOfFailingTests() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(1000L);
+    doAnswer(invocation -> {
+      final ResultCollector collector = invocation.getArgument(0);
+      collector.notifyEnd(new Description("aTest"), new AssertionError());
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+    final TestDurations durations = new TestDurations();
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, Runnable::run, durations);
+
+    this.testee.execute(this.rc);
+
+    assertThat(durations.drain()).isEmpty();
+    verify(this.rc).notifyEnd(any(Description.class), any(AssertionError.class));
+  }
+
+  @Test
+  public void shouldLetGuardedLoopAbandonTestWithoutApplyingSideEffect() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(10L);
+    doAnswer(invocation -> {
+      while (true) {
+        LoopGuard.backEdge();
+      }
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    try {
+      this.testee.execute(this.rc);
+    } finally {
+      LoopGuard.reset();
+    }
+
+    verify(this.sideEffect, never()).apply();
+    verify(this.rc).notifyEnd(any(Description.class), any(LoopGuardError.class));
+  }
+
   @Test
   @Ignore("flakey")
   public void shouldApplySideEffectWhenChildRunsForLongerThanAllowedTime() {
@@ -0,0 +1,120 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestTimeSamples;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class ResultEncodingTest {
+
+  private final MutationIdentifier a = aMutationId().withIndex(1).withMutator("a").build();
+  private final MutationIdentifier b = aMutationId().withIndex(2).withMutator("b").build();
+
+  private final List<MutationDetails> batch = Arrays.asList(details(this.a),
+      details(this.b));
+
+  private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+  private final SafeDataOutputStream  os    = new SafeDataOutputStream(this.bytes);
+
+  @Test
+  public void shouldRoundTripIdentifiers() {
+    final ResultEncoding writer = new ResultEncoding(this.batch);
+    writer.writeId(this.os, this.b);
+    writer.writeId(this.os, this.a);
+
+    final SafeDataInputStream is = read();
+    final ResultEncoding reader = new ResultEncoding(this.batch);
+    assertThat(reader.readId(is)).isEqualTo(this.b);
+    assertThat(reader.readId(is)).isEqualTo(this.a);
+  }
+
+  @Test
+  public void shouldRoundTripStatuses() {
+    final MutationStatusTestPair killed = new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, Arrays.asList("one", "two"),
+        Arrays.asList("three"), Arrays.asList("one", "two", "three"));
+    final MutationStatusTestPair survived = new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, Collections.emptyList(),
+        Arrays.asList("two"), Arrays.asList("two"));
+
+    final ResultEncoding writer = new ResultEncoding(this.batch);
+    writer.writeStatus(this.os, killed);
+    writer.writeStatus(this.os, survived);
+
+    final SafeDataInputStream is = read();
+    final ResultEncoding reader = new ResultEncoding(this.batch);
+    assertThat(reader.readStatus(is)).isEqualTo(killed);
+    assertThat(reader.readStatus(is)).isEqualTo(survived);
+  }
+
+  @Test
+  public void shouldRoundTripMissingTestLists() {
+    final MutationStatusTestPair started = MutationStatusTestPair.notAnalysed(1,
+        DetectionStatus.STARTED, null);
+
+    new ResultEncoding(this.batch).writeStatus(this.os, started);
+
+    assertThat(new ResultEncoding(this.batch).readStatus(read())).isEqualTo(started);
+  }
+
+  @Test
+  public void shouldSendEachTestNameInFullOnlyOnce() {
+    final String name = "com.example.SomeTest.aTestWithALongName()";
+    final MutationStatusTestPair status = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, name);
+
+    final ResultEncoding writer = new ResultEncoding(this.batch);
+    writer.writeStatus(this.os, status);
+    final int first = this.bytes.size();
+    writer.writeStatus(this.os, status);
+
+    assertThat(this.bytes.size() - first).isLessThan(first - name.length());
+  }
+
+  @Test
+  public void shouldRoundTripTestTimes() {
+    final TestTimeSamples samples = new TestTimeSamples();
+    samples.add(true, 120);
+    samples.add(false, 10);
+    samples.add(false, 12);
+    final Map<String, TestTimeSamples> times = new HashMap<>();
+    times.put("one", samples);
+    times.put("two", new TestTimeSamples());
+
+    new ResultEncoding(this.batch).writeTestTimes(this.os, times);
+
+    assertThat(new ResultEncoding(this.batch).readTestTimes(read())).isEqualTo(times);
+  }
+
+  @Test
+  public void shouldRejectMutantsOutsideTheBatch() {
+    final MutationIdentifier unknown = aMutationId().withIndex(3).build();
+    assertThatThrownBy(() -> new ResultEncoding(this.batch).writeId(this.os, unknown))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private SafeDataInputStream read() {
+    return new SafeDataInputStream(new ByteArrayInputStream(this.bytes.toByteArray()));
+  }
+
+  private static MutationDetails details(MutationIdentifier id) {
+    return new MutationDetails(id, "file", "desc", 1, 0);
+  }
+
+}
@@ -0,0 +1,92 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class TestThreadsTest {
+
+  @Test
+  public void shouldParseNamesIgnoringCase() {
+    assertThat(TestThreads.fromString("pooled")).isEqualTo(TestThreads.POOLED);
+    assertThat(TestThreads.fromString("VIRTUAL")).isEqualTo(TestThreads.VIRTUAL);
+  }
+
+  @Test
+  public void shouldDefaultToThreadPerTest() {
+    assertThat(TestThreads.fromString(null)).isEqualTo(TestThreads.PER_TEST);
+  }
+
+  @Test
+  public void shouldRejectUnknownNames() {
+    assertThatThrownBy(() -> TestThreads.fromString("carrier-pigeon"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldRunEachTestOnANewThreadWhenPerTest() throws Exception {
+    final Executor testee = TestThreads.PER_TEST.createExecutor();
+    assertThat(runOn(testee)).isNotSameAs(runOn(testee));
+  }
+
+  @Test
+  public void shouldReuseThreadWhenPooled() throws Exception {
+    final Executor testee = TestThreads.POOLED.createExecutor();
+    final Thread first = runOn(testee);
+    awaitIdle((ThreadPoolExecutor) testee);
+    assertThat(runOn(testee)).isSameAs(first);
+    assertThat(first.isDaemon()).isTrue();
+    assertThat(first.getName()).isEqualTo("mutationTestThread");
+  }
+
+  @Test
+  public void shouldNotQueueBehindAbandonedTestWhenPooled() throws Exception {
+    final Executor testee = TestThreads.POOLED.createExecutor();
+    final CountDownLatch hung = new CountDownLatch(1);
+    testee.execute(() -> {
+      try {
+        hung.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    try {
+      assertThat(runOn(testee)).isNotNull();
+    } finally {
+      hung.countDown();
+    }
+  }
+
+  @Test
+  public void shouldRunTestsWhenVirtualThreadsRequested() throws Exception {
+    // falls back to pooled threads on jvms without virtual threads
+    assertThat(runOn(TestThreads.VIRTUAL.createExecutor())).isNotSameAs(Thread.currentThread());
+  }
+
+  // a task's future completes before its thread is returned to the pool
+  private static void awaitIdle(ThreadPoolExecutor pool) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (pool.getActiveCount() != 0 && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    // and a moment more for it to start waiting for the next task
+    Thread.sleep(20);
+  }
+
+  private static Thread runOn(Executor executor) throws Exception {
+    final AtomicReference<Thread> ran = new AtomicReference<>();
+    final FutureTask<?> task = new FutureTask<>(() -> ran.set(Thread.currentThread()), null);
+    executor.execute(task);
+    task.get(10, TimeUnit.SECONDS);
+    return ran.get();
+  }
+
+}
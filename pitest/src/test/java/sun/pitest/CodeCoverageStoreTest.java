@@ -19,8 +19,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.ConcurrentModificationException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
@@ -105,6 +108,51 @@ public class CodeCoverageStoreTest {
     assertEquals(Collections.emptyList(), actual);
   }
 
+  @Test
+  public void shouldDrainOnlyClassesThatWereHit() {
+    final int hit = CodeCoverageStore.registerClass("foo");
+    final int notHit = CodeCoverageStore.registerClass("bar");
+    final boolean[] hitProbes = CodeCoverageStore.getOrRegisterClassProbes(hit, 2);
+    CodeCoverageStore.getOrRegisterClassProbes(notHit, 2);
+    hitProbes[0] = true;
+    hitProbes[2] = true;
+
+    final List<String> actual = new ArrayList<>();
+    CodeCoverageStore.drainHits(recordInto(actual));
+
+    assertEquals(Arrays.asList("classes 1", hit + " [true, false, true]"), actual);
+  }
+
+  @Test
+  public void shouldClearHitCountersWhenDrained() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    ar[0] = true;
+    ar[1] = true;
+    CodeCoverageStore.drainHits(recordInto(new ArrayList<>()));
+
+    assertEquals(Collections.emptyList(), CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldReportHitsForClassesBeyondInitialCapacity() {
+    final int classId = 1000;
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    ar[0] = true;
+    ar[1] = true;
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 1)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldGrowProbesWhenClassRegisteredWithMoreProbes() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    final boolean[] actual = CodeCoverageStore.getOrRegisterClassProbes(classId, 4);
+    assertEquals(5, actual.length);
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
       throws InterruptedException, ExecutionException {
@@ -127,6 +175,20 @@ public class CodeCoverageStoreTest {
 
   }
 
+  private static ProbeHitReceiver recordInto(final List<String> actual) {
+    return new ProbeHitReceiver() {
+      @Override
+      public void beginHits(int numberOfClasses) {
+        actual.add("classes " + numberOfClasses);
+      }
+
+      @Override
+      public void hitClass(int classId, boolean[] probes) {
+        actual.add(classId + " " + Arrays.toString(probes));
+      }
+    };
+  }
+
   private Callable<ConcurrentModificationException> makeReader() {
     final Callable<ConcurrentModificationException> read = new Callable<ConcurrentModificationException>() {
       @Override
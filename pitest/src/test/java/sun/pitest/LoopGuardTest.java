@@ -0,0 +1,48 @@
+package sun.pitest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LoopGuardTest {
+
+  @After
+  public void tearDown() {
+    LoopGuard.reset();
+  }
+
+  @Test
+  public void shouldNoteWhenGuardedLoopEntered() {
+    LoopGuard.startTest();
+    assertThat(LoopGuard.isLooping()).isFalse();
+    LoopGuard.backEdge();
+    assertThat(LoopGuard.isLooping()).isTrue();
+  }
+
+  @Test
+  public void shouldForgetLoopingWhenNextTestStarts() {
+    LoopGuard.backEdge();
+    LoopGuard.startTest();
+    assertThat(LoopGuard.isLooping()).isFalse();
+  }
+
+  @Test
+  public void shouldThrowOnEveryBackEdgeOnceTripped() {
+    LoopGuard.trip();
+    assertThatThrownBy(LoopGuard::backEdge).isInstanceOf(LoopGuardError.class);
+    LoopGuard.startTest();
+    assertThatThrownBy(LoopGuard::backEdge).isInstanceOf(LoopGuardError.class);
+    assertThat(LoopGuard.hasTripped()).isTrue();
+  }
+
+  @Test
+  public void shouldClearTrippedStateOnReset() {
+    LoopGuard.trip();
+    LoopGuard.reset();
+    assertThat(LoopGuard.hasTripped()).isFalse();
+    LoopGuard.backEdge();
+  }
+
+}